@@ -0,0 +1,325 @@
+// This file is generated. Edit the @Example annotations, then run `make example-registry`.
+package com.mapbox.mapboxandroiddemo;
+
+import android.os.Build;
+
+import com.mapbox.mapboxandroiddemo.model.ExampleRegistry;
+
+/**
+ * All examples listed in {@link MainActivity}, see {@link com.mapbox.mapboxandroiddemo.model.Example}.
+ */
+final class ExampleCatalog {
+
+  private static final String EXAMPLES = "com.mapbox.mapboxandroiddemo.examples.";
+
+  private static final int[] CATEGORIES = {
+    R.id.nav_basics,
+    R.id.nav_camera,
+    R.id.nav_dds,
+    R.id.nav_extrusions,
+    R.id.nav_lab,
+    R.id.nav_offline,
+    R.id.nav_plugins,
+    R.id.nav_query_map,
+    R.id.nav_styles
+  };
+
+  private static final int[] CATEGORY_STARTS = {0, 4, 7, 12, 14, 23, 25, 28, 34, 43};
+
+  // Title, description, image URL, min SDK version and new icon flag of each example
+  private static final int[] TABLE = {
+    R.string.activity_china_simple_china_mapview_title,
+    R.string.activity_china_simple_china_mapview_description,
+    R.string.activity_china_simple_china_mapview_url, 0, 0,
+    R.string.activity_china_simple_china_bounds_checker_title,
+    R.string.activity_china_simple_china_bounds_checker_description,
+    R.string.activity_china_simple_china_bounds_checker_url, 0, 0,
+    R.string.activity_china_mixed_china_and_global_style_title,
+    R.string.activity_china_mixed_china_and_global_style_description,
+    R.string.activity_china_mixed_china_and_global_style_url, 0, 0,
+    R.string.activity_basic_mapbox_kotlin_title,
+    R.string.activity_basic_mapbox_kotlin_description,
+    R.string.activity_basic_simple_mapview_url, 0, 1,
+    R.string.activity_camera_animate_title,
+    R.string.activity_camera_animate_description,
+    R.string.activity_camera_animate_url, 0, 0,
+    R.string.activity_camera_bounding_box_title,
+    R.string.activity_camera_bounding_box_description,
+    R.string.activity_camera_bounding_box_url, 0, 0,
+    R.string.activity_camera_restrict_title,
+    R.string.activity_camera_restrict_description,
+    R.string.activity_camera_restrict_url, 0, 0,
+    R.string.activity_dds_polygon_title,
+    R.string.activity_dds_polygon_description,
+    R.string.activity_dds_polygon_url, 0, 0,
+    R.string.activity_dds_multiple_heatmap_styling_title,
+    R.string.activity_dds_multiple_heatmap_styling_description,
+    R.string.activity_dds_multiple_heatmap_styling_url, 0, 0,
+    R.string.activity_dds_style_line_identity_property_title,
+    R.string.activity_dds_style_line_identity_property_description,
+    R.string.activity_dds_style_line_identity_property_url, 0, 0,
+    R.string.activity_dds_multiple_geometries_title,
+    R.string.activity_dds_multiple_geometries_description,
+    R.string.activity_dds_multiple_geometries_url, 0, 0,
+    R.string.activity_dds_info_window_symbol_layer_title,
+    R.string.activity_dds_info_window_symbol_layer_description,
+    R.string.activity_dds_info_window_symbol_layer_url, 0, 0,
+    R.string.activity_extrusions_adjust_extrusions_title,
+    R.string.activity_extrusions_adjust_extrusions_description,
+    R.string.activity_extrusions_adjust_extrusions_url, 0, 0,
+    R.string.activity_extrusions_rotate_extrusions_title,
+    R.string.activity_extrusions_rotate_extrusions_description,
+    R.string.activity_extrusions_rotate_extrusions_url, 0, 0,
+    R.string.activity_lab_animated_marker_title,
+    R.string.activity_lab_animated_marker_description,
+    R.string.activity_lab_animated_marker_url, 0, 0,
+    R.string.activity_lab_symbol_layer_and_mapillary_on_map_title,
+    R.string.activity_lab_symbol_layer_and_mapillary_on_map_description,
+    R.string.activity_lab_symbol_layer_on_map_url, 0, 0,
+    R.string.activity_lab_pulsing_layer_opacity_color_title,
+    R.string.activity_lab_pulsing_layer_opacity_color_description,
+    R.string.activity_lab_pulsing_layer_opacity_color_url, 0, 0,
+    R.string.activity_lab_indoor_map_title,
+    R.string.activity_lab_indoor_map_description,
+    R.string.activity_lab_indoor_map_url, 0, 0,
+    R.string.activity_lab_marker_following_route_title,
+    R.string.activity_lab_marker_following_route_description,
+    R.string.activity_lab_marker_following_route_url, 0, 0,
+    R.string.activity_lab_space_station_location_title,
+    R.string.activity_lab_space_station_location_description,
+    R.string.activity_lab_space_station_location_url, 0, 0,
+    R.string.activity_lab_picture_in_picture_title,
+    R.string.activity_lab_picture_in_picture_description,
+    R.string.activity_lab_picture_in_picture_url, Build.VERSION_CODES.O, 0,
+    R.string.activity_lab_rv_on_map_title,
+    R.string.activity_lab_rv_on_map_description,
+    R.string.activity_lab_rv_on_map_url, 0, 0,
+    R.string.activity_labs_gif_on_map_title,
+    R.string.activity_labs_gif_on_map_description,
+    R.string.activity_labs_gif_on_map_url, 0, 0,
+    R.string.activity_offline_simple_title,
+    R.string.activity_offline_simple_description,
+    R.string.activity_offline_simple_url, 0, 0,
+    R.string.activity_offline_manager_title,
+    R.string.activity_offline_manager_description,
+    R.string.activity_offline_manager_url, 0, 0,
+    R.string.activity_plugins_building_plugin_title,
+    R.string.activity_plugins_building_plugin_description,
+    R.string.activity_plugins_building_plugin_url, 0, 0,
+    R.string.activity_plugins_places_plugin_title,
+    R.string.activity_plugins_places_plugin_description,
+    R.string.activity_plugins_places_plugin_url, 0, 0,
+    R.string.activity_plugins_localization_plugin_title,
+    R.string.activity_plugins_localization_plugin_description,
+    R.string.activity_plugins_localization_plugin_url, 0, 0,
+    R.string.activity_query_select_building_title,
+    R.string.activity_query_select_building_description,
+    R.string.activity_query_select_building_url, 0, 0,
+    R.string.activity_query_feature_count_title,
+    R.string.activity_query_feature_count_description,
+    R.string.activity_query_feature_count_url, 0, 0,
+    R.string.activity_query_feature_title,
+    R.string.activity_query_feature_description,
+    R.string.activity_query_feature_url, 0, 0,
+    R.string.activity_query_click_on_layer_title,
+    R.string.activity_query_click_on_layer_description,
+    R.string.activity_query_click_on_layer_url, 0, 0,
+    R.string.activity_query_redo_search_in_area_title,
+    R.string.activity_query_redo_search_in_area_description,
+    R.string.activity_query_redo_search_in_area_url, 0, 0,
+    R.string.activity_query_building_outline_title,
+    R.string.activity_query_building_outline_description,
+    R.string.activity_query_building_outline_url, 0, 0,
+    R.string.activity_styles_basic_symbol_layer_title,
+    R.string.activity_styles_basic_symbol_layer_description,
+    R.string.activity_styles_symbol_layer_url, 0, 0,
+    R.string.activity_styles_line_layer_title,
+    R.string.activity_styles_line_layer_description,
+    R.string.activity_styles_line_layer_url, 0, 0,
+    R.string.activity_styles_color_switcher_title,
+    R.string.activity_styles_color_switcher_description,
+    R.string.activity_styles_color_switcher_url, 0, 0,
+    R.string.activity_styles_add_wms_source_title,
+    R.string.activity_styles_add_wms_source_description,
+    R.string.activity_styles_add_wms_source_url, 0, 0,
+    R.string.activity_styles_geojson_layer_in_stack_title,
+    R.string.activity_styles_geojson_layer_in_stack_description,
+    R.string.activity_styles_geojson_layer_in_stack_url, 0, 0,
+    R.string.activity_styles_zoom_dependent_fill_color_title,
+    R.string.activity_styles_zoom_dependent_fill_color_description,
+    R.string.activity_styles_zoom_dependent_fill_color_url, 0, 0,
+    R.string.activity_styles_language_switch_title,
+    R.string.activity_styles_language_switch_description,
+    R.string.activity_styles_language_switch_url, 0, 0,
+    R.string.activity_style_image_source_title,
+    R.string.activity_style_image_source_description,
+    R.string.activity_style_image_source_url, 0, 0,
+    R.string.activity_style_image_source_time_lapse_title,
+    R.string.activity_style_image_source_time_lapse_description,
+    R.string.activity_style_image_source_time_lapse_url, 0, 0
+  };
+
+  private static final String[] JAVA_ACTIVITIES = {
+    EXAMPLES + "SimpleChinaMapViewActivity",
+    EXAMPLES + "ChinaBoundsCheckerActivity",
+    EXAMPLES + "MixedChinaAndGlobalStyleActivity",
+    EXAMPLES + "basics.KotlinSimpleMapViewActivity",
+    EXAMPLES + "camera.AnimateMapCameraActivity",
+    EXAMPLES + "camera.BoundingBoxCameraActivity",
+    EXAMPLES + "camera.RestrictCameraActivity",
+    EXAMPLES + "dds.DrawPolygonActivity",
+    EXAMPLES + "dds.MultipleHeatmapStylingActivity",
+    EXAMPLES + "dds.StyleLineIdentityPropertyActivity",
+    EXAMPLES + "dds.MultipleGeometriesActivity",
+    EXAMPLES + "dds.InfoWindowSymbolLayerActivity",
+    EXAMPLES + "extrusions.AdjustExtrusionLightActivity",
+    EXAMPLES + "extrusions.RotationExtrusionActivity",
+    EXAMPLES + "labs.AnimatedMarkerActivity",
+    EXAMPLES + "labs.SymbolLayerMapillaryActivity",
+    EXAMPLES + "labs.PulsingLayerOpacityColorActivity",
+    EXAMPLES + "labs.IndoorMapActivity",
+    EXAMPLES + "labs.MarkerFollowingRouteActivity",
+    EXAMPLES + "labs.SpaceStationLocationActivity",
+    EXAMPLES + "labs.PictureInPictureActivity",
+    EXAMPLES + "labs.RecyclerViewOnMapActivity",
+    EXAMPLES + "labs.AnimatedImageGifActivity",
+    EXAMPLES + "offline.SimpleOfflineMapActivity",
+    EXAMPLES + "offline.OfflineManagerActivity",
+    EXAMPLES + "plugins.BuildingPluginActivity",
+    EXAMPLES + "plugins.PlacesPluginActivity",
+    EXAMPLES + "plugins.LocalizationPluginActivity",
+    EXAMPLES + "query.SelectBuildingActivity",
+    EXAMPLES + "query.FeatureCountActivity",
+    EXAMPLES + "query.QueryFeatureActivity",
+    EXAMPLES + "query.ClickOnLayerActivity",
+    EXAMPLES + "query.RedoSearchInAreaActivity",
+    EXAMPLES + "query.BuildingOutlineActivity",
+    EXAMPLES + "styles.BasicSymbolLayerActivity",
+    EXAMPLES + "styles.LineLayerActivity",
+    EXAMPLES + "styles.ColorSwitcherActivity",
+    EXAMPLES + "styles.AddWmsSourceActivity",
+    EXAMPLES + "styles.GeojsonLayerInStackActivity",
+    EXAMPLES + "styles.ZoomDependentFillColorActivity",
+    EXAMPLES + "styles.LanguageSwitchActivity",
+    EXAMPLES + "styles.ImageSourceActivity",
+    EXAMPLES + "styles.ImageSourceTimeLapseActivity"
+  };
+
+  private static final String[] KOTLIN_ACTIVITIES = {
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null
+  };
+
+  private static final String SEARCH_TOKENS =
+    "3d a accurate actual add added adding addlayer adjust afegeix afegint afegir afegiu aigua ajusta al all along a"
+    + "ls also altre amb an and android angeles anima animació animate animated animation any anywhere api aplicar app"
+    + " approved aquest aquesta are argument around at atraccions attractions automatically bao based basic batec be b"
+    + "earing being below between bounding box bubblelayout building buildings bản camera can canvia canviar capa cape"
+    + "s característica característiques cas case certain change changes china cho chèn chế chỉnh chọn clic click code"
+    + " col color coloring colors com compta conjunt consistent constant consulta control count crea crear create curr"
+    + "ent cuộn càmera các của d data de del delete delimitador depend dependent depengui descarrega descarregar despl"
+    + "aça desplaçar determine device dibuixa dibuixar different dins display donats download draw du dynamically dành"
+    + " dõi dùng dưới dấu easily edifici edificis el elements eliminar els emprant en encaixa encaixada entre es escul"
+    + "l espacial estació estan estil etiquetes evita example externa external extrusions faci feature features feu fi"
+    + "le fill filter finds fit floor following font for from funció function functionality gain geocoding geojson geo"
+    + "metria geometries geometry gestor get ghim gif given giác giản global government heatmap heatmaps height hi hig"
+    + "hlight highlighting hiển hotels hàm hình hạn hộp i icones icons identitat identity if iinclinació il image imag"
+    + "es in indoor info informació information inside integration interaction interactions interior interiors interna"
+    + "cional international interroga is it its khách kotlin kẻ l la label labels language lapse layer layers les leve"
+    + "l levels light line lines llarg lloc llum load loca location los luminació làm línia línies lý lịch lớp maintai"
+    + "n make manager manera manipulate map mapa mapbox mapillary maps marcador marcadors marker markers matched mida "
+    + "minute more mostra mostrar moure moved multiple màu més một mới mức n navegar navigate new ngoại nguồn ngôn ngữ"
+    + " nhà nhãn nhìn nhất nivell nombre not nova o obtenir of offline on once opacity opcions or outline over panell "
+    + "panned panning parcs parks per phóng picture pisos place plugin podeu polygon polígon posició position precise "
+    + "precís prevent projectada properties property propietat propietats pugui pulsing quan que query quản real recom"
+    + "pte recyclerview redo region regió release reomplert requadre ressaltar ressalti restrict restringeix rodament "
+    + "rotate route runnable ruta s sdk search second see segon seguint seleccionar select selected senzill separate s"
+    + "er service set seva shined show showcased simple single so sota source space speed station style styling switch"
+    + " symbol symbollayer sáng símbols sắc també temps text that thay the theo this thu thuộc thêm thị thức tilt time"
+    + " to toggles tots travels trong truy trên trình trí turistes tuyến tính tòa tùy tượng tạo ubicació ui un una usa"
+    + "nt use using utilitza utilitzant vector velocitat veu veure via view vista visualització visualization và vấn v"
+    + "ẽ vị vừa water web whether window with wms world you your zoom ánh đa điều điểm đơn đường định đối đồ đồng đổi "
+    + "động";
+
+  private static final String SEARCH_POSTINGS =
+    "13,25;2,3,4,5,6,7,9,10,11,12,14,15,16,17,18,20,23,24,28,29,30,31,33,34,35,36,37,38,39,40,42;0;19;15,26,30,35,37"
+    + ",38;16;37;38;12;4,14,16,37,38;34;30,35;37;39;12;14,18,30,34,35,37;5,13,29;18;16;15,16;6;7,17,18,23,35;0,9,17,22"
+    + ",23,24,37,41,42;0,4,10,11,12,13,15,16,23,24,26,28,29,30,31,33,35,42;7,20,23;16;4,14,34;4,14,16;4,14;22;16;26;22"
+    + ";16;9;0;0;39;30;5;38;13;18,30;16;16;27;5;2,21;3;16;38;4;6;38;17;5,29;5,29;11;17,25,28,33;13,25,29;4,6,17,23,30,"
+    + "40;4,5,13;38;35,36;12,17,36;34,35,36,37,38,39;36;30;29;39;39;32;12,13,27,36,40;42;0,1,2;16;38;6;12;28;30,34;30,"
+    + "31;3;5;9,12,36,39;8;16;2;29;36;18;18;23,28,34;8;29;35;35;35;19;6;4,5;38;4,12,14;9,16,17,29,36,38;11,15,42;4,5,7"
+    + ",9,12,16,18,19,23,28,29,30,34,35,36,38,39;4,14,30,39;24;5,29;39;39;39;23;24;18;6;1;1,2,13,27;7;28;6;29;3,17,25,"
+    + "30,34,41;5;23,24;7,10,28;16;40;16;18;9;38;34;25,41;17,28;29;4,5,6,12,14,18,28,29,34,36,38,39;29;24;5,17,29;18,3"
+    + "5,38;5,7,19,39;5;18;17;6,18;28;19;19;5;9,16,35;38;6;15,32;37;37;12;34;28,29,30;32;30,39;10;36,39;10;32;5;17;18;"
+    + "37;9,26,30,32;6,10;9,28,39;9;26;8;26;10,18,31,35;28;10;28;24;28,29;14,18,34;22;5;7;23;2;0;8;8;25;34;16,29,31;28"
+    + ";25;16;9;7,20;6;5;4,12,16,23,24,28,29,30,34,35;34;11,15,34;9;9;2;4;12;22,41,42;41;0,1,2,5,11,15,19,20,25,26,39;"
+    + "17;11;30;30;1,29;15;21;21;17;17;19;19;30;1,2,15,16,32;28,35;28;16;3;35;4,7,16,19,23,35;4,5,9,12,14,18,19,28,30,"
+    + "34,35,36,39;27;38;27,40;42;11,16,31,33,34,35,36,37,38;39;9,12,30,34,35,38;39;17;12;9,35;9;18;12,30;12;2;5;2,12,"
+    + "19,26,30;16;12;4,5,14;9,35;9,35;24;16;34,35,36,38;20;39;24;5;15,21;0,3,4,6,7,14,17,18,20,21,22,23,27,30,32,34,3"
+    + "5,37,39,40,41;4,6,7,14,17,18,23,30,34,35,37,39;0,7,23;15;0,7,23,30,40;14,18,30;5,34;14,18,30;5,15;18;34;8;38;17"
+    + ",34;30;6;32;10;12,36,39;38;28;38;39;35;24;24;14,38;23,24;37;40;40;17,25,28;38;4,5;9;39;29;1,2;14;20;28,29;1,12,"
+    + "17,20,38;23,24;2,7,12,14,21,22,27,31,34,39,41;32;16;17;1;33;8,42;6;6;6;16;16,32;9,16,17,28,30,36,38;39;20;17;6,"
+    + "26;1,25,27;38;7,28,31;7,28;4,14,19;4,5,14;38;38;6;12;35;9,30,39;9,30,39;30,35;6;16;34;5,6,28,39;28,30,33;24;15,"
+    + "19;29;21;32;24;24;20;36,39;5,29;16,29;28;6;6;4;13;18;42;18;4,16,33,34,36,40;0,7,23;26,32;38;13,19;38;18;28;28;3"
+    + "1;23;20;38;37;27,36;9,28;12;0,3,11,22,33,42;15;23;10,31;5;38;22,35,37,41,42;19;18;19;2,9,16,35;8;17,40;11,34;11"
+    + ",15,34;12;34;12,39;16;19;27;5,30;36,40;0,1,2,4,5,7,12,14,15,16,18,19,20,21,22,23,25,26,27,28,29,30,32,33,34,35,"
+    + "37,38,39,40,41;18;15,32,39;39;9;37;25;9;4,13;15,19,42;1,3,6,11,13,14,16,17,20,24,25,26,27,28,30,34,35,36,37,41,"
+    + "42;17;5,29;18;17,20;30;30;24;12,14;16;9,18,23,24;9;25,28;39;30;35;12;26;6,7,17,23,28,29,30;9,14,16,18,24,30,34,"
+    + "35,36,37,38,39;9;1,3,11,16,20,25,27,28,34,41,42;0,9,18,23,35,36,38;16,28,36;9;7;18;19;24;15;0,5,23,24;5;9;9;12;"
+    + "30;7;9,12,14;5;39;37;1;11,20;3,7,13,17;37;26;38;0;4,39;12;7;12;4,5;23;18,35;9;30;4,6,17,23,30,40;9;36,40;4,14";
+
+  private static ExampleRegistry registry;
+
+  private ExampleCatalog() {
+    // Utility class
+  }
+
+  static ExampleRegistry getRegistry() {
+    if (registry == null) {
+      registry = new ExampleRegistry(CATEGORIES, CATEGORY_STARTS, TABLE, JAVA_ACTIVITIES, KOTLIN_ACTIVITIES,
+        SEARCH_TOKENS, SEARCH_POSTINGS);
+    }
+    return registry;
+  }
+}
@@ -3,7 +3,6 @@ package com.mapbox.mapboxandroiddemo;
 import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
-import android.os.Build;
 import android.os.Bundle;
 import android.preference.PreferenceManager;
 import androidx.annotation.NonNull;
@@ -15,6 +14,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.appcompat.widget.Toolbar;
+import androidx.appcompat.widget.SearchView;
 import android.view.LayoutInflater;
 import android.view.Menu;
 import android.view.MenuItem;
@@ -29,54 +29,10 @@ import com.afollestad.materialdialogs.MaterialDialog;
 import com.mapbox.mapboxandroiddemo.adapter.ExampleAdapter;
 import com.mapbox.mapboxandroiddemo.commons.AnalyticsTracker;
 import com.mapbox.mapboxandroiddemo.commons.FirstTimeRunChecker;
-import com.mapbox.mapboxandroiddemo.examples.ChinaBoundsCheckerActivity;
-import com.mapbox.mapboxandroiddemo.examples.MixedChinaAndGlobalStyleActivity;
-import com.mapbox.mapboxandroiddemo.examples.SimpleChinaMapViewActivity;
-import com.mapbox.mapboxandroiddemo.examples.labs.AnimatedMarkerActivity;
-import com.mapbox.mapboxandroiddemo.examples.basics.KotlinSimpleMapViewActivity;
-import com.mapbox.mapboxandroiddemo.examples.dds.DrawPolygonActivity;
-import com.mapbox.mapboxandroiddemo.examples.camera.AnimateMapCameraActivity;
-import com.mapbox.mapboxandroiddemo.examples.camera.BoundingBoxCameraActivity;
-import com.mapbox.mapboxandroiddemo.examples.camera.RestrictCameraActivity;
-import com.mapbox.mapboxandroiddemo.examples.dds.InfoWindowSymbolLayerActivity;
-import com.mapbox.mapboxandroiddemo.examples.dds.MultipleGeometriesActivity;
-import com.mapbox.mapboxandroiddemo.examples.dds.MultipleHeatmapStylingActivity;
-import com.mapbox.mapboxandroiddemo.examples.dds.StyleLineIdentityPropertyActivity;
-import com.mapbox.mapboxandroiddemo.examples.extrusions.AdjustExtrusionLightActivity;
-import com.mapbox.mapboxandroiddemo.examples.extrusions.RotationExtrusionActivity;
-import com.mapbox.mapboxandroiddemo.examples.labs.AnimatedImageGifActivity;
-import com.mapbox.mapboxandroiddemo.examples.labs.IndoorMapActivity;
-import com.mapbox.mapboxandroiddemo.examples.labs.MarkerFollowingRouteActivity;
-import com.mapbox.mapboxandroiddemo.examples.labs.PictureInPictureActivity;
-import com.mapbox.mapboxandroiddemo.examples.labs.PulsingLayerOpacityColorActivity;
-import com.mapbox.mapboxandroiddemo.examples.labs.RecyclerViewOnMapActivity;
-import com.mapbox.mapboxandroiddemo.examples.labs.SpaceStationLocationActivity;
-import com.mapbox.mapboxandroiddemo.examples.labs.SymbolLayerMapillaryActivity;
-import com.mapbox.mapboxandroiddemo.examples.offline.OfflineManagerActivity;
-import com.mapbox.mapboxandroiddemo.examples.offline.SimpleOfflineMapActivity;
-import com.mapbox.mapboxandroiddemo.examples.plugins.BuildingPluginActivity;
-import com.mapbox.mapboxandroiddemo.examples.plugins.LocalizationPluginActivity;
-import com.mapbox.mapboxandroiddemo.examples.plugins.PlacesPluginActivity;
-import com.mapbox.mapboxandroiddemo.examples.query.BuildingOutlineActivity;
-import com.mapbox.mapboxandroiddemo.examples.query.ClickOnLayerActivity;
-import com.mapbox.mapboxandroiddemo.examples.query.FeatureCountActivity;
-import com.mapbox.mapboxandroiddemo.examples.query.QueryFeatureActivity;
-import com.mapbox.mapboxandroiddemo.examples.query.RedoSearchInAreaActivity;
-import com.mapbox.mapboxandroiddemo.examples.query.SelectBuildingActivity;
-import com.mapbox.mapboxandroiddemo.examples.styles.AddWmsSourceActivity;
-import com.mapbox.mapboxandroiddemo.examples.styles.BasicSymbolLayerActivity;
-import com.mapbox.mapboxandroiddemo.examples.styles.ColorSwitcherActivity;
-import com.mapbox.mapboxandroiddemo.examples.styles.GeojsonLayerInStackActivity;
-import com.mapbox.mapboxandroiddemo.examples.styles.ImageSourceActivity;
-import com.mapbox.mapboxandroiddemo.examples.styles.ImageSourceTimeLapseActivity;
-import com.mapbox.mapboxandroiddemo.examples.styles.LanguageSwitchActivity;
-import com.mapbox.mapboxandroiddemo.examples.styles.LineLayerActivity;
-import com.mapbox.mapboxandroiddemo.examples.styles.ZoomDependentFillColorActivity;
 import com.mapbox.mapboxandroiddemo.model.ExampleItemModel;
 import com.mapbox.mapboxandroiddemo.utils.ItemClickSupport;
 import com.mapbox.mapboxandroiddemo.utils.SettingsDialogView;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import timber.log.Timber;
@@ -97,8 +53,6 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
   private static final String STATE_TOOLBAR_TITLE = "STATE_TOOLBAR_TITLE";
   private static final String STATE_SHOW_JAVA = "STATE_SHOW_JAVA";
 
-  private final ArrayList<ExampleItemModel> exampleItemModels = new ArrayList<>();
-
   private Toolbar toolbar;
   private String categoryTitleForToolbar;
 
@@ -112,6 +66,9 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
   private boolean loggedIn;
   private int currentCategory = R.id.nav_basics;
   private boolean showJavaExamples = true;
+  // The search field text while it's open, null while the category is shown
+  private String searchQuery;
+  private MenuItem searchItem;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -128,8 +85,6 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
 
     analytics = AnalyticsTracker.getInstance(this, false);
 
-    initializeModels();
-
     // Create the adapter to convert the array to views
     adapter = new ExampleAdapter(this);
     // Attach the adapter to a ListView
@@ -160,11 +115,9 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
 
         // in case it's an info tile
         if (model != null) {
-          if (showJavaExamples) {
-            startActivity(model.getJavaActivity());
-          } else {
-            startActivity(model.getKotlinActivity());
-          }
+          String className = showJavaExamples
+            ? model.getJavaActivityClassName() : model.getKotlinActivityClassName();
+          startActivity(new Intent().setClassName(MainActivity.this, className));
 
           analytics.clickedOnIndividualExample(getString(model.getTitle()), loggedIn);
           analytics.viewedScreen(getString(model.getTitle()), loggedIn);
@@ -224,6 +177,9 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
     }
 
     if (id != currentCategory && id != R.id.settings_in_nav_drawer) {
+      if (searchItem != null) {
+        searchItem.collapseActionView();
+      }
       currentCategory = id;
       listItems(id);
       categoryTitleForToolbar = item.getTitle().toString();
@@ -240,34 +196,59 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
   }
 
   private void listItems(int id) {
-    List<ExampleItemModel> models = new ArrayList<>();
-    for (ExampleItemModel model : exampleItemModels) {
-      if (model.getCategoryId() == id && verifySdkVersion(model)) {
-        if ((showJavaExamples && model.getJavaActivity() != null)
-          || !showJavaExamples && model.getKotlinActivity() != null) {
-          models.add(model);
-        }
-      }
-
-    }
-
-    adapter.updateDataSet(models, currentCategory);
+    boolean searching = searchQuery != null && searchQuery.trim().length() > 0;
+    List<ExampleItemModel> models = searching
+      ? ExampleCatalog.getRegistry().search(searchQuery, showJavaExamples)
+      : ExampleCatalog.getRegistry().getExamples(id, showJavaExamples);
+    // Search results span categories, so they're listed without a category's header card
+    adapter.updateDataSet(models, searching ? 0 : currentCategory);
 
     // Scrolls recycler view back to top.
     LinearLayoutManager layoutManager = (LinearLayoutManager) recyclerView.getLayoutManager();
     layoutManager.scrollToPositionWithOffset(0, 0);
 
+    noExamplesTv.setText(searching ? R.string.no_search_results : R.string.no_examples);
     noExamplesTv.setVisibility(models.size() == 0 ? View.VISIBLE : View.GONE);
   }
 
-  private boolean verifySdkVersion(ExampleItemModel model) {
-    return model == null || Build.VERSION.SDK_INT >= model.getMinSdkVersion();
-  }
-
   @Override
   public boolean onCreateOptionsMenu(Menu menu) {
     // Inflate toolbar items
     getMenuInflater().inflate(R.menu.menu_activity_main, menu);
+
+    searchItem = menu.findItem(R.id.action_search);
+    searchItem.setOnActionExpandListener(new MenuItem.OnActionExpandListener() {
+      @Override
+      public boolean onMenuItemActionExpand(MenuItem item) {
+        searchQuery = "";
+        return true;
+      }
+
+      @Override
+      public boolean onMenuItemActionCollapse(MenuItem item) {
+        searchQuery = null;
+        listItems(currentCategory);
+        return true;
+      }
+    });
+    final SearchView searchView = (SearchView) searchItem.getActionView();
+    searchView.setQueryHint(getString(R.string.search_examples));
+    searchView.setOnQueryTextListener(new SearchView.OnQueryTextListener() {
+      @Override
+      public boolean onQueryTextSubmit(String query) {
+        searchView.clearFocus();
+        return true;
+      }
+
+      @Override
+      public boolean onQueryTextChange(String newText) {
+        if (searchQuery != null) {
+          searchQuery = newText;
+          listItems(currentCategory);
+        }
+        return true;
+      }
+    });
     return true;
   }
 
@@ -381,354 +362,4 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
     outState.putString(STATE_TOOLBAR_TITLE, categoryTitleForToolbar);
     outState.putBoolean(STATE_SHOW_JAVA, showJavaExamples);
   }
-
-  private void initializeModels() {
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_basics,
-      R.string.activity_china_simple_china_mapview_title,
-      R.string.activity_china_simple_china_mapview_description,
-      new Intent(MainActivity.this, SimpleChinaMapViewActivity.class),
-      null,
-      R.string.activity_china_simple_china_mapview_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-        R.id.nav_basics,
-        R.string.activity_china_simple_china_bounds_checker_title,
-        R.string.activity_china_simple_china_bounds_checker_description,
-        new Intent(MainActivity.this, ChinaBoundsCheckerActivity.class),
-        null,
-        R.string.activity_china_simple_china_bounds_checker_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-        R.id.nav_basics,
-        R.string.activity_china_mixed_china_and_global_style_title,
-        R.string.activity_china_mixed_china_and_global_style_description,
-        new Intent(MainActivity.this, MixedChinaAndGlobalStyleActivity.class),
-        null,
-        R.string.activity_china_mixed_china_and_global_style_url, false, BuildConfig.MIN_SDK_VERSION));
-
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_styles,
-      R.string.activity_styles_basic_symbol_layer_title,
-      R.string.activity_styles_basic_symbol_layer_description,
-      new Intent(MainActivity.this, BasicSymbolLayerActivity.class),
-      null,
-      R.string.activity_styles_symbol_layer_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_styles,
-      R.string.activity_styles_line_layer_title,
-      R.string.activity_styles_line_layer_description,
-      new Intent(MainActivity.this, LineLayerActivity.class),
-      null,
-      R.string.activity_styles_line_layer_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_styles,
-      R.string.activity_styles_color_switcher_title,
-      R.string.activity_styles_color_switcher_description,
-      new Intent(MainActivity.this, ColorSwitcherActivity.class),
-      null,
-      R.string.activity_styles_color_switcher_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_styles,
-      R.string.activity_styles_add_wms_source_title,
-      R.string.activity_styles_add_wms_source_description,
-      new Intent(MainActivity.this, AddWmsSourceActivity.class),
-      null,
-      R.string.activity_styles_add_wms_source_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_styles,
-      R.string.activity_styles_geojson_layer_in_stack_title,
-      R.string.activity_styles_geojson_layer_in_stack_description,
-      new Intent(MainActivity.this, GeojsonLayerInStackActivity.class),
-      null,
-      R.string.activity_styles_geojson_layer_in_stack_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_styles,
-      R.string.activity_styles_zoom_dependent_fill_color_title,
-      R.string.activity_styles_zoom_dependent_fill_color_description,
-      new Intent(MainActivity.this, ZoomDependentFillColorActivity.class),
-      null,
-      R.string.activity_styles_zoom_dependent_fill_color_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_styles,
-      R.string.activity_styles_language_switch_title,
-      R.string.activity_styles_language_switch_description,
-      new Intent(MainActivity.this, LanguageSwitchActivity.class),
-      null,
-      R.string.activity_styles_language_switch_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_styles,
-      R.string.activity_style_image_source_title,
-      R.string.activity_style_image_source_description,
-      new Intent(MainActivity.this, ImageSourceActivity.class),
-      null,
-      R.string.activity_style_image_source_url, false, BuildConfig.MIN_SDK_VERSION
-    ));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_styles,
-      R.string.activity_style_image_source_time_lapse_title,
-      R.string.activity_style_image_source_time_lapse_description,
-      new Intent(MainActivity.this, ImageSourceTimeLapseActivity.class),
-      null,
-      R.string.activity_style_image_source_time_lapse_url, false, BuildConfig.MIN_SDK_VERSION
-    ));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_extrusions,
-      R.string.activity_extrusions_adjust_extrusions_title,
-      R.string.activity_extrusions_adjust_extrusions_description,
-      new Intent(MainActivity.this, AdjustExtrusionLightActivity.class),
-      null,
-      R.string.activity_extrusions_adjust_extrusions_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_extrusions,
-      R.string.activity_extrusions_rotate_extrusions_title,
-      R.string.activity_extrusions_rotate_extrusions_description,
-      new Intent(MainActivity.this, RotationExtrusionActivity.class),
-      null,
-      R.string.activity_extrusions_rotate_extrusions_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_plugins,
-      R.string.activity_plugins_building_plugin_title,
-      R.string.activity_plugins_building_plugin_description,
-      new Intent(MainActivity.this, BuildingPluginActivity.class),
-      null,
-      R.string.activity_plugins_building_plugin_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_plugins,
-      R.string.activity_plugins_places_plugin_title, R.string.activity_plugins_places_plugin_description,
-      new Intent(MainActivity.this, PlacesPluginActivity.class),
-      null,
-      R.string.activity_plugins_places_plugin_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_plugins,
-      R.string.activity_plugins_localization_plugin_title,
-      R.string.activity_plugins_localization_plugin_description,
-      new Intent(MainActivity.this, LocalizationPluginActivity.class),
-      null,
-      R.string.activity_plugins_localization_plugin_url, false, BuildConfig.MIN_SDK_VERSION)
-    );
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_dds,
-      R.string.activity_dds_polygon_title,
-      R.string.activity_dds_polygon_description,
-      new Intent(MainActivity.this, DrawPolygonActivity.class),
-      null,
-      R.string.activity_dds_polygon_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_lab,
-      R.string.activity_lab_animated_marker_title,
-      R.string.activity_lab_animated_marker_description,
-      new Intent(MainActivity.this, AnimatedMarkerActivity.class),
-      null,
-      R.string.activity_lab_animated_marker_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_camera,
-      R.string.activity_camera_animate_title,
-      R.string.activity_camera_animate_description,
-      new Intent(MainActivity.this, AnimateMapCameraActivity.class),
-      null,
-      R.string.activity_camera_animate_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_camera,
-      R.string.activity_camera_bounding_box_title,
-      R.string.activity_camera_bounding_box_description,
-      new Intent(MainActivity.this, BoundingBoxCameraActivity.class),
-      null,
-      R.string.activity_camera_bounding_box_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_camera,
-      R.string.activity_camera_restrict_title,
-      R.string.activity_camera_restrict_description,
-      new Intent(MainActivity.this, RestrictCameraActivity.class),
-      null,
-      R.string.activity_camera_restrict_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_offline,
-      R.string.activity_offline_simple_title,
-      R.string.activity_offline_simple_description,
-      new Intent(MainActivity.this, SimpleOfflineMapActivity.class),
-      null,
-      R.string.activity_offline_simple_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_offline,
-      R.string.activity_offline_manager_title,
-      R.string.activity_offline_manager_description,
-      new Intent(MainActivity.this, OfflineManagerActivity.class),
-      null,
-      R.string.activity_offline_manager_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_query_map,
-      R.string.activity_query_select_building_title,
-      R.string.activity_query_select_building_description,
-      new Intent(MainActivity.this, SelectBuildingActivity.class),
-      null,
-      R.string.activity_query_select_building_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_query_map,
-      R.string.activity_query_feature_count_title,
-      R.string.activity_query_feature_count_description,
-      new Intent(MainActivity.this, FeatureCountActivity.class),
-      null,
-      R.string.activity_query_feature_count_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_query_map,
-      R.string.activity_query_feature_title,
-      R.string.activity_query_feature_description,
-      new Intent(MainActivity.this, QueryFeatureActivity.class),
-      null,
-      R.string.activity_query_feature_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_query_map,
-      R.string.activity_query_click_on_layer_title,
-      R.string.activity_query_click_on_layer_description,
-      new Intent(MainActivity.this, ClickOnLayerActivity.class),
-      null,
-      R.string.activity_query_click_on_layer_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_query_map,
-      R.string.activity_query_redo_search_in_area_title,
-      R.string.activity_query_redo_search_in_area_description,
-      new Intent(MainActivity.this, RedoSearchInAreaActivity.class),
-      null,
-      R.string.activity_query_redo_search_in_area_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_query_map,
-      R.string.activity_query_building_outline_title,
-      R.string.activity_query_building_outline_description,
-      new Intent(MainActivity.this, BuildingOutlineActivity.class),
-      null,
-      R.string.activity_query_building_outline_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_lab,
-      R.string.activity_lab_symbol_layer_and_mapillary_on_map_title,
-      R.string.activity_lab_symbol_layer_and_mapillary_on_map_description,
-      new Intent(MainActivity.this, SymbolLayerMapillaryActivity.class),
-      null,
-      R.string.activity_lab_symbol_layer_on_map_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_lab,
-      R.string.activity_lab_pulsing_layer_opacity_color_title,
-      R.string.activity_lab_pulsing_layer_opacity_color_description,
-      new Intent(MainActivity.this, PulsingLayerOpacityColorActivity.class),
-      null,
-      R.string.activity_lab_pulsing_layer_opacity_color_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_lab,
-      R.string.activity_lab_indoor_map_title,
-      R.string.activity_lab_indoor_map_description,
-      new Intent(MainActivity.this, IndoorMapActivity.class),
-      null,
-      R.string.activity_lab_indoor_map_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_lab,
-      R.string.activity_lab_marker_following_route_title,
-      R.string.activity_lab_marker_following_route_description,
-      new Intent(MainActivity.this, MarkerFollowingRouteActivity.class),
-      null,
-      R.string.activity_lab_marker_following_route_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_lab,
-      R.string.activity_lab_space_station_location_title,
-      R.string.activity_lab_space_station_location_description,
-      new Intent(MainActivity.this, SpaceStationLocationActivity.class),
-      null,
-      R.string.activity_lab_space_station_location_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_lab,
-      R.string.activity_lab_picture_in_picture_title,
-      R.string.activity_lab_picture_in_picture_description,
-      new Intent(MainActivity.this, PictureInPictureActivity.class),
-      null,
-      R.string.activity_lab_picture_in_picture_url, false, Build.VERSION_CODES.O));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_lab,
-      R.string.activity_lab_rv_on_map_title,
-      R.string.activity_lab_rv_on_map_description,
-      new Intent(MainActivity.this, RecyclerViewOnMapActivity.class),
-      null,
-      R.string.activity_lab_rv_on_map_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_lab,
-      R.string.activity_labs_gif_on_map_title,
-      R.string.activity_labs_gif_on_map_description,
-      new Intent(MainActivity.this, AnimatedImageGifActivity.class),
-      null,
-      R.string.activity_labs_gif_on_map_url, false, BuildConfig.MIN_SDK_VERSION
-    ));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_dds,
-      R.string.activity_dds_multiple_heatmap_styling_title,
-      R.string.activity_dds_multiple_heatmap_styling_description,
-      new Intent(MainActivity.this, MultipleHeatmapStylingActivity.class),
-      null,
-      R.string.activity_dds_multiple_heatmap_styling_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_dds,
-      R.string.activity_dds_style_line_identity_property_title,
-      R.string.activity_dds_style_line_identity_property_description,
-      new Intent(MainActivity.this, StyleLineIdentityPropertyActivity.class),
-      null,
-      R.string.activity_dds_style_line_identity_property_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_dds,
-      R.string.activity_dds_multiple_geometries_title,
-      R.string.activity_dds_multiple_geometries_description,
-      new Intent(MainActivity.this, MultipleGeometriesActivity.class),
-      null,
-      R.string.activity_dds_multiple_geometries_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_dds,
-      R.string.activity_dds_info_window_symbol_layer_title,
-      R.string.activity_dds_info_window_symbol_layer_description,
-      new Intent(MainActivity.this, InfoWindowSymbolLayerActivity.class),
-      null,
-      R.string.activity_dds_info_window_symbol_layer_url, false, BuildConfig.MIN_SDK_VERSION));
-
-    exampleItemModels.add(new ExampleItemModel(
-      R.id.nav_basics,
-      R.string.activity_basic_mapbox_kotlin_title,
-      R.string.activity_basic_mapbox_kotlin_description,
-      new Intent(MainActivity.this, KotlinSimpleMapViewActivity.class),
-      null,
-      R.string.activity_basic_simple_mapview_url, true, BuildConfig.MIN_SDK_VERSION));
-  }
 }
@@ -9,6 +9,7 @@ import com.mapbox.android.core.location.*
 import com.mapbox.android.core.permissions.PermissionsListener
 import com.mapbox.android.core.permissions.PermissionsManager
 import com.mapbox.mapboxandroiddemo.R
+import com.mapbox.mapboxandroiddemo.model.Example
 import com.mapbox.mapboxsdk.camera.CameraPosition
 import com.mapbox.mapboxsdk.geometry.LatLng
 import com.mapbox.mapboxsdk.location.LocationComponent
@@ -23,6 +24,14 @@ import com.mapbox.mapboxsdk.plugins.china.constants.ChinaStyle
 import com.mapbox.mapboxsdk.plugins.china.maps.ChinaMapView
 import com.mapbox.mapboxsdk.plugins.china.shift.ChinaBoundsChecker
 
+@Example(
+    category = R.id.nav_basics,
+    title = R.string.activity_china_simple_china_bounds_checker_title,
+    description = R.string.activity_china_simple_china_bounds_checker_description,
+    imageUrl = R.string.activity_china_simple_china_bounds_checker_url,
+    order = 20,
+    flavors = [Example.CHINA]
+)
 class ChinaBoundsCheckerActivity : AppCompatActivity(), OnMapReadyCallback,
         LocationEngineCallback<LocationEngineResult>, PermissionsListener {
 
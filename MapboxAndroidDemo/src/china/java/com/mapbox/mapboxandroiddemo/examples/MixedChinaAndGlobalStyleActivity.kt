@@ -13,6 +13,7 @@ import com.mapbox.geojson.Feature
 import com.mapbox.geojson.Point
 import com.mapbox.geojson.Polygon
 import com.mapbox.mapboxandroiddemo.R
+import com.mapbox.mapboxandroiddemo.model.Example
 import com.mapbox.mapboxsdk.Mapbox
 import com.mapbox.mapboxsdk.camera.CameraPosition
 import com.mapbox.mapboxsdk.geometry.LatLng
@@ -33,6 +34,14 @@ import com.mapbox.mapboxsdk.style.sources.GeoJsonSource
  * This is an example of showing how to check for device location and then
  * loading a China style or custom .com/global style based on the location.
  */
+@Example(
+    category = R.id.nav_basics,
+    title = R.string.activity_china_mixed_china_and_global_style_title,
+    description = R.string.activity_china_mixed_china_and_global_style_description,
+    imageUrl = R.string.activity_china_mixed_china_and_global_style_url,
+    order = 30,
+    flavors = [Example.CHINA]
+)
 class MixedChinaAndGlobalStyleActivity : AppCompatActivity(), OnMapReadyCallback,
         LocationEngineCallback<LocationEngineResult>, PermissionsListener {
 
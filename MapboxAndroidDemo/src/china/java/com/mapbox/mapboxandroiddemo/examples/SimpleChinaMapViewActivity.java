@@ -7,6 +7,7 @@ import android.view.Menu;
 import android.view.MenuItem;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
 import com.mapbox.mapboxsdk.plugins.china.constants.ChinaStyle;
@@ -17,6 +18,13 @@ import com.mapbox.mapboxsdk.maps.Style;
 /**
  * The most basic example of adding a government approved and performant China map to an activity.
  */
+@Example(
+  category = R.id.nav_basics,
+  title = R.string.activity_china_simple_china_mapview_title,
+  description = R.string.activity_china_simple_china_mapview_description,
+  imageUrl = R.string.activity_china_simple_china_mapview_url,
+  order = 10,
+  flavors = Example.CHINA)
 public class SimpleChinaMapViewActivity extends AppCompatActivity {
   private ChinaMapView mapView;
   private MapboxMap mapboxMap;
@@ -0,0 +1,871 @@
+// This file is generated. Edit the @Example annotations, then run `make example-registry`.
+package com.mapbox.mapboxandroiddemo;
+
+import android.os.Build;
+
+import com.mapbox.mapboxandroiddemo.model.ExampleRegistry;
+
+/**
+ * All examples listed in {@link MainActivity}, see {@link com.mapbox.mapboxandroiddemo.model.Example}.
+ */
+final class ExampleCatalog {
+
+  private static final String EXAMPLES = "com.mapbox.mapboxandroiddemo.examples.";
+
+  private static final int[] CATEGORIES = {
+    R.id.nav_basics,
+    R.id.nav_camera,
+    R.id.nav_dds,
+    R.id.nav_extrusions,
+    R.id.nav_java_services,
+    R.id.nav_lab,
+    R.id.nav_location,
+    R.id.nav_offline,
+    R.id.nav_plugins,
+    R.id.nav_query_map,
+    R.id.nav_snapshot_image_generator,
+    R.id.nav_styles
+  };
+
+  private static final int[] CATEGORY_STARTS = {0, 4, 8, 35, 40, 59, 83, 88, 91, 98, 106, 108, 135};
+
+  // Title, description, image URL, min SDK version and new icon flag of each example
+  private static final int[] TABLE = {
+    R.string.activity_basic_simple_mapview_title,
+    R.string.activity_basic_simple_mapview_description,
+    R.string.activity_basic_simple_mapview_url, 0, 0,
+    R.string.activity_basic_support_map_frag_title,
+    R.string.activity_basic_support_map_frag_description,
+    R.string.activity_basic_support_map_frag_url, 0, 0,
+    R.string.activity_basic_mapbox_options_title,
+    R.string.activity_basic_mapbox_options_description,
+    R.string.activity_basic_mapbox_options_url, 0, 0,
+    R.string.activity_basic_kotlin_support_map_frag_title,
+    R.string.activity_basic_kotlin_support_map_frag_description,
+    R.string.activity_basic_kotlin_support_map_frag_url, 0, 1,
+    R.string.activity_camera_animate_title,
+    R.string.activity_camera_animate_description,
+    R.string.activity_camera_animate_url, 0, 0,
+    R.string.activity_camera_bounding_box_title,
+    R.string.activity_camera_bounding_box_description,
+    R.string.activity_camera_bounding_box_url, 0, 0,
+    R.string.activity_camera_restrict_title,
+    R.string.activity_camera_restrict_description,
+    R.string.activity_camera_restrict_url, 0, 0,
+    R.string.activity_camera_slowly_rotating_title,
+    R.string.activity_camera_slowly_rotating_description,
+    R.string.activity_camera_slowly_rotating_url, 0, 0,
+    R.string.activity_dds_polygon_title,
+    R.string.activity_dds_polygon_description,
+    R.string.activity_dds_polygon_url, 0, 0,
+    R.string.activity_dds_geojson_line_title,
+    R.string.activity_dds_geojson_line_description,
+    R.string.activity_dds_geojson_line_url, 0, 0,
+    R.string.activity_dds_polygon_holes_title,
+    R.string.activity_dds_polygon_holes_description,
+    R.string.activity_dds_polygon_holes_url, 0, 0,
+    R.string.activity_dds_heatmap_title,
+    R.string.activity_dds_heatmap_description,
+    R.string.activity_dds_heatmap_url, 0, 0,
+    R.string.activity_dds_multiple_heatmap_styling_title,
+    R.string.activity_dds_multiple_heatmap_styling_description,
+    R.string.activity_dds_multiple_heatmap_styling_url, 0, 0,
+    R.string.activity_dds_bathymetry_title,
+    R.string.activity_dds_bathymetry_description,
+    R.string.activity_dds_bathymetry_url, 0, 0,
+    R.string.activity_styles_dds_geojson_circle_layer_clusters_title,
+    R.string.activity_styles_dds_geojson_circle_layer_clusters_description,
+    R.string.activity_styles_dds_geojson_circle_layer_clusters_url, 0, 0,
+    R.string.activity_dds_image_clustering_title,
+    R.string.activity_dds_image_clustering_description,
+    R.string.activity_dds_image_clustering_url, 0, 0,
+    R.string.activity_dds_style_circle_categorically_title,
+    R.string.activity_dds_style_circle_categorically_description,
+    R.string.activity_dds_style_circle_categorically_url, 0, 0,
+    R.string.activity_dds_choropleth_zoom_change_title,
+    R.string.activity_dds_choropleth_zoom_change_description,
+    R.string.activity_dds_choropleth_zoom_change_url, 0, 0,
+    R.string.activity_dds_style_line_identity_property_title,
+    R.string.activity_dds_style_line_identity_property_description,
+    R.string.activity_dds_style_line_identity_property_url, 0, 0,
+    R.string.activity_dds_line_gradient_title,
+    R.string.activity_dds_line_gradient_description,
+    R.string.activity_dds_line_gradient_url, 0, 0,
+    R.string.activity_dds_create_hotspots_points_title,
+    R.string.activity_dds_create_hotspots_points_description,
+    R.string.activity_dds_create_hotspots_points_url, 0, 0,
+    R.string.activity_dds_json_vector_mix_title,
+    R.string.activity_dds_json_vector_mix_description,
+    R.string.activity_dds_json_vector_mix_url, 0, 0,
+    R.string.activity_dds_multiple_geometries_title,
+    R.string.activity_dds_multiple_geometries_description,
+    R.string.activity_dds_multiple_geometries_url, 0, 0,
+    R.string.activity_dds_info_window_symbol_layer_title,
+    R.string.activity_dds_info_window_symbol_layer_description,
+    R.string.activity_dds_info_window_symbol_layer_url, 0, 0,
+    R.string.activity_dds_time_lapse_rainfall_points_title,
+    R.string.activity_dds_time_lapse_rainfall_points_description,
+    R.string.activity_dds_time_lapse_rainfall_url, 0, 0,
+    R.string.activity_dds_expression_integration_title,
+    R.string.activity_dds_expression_integration_description,
+    R.string.activity_dds_expression_integration_url, 0, 0,
+    R.string.activity_dds_style_kotlin_circle_categorically_title,
+    R.string.activity_dds_kotlin_style_circle_categorically_description,
+    R.string.activity_dds_style_circle_categorically_url, 0, 0,
+    R.string.activity_dds_satellite_land_select_title,
+    R.string.activity_dds_satellite_land_select_description,
+    R.string.activity_dds_satellite_land_select_url, 0, 0,
+    R.string.activity_dds_symbol_zoom_switch_title,
+    R.string.activity_dds_symbol_zoom_switch_description,
+    R.string.activity_dds_symbol_zoom_switch_url, 0, 0,
+    R.string.activity_dds_polygon_select_toggle_title,
+    R.string.activity_dds_polygon_select_toggle_description,
+    R.string.activity_dds_polygon_select_toggle_url, 0, 0,
+    R.string.activity_dds_symbol_collision_detection_title,
+    R.string.activity_dds_symbol_collision_detection_description,
+    R.string.activity_dds_symbol_collision_detection_url, 0, 0,
+    R.string.activity_dds_polygon_revealed_hole_outline_title,
+    R.string.activity_dds_polygon_revealed_hole_outline_description,
+    R.string.activity_dds_polygon_revealed_hole_outline_url, 0, 0,
+    R.string.activity_dds_circle_radius_title,
+    R.string.activity_dds_circle_radius_description,
+    R.string.activity_dds_circle_radius_url, 0, 0,
+    R.string.activity_dds_circle_to_icon_smooth_transition_title,
+    R.string.activity_dds_circle_to_icon_smooth_transition_description,
+    R.string.activity_dds_circle_to_icon_smooth_transition_url, 0, 0,
+    R.string.activity_dds_property_icon_switch_title,
+    R.string.activity_dds_property_icon_switch_description,
+    R.string.activity_dds_property_icon_switch_url, 0, 0,
+    R.string.activity_extrusions_population_density_extrusions_title,
+    R.string.activity_extrusions_population_density_extrusions_description,
+    R.string.activity_extrusions_population_density_extrusions_url, 0, 0,
+    R.string.activity_extrusions_catalina_marathon_extrusions_title,
+    R.string.activity_extrusions_catalina_marathon_extrusions_description,
+    R.string.activity_extrusions_catalina_marathon_extrusions_url, 0, 0,
+    R.string.activity_extrusions_adjust_extrusions_title,
+    R.string.activity_extrusions_adjust_extrusions_description,
+    R.string.activity_extrusions_adjust_extrusions_url, 0, 0,
+    R.string.activity_extrusions_indoor_3d_title,
+    R.string.activity_extrusions_indoor_3d_description,
+    R.string.activity_extrusions_indoor_3d_url, 0, 0,
+    R.string.activity_extrusions_rotate_extrusions_title,
+    R.string.activity_extrusions_rotate_extrusions_description,
+    R.string.activity_extrusions_rotate_extrusions_url, 0, 0,
+    R.string.activity_java_services_simplify_polyline_title,
+    R.string.activity_java_services_simplify_polyline_description,
+    R.string.activity_java_services_simplify_polyline_url, 0, 0,
+    R.string.activity_java_services_map_matching_title,
+    R.string.activity_java_services_map_matching_description,
+    R.string.activity_java_services_map_matching_url, 0, 0,
+    R.string.activity_java_services_directions_title,
+    R.string.activity_java_services_directions_description,
+    R.string.activity_java_services_directions_url, 0, 0,
+    R.string.activity_java_services_optimization_title,
+    R.string.activity_java_services_optimization_description,
+    R.string.activity_java_services_optimization_url, 0, 0,
+    R.string.activity_java_services_static_image_title,
+    R.string.activity_java_services_static_image_description,
+    R.string.activity_java_services_static_image_url, 0, 0,
+    R.string.activity_java_services_maxtrix_api_title,
+    R.string.activity_java_services_matrix_api_description,
+    R.string.activity_java_services_matrix_url, 0, 0,
+    R.string.activity_java_services_geocoding_title,
+    R.string.activity_java_services_geocoding_description,
+    R.string.activity_java_services_geocoding_url, 0, 0,
+    R.string.activity_java_services_isochrone_title,
+    R.string.activity_java_services_isochrone_description,
+    R.string.activity_java_services_isochrone_url, 0, 0,
+    R.string.activity_java_services_isochrone_with_seekbar_title,
+    R.string.activity_java_services_isochrone_with_seekbar_description,
+    R.string.activity_java_services_isochrone_with_seekbar_url, 0, 1,
+    R.string.activity_java_services_tilequery_title,
+    R.string.activity_java_services_tilequery_description,
+    R.string.activity_java_services_tilequery_url, 0, 0,
+    R.string.activity_java_services_turf_ring_title,
+    R.string.activity_java_services_turf_ring_description,
+    R.string.activity_java_services_turf_ring_url, 0, 0,
+    R.string.activity_java_services_turf_physical_circle_title,
+    R.string.activity_java_services_turf_physical_circle_description,
+    R.string.activity_java_services_turf_physical_circle_url, 0, 1,
+    R.string.activity_java_services_turf_elevation_query_title,
+    R.string.activity_java_services_turf_elevation_query_description,
+    R.string.activity_java_services_turf_elevation_query_url, 0, 1,
+    R.string.activity_java_services_turf_line_distance_title,
+    R.string.activity_java_services_turf_line_distance_description,
+    R.string.activity_java_services_turf_line_distance_url, 0, 0,
+    R.string.activity_java_services_directions_gradient_title,
+    R.string.activity_java_services_directions_gradient_description,
+    R.string.activity_java_services_directions_gradient_url, 0, 0,
+    R.string.activity_java_services_multiple_geometries_from_directions_route_title,
+    R.string.activity_java_services_multiple_geometries_from_directions_route_description,
+    R.string.activity_java_services_multiple_geometries_from_directions_route_url, 0, 1,
+    R.string.activity_java_services_bordered_circle_title,
+    R.string.activity_java_services_bordered_circle_description,
+    R.string.activity_java_services_bordered_circle_url, 0, 1,
+    R.string.activity_java_services_straight_line_distance_title,
+    R.string.activity_java_services_straight_line_distance_description,
+    R.string.activity_java_services_straight_line_distance_url, 0, 1,
+    R.string.activity_java_services_static_image_notification_title,
+    R.string.activity_java_services_static_image_notification_description,
+    R.string.activity_java_services_static_image_notification_url, 0, 1,
+    R.string.activity_lab_animated_marker_title,
+    R.string.activity_lab_animated_marker_description,
+    R.string.activity_lab_animated_marker_url, 0, 0,
+    R.string.activity_lab_symbol_layer_and_mapillary_on_map_title,
+    R.string.activity_lab_symbol_layer_and_mapillary_on_map_description,
+    R.string.activity_lab_symbol_layer_on_map_url, 0, 0,
+    R.string.activity_lab_pulsing_layer_opacity_color_title,
+    R.string.activity_lab_pulsing_layer_opacity_color_description,
+    R.string.activity_lab_pulsing_layer_opacity_color_url, 0, 0,
+    R.string.activity_lab_indoor_map_title,
+    R.string.activity_lab_indoor_map_description,
+    R.string.activity_lab_indoor_map_url, 0, 0,
+    R.string.activity_lab_location_picker_title,
+    R.string.activity_lab_location_picker_description,
+    R.string.activity_lab_location_picker_url, 0, 0,
+    R.string.activity_lab_marker_following_route_title,
+    R.string.activity_lab_marker_following_route_description,
+    R.string.activity_lab_marker_following_route_url, 0, 0,
+    R.string.activity_lab_space_station_location_title,
+    R.string.activity_lab_space_station_location_description,
+    R.string.activity_lab_space_station_location_url, 0, 0,
+    R.string.activity_lab_picture_in_picture_title,
+    R.string.activity_lab_picture_in_picture_description,
+    R.string.activity_lab_picture_in_picture_url, Build.VERSION_CODES.O, 0,
+    R.string.activity_lab_rv_on_map_title,
+    R.string.activity_lab_rv_on_map_description,
+    R.string.activity_lab_rv_on_map_url, 0, 0,
+    R.string.activity_labs_inset_map_title,
+    R.string.activity_labs_inset_map_description,
+    R.string.activity_labs_inset_map_url, 0, 0,
+    R.string.activity_labs_gif_on_map_title,
+    R.string.activity_labs_gif_on_map_description,
+    R.string.activity_labs_gif_on_map_url, 0, 0,
+    R.string.activity_lab_fog_background_title,
+    R.string.activity_lab_fog_background_description,
+    R.string.activity_lab_fog_background_url, 0, 0,
+    R.string.activity_lab_dashed_line_directions_picker_title,
+    R.string.activity_lab_dashed_line_directions_picker_description,
+    R.string.activity_lab_dashed_line_directions_picker_url, 0, 0,
+    R.string.activity_lab_calendar_integration_title,
+    R.string.activity_lab_calendar_integration_description,
+    R.string.activity_lab_calendar_integration_url, 0, 0,
+    R.string.activity_lab_magic_window_title,
+    R.string.activity_lab_magic_window_description,
+    R.string.activity_lab_magic_window_image_url, Build.VERSION_CODES.O, 1,
+    R.string.activity_labs_snaking_directions_route_title,
+    R.string.activity_labs_snaking_directions_route_description,
+    R.string.activity_labs_snaking_directions_route_url, 0, 0,
+    R.string.activity_lab_home_screen_widget_title,
+    R.string.activity_lab_home_screen_widget_description,
+    R.string.activity_lab_home_screen_widget_url, 0, 0,
+    R.string.activity_lab_animated_interpolator_icon_drop_title,
+    R.string.activity_lab_animated_interpolator_icon_drop_description,
+    R.string.activity_lab_animated_interpolator_icon_drop_url, 0, 0,
+    R.string.activity_lab_moving_icon_with_trailing_line_title,
+    R.string.activity_lab_moving_icon_with_trailing_line_description,
+    R.string.activity_lab_moving_icon_with_trailing_line_url, 0, 0,
+    R.string.activity_lab_rv_directions_title,
+    R.string.activity_lab_rv_directions_description,
+    R.string.activity_lab_rv_directions_url, 0, 1,
+    R.string.activity_lab_spinning_icon_title,
+    R.string.activity_lab_spinning_icon_description,
+    R.string.activity_lab_spinning_icon_url, 0, 1,
+    R.string.activity_lab_change_attribution_color_title,
+    R.string.activity_lab_change_attribution_color_description,
+    R.string.activity_lab_change_attribution_color_url, 0, 1,
+    R.string.activity_lab_shared_preferences_title,
+    R.string.activity_lab_shared_preferences_description,
+    R.string.activity_lab_shared_preferences_url, 0, 1,
+    R.string.activity_lab_biometric_fingerprint_title,
+    R.string.activity_lab_biometric_fingerprint_description,
+    R.string.activity_lab_biometric_fingerprint_url, 0, 1,
+    R.string.activity_location_location_component_title,
+    R.string.activity_location_location_component_description,
+    R.string.activity_location_location_component_url, 0, 0,
+    R.string.activity_location_user_location_map_frag_title,
+    R.string.activity_location_user_location_map_frag_plugin_description,
+    R.string.activity_location_user_location_fragment_plugin_url, 0, 0,
+    R.string.activity_location_location_component_options_title,
+    R.string.activity_location_location_component_options_description,
+    R.string.activity_location_location_component_options_url, 0, 0,
+    R.string.activity_location_location_component_camera_options_title,
+    R.string.activity_location_location_component_camera_options_description,
+    R.string.activity_location_location_component_camera_options_url, 0, 0,
+    R.string.activity_location_location_change_listening_title,
+    R.string.activity_location_location_change_listening_description,
+    R.string.activity_location_location_change_listening_url, 0, 0,
+    R.string.activity_offline_simple_title,
+    R.string.activity_offline_simple_description,
+    R.string.activity_offline_simple_url, 0, 0,
+    R.string.activity_offline_manager_title,
+    R.string.activity_offline_manager_description,
+    R.string.activity_offline_manager_url, 0, 0,
+    R.string.activity_offline_cache_management_title,
+    R.string.activity_offline_cache_management_description,
+    R.string.activity_offline_cache_management_url, 0, 0,
+    R.string.activity_plugins_traffic_plugin_title,
+    R.string.activity_plugins_traffic_plugin_description,
+    R.string.activity_plugins_traffic_plugin_url, 0, 0,
+    R.string.activity_plugins_building_plugin_title,
+    R.string.activity_plugins_building_plugin_description,
+    R.string.activity_plugins_building_plugin_url, 0, 0,
+    R.string.activity_plugins_places_plugin_title,
+    R.string.activity_plugins_places_plugin_description,
+    R.string.activity_plugins_places_plugin_url, 0, 0,
+    R.string.activity_plugins_symbol_listener_title,
+    R.string.activity_plugins_symbol_listener_description,
+    R.string.activity_plugins_symbol_listener_url, 0, 0,
+    R.string.activity_plugins_localization_plugin_title,
+    R.string.activity_plugins_localization_plugin_description,
+    R.string.activity_plugins_localization_plugin_url, 0, 0,
+    R.string.activity_plugins_markerview_plugin_title,
+    R.string.activity_plugins_markerview_plugin_description,
+    R.string.activity_plugins_markerview_plugin_url, 0, 0,
+    R.string.activity_plugins_scalebar_plugin_title,
+    R.string.activity_plugins_scalebar_plugin_description,
+    R.string.activity_plugins_scalebar_plugin_url, 0, 0,
+    R.string.activity_query_select_building_title,
+    R.string.activity_query_select_building_description,
+    R.string.activity_query_select_building_url, 0, 0,
+    R.string.activity_query_feature_count_title,
+    R.string.activity_query_feature_count_description,
+    R.string.activity_query_feature_count_url, 0, 0,
+    R.string.activity_query_feature_title,
+    R.string.activity_query_feature_description,
+    R.string.activity_query_feature_url, 0, 0,
+    R.string.activity_query_click_on_layer_title,
+    R.string.activity_query_click_on_layer_description,
+    R.string.activity_query_click_on_layer_url, 0, 0,
+    R.string.activity_query_redo_search_in_area_title,
+    R.string.activity_query_redo_search_in_area_description,
+    R.string.activity_query_redo_search_in_area_url, 0, 0,
+    R.string.activity_query_building_outline_title,
+    R.string.activity_query_building_outline_description,
+    R.string.activity_query_building_outline_url, 0, 0,
+    R.string.activity_query_highlighted_line_title,
+    R.string.activity_query_highlighted_line_description,
+    R.string.activity_query_highlighted_line_url, 0, 0,
+    R.string.activity_lab_drag_draw_title,
+    R.string.activity_lab_drag_draw_description,
+    R.string.activity_lab_drag_draw_url, 0, 0,
+    R.string.activity_image_generator_snapshot_notification_title,
+    R.string.activity_image_generator_snapshot_notification_description,
+    R.string.activity_image_generator_snapshot_notification_url, 0, 0,
+    R.string.activity_image_generator_snapshot_share_title,
+    R.string.activity_image_generator_snapshot_share_description,
+    R.string.activity_image_generator_snapshot_share_url, 0, 0,
+    R.string.activity_styles_default_title,
+    R.string.activity_styles_default_description,
+    R.string.activity_styles_default_url, 0, 0,
+    R.string.activity_styles_basic_symbol_layer_title,
+    R.string.activity_styles_basic_symbol_layer_description,
+    R.string.activity_styles_symbol_layer_url, 0, 0,
+    R.string.activity_styles_symbol_icon_onclick_size_change_title,
+    R.string.activity_styles_symbol_icon_onclick_size_change_description,
+    R.string.activity_styles_symbol_icon_onclick_size_change_url, 0, 0,
+    R.string.activity_styles_line_layer_title,
+    R.string.activity_styles_line_layer_description,
+    R.string.activity_styles_line_layer_url, 0, 0,
+    R.string.activity_styles_color_switcher_title,
+    R.string.activity_styles_color_switcher_description,
+    R.string.activity_styles_color_switcher_url, 0, 0,
+    R.string.activity_styles_vector_source_title,
+    R.string.activity_styles_vector_source_description,
+    R.string.activity_styles_vector_source_url, 0, 0,
+    R.string.activity_styles_add_wms_source_title,
+    R.string.activity_styles_add_wms_source_description,
+    R.string.activity_styles_add_wms_source_url, 0, 0,
+    R.string.activity_styles_geojson_layer_in_stack_title,
+    R.string.activity_styles_geojson_layer_in_stack_description,
+    R.string.activity_styles_geojson_layer_in_stack_url, 0, 0,
+    R.string.activity_styles_adjust_layer_opacity_title,
+    R.string.activity_styles_adjust_layer_opacity_description,
+    R.string.activity_styles_adjust_layer_opacity_url, 0, 0,
+    R.string.activity_styles_zoom_dependent_fill_color_title,
+    R.string.activity_styles_zoom_dependent_fill_color_description,
+    R.string.activity_styles_zoom_dependent_fill_color_url, 0, 0,
+    R.string.activity_styles_language_switch_title,
+    R.string.activity_styles_language_switch_description,
+    R.string.activity_styles_language_switch_url, 0, 0,
+    R.string.activity_styles_show_hide_layer_title,
+    R.string.activity_styles_show_hide_layer_description,
+    R.string.activity_styles_show_hide_layer_url, 0, 0,
+    R.string.activity_styles_mapbox_studio_title,
+    R.string.activity_styles_mapbox_studio_description,
+    R.string.activity_styles_mapbox_studio_url, 0, 0,
+    R.string.activity_styles_local_style_or_raster_source_title,
+    R.string.activity_styles_local_style_or_raster_source_description,
+    R.string.activity_styles_local_style_or_raster_source_url, 0, 0,
+    R.string.activity_style_image_source_title,
+    R.string.activity_style_image_source_description,
+    R.string.activity_style_image_source_url, 0, 0,
+    R.string.activity_style_image_source_time_lapse_title,
+    R.string.activity_style_image_source_time_lapse_description,
+    R.string.activity_style_image_source_time_lapse_url, 0, 0,
+    R.string.activity_styles_hillshade_title,
+    R.string.activity_style_hillshade_description,
+    R.string.activity_style_hillshade_url, 0, 0,
+    R.string.activity_styles_text_field_multiple_formats_title,
+    R.string.activity_styles_text_field_multiple_formats_description,
+    R.string.activity_styles_text_field_multiple_formats_url, 0, 0,
+    R.string.activity_styles_transparent_background_title,
+    R.string.activity_styles_transparent_background_description,
+    R.string.activity_styles_transparent_background_url, 0, 0,
+    R.string.activity_styles_click_to_add_image_title,
+    R.string.activity_styles_click_to_add_image_description,
+    R.string.activity_styles_click_to_add_image_url, 0, 0,
+    R.string.activity_styles_rotating_anchor_text_title,
+    R.string.activity_styles_rotating_anchor_text_description,
+    R.string.activity_styles_rotating_anchor_text_url, 0, 0,
+    R.string.activity_styles_satellite_opacity_on_zoom_title,
+    R.string.activity_style_satellite_opacity_on_zoom_description,
+    R.string.activity_style_satellite_opacity_on_zoom_url, 0, 0,
+    R.string.activity_styles_text_field_formatting_title,
+    R.string.activity_styles_text_field_formatting_description,
+    R.string.activity_styles_text_field_formatting_url, 0, 0,
+    R.string.activity_styles_missing_icon_title,
+    R.string.activity_styles_missing_icon_description,
+    R.string.activity_styles_missing_icon_url, 0, 0,
+    R.string.activity_styles_variable_label_placement_title,
+    R.string.activity_styles_variable_label_placement_description,
+    R.string.activity_styles_variable_label_placement_url, 0, 0,
+    R.string.activity_styles_worldview_switch_title,
+    R.string.activity_styles_worldview_switch_description,
+    R.string.activity_styles_worldview_switch_url, 0, 1,
+    R.string.activity_styles_runtime_styling_title,
+    R.string.activity_styles_runtime_styling_description,
+    R.string.activity_styles_runtime_styling_url, 0, 0
+  };
+
+  private static final String[] JAVA_ACTIVITIES = {
+    EXAMPLES + "basics.SimpleMapViewActivity",
+    EXAMPLES + "basics.SupportMapFragmentActivity",
+    EXAMPLES + "basics.MapboxMapOptionActivity",
+    null,
+    EXAMPLES + "camera.AnimateMapCameraActivity",
+    EXAMPLES + "camera.BoundingBoxCameraActivity",
+    EXAMPLES + "camera.RestrictCameraActivity",
+    EXAMPLES + "camera.SlowlyRotatingCameraActivity",
+    EXAMPLES + "dds.DrawPolygonActivity",
+    EXAMPLES + "dds.DrawGeojsonLineActivity",
+    EXAMPLES + "dds.PolygonHolesActivity",
+    EXAMPLES + "dds.HeatmapActivity",
+    EXAMPLES + "dds.MultipleHeatmapStylingActivity",
+    EXAMPLES + "dds.BathymetryActivity",
+    EXAMPLES + "dds.CircleLayerClusteringActivity",
+    EXAMPLES + "dds.ImageClusteringActivity",
+    EXAMPLES + "dds.StyleCirclesCategoricallyActivity",
+    EXAMPLES + "dds.ChoroplethZoomChangeActivity",
+    EXAMPLES + "dds.StyleLineIdentityPropertyActivity",
+    EXAMPLES + "dds.LineGradientActivity",
+    EXAMPLES + "dds.CreateHotspotsActivity",
+    EXAMPLES + "dds.ChoroplethJsonVectorMixActivity",
+    EXAMPLES + "dds.MultipleGeometriesActivity",
+    EXAMPLES + "dds.InfoWindowSymbolLayerActivity",
+    EXAMPLES + "dds.AddRainFallStyleActivity",
+    EXAMPLES + "dds.ExpressionIntegrationActivity",
+    null,
+    EXAMPLES + "dds.SatelliteLandSelectActivity",
+    EXAMPLES + "dds.SymbolSwitchOnZoomActivity",
+    null,
+    EXAMPLES + "dds.SymbolCollisionDetectionActivity",
+    EXAMPLES + "dds.RevealedPolygonHoleOutlineActivity",
+    EXAMPLES + "dds.CircleRadiusActivity",
+    EXAMPLES + "dds.CircleToIconTransitionActivity",
+    EXAMPLES + "dds.PropertyIconDeterminationActivity",
+    EXAMPLES + "extrusions.PopulationDensityExtrusionActivity",
+    EXAMPLES + "extrusions.MarathonExtrusionActivity",
+    EXAMPLES + "extrusions.AdjustExtrusionLightActivity",
+    EXAMPLES + "extrusions.Indoor3DMapActivity",
+    EXAMPLES + "extrusions.RotationExtrusionActivity",
+    EXAMPLES + "javaservices.SimplifyPolylineActivity",
+    EXAMPLES + "javaservices.MapMatchingActivity",
+    EXAMPLES + "javaservices.DirectionsActivity",
+    EXAMPLES + "javaservices.OptimizationActivity",
+    EXAMPLES + "javaservices.StaticImageActivity",
+    EXAMPLES + "javaservices.MatrixApiActivity",
+    EXAMPLES + "javaservices.GeocodingActivity",
+    EXAMPLES + "javaservices.IsochroneActivity",
+    EXAMPLES + "javaservices.IsochroneSeekbarActivity",
+    EXAMPLES + "javaservices.TilequeryActivity",
+    EXAMPLES + "javaservices.TurfRingActivity",
+    EXAMPLES + "javaservices.TurfPhysicalCircleActivity",
+    EXAMPLES + "javaservices.ElevationQueryActivity",
+    EXAMPLES + "javaservices.TurfLineDistanceActivity",
+    EXAMPLES + "javaservices.DirectionsGradientLineActivity",
+    EXAMPLES + "javaservices.MultipleGeometriesDirectionsRouteActivity",
+    null,
+    EXAMPLES + "javaservices.StraightLineDistanceMapMovementActivity",
+    EXAMPLES + "javaservices.StaticImageNotificationActivity",
+    EXAMPLES + "labs.AnimatedMarkerActivity",
+    EXAMPLES + "labs.SymbolLayerMapillaryActivity",
+    EXAMPLES + "labs.PulsingLayerOpacityColorActivity",
+    EXAMPLES + "labs.IndoorMapActivity",
+    EXAMPLES + "labs.LocationPickerActivity",
+    EXAMPLES + "labs.MarkerFollowingRouteActivity",
+    EXAMPLES + "labs.SpaceStationLocationActivity",
+    EXAMPLES + "labs.PictureInPictureActivity",
+    EXAMPLES + "labs.RecyclerViewOnMapActivity",
+    EXAMPLES + "labs.InsetMapActivity",
+    EXAMPLES + "labs.AnimatedImageGifActivity",
+    EXAMPLES + "labs.MapFogBackgroundActivity",
+    EXAMPLES + "labs.DashedLineDirectionsPickerActivity",
+    EXAMPLES + "labs.CalendarIntegrationActivity",
+    null,
+    EXAMPLES + "labs.SnakingDirectionsRouteActivity",
+    EXAMPLES + "labs.HomeScreenWidgetActivity",
+    EXAMPLES + "labs.ValueAnimatorIconAnimationActivity",
+    EXAMPLES + "labs.MovingIconWithTrailingLineActivity",
+    EXAMPLES + "labs.RecyclerViewDirectionsActivity",
+    EXAMPLES + "labs.SpinningSymbolLayerIconActivity",
+    EXAMPLES + "labs.ChangeAttributionColorActivity",
+    EXAMPLES + "labs.SharedPreferencesActivity",
+    EXAMPLES + "labs.BiometricFingerprintLayerUnlockActivity",
+    EXAMPLES + "location.LocationComponentActivity",
+    EXAMPLES + "location.LocationComponentFragmentActivity",
+    EXAMPLES + "location.LocationComponentOptionsActivity",
+    EXAMPLES + "location.LocationComponentCameraOptionsActivity",
+    EXAMPLES + "location.LocationChangeListeningActivity",
+    EXAMPLES + "offline.SimpleOfflineMapActivity",
+    EXAMPLES + "offline.OfflineManagerActivity",
+    EXAMPLES + "offline.CacheManagementActivity",
+    EXAMPLES + "plugins.TrafficPluginActivity",
+    EXAMPLES + "plugins.BuildingPluginActivity",
+    EXAMPLES + "plugins.PlacesPluginActivity",
+    EXAMPLES + "plugins.SymbolListenerActivity",
+    EXAMPLES + "plugins.LocalizationPluginActivity",
+    EXAMPLES + "plugins.MarkerViewPluginActivity",
+    EXAMPLES + "plugins.ScalebarPluginActivity",
+    EXAMPLES + "query.SelectBuildingActivity",
+    EXAMPLES + "query.FeatureCountActivity",
+    EXAMPLES + "query.QueryFeatureActivity",
+    EXAMPLES + "query.ClickOnLayerActivity",
+    EXAMPLES + "query.RedoSearchInAreaActivity",
+    EXAMPLES + "query.BuildingOutlineActivity",
+    EXAMPLES + "query.HighlightedLineActivity",
+    EXAMPLES + "query.FingerDrawQueryActivity",
+    EXAMPLES + "snapshot.SnapshotNotificationActivity",
+    EXAMPLES + "snapshot.SnapshotShareActivity",
+    EXAMPLES + "styles.DefaultStyleActivity",
+    EXAMPLES + "styles.BasicSymbolLayerActivity",
+    EXAMPLES + "styles.IconSizeChangeOnClickActivity",
+    EXAMPLES + "styles.LineLayerActivity",
+    EXAMPLES + "styles.ColorSwitcherActivity",
+    EXAMPLES + "styles.VectorSourceActivity",
+    EXAMPLES + "styles.AddWmsSourceActivity",
+    EXAMPLES + "styles.GeojsonLayerInStackActivity",
+    EXAMPLES + "styles.AdjustLayerOpacityActivity",
+    EXAMPLES + "styles.ZoomDependentFillColorActivity",
+    EXAMPLES + "styles.LanguageSwitchActivity",
+    EXAMPLES + "styles.ShowHideLayersActivity",
+    EXAMPLES + "styles.MapboxStudioStyleActivity",
+    EXAMPLES + "styles.LocalStyleSourceActivity",
+    EXAMPLES + "styles.ImageSourceActivity",
+    EXAMPLES + "styles.ImageSourceTimeLapseActivity",
+    EXAMPLES + "styles.HillShadeActivity",
+    EXAMPLES + "styles.TextFieldMultipleFormatsActivity",
+    EXAMPLES + "styles.TransparentBackgroundActivity",
+    EXAMPLES + "styles.ClickToAddImageActivity",
+    EXAMPLES + "styles.RotatingTextAnchorPositionActivity",
+    EXAMPLES + "styles.SatelliteOpacityOnZoomActivity",
+    EXAMPLES + "styles.TextFieldFormattingActivity",
+    EXAMPLES + "styles.MissingIconActivity",
+    EXAMPLES + "styles.VariableLabelPlacementActivity",
+    null,
+    EXAMPLES + "styles.RuntimeStylingActivity"
+  };
+
+  private static final String[] KOTLIN_ACTIVITIES = {
+    EXAMPLES + "basics.KotlinSimpleMapViewActivity",
+    null,
+    null,
+    EXAMPLES + "basics.KotlinSupportMapFragmentActivity",
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    EXAMPLES + "dds.KotlinStyleCirclesCategoricallyActivity",
+    null,
+    null,
+    EXAMPLES + "dds.PolygonSelectToggleActivity",
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    EXAMPLES + "javaservices.KotlinBorderedCircleActivity",
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    EXAMPLES + "labs.MagicWindowKotlinActivity",
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    EXAMPLES + "location.KotlinLocationComponentActivity",
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    null,
+    EXAMPLES + "styles.KotlinWorldviewSwitchActivity",
+    null
+  };
+
+  private static final String SEARCH_TOKENS =
+    "10 2 25 3d 50 8211 a about accordingly actual actualitza add added adding addlayer adjust adjustable administra"
+    + "tive afegeix afegint afegir afegiu agregacions agrupacions aigua ajusta ajustar al aligns all allow along als a"
+    + "lso altre alçada amaga amb amount an anchor and android angeles anima animació animate animated animation annot"
+    + "ation any anywhere anàlisi api aplica aplicar app apply aquest aquesta are area argument around arrossegueu arx"
+    + "iu as associated at atraccions attractions attribution audience automatically background bao bar barra barrejan"
+    + "t basat basats base based batec bathymetry be bearing behavior behind being below between biometric biến border"
+    + " bordered boundaries bounding box bubblelayout build building buildings built button by bản cache calculate cal"
+    + "endar calor camera can canvia canviar cao capa capes car característica característiques carreteres cas case ca"
+    + "tegorical categorically categories categòrica center cercle cercles certain chance change changes china chiều c"
+    + "ho choropleth chèn chế chỉnh chọn circle circlelayer circles clic click clicked clustered clustering clusters c"
+    + "oincidir col collide collision color colored coloring colors com combine componen compta congestion congestió c"
+    + "onjunt conjunts connector consistent constant consulta container continually control convert coordenades coordi"
+    + "nate coordinates coroplètic cosa cotxes count crea crear creat create created crow current custom customize cus"
+    + "tomized cuộn càmera các cách có cập cụm của d dades data datasets de default defecte define del delete delimita"
+    + "dor dels demanar deny depend dependent depending depenent depengui depth descarrega descarregar designed despla"
+    + "ça desplaçar després destination detection determinar determine device dibuixa dibuixar diferents different din"
+    + "s dinàmica dinàmicament directions display disseny dissenyts distance dona donats dotted download drag draw dra"
+    + "wing driven driving drop du dynamically dành dõi dùng dưới dấu dữ dựng e each easily edifici edificis effect ei"
+    + "na el elements elevation eliminar els empra emprant en encaixa encaixada encaixin entre es escull espacial espe"
+    + "cífica establir estació estan esti estil estils estàtic etc etiquetes event eventually evita example explore ex"
+    + "pressed expression expressions externa external extrude extrusion extrusions extrusió extruïr faci fade failed "
+    + "far feature features feu fields file fill filter finds finger fingerprint fit flies floor fog following font fo"
+    + "nts for forats forma format formats fragment from funció function functionality g gain gaming genera generar ge"
+    + "nerate geocode geocodificació geocoding geojson geometria geometries geometry gestor get ghim giao gif given gi"
+    + "á giác giản gps gradient great have heatmap heatmaps height heights hi hide high highlight highlighted highligh"
+    + "ting hills hillshading hiển hiện hole holes hollow homescreen hostatjat hosted hotels hotspots how hoặc hàm hìn"
+    + "h hóa hạn hỗ hộp i icon icona icones iconid icons identitat identity if igualar iinclinació il image images imp"
+    + "ortades imported in increase indicacions indoor info informació information inset inside integration interactio"
+    + "n interactions interior interiors internacional international interpolators interroga inversa is isochrone it i"
+    + "tem its java join json key khách khối khớp kilometers kiểu kotlin kẻ l la label labels land language languages "
+    + "lapse larger layer layers layout les level levels light line lines link list listen listener listeners live liệ"
+    + "u llarg llibreria lloc llum load loca local locally locals location locationcomponent locations los loại lumina"
+    + "ció làm línia línies lý lịch lỗ lớp magic maintain make making manage management manager manera manipulate many"
+    + " map mapa mapbox mapes mapillary mapping maps mapview marcador marcadors marker markers markerview match matche"
+    + "d matching matrix measure merging meters mida miles minute missing mitjançant more mostra mostrar mostreu motif"
+    + " mountains moure moved movement moves moving multi multiple màu més mảnh mặc một mới mờ mức n navegar navigate "
+    + "new ngoại nguồn ngôn người ngữ nhiều nhiệt nhà nhãn nhìn nhô nhất nhật nivell nombre notification nova o obteni"
+    + "r of offline on once one opacitat opacity opcions optimization optimized options or origin other outline outlin"
+    + "ed over overlap paint pair panell panned panning parcs parks parsing part partir pathways per perform personal "
+    + "personalitzada personalitzat photo photos physical phóng phương picker picture pisos place placement plugin pod"
+    + "eu point points polilínia polilínies polygon polygons polyline polylines polígon polígons posa posició position"
+    + " positions precise precís preferred prevent priority professionally professionalment projectada properties prop"
+    + "erty propietat propietats provide pugui pulsing punt punts puntuals quan quantitat que queries query quickest q"
+    + "uickly quản ra radii radius rainfall raster rather raw real realitza receive recompte recyclerview redo reduces"
+    + " redueix region regió release render renderer reomplert requadre request response ressaltar ressalti restrict r"
+    + "estringeix retrieve reveal revealed reverse ring roads rodament rotate rotating rotation route runnable runtime"
+    + " ruta ràster s satellite save saving scale sdk search second see seek seekbar segon segons seguint seleccionar "
+    + "select selected selector send senzill separate ser service services servir set setting seva share sharedprefere"
+    + "nces shined show showcased showing simple simplifica simplify single situations size sizes slider slowly smalle"
+    + "r smooth snake snaking snapshot snapshotted so sobre something sota source space specific speed spinning static"
+    + " station staying stop stored straight studio style styled styles styling such superior suport support surface s"
+    + "witch switcher symbol symbollayer system sáng símbols sắc també tap target teca temps terrain tessel teva text "
+    + "than that thay the their them then theo they this thu thuộc thêm thông thị thức tile tilequery tileset tilt tim"
+    + "e times tiếp to toggle toggles tolerance tolerància top tots track traffic transition transparent transparència"
+    + " travel travels trong truy trànsit trên trình trí tròn trị trợ trực turf turistes tuyến two tính tòa tùy tĩnh t"
+    + "ượng tạo tải tối từ ubicació ui un una unir units unlock up update updates url usant use user uses using utilit"
+    + "y utilitza utilitzant value valueanimator values variable varietat variety various vector vectorial vectơ veloc"
+    + "itat veu veure via vies view visible vista visual visualització visualitzar visualization visualize viu và vùng"
+    + " vấn vẽ về vị vừa water ways web when which widget window with within wms world worldview worldviews xem xây yo"
+    + "u your zoom ánh đa điều điểm đơn đường đặt địa định đối đồ đồng đổi độ động ưu ẩn";
+
+  private static final String SEARCH_POSTINGS =
+    "49;45;45;35,38,39,92;49;45;0,1,2,3,4,5,6,7,8,9,10,11,14,16,17,18,19,20,21,22,23,24,26,31,32,33,34,35,37,38,40,4"
+    + "4,46,47,49,50,51,52,53,54,55,56,57,59,60,61,62,63,64,66,68,70,71,73,75,77,78,79,80,82,83,84,88,89,91,96,97,98,9"
+    + "9,100,101,103,104,105,106,107,108,109,110,111,112,113,114,115,116,117,118,119,120,121,123,125,126,127,129,131,1"
+    + "32,134;46,47;48;65;17;2,11,60,70,93,97,100,104,111,113,114,115,127;61;114;115;37,48,79,80,116,128,129,130,133;5"
+    + "6;133;1,4,59,61,113,114,115;109;2,100,111;113,114;14;14;117;37,116;116;16,42,59,64,100,109,111,114;41;5,39,74,9"
+    + "9;30;64,77;16,38,61;60,61;6;35,36;119;8,9,10,21,38,41,62,64,88,96,108,111;40;18,27,48,56,58,62,69,88,89,96,114,"
+    + "122,123,131;128,132;4,11,14,15,17,22,23,25,27,29,30,34,36,37,39,43,44,48,52,56,57,58,60,61,63,68,79,81,88,89,93"
+    + ",94,98,99,100,101,103,104,107,110,111,113,119,123,124,125,126,127,130,134;0,1,8,9,10,20,42,44,48,66,76,81,82,88"
+    + ",96,108;61;4,59,109;4,59,61;4,59,76,110;69,76;61;94;93;69;9;43,45,46,47,48,49,52,54,55,58,61,77;17,21;16,18;0,1"
+    + ",80;54;117;100;5,49;27,105;115;7,39,50;116;9;20,57,81,113,126;78;63,64,74,100;61;61;80;133;95;70,126;5;97,116;1"
+    + "16;21;17;36;1;28,32,34,35,55,67,71,97,129,133,134;61;13;34,115;4;86;77,104;6;115;45,57,62;82;96,121;56;56;133;5"
+    + ",99;5,99;23;2,44;35,62,92,98,103;39,49,92,99;94;134;9,17,21;0,1,2,4,6,20,41,42,43,44,62,88,100,118;90;50,57;72;"
+    + "20;4,5,7,28,39,48,57,86;47,115;111,112;37,62,112;35,36;109,111,112,113,114,115,116,117;112,119;91;100;99;41;117"
+    + ";117;16,26;16;16;16;50;16;16;102;132;28,37,39,95,110,112,118,134;87,123;24;35,36;61;17,21;115;6;37,116;63,98;7,"
+    + "14,16,26,32,33,50,51,56;14;16,26,32,33;100,109;27,49,100,101,127;110;15;15;14;41;5;30;30;16,18,26,37,54,80,112,"
+    + "117,130;19;12;29,61,125;14,20,113;73;40;99;91;91;112;119;91;64;64;88,98,109;1,3;58;12;25;40;50;40,46,50,81;17,2"
+    + "1;40;91;99;14,20,38,96,111;111,119;2;20,33,34,38,56,79,96,111,119,126;2;57;65,75;119,120,121;11,85,86,124;85;6;"
+    + "4,5;14,20,115;2;10,35;17;14;4,36,37,59,83,116;1,9,18,36,38,61,62,91,99,108,112,115,116;14,17,20,21,35,36,91,119"
+    + ";11,13,14,17,20,21,23,24,25,32,35,36,48,52,60,82,91,123,124;119;0,1,2,4,5,8,9,14,16,17,18,20,21,35,36,37,40,41,"
+    + "61,63,64,65,88,91,96,98,99,100,109,111,112,113,115,116,117,119;108;108;51;4,59,100,117;89;5,99;35;42;30;117;34,"
+    + "117;40;40;117;13;44,88;44,89;108;64;6;63;74;30;36;97;39,57,75,87,95,127;8,9,10,96;98;119;6,45,119;99;2;2;42,43,"
+    + "54,55,71,74,77,78;13,35,43,48,62,84,91,92,100,109,113,119,122;2;108;53,57,97;14;5;71;44,88,89;105,116;8,9,10,22"
+    + ",50,77,98,105;105;13,17,24,36;45;63;61;2,118;61;64;18,83;115;109;14,35,36;2;51;34;83,92,122;35,62,98;35,99;24,7"
+    + "0,73,79,104;40;4,5,6,10,37,41,59,64,91,98,99,109,112,115,117;99;52,124;89;5,41,62,99;36,42,44,91;0,1,40,64,96,1"
+    + "11,115;2,5,8,10,17,35,36,38,63,65,91,113,117;5;64;41;62;6,64;98;65;63;36;65;5;120;16,17,18,21,38,61,111,120;14,"
+    + "36,108;44;51;115;72;50,58;6;24,26,49,60,102;90;51,56;125;25,33;114;114;38;36;35,36,37;36;38;109;129;131;47;34,9"
+    + "8,99,100;49,102;14,20,41,100,117;128,130;9,22,121;38,112,117,126;22;102;105;82;5;57;62;70;64;113,114;125,130;16"
+    + ",18,26,38,49,52,68,73,93,94,100,102;10;2;125;125;1,3,68,84;6,20,22,33,48,55,74;16,18,98,117;16,18,26;93;51;12;6"
+    + "8;2;44;51,56;46;63;46,63,75,93;9,14,15,22,36,64,101,111;98;17,21,22,55;98;89,119;98,99;59,64,96,109;91;69;5,47;"
+    + "17;8,10;0,40,88;41;19,54,70;68;7,74;11,12;12;35,36,38,92;36;109;119;132;31,61,99,101,104;104;98;124;124;35,83,9"
+    + "1,92;119;31;10;50;75;120;120;61;20;47;121;18;8,10,16,40,66,96;40,43;6;1;5;4,14,17,21,36,37,44,61,63,80,88,89,98"
+    + ",99,100,109,111,113,119;28,33,34,76,77,79,85,110,131;96;109;34;15,23,28,30,33,60,76,79,109;18;18;110;41;4;37;58"
+    + ",69,106,107,122,123;15,122;35;35;0,2,5,14,23,24,49,51,56,60,65,66,75,92,93,94,106,110,117;132;42;38,62;23,48;10"
+    + "0;46,47,52,75,81,85,100;68;1,3,99;60,72;67,68,94,134;67;38,62;38,62;65;65;76;100;63;60,61,102;47,48;68,74,98,10"
+    + "4,111,113,126,127;78;94,98;42,44;21;17,21,121;34;61;36;41;51;14,16,108,120,121;26;9,111;0,4,8,9,20,35,36,40,61,"
+    + "65,88,96,111,116;0,1,4,5,16,18,37,38,40,59,63,64,65,91,98,100,109,111,112,113,116,117;95,132;115,125,130,132;27"
+    + ";95,118;125;24,123;68;17,23,32,61,101,103,109,110,111,112,113,114,115,116,119,129;14,117,119;2;17,18,21,35,36,3"
+    + "7,41,91,100,109,111,113,115;17,28,97,117,129;62;37;9,18,19,53,54,57,77,104,111;18;68;132;94;94;94;91;14,35,36;6"
+    + "4;1;37,100;37;121,131;5;17,21,121;121;17,21;37,49,52,57,63,65,71,75,83,84,85,86,87,93,100,127;83,84,85,86;45,72"
+    + ";61;16;37;4,5,59;9,18,111;18,111;89;61;10;17,109,111,112,115,116,119;73;66;46,47,49,117;40;90;90;89;5,41;60,67;"
+    + "45;0,1,2,3,4,6,8,10,17,21,38,41,42,43,44,49,57,59,62,64,66,67,68,69,71,72,80,82,83,84,86,88,91,95,100,102,105,1"
+    + "07,109,110,111,113,114,116,117,118,121,122,127,132,133,134;0,1,2,4,6,8,10,17,20,21,38,41,42,44,59,62,64,88,91,1"
+    + "00,109,111,113,114,116,117;0,8,9,10,20,42,43,44,52,55,77,88,91,96,108,120;20,38,41;60;38;0,8,9,10,20,73,88,90,1"
+    + "00,108,118;2,70;59,64,96,100;5,109;59,63,64,96,100;5,60;96;41,80;64;41;45;53;21;49;109;51;12;131;9;115;0,35,42,"
+    + "62,91,109,119;35,91,100,119;113;80;124;6;102;71,76;77;77,126;43;22,25,55,125;37,112,117;115;1,113;108;2,98;115;"
+    + "116;17,117;111;89;89;59,115;88,89;113,114;118;83;118;40;20;35,62,92,98;115;4,5;36;18;17;17,117;99;58,106;59;66;"
+    + "98,99;1,3,27,32,37,40,49,53,62,66,70,91,108,115,116,128,129,130,132,134;88,89;8,10,28,29,32,34,35,37,40,42,43,5"
+    + "5,59,67,69,70,71,72,82,83,84,91,95,97,101,104,105,109,110,116,117,122,127,129,133,134;74,102;131;116;61,116,129"
+    + ";62;43;43;85,86;30,75,80,121;74;75,134;27,31,103;31;12,123;30;38;34;6;6;6;61;61,102;9;91;20,35;41;0,14,16,17,18"
+    + ",20,35,36,38,42,44,61,62,91,98,100,108,112,115,116,119;63;82;96;119,120;127;27;51,56;17,117;121;63;66;62;1,3,6,"
+    + "58,93;132;91,92,94,95;115;7,14,20,24;20,41,45;9,40;40;8,10,29,31,98,101;29,38;9,40;40;8,10,98;38;63;4,59,63,65;"
+    + "4,5,59,128;132;115;115;132;6;132;108;108;37;111,134;16,18,26,32,34,38,100,117;16,18,38,100,117;100,111;131,132;"
+    + "6;61;63;20,41;14,20;109;40;5,6,40,41,98,117;49;52,98,100,103,110;43;78;89;36;32;32,51,56;24;116,121,129;74;41;6"
+    + "0,65,91;63;45,46,47,87;99;67,78;102;40;40;31,89;89;66;126;132;112,117;5,99;42,46,47,49;55;61,99;98;6;6;43,45,48"
+    + ",52,81;82;31;63;50;41;4;39;7;79;43,54,55,64,71,74,77,78;123;134;64;116;4,28,32,34,43,57,61,71,75,81,82,83,84,10"
+    + "3,109,110,112,116,118,133;27,129;81;81;97;0,8,9,10,20,88,90,96,108;49,93,102,105;115;39,65;116;48;115;35;64;98;"
+    + "27,29,98,127;71,101;63;107;88;66;115;114;42,44;14,20;32,34,36,95,112;34;16,18,98;107;81;37;0,11,13,23,42,43,55,"
+    + "68,69,70,71,72,75,78,83,84,103,106,119,123,124;60;74;0,88;40;40;7,22,49,55,101;134;110,130;125;48;7;68;33;74;74"
+    + ";106,107;106;5,41;116;126;115;69,111,113,114,122,123;65;46,52,63;64;79;44,58;65;132;43;121;57;120;16,17,18,19,2"
+    + "1,61,80,111,120,121,125,131;26;108;12,13,17,24,36,134;81,126;91;1;1,3;126;28,62,118;119;23,94,109,110;15,23,28,"
+    + "34,60,76,77,79,109,110,128,130;76,81,82,96;37;109;37,117;61;29,104,127;57;1;65,91;52;17,21,113;0;30,95,125,128,"
+    + "130,132;74;5,71,100;112,118;0,4,5,7,8,9,10,20,28,32,34,37,38,40,41,43,45,46,47,48,49,52,53,57,58,59,60,61,64,65"
+    + ",66,67,69,72,74,75,78,80,81,82,83,84,85,87,88,90,91,92,93,94,95,98,99,100,102,103,105,108,109,110,111,114,115,1"
+    + "16,117,118,122,127,128,129,130,132,133;29;29;63;17,35,36,64;41;24,49,60,102,117;17,117;18;113,114;91;35,83,91,9"
+    + "2;18;17,21,113;49,52;49,52;4,39;24,47,48,60,65,91,123;45;91;6,11,13,14,15,20,23,24,25,27,29,30,31,33,34,35,36,3"
+    + "9,41,42,43,44,45,46,47,48,49,50,51,52,53,54,56,57,58,59,61,62,66,68,70,71,74,76,79,80,81,82,83,84,85,86,89,90,9"
+    + "1,92,93,95,97,98,100,105,109,111,112,113,114,116,119,122,123,124,125,127,131,132,133;29,30;62;40;40;70,91,116;5"
+    + ",99;87;91;33;126;116;45,47;64;62,66;100;91;42,43,100;63,89;37,59,83;16;17;1;91;50,51,53,56,57;61;18,42,43,64,88"
+    + ",89;54,68,73;18;35,92,98;16,96,117,121;44;100;14,20,111;44;43;20;37,63;80,93;0,1,2,6,8,9,10,17,20,21,38,44,62,6"
+    + "3,88,91,96,98,99,100,113,116,119,120;2,9,16,18,40,44,59,61,63,64,89,96,100,108,109,111,112,113,114,115,116,117;"
+    + "21;51,56;82;40,49;17,58;87;44,121;16,18;13,14,15,20,23,24,25,33,35,36,42,43,44,45,46,47,48,49,50,51,52,53,56,57"
+    + ",58,61,66,76,79,81,82,83,84,85,86,91,92,95,98,108,109,120,122,123,124,125;83,84,85,134;133;0,10,16,18,26,40,64,"
+    + "88,94,111,112,115;40;35,36,61,98,108,112,120;18;34,133;79;79;132;108;108;29,90,134;8,10,17,21,35,52,113;113;35,"
+    + "113;64;65;89;60,121;41;0,2,5,15,27,88,89,96;132;0,2,5;33;16,18;14,20;16,18,26;11,14,20,24,25;91;14,37;17;100;8,"
+    + "10,96;44;18,37,59,83;5;13,117,126;90;114;87,131;40,49,77;75;23,66,73;8,9,10,17,19,21,24,38,39,41,51,54,56,62,78"
+    + ",96,108,125,126,131;47,49;114;93;133;133;42,43;2;47,115;0;4,17,28,97,117,129;37;8,10;37;4,5,20,63;0,40,88;9,40,"
+    + "42,43,64,111;36;63,121;14,16,18,108;100;0,1,2,4,6,20,41,42,43,44,62,88,100,118;18;112,118;116;2,4,59;43;119";
+
+  private static ExampleRegistry registry;
+
+  private ExampleCatalog() {
+    // Utility class
+  }
+
+  static ExampleRegistry getRegistry() {
+    if (registry == null) {
+      registry = new ExampleRegistry(CATEGORIES, CATEGORY_STARTS, TABLE, JAVA_ACTIVITIES, KOTLIN_ACTIVITIES,
+        SEARCH_TOKENS, SEARCH_POSTINGS);
+    }
+    return registry;
+  }
+}
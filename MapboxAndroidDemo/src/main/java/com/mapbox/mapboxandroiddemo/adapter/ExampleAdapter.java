@@ -4,6 +4,7 @@ import android.content.Context;
 import androidx.annotation.IdRes;
 import androidx.annotation.NonNull;
 import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -93,15 +94,22 @@ public class ExampleAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder
   }
 
   public void updateDataSet(List<ExampleItemModel> examples, @IdRes int categoryId) {
-    dataSource.clear();
-    dataSource.addAll(examples);
-
-    viewType = getViewType(categoryId);
-    if (viewType > 0) {
-      dataSource.add(0, null);
+    List<ExampleItemModel> newDataSource = new ArrayList<>(examples.size() + 1);
+    int newViewType = getViewType(categoryId);
+    if (newViewType > 0) {
+      newDataSource.add(null);
     }
+    newDataSource.addAll(examples);
+
+    // Only rebinds the cards that changed, e.g. the examples available in both languages stay put
+    DiffUtil.DiffResult diff = DiffUtil.calculateDiff(
+      new ExampleDiffCallback(dataSource, viewType, newDataSource, newViewType), false);
+
+    dataSource.clear();
+    dataSource.addAll(newDataSource);
+    viewType = newViewType;
 
-    notifyDataSetChanged();
+    diff.dispatchUpdatesTo(this);
   }
 
   public ExampleItemModel getItemAt(int position) {
@@ -123,6 +131,46 @@ public class ExampleAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder
     return 0;
   }
 
+  /**
+   * Compares the examples by identity, they're the same instances from the catalog. The info card
+   * at the top is a null item, which only changes with the category's view type.
+   */
+  private static class ExampleDiffCallback extends DiffUtil.Callback {
+
+    private final List<ExampleItemModel> oldItems;
+    private final int oldViewType;
+    private final List<ExampleItemModel> newItems;
+    private final int newViewType;
+
+    ExampleDiffCallback(List<ExampleItemModel> oldItems, int oldViewType,
+                        List<ExampleItemModel> newItems, int newViewType) {
+      this.oldItems = oldItems;
+      this.oldViewType = oldViewType;
+      this.newItems = newItems;
+      this.newViewType = newViewType;
+    }
+
+    @Override
+    public int getOldListSize() {
+      return oldItems.size();
+    }
+
+    @Override
+    public int getNewListSize() {
+      return newItems.size();
+    }
+
+    @Override
+    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+      return oldItems.get(oldItemPosition) == newItems.get(newItemPosition);
+    }
+
+    @Override
+    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+      return oldItems.get(oldItemPosition) != null || oldViewType == newViewType;
+    }
+  }
+
   static class ViewHolder extends RecyclerView.ViewHolder {
 
     TextView titleTextView;
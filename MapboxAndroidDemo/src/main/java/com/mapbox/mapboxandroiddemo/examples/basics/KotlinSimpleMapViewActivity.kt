@@ -3,6 +3,7 @@ package com.mapbox.mapboxandroiddemo.examples.basics
 import android.os.Bundle
 import androidx.appcompat.app.AppCompatActivity
 import com.mapbox.mapboxandroiddemo.R
+import com.mapbox.mapboxandroiddemo.model.Example
 import com.mapbox.mapboxsdk.Mapbox
 import com.mapbox.mapboxsdk.maps.Style
 import kotlinx.android.synthetic.main.activity_basic_simple_kotlin.*
@@ -10,6 +11,15 @@ import kotlinx.android.synthetic.main.activity_basic_simple_kotlin.*
 /**
  * The most basic example of adding a map to an activity with Kotlin code
  */
+@Example(
+    category = R.id.nav_basics,
+    title = R.string.activity_basic_mapbox_kotlin_title,
+    description = R.string.activity_basic_mapbox_kotlin_description,
+    imageUrl = R.string.activity_basic_simple_mapview_url,
+    order = 40,
+    showNewIcon = true,
+    flavors = [Example.CHINA]
+)
 class KotlinSimpleMapViewActivity : AppCompatActivity() {
 
     override fun onCreate(savedInstanceState: Bundle?) {
@@ -3,6 +3,7 @@ package com.mapbox.mapboxandroiddemo.examples.basics
 import android.os.Bundle
 import androidx.appcompat.app.AppCompatActivity
 import com.mapbox.mapboxandroiddemo.R
+import com.mapbox.mapboxandroiddemo.model.Example
 import com.mapbox.mapboxsdk.Mapbox
 import com.mapbox.mapboxsdk.camera.CameraPosition
 import com.mapbox.mapboxsdk.geometry.LatLng
@@ -13,6 +14,15 @@ import com.mapbox.mapboxsdk.maps.SupportMapFragment
 /**
  * Use Kotlin to add a map into a fragment container.
  */
+@Example(
+    category = R.id.nav_basics,
+    title = R.string.activity_basic_kotlin_support_map_frag_title,
+    description = R.string.activity_basic_kotlin_support_map_frag_description,
+    imageUrl = R.string.activity_basic_kotlin_support_map_frag_url,
+    order = 40,
+    showNewIcon = true,
+    kotlinOnly = true
+)
 class KotlinSupportMapFragmentActivity : AppCompatActivity() {
 
     override fun onCreate(savedInstanceState: Bundle?) {
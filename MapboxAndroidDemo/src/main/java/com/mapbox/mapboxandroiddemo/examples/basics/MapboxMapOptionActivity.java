@@ -3,6 +3,7 @@ package com.mapbox.mapboxandroiddemo.examples.basics;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -18,6 +19,12 @@ import androidx.appcompat.app.AppCompatActivity;
 /**
  * Add a map view in a dynamically created layout
  */
+@Example(
+  category = R.id.nav_basics,
+  title = R.string.activity_basic_mapbox_options_title,
+  description = R.string.activity_basic_mapbox_options_description,
+  imageUrl = R.string.activity_basic_mapbox_options_url,
+  order = 30)
 public class MapboxMapOptionActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -3,6 +3,7 @@ package com.mapbox.mapboxandroiddemo.examples.basics;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -16,6 +17,13 @@ import androidx.appcompat.app.AppCompatActivity;
 /**
  * The most basic example of adding a map to an activity.
  */
+@Example(
+  category = R.id.nav_basics,
+  title = R.string.activity_basic_simple_mapview_title,
+  description = R.string.activity_basic_simple_mapview_description,
+  imageUrl = R.string.activity_basic_simple_mapview_url,
+  order = 10,
+  kotlinActivity = KotlinSimpleMapViewActivity.class)
 public class SimpleMapViewActivity extends AppCompatActivity {
 
   private MapView mapView;
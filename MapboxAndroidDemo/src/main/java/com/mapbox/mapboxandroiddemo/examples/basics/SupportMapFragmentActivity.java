@@ -6,6 +6,7 @@ import androidx.fragment.app.FragmentTransaction;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -18,6 +19,12 @@ import com.mapbox.mapboxsdk.maps.SupportMapFragment;
 /**
  * Include a map fragment within your app using Android support library.
  */
+@Example(
+  category = R.id.nav_basics,
+  title = R.string.activity_basic_support_map_frag_title,
+  description = R.string.activity_basic_support_map_frag_description,
+  imageUrl = R.string.activity_basic_support_map_frag_url,
+  order = 20)
 public class SupportMapFragmentActivity extends AppCompatActivity {
 
   @Override
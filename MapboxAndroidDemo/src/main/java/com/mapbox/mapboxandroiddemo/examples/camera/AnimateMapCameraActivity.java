@@ -6,6 +6,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -18,6 +19,13 @@ import com.mapbox.mapboxsdk.maps.Style;
 /**
  * Animate the map's camera position, tilt, bearing, and zoom.
  */
+@Example(
+  category = R.id.nav_camera,
+  title = R.string.activity_camera_animate_title,
+  description = R.string.activity_camera_animate_description,
+  imageUrl = R.string.activity_camera_animate_url,
+  order = 10,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class AnimateMapCameraActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener  {
 
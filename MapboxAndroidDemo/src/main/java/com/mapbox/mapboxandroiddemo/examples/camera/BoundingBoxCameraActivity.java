@@ -9,6 +9,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -27,6 +28,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
 /**
  * Fit a map to a bounding box
  */
+@Example(
+  category = R.id.nav_camera,
+  title = R.string.activity_camera_bounding_box_title,
+  description = R.string.activity_camera_bounding_box_description,
+  imageUrl = R.string.activity_camera_bounding_box_url,
+  order = 20,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class BoundingBoxCameraActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener {
 
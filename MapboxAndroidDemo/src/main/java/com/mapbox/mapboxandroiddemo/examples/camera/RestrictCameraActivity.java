@@ -11,6 +11,7 @@ import android.widget.FrameLayout;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
@@ -30,6 +31,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillOpacity;
 /**
  * Restrict the map camera to certain bounds.
  */
+@Example(
+  category = R.id.nav_camera,
+  title = R.string.activity_camera_restrict_title,
+  description = R.string.activity_camera_restrict_description,
+  imageUrl = R.string.activity_camera_restrict_url,
+  order = 30,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class RestrictCameraActivity extends AppCompatActivity implements OnMapReadyCallback {
   private static final LatLng BOUND_CORNER_NW = new LatLng(-8.491377105132457, 108.26584125231903);
   private static final LatLng BOUND_CORNER_SE = new LatLng(-42.73740968175186, 158.19629538046348);
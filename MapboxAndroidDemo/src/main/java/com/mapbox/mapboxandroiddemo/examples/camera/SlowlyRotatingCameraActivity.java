@@ -8,6 +8,7 @@ import android.view.animation.LinearInterpolator;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -20,6 +21,12 @@ import com.mapbox.mapboxsdk.maps.Style;
 /**
  * Animate the map's camera to slowly spin around a single point ont the map.
  */
+@Example(
+  category = R.id.nav_camera,
+  title = R.string.activity_camera_slowly_rotating_title,
+  description = R.string.activity_camera_slowly_rotating_description,
+  imageUrl = R.string.activity_camera_slowly_rotating_url,
+  order = 40)
 public class SlowlyRotatingCameraActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener {
 
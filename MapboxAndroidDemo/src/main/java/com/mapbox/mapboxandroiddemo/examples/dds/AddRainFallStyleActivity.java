@@ -1,11 +1,12 @@
 package com.mapbox.mapboxandroiddemo.examples.dds;
 
 import android.os.Bundle;
-import android.os.Handler;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.MapAnimationScheduler;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -27,15 +28,20 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillColor;
 /**
  * Style a rainfall map by get data from url
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_time_lapse_rainfall_points_title,
+  description = R.string.activity_dds_time_lapse_rainfall_points_description,
+  imageUrl = R.string.activity_dds_time_lapse_rainfall_url,
+  order = 170)
 public class AddRainFallStyleActivity extends AppCompatActivity implements OnMapReadyCallback {
   public static final String ID_SOURCE = "source-id";
   public static final String ID_LAYER = "layer-id";
   public static final String SOURCE_URL = "mapbox://examples.dwtmhwpu";
   private MapView mapView;
-  private Handler handler;
+  private MapAnimationScheduler animationScheduler;
   private FillLayer layer;
   private int index = 1;
-  private RefreshGeoJsonRunnable refreshGeoJsonRunnable;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -48,7 +54,8 @@ public class AddRainFallStyleActivity extends AppCompatActivity implements OnMap
     // This contains the MapView in XML and needs to be called after the account manager
     setContentView(R.layout.activity_style_rainfall);
 
-    handler = new Handler();
+    animationScheduler = new MapAnimationScheduler();
+    getLifecycle().addObserver(animationScheduler);
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
     mapView.getMapAsync(this);
@@ -60,24 +67,19 @@ public class AddRainFallStyleActivity extends AppCompatActivity implements OnMap
       @Override
       public void onStyleLoaded(@NonNull Style style) {
         addRadarData(style);
-        refreshGeoJsonRunnable = new RefreshGeoJsonRunnable();
-        do {
-          handler.postDelayed(refreshGeoJsonRunnable, 1000);
-        }
-        while (index == 37);
+        animationScheduler.schedule(new RefreshFilterTicker(), 1000);
       }
     });
   }
 
-  private class RefreshGeoJsonRunnable implements Runnable {
+  private class RefreshFilterTicker implements MapAnimationScheduler.Ticker {
     @Override
-    public void run() {
+    public void onTick(long frameTimeMillis) {
       layer.setFilter(eq((Expression.get("idx")), literal(index)));
       index++;
       if (index == 37) {
         index = 0;
       }
-      handler.postDelayed(this, 1000);
     }
   }
 
@@ -151,9 +153,6 @@ public class AddRainFallStyleActivity extends AppCompatActivity implements OnMap
   protected void onDestroy() {
     super.onDestroy();
     mapView.onDestroy();
-    handler.removeCallbacks(refreshGeoJsonRunnable);
-    refreshGeoJsonRunnable = null;
-    handler = null;
   }
 
   @Override
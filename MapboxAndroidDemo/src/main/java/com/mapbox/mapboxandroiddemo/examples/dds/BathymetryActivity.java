@@ -4,6 +4,7 @@ import android.graphics.Color;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
@@ -37,6 +38,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textColor;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textField;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textSize;
 
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_bathymetry_title,
+  description = R.string.activity_dds_bathymetry_description,
+  imageUrl = R.string.activity_dds_bathymetry_url,
+  order = 60)
 public class BathymetryActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final String GEOJSON_SOURCE_ID = "GEOJSON_SOURCE_ID";
@@ -7,6 +7,7 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -36,6 +37,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillColor;
 /**
  * Style a choropleth map by merging local JSON data with vector tile geometries
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_json_vector_mix_title,
+  description = R.string.activity_dds_json_vector_mix_description,
+  imageUrl = R.string.activity_dds_json_vector_mix_url,
+  order = 140)
 public class ChoroplethJsonVectorMixActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final String STATE_UNEMPLOYMENT_INFO_JSON_FILE = "state_unemployment_info.json";
@@ -5,6 +5,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -29,6 +30,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
 /**
  * Display 2014 census data by state or county, depending on the map's zoom level.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_choropleth_zoom_change_title,
+  description = R.string.activity_dds_choropleth_zoom_change_description,
+  imageUrl = R.string.activity_dds_choropleth_zoom_change_url,
+  order = 100)
 public class ChoroplethZoomChangeActivity extends AppCompatActivity {
 
   private static final int ZOOM_THRESHOLD = 4;
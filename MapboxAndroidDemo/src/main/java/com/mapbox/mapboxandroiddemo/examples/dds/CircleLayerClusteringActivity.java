@@ -5,6 +5,7 @@ import android.os.Bundle;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -54,6 +55,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textSize;
 /**
  * Use GeoJSON and circle layers to visualize point data as circle clusters.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_styles_dds_geojson_circle_layer_clusters_title,
+  description = R.string.activity_styles_dds_geojson_circle_layer_clusters_description,
+  imageUrl = R.string.activity_styles_dds_geojson_circle_layer_clusters_url,
+  order = 70)
 public class CircleLayerClusteringActivity extends AppCompatActivity {
 
   private MapView mapView;
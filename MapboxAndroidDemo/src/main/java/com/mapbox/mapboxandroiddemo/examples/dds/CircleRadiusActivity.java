@@ -4,6 +4,7 @@ import android.graphics.Color;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -26,6 +27,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.circleRadius;
 /**
  * Set the radii of a CircleLayer's circles based on a data property.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_circle_radius_title,
+  description = R.string.activity_dds_circle_radius_description,
+  imageUrl = R.string.activity_dds_circle_radius_url,
+  order = 250)
 public class CircleRadiusActivity extends AppCompatActivity {
 
   private MapView mapView;
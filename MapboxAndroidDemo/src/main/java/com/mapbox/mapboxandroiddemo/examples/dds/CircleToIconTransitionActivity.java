@@ -8,6 +8,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -38,6 +39,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconSize;
 /**
  * Create a smooth visual transition between circles and icons based on zooming in and out.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_circle_to_icon_smooth_transition_title,
+  description = R.string.activity_dds_circle_to_icon_smooth_transition_description,
+  imageUrl = R.string.activity_dds_circle_to_icon_smooth_transition_url,
+  order = 260)
 public class CircleToIconTransitionActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final float BASE_CIRCLE_INITIAL_RADIUS = 3.4f;
@@ -4,6 +4,7 @@ import android.graphics.Color;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -31,6 +32,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.circleRadius;
 /**
  * Use Mapbox GL clustering to visualize point data as hotspots.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_create_hotspots_points_title,
+  description = R.string.activity_dds_create_hotspots_points_description,
+  imageUrl = R.string.activity_dds_create_hotspots_points_url,
+  order = 130)
 public class CreateHotspotsActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -9,6 +9,8 @@ import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.GeoJsonAssetLoader;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -19,15 +21,19 @@ import com.mapbox.mapboxsdk.style.layers.Property;
 import com.mapbox.mapboxsdk.style.layers.PropertyFactory;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
-import java.io.InputStream;
 import java.lang.ref.WeakReference;
-import java.util.Scanner;
 
 import timber.log.Timber;
 
 /**
  * Draw a polyline by parsing a GeoJSON file with the Mapbox Android SDK.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_geojson_line_title,
+  description = R.string.activity_dds_geojson_line_description,
+  imageUrl = R.string.activity_dds_geojson_line_url,
+  order = 20)
 public class DrawGeojsonLineActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
@@ -94,8 +100,7 @@ public class DrawGeojsonLineActivity extends AppCompatActivity implements OnMapR
       try {
         DrawGeojsonLineActivity activity = weakReference.get();
         if (activity != null) {
-          InputStream inputStream = activity.getAssets().open("example.geojson");
-          return FeatureCollection.fromJson(convertStreamToString(inputStream));
+          return GeoJsonAssetLoader.loadFeatureCollection(activity, "example.geojson");
         }
       } catch (Exception exception) {
         Timber.e("Exception Loading GeoJSON: %s" , exception.toString());
@@ -103,11 +108,6 @@ public class DrawGeojsonLineActivity extends AppCompatActivity implements OnMapR
       return null;
     }
 
-    static String convertStreamToString(InputStream is) {
-      Scanner scanner = new Scanner(is).useDelimiter("\\A");
-      return scanner.hasNext() ? scanner.next() : "";
-    }
-
     @Override
     protected void onPostExecute(@Nullable FeatureCollection featureCollection) {
       super.onPostExecute(featureCollection);
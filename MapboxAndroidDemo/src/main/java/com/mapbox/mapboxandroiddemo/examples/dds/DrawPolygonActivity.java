@@ -8,6 +8,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -24,6 +25,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillColor;
 /**
  * Draw a vector polygon on a map with the Mapbox Android SDK.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_polygon_title,
+  description = R.string.activity_dds_polygon_description,
+  imageUrl = R.string.activity_dds_polygon_url,
+  order = 10,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class DrawPolygonActivity extends AppCompatActivity {
 
   private MapView mapView;
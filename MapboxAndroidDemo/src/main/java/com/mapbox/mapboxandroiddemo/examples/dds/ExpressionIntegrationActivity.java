@@ -18,10 +18,11 @@ import android.widget.Toast;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.StateWeatherAggregator;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraUpdate;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
-import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -31,11 +32,9 @@ import com.mapbox.mapboxsdk.style.expressions.Expression;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
-import java.io.InputStream;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 import timber.log.Timber;
 
@@ -58,6 +57,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textIgnorePlacem
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textOffset;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textSize;
 
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_expression_integration_title,
+  description = R.string.activity_dds_expression_integration_description,
+  imageUrl = R.string.activity_dds_expression_integration_url,
+  order = 180)
 public class ExpressionIntegrationActivity
   extends AppCompatActivity implements OnMapReadyCallback {
 
@@ -68,7 +73,7 @@ public class ExpressionIntegrationActivity
   private static final String BLUE_PIN_IMAGE_ID = "blue_pin_id";
   private static final String DEGREES_C = "℃"; //"\u2103";
   private static final String DEGREES_F = "℉"; //"\u2109";
-  private final List<State> states = new ArrayList<>();
+  private StateWeatherAggregator.StateAggregates stateAggregates;
   private MapboxMap mapboxMap;
   private MapView mapView;
   private Menu menu;
@@ -76,34 +81,6 @@ public class ExpressionIntegrationActivity
   private TextView unitsText;
   private boolean isImperial = true;
 
-  /**
-   * weather_data_per_state_before2006.geojson file (found in assets)
-   * contains various weather related records per state/territory.
-   * Once that file is parsed we will keep a list of states (with name and bounds info).
-   * We need bounds of for data shown on map per state.
-   * We first find out all latLng points per state to be shown, than we create a LatLngBounds
-   * using those points.
-   */
-  private class State {
-    List<LatLng> latLongs;
-    LatLngBounds bounds;
-    String name;
-
-    State(String name, LatLng latLng) {
-      this.name = name;
-      latLongs = new ArrayList<>();
-      latLongs.add(latLng);
-      bounds = LatLngBounds.from(latLng.getLatitude(), latLng.getLongitude(),
-        latLng.getLatitude(), latLng.getLongitude());
-    }
-
-    void add(LatLng latLng) {
-      latLongs.add(latLng);
-      bounds = new LatLngBounds.Builder().includes(latLongs).build();
-    }
-  }
-
-
   @Override
   protected void onCreate(@Nullable Bundle savedInstanceState) {
     super.onCreate(savedInstanceState);
@@ -136,7 +113,10 @@ public class ExpressionIntegrationActivity
     });
   }
 
-  private void addDataToMap(@NonNull FeatureCollection featureCollection) {
+  private void addDataToMap(@NonNull FeatureCollection featureCollection,
+                            @NonNull StateWeatherAggregator.StateAggregates stateAggregates) {
+    this.stateAggregates = stateAggregates;
+
     // Retrieves GeoJSON from local file and adds it to the map
     GeoJsonSource geoJsonSource = new GeoJsonSource(GEOJSON_SRC_ID, featureCollection);
     if (mapboxMap != null) {
@@ -147,7 +127,9 @@ public class ExpressionIntegrationActivity
 
         // show Connecticut by default
         int indexOfState = indexOfState("Connecticut");
-        selectState(states.get(indexOfState).name, indexOfState, style);
+        if (indexOfState >= 0) {
+          selectState(stateAggregates.getName(indexOfState), indexOfState, style);
+        }
 
         // When user clicks the map, start the snapshotting process with the given parameters
         unitsFab.setOnClickListener(new View.OnClickListener() {
@@ -165,6 +147,7 @@ public class ExpressionIntegrationActivity
   private static class LoadGeoJson extends AsyncTask<Void, Void, FeatureCollection> {
 
     private WeakReference<ExpressionIntegrationActivity> weakReference;
+    private StateWeatherAggregator.StateAggregates stateAggregates;
 
     LoadGeoJson(ExpressionIntegrationActivity activity) {
       this.weakReference = new WeakReference<>(activity);
@@ -176,38 +159,12 @@ public class ExpressionIntegrationActivity
         ExpressionIntegrationActivity activity = weakReference.get();
         if (activity != null) {
 
-          InputStream inputStream = activity.getAssets().open("weather_data_per_state_before2006.geojson");
-
-          // Initialize FeatureCollection object for future use with layers
-          FeatureCollection featureCollection = FeatureCollection.fromJson(convertStreamToString(inputStream));
-
-          // Find out the states represented in the FeatureCollection
-          // and bounds of the extreme conditions
-          if (featureCollection.features() != null) {
-            for (Feature feature : featureCollection.features()) {
-              String stateName = feature.getStringProperty("state");
-              String lat = feature.getStringProperty("latitude");
-              String lon = feature.getStringProperty("longitude");
-
-              LatLng latLng = new LatLng(
-                Double.parseDouble(lat),
-                Double.parseDouble(lon));
-
-              State state = null;
-              for (State curState : activity.states) {
-                if (curState.name.equals(stateName)) {
-                  state = curState;
-                  break;
-                }
-              }
-              if (state == null) {
-                activity.states.add(activity.createState(stateName, latLng));
-              } else {
-                state.add(latLng);
-              }
-            }
-          }
-          return featureCollection;
+          // Find out the states represented in the file and the bounds of their extreme
+          // conditions while the features for the layers are being parsed
+          List<Feature> features = new ArrayList<>();
+          stateAggregates = StateWeatherAggregator.load(activity,
+            "weather_data_per_state_before2006.geojson", features);
+          return FeatureCollection.fromFeatures(features);
         }
       } catch (Exception exception) {
         Timber.d("Exception Loading GeoJSON: %s", exception.toString());
@@ -215,25 +172,16 @@ public class ExpressionIntegrationActivity
       return null;
     }
 
-    static String convertStreamToString(InputStream is) {
-      Scanner scanner = new Scanner(is).useDelimiter("\\A");
-      return scanner.hasNext() ? scanner.next() : "";
-    }
-
     @Override
     protected void onPostExecute(@Nullable FeatureCollection featureCollection) {
       super.onPostExecute(featureCollection);
       ExpressionIntegrationActivity activity = weakReference.get();
       if (activity != null && featureCollection != null) {
-        activity.addDataToMap(featureCollection);
+        activity.addDataToMap(featureCollection, stateAggregates);
       }
     }
   }
 
-  private State createState(String stateName, LatLng latLng) {
-    return new State(stateName, latLng);
-  }
-
   /**
    * Adds the marker image to the map for use as a SymbolLayer icon
    */
@@ -353,7 +301,7 @@ public class ExpressionIntegrationActivity
       menu.clear();
     }
 
-    states.clear();
+    stateAggregates = null;
     mapView.onDestroy();
 
     mapView = null;
@@ -396,9 +344,9 @@ public class ExpressionIntegrationActivity
   }
 
   private void populateMenu() {
-    if (menu != null) {
-      for (int id = 0; id < states.size(); id++) {
-        menu.add(Menu.NONE, id, Menu.NONE, states.get(id).name);
+    if (menu != null && stateAggregates != null) {
+      for (int id = 0; id < stateAggregates.getStateCount(); id++) {
+        menu.add(Menu.NONE, id, Menu.NONE, stateAggregates.getName(id));
       }
     }
   }
@@ -424,9 +372,11 @@ public class ExpressionIntegrationActivity
           eq(get("state"), literal(stateName))));
       }
 
-      CameraUpdate cameraUpdate =
-        CameraUpdateFactory.newLatLngBounds(states.get(stateIndex).bounds, 100);
-      mapboxMap.animateCamera(cameraUpdate);
+      LatLngBounds bounds = stateAggregates.getBounds(stateIndex);
+      if (bounds != null) {
+        CameraUpdate cameraUpdate = CameraUpdateFactory.newLatLngBounds(bounds, 100);
+        mapboxMap.animateCamera(cameraUpdate);
+      }
 
       Toast.makeText(this,
         String.format(getString(R.string.temp_change_feedback), stateName),
@@ -435,13 +385,6 @@ public class ExpressionIntegrationActivity
   }
 
   private int indexOfState(CharSequence name) {
-    if (name != null) {
-      for (int i = 0; i < states.size(); i++) {
-        if (name.equals(states.get(i).name)) {
-          return i;
-        }
-      }
-    }
-    return -1;
+    return stateAggregates != null ? stateAggregates.indexOf(name) : -1;
   }
 }
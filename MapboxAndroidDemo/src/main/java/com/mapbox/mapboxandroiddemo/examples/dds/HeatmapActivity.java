@@ -3,6 +3,7 @@ package com.mapbox.mapboxandroiddemo.examples.dds;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -39,6 +40,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.heatmapOpacity;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.heatmapRadius;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.heatmapWeight;
 
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_heatmap_title,
+  description = R.string.activity_dds_heatmap_description,
+  imageUrl = R.string.activity_dds_heatmap_url,
+  order = 40)
 public class HeatmapActivity extends AppCompatActivity {
 
   private static final String EARTHQUAKE_SOURCE_URL = "https://www.mapbox.com/mapbox-gl-js/assets/earthquakes.geojson";
@@ -5,6 +5,7 @@ import android.os.Bundle;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -44,6 +45,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textSize;
 /**
  * Use GeoJSON data with SymbolLayers to create a data clustering effect with icons rather than circles.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_image_clustering_title,
+  description = R.string.activity_dds_image_clustering_description,
+  imageUrl = R.string.activity_dds_image_clustering_url,
+  order = 80)
 public class ImageClusteringActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final String CLUSTER_EARTHQUAKE_TRIANGLE_ICON_ID = "quake-triangle-icon-id";
@@ -1,10 +1,7 @@
 package com.mapbox.mapboxandroiddemo.examples.dds;
 
-import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
-import android.graphics.Canvas;
-import android.graphics.Color;
 import android.graphics.PointF;
 import android.os.AsyncTask;
 import android.os.Bundle;
@@ -18,6 +15,9 @@ import android.widget.Toast;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.GeoJsonAssetLoader;
+import com.mapbox.mapboxandroiddemo.utils.ViewIconRenderer;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.annotations.BubbleLayout;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -28,9 +28,9 @@ import com.mapbox.mapboxsdk.maps.Style;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
-import java.io.InputStream;
+import java.io.IOException;
 import java.lang.ref.WeakReference;
-import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
@@ -47,6 +47,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
  * Use a SymbolLayer to show a BubbleLayout above a SymbolLayer icon. This is a more performant
  * way to show the BubbleLayout that appears when using the MapboxMap.addMarker() method.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_info_window_symbol_layer_title,
+  description = R.string.activity_dds_info_window_symbol_layer_description,
+  imageUrl = R.string.activity_dds_info_window_symbol_layer_url,
+  order = 160,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class InfoWindowSymbolLayerActivity extends AppCompatActivity implements
   OnMapReadyCallback, MapboxMap.OnMapClickListener {
 
@@ -250,7 +257,7 @@ public class InfoWindowSymbolLayerActivity extends AppCompatActivity implements
     if (mapboxMap != null) {
       mapboxMap.getStyle(style -> {
         // calling addImages is faster as separate addImage calls for each bitmap.
-        style.addImages(imageMap);
+        ViewIconRenderer.getInstance().addToStyle(style, imageMap);
       });
     }
   }
@@ -274,8 +281,11 @@ public class InfoWindowSymbolLayerActivity extends AppCompatActivity implements
         return null;
       }
 
-      String geoJson = loadGeoJsonFromAsset(activity, "us_west_coast.geojson");
-      return FeatureCollection.fromJson(geoJson);
+      try {
+        return GeoJsonAssetLoader.loadFeatureCollection(activity, "us_west_coast.geojson");
+      } catch (IOException exception) {
+        throw new RuntimeException(exception);
+      }
     }
 
     @Override
@@ -296,20 +306,6 @@ public class InfoWindowSymbolLayerActivity extends AppCompatActivity implements
       activity.setUpData(featureCollection);
       new GenerateViewIconTask(activity).execute(featureCollection);
     }
-
-    static String loadGeoJsonFromAsset(Context context, String filename) {
-      try {
-        // Load GeoJSON file from local asset folder
-        InputStream is = context.getAssets().open(filename);
-        int size = is.available();
-        byte[] buffer = new byte[size];
-        is.read(buffer);
-        is.close();
-        return new String(buffer, Charset.forName("UTF-8"));
-      } catch (Exception exception) {
-        throw new RuntimeException(exception);
-      }
-    }
   }
 
   /**
@@ -323,7 +319,6 @@ public class InfoWindowSymbolLayerActivity extends AppCompatActivity implements
    */
   private static class GenerateViewIconTask extends AsyncTask<FeatureCollection, Void, HashMap<String, Bitmap>> {
 
-    private final HashMap<String, View> viewMap = new HashMap<>();
     private final WeakReference<InfoWindowSymbolLayerActivity> activityRef;
     private final boolean refreshSource;
 
@@ -341,38 +336,41 @@ public class InfoWindowSymbolLayerActivity extends AppCompatActivity implements
     protected HashMap<String, Bitmap> doInBackground(FeatureCollection... params) {
       InfoWindowSymbolLayerActivity activity = activityRef.get();
       if (activity != null) {
-        HashMap<String, Bitmap> imagesMap = new HashMap<>();
-        LayoutInflater inflater = LayoutInflater.from(activity);
-
+        List<ViewIconRenderer.IconRequest> requests = new ArrayList<>();
         FeatureCollection featureCollection = params[0];
 
         for (Feature feature : featureCollection.features()) {
 
-          BubbleLayout bubbleLayout = (BubbleLayout)
-            inflater.inflate(R.layout.symbol_layer_info_window_layout_callout, null);
-
           String name = feature.getStringProperty(PROPERTY_NAME);
-          TextView titleTextView = bubbleLayout.findViewById(R.id.info_window_title);
-          titleTextView.setText(name);
+          String description = String.format(activity.getString(R.string.capital),
+            feature.getStringProperty(PROPERTY_CAPITAL));
+
+          // Callouts showing the same text look the same, so they're only drawn once
+          requests.add(new ViewIconRenderer.IconRequest(name, name + "\n" + description, inflater -> {
+            BubbleLayout bubbleLayout = (BubbleLayout)
+              inflater.inflate(R.layout.symbol_layer_info_window_layout_callout, null);
 
-          String style = feature.getStringProperty(PROPERTY_CAPITAL);
-          TextView descriptionTextView = bubbleLayout.findViewById(R.id.info_window_description);
-          descriptionTextView.setText(
-            String.format(activity.getString(R.string.capital), style));
+            TextView titleTextView = bubbleLayout.findViewById(R.id.info_window_title);
+            titleTextView.setText(name);
 
-          int measureSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-          bubbleLayout.measure(measureSpec, measureSpec);
+            TextView descriptionTextView = bubbleLayout.findViewById(R.id.info_window_description);
+            descriptionTextView.setText(description);
 
-          float measuredWidth = bubbleLayout.getMeasuredWidth();
+            int measureSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+            bubbleLayout.measure(measureSpec, measureSpec);
 
-          bubbleLayout.setArrowPosition(measuredWidth / 2 - 5);
+            float measuredWidth = bubbleLayout.getMeasuredWidth();
 
-          Bitmap bitmap = SymbolGenerator.generate(bubbleLayout);
-          imagesMap.put(name, bitmap);
-          viewMap.put(name, bubbleLayout);
+            bubbleLayout.setArrowPosition(measuredWidth / 2 - 5);
+            return bubbleLayout;
+          }, false));
         }
 
-        return imagesMap;
+        try {
+          return ViewIconRenderer.getInstance().renderAll(LayoutInflater.from(activity), requests).images;
+        } catch (InterruptedException exception) {
+          return null;
+        }
       } else {
         return null;
       }
@@ -392,33 +390,6 @@ public class InfoWindowSymbolLayerActivity extends AppCompatActivity implements
     }
   }
 
-  /**
-   * Utility class to generate Bitmaps for Symbol.
-   */
-  private static class SymbolGenerator {
-
-    /**
-     * Generate a Bitmap from an Android SDK View.
-     *
-     * @param view the View to be drawn to a Bitmap
-     * @return the generated bitmap
-     */
-    static Bitmap generate(@NonNull View view) {
-      int measureSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-      view.measure(measureSpec, measureSpec);
-
-      int measuredWidth = view.getMeasuredWidth();
-      int measuredHeight = view.getMeasuredHeight();
-
-      view.layout(0, 0, measuredWidth, measuredHeight);
-      Bitmap bitmap = Bitmap.createBitmap(measuredWidth, measuredHeight, Bitmap.Config.ARGB_8888);
-      bitmap.eraseColor(Color.TRANSPARENT);
-      Canvas canvas = new Canvas(bitmap);
-      view.draw(canvas);
-      return bitmap;
-    }
-  }
-
   @Override
   protected void onStart() {
     super.onStart();
@@ -3,6 +3,7 @@ package com.mapbox.mapboxandroiddemo.examples.dds
 import android.os.Bundle
 import androidx.appcompat.app.AppCompatActivity
 import com.mapbox.mapboxandroiddemo.R
+import com.mapbox.mapboxandroiddemo.model.Example
 import com.mapbox.mapboxsdk.Mapbox
 import com.mapbox.mapboxsdk.maps.Style
 import com.mapbox.mapboxsdk.style.expressions.Expression.*
@@ -15,6 +16,14 @@ import kotlinx.android.synthetic.main.activity_dds_kotlin_style_circles_categori
 /**
  * Kotlin example of using data-driven styling to set circles' colors based on imported vector data.
  */
+@Example(
+    category = R.id.nav_dds,
+    title = R.string.activity_dds_style_kotlin_circle_categorically_title,
+    description = R.string.activity_dds_kotlin_style_circle_categorically_description,
+    imageUrl = R.string.activity_dds_style_circle_categorically_url,
+    order = 190,
+    kotlinOnly = true
+)
 class KotlinStyleCirclesCategoricallyActivity : AppCompatActivity() {
 
     override fun onCreate(savedInstanceState: Bundle?) {
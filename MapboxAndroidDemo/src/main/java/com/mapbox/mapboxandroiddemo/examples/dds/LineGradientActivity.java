@@ -9,6 +9,7 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -35,6 +36,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
 /**
  * Use data-driven styling properties to add color gradients to a LineLayer line.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_line_gradient_title,
+  description = R.string.activity_dds_line_gradient_description,
+  imageUrl = R.string.activity_dds_line_gradient_url,
+  order = 120)
 public class LineGradientActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
@@ -4,6 +4,7 @@ import android.graphics.Color;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -24,6 +25,13 @@ import timber.log.Timber;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.eq;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.literal;
 
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_multiple_geometries_title,
+  description = R.string.activity_dds_multiple_geometries_description,
+  imageUrl = R.string.activity_dds_multiple_geometries_url,
+  order = 150,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class MultipleGeometriesActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
@@ -4,6 +4,7 @@ import android.os.Bundle;
 import android.view.View;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -36,6 +37,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.heatmapIntensity
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.heatmapOpacity;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.heatmapRadius;
 
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_multiple_heatmap_styling_title,
+  description = R.string.activity_dds_multiple_heatmap_styling_description,
+  imageUrl = R.string.activity_dds_multiple_heatmap_styling_url,
+  order = 50,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class MultipleHeatmapStylingActivity extends AppCompatActivity
   implements OnMapReadyCallback {
 
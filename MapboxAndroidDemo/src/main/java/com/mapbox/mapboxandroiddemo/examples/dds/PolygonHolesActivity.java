@@ -8,6 +8,7 @@ import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -34,6 +35,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillColor;
 /**
  * Add holes to a polygon drawn on top of the map.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_polygon_holes_title,
+  description = R.string.activity_dds_polygon_holes_description,
+  imageUrl = R.string.activity_dds_polygon_holes_url,
+  order = 30)
 public class PolygonHolesActivity extends AppCompatActivity implements OnMapReadyCallback {
   private MapView mapView;
 
@@ -10,6 +10,8 @@ import android.widget.Toast
 import com.mapbox.geojson.Feature
 import com.mapbox.geojson.FeatureCollection
 import com.mapbox.mapboxandroiddemo.R
+import com.mapbox.mapboxandroiddemo.model.Example
+import com.mapbox.mapboxandroiddemo.utils.GeoJsonBinaryCache
 import com.mapbox.mapboxsdk.Mapbox
 import com.mapbox.mapboxsdk.geometry.LatLng
 import com.mapbox.mapboxsdk.maps.MapboxMap
@@ -27,6 +29,14 @@ import java.util.*
  * Use data-driven styling to style and toggle the colors of various polygons based
  * on user interaction.
  */
+@Example(
+    category = R.id.nav_dds,
+    title = R.string.activity_dds_polygon_select_toggle_title,
+    description = R.string.activity_dds_polygon_select_toggle_description,
+    imageUrl = R.string.activity_dds_polygon_select_toggle_url,
+    order = 220,
+    kotlinOnly = true
+)
 class PolygonSelectToggleActivity : AppCompatActivity(), MapboxMap.OnMapClickListener {
 
     private lateinit var mapboxMap: MapboxMap
@@ -197,9 +207,7 @@ class PolygonSelectToggleActivity : AppCompatActivity(), MapboxMap.OnMapClickLis
         override fun doInBackground(vararg params: Void): FeatureCollection? {
             val activity = activityRef.get() ?: return null
 
-            val geoJson = loadGeoJsonFromAsset(activity,
-                    "new-orleans-neighborhoods.geojson")
-            return FeatureCollection.fromJson(geoJson)
+            return loadGeoJsonFromAsset(activity, "new-orleans-neighborhoods.geojson")
         }
 
         override fun onPostExecute(featureCollection: FeatureCollection?) {
@@ -227,12 +235,10 @@ class PolygonSelectToggleActivity : AppCompatActivity(), MapboxMap.OnMapClickLis
             const val PROPERTY_SELECTED = "selected"
             const val PROPERTY_FILL_COLOR = "fill_color"
 
-            internal fun loadGeoJsonFromAsset(context: Context, filename: String): String {
+            internal fun loadGeoJsonFromAsset(context: Context, filename: String): FeatureCollection {
                 try {
-                    // Load GeoJSON file
-                    context.assets.open(filename).bufferedReader().use {
-                        return it.readText()
-                    }
+                    // Load the GeoJSON file, from the binary cache when it's available
+                    return GeoJsonBinaryCache.load(context, filename)
                 } catch (exception: Exception) {
                     throw RuntimeException(exception)
                 }
@@ -10,6 +10,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -38,6 +39,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconImage;
  * Display {@link SymbolLayer} icons on the map and determine the appropriate icon
  * based on a property in each {@link Feature}.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_property_icon_switch_title,
+  description = R.string.activity_dds_property_icon_switch_description,
+  imageUrl = R.string.activity_dds_property_icon_switch_url,
+  order = 270)
 public class PropertyIconDeterminationActivity extends AppCompatActivity implements
   OnMapReadyCallback, MapboxMap.OnMapClickListener {
 
@@ -12,6 +12,8 @@ import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.GeoJsonAssetLoader;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
@@ -25,11 +27,9 @@ import com.mapbox.mapboxsdk.style.layers.Property;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.turf.TurfMeta;
 
-import java.io.InputStream;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 import timber.log.Timber;
 
@@ -40,6 +40,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineColor;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineJoin;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
 
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_polygon_revealed_hole_outline_title,
+  description = R.string.activity_dds_polygon_revealed_hole_outline_description,
+  imageUrl = R.string.activity_dds_polygon_revealed_hole_outline_url,
+  order = 240)
 public class RevealedPolygonHoleOutlineActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final String FILL_SOURCE_ID = "SOURCE-ID";
@@ -136,8 +142,7 @@ public class RevealedPolygonHoleOutlineActivity extends AppCompatActivity implem
       try {
         RevealedPolygonHoleOutlineActivity activity = weakReference.get();
         if (activity != null) {
-          InputStream inputStream = activity.getAssets().open("downtown_san_jose_hole.geojson");
-          Feature holePolygonFeature = Feature.fromJson(convertStreamToString(inputStream));
+          Feature holePolygonFeature = GeoJsonAssetLoader.loadFeature(activity, "downtown_san_jose_hole.geojson");
           return TurfMeta.coordAll((Polygon) holePolygonFeature.geometry(), false);
         }
       } catch (Exception exception) {
@@ -146,11 +151,6 @@ public class RevealedPolygonHoleOutlineActivity extends AppCompatActivity implem
       return null;
     }
 
-    static String convertStreamToString(InputStream is) {
-      Scanner scanner = new Scanner(is).useDelimiter("\\A");
-      return scanner.hasNext() ? scanner.next() : "";
-    }
-
     @Override
     protected void onPostExecute(@Nullable List<Point> pointList) {
       super.onPostExecute(pointList);
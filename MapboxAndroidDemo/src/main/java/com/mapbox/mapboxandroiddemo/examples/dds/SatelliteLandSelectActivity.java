@@ -16,6 +16,7 @@ import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -42,6 +43,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
  * Use map click location to select an area of land on satellite photos and draw the selected area
  * with a CircleLayer, LineLayer, and FillLayer.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_satellite_land_select_title,
+  description = R.string.activity_dds_satellite_land_select_description,
+  imageUrl = R.string.activity_dds_satellite_land_select_url,
+  order = 200)
 public class SatelliteLandSelectActivity extends AppCompatActivity implements
   OnMapReadyCallback {
 
@@ -5,6 +5,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -26,6 +27,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.circleRadius;
 /**
  * Use data-driven styling to set circles' colors based on imported vector data.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_style_circle_categorically_title,
+  description = R.string.activity_dds_style_circle_categorically_description,
+  imageUrl = R.string.activity_dds_style_circle_categorically_url,
+  order = 90)
 public class StyleCirclesCategoricallyActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -3,6 +3,7 @@ package com.mapbox.mapboxandroiddemo.examples.dds;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -28,6 +29,13 @@ import static com.mapbox.mapboxsdk.style.expressions.Expression.stop;
 /**
  * Use data-driven styling to set a line's color based on imported GeoJSON.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_style_line_identity_property_title,
+  description = R.string.activity_dds_style_line_identity_property_description,
+  imageUrl = R.string.activity_dds_style_line_identity_property_url,
+  order = 110,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class StyleLineIdentityPropertyActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -11,6 +11,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -37,6 +38,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textIgnorePlacem
  * and {@link com.mapbox.mapboxsdk.style.layers.PropertyFactory#iconAllowOverlap(Boolean)},
  * to handle icon and text collisions.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_symbol_collision_detection_title,
+  description = R.string.activity_dds_symbol_collision_detection_description,
+  imageUrl = R.string.activity_dds_symbol_collision_detection_url,
+  order = 230)
 public class SymbolCollisionDetectionActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final String ICON_SOURCE_ID = "ICON_SOURCE_ID";
@@ -9,6 +9,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -30,6 +31,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconImage;
  * Use the SymbolLayer's setMinZoom and setMaxZoom methods to create the effect of SymbolLayer icons switching
  * based on the map camera's zoom level.
  */
+@Example(
+  category = R.id.nav_dds,
+  title = R.string.activity_dds_symbol_zoom_switch_title,
+  description = R.string.activity_dds_symbol_zoom_switch_description,
+  imageUrl = R.string.activity_dds_symbol_zoom_switch_url,
+  order = 210)
 public class SymbolSwitchOnZoomActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final float ZOOM_LEVEL_FOR_SWITCH = 12;
@@ -9,6 +9,7 @@ import android.view.MenuItem;
 import android.view.View;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -35,6 +36,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillExtrusionOpa
 /**
  * Change the location and color of the light that's shined on extrusions
  */
+@Example(
+  category = R.id.nav_extrusions,
+  title = R.string.activity_extrusions_adjust_extrusions_title,
+  description = R.string.activity_extrusions_adjust_extrusions_description,
+  imageUrl = R.string.activity_extrusions_adjust_extrusions_url,
+  order = 30,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class AdjustExtrusionLightActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -3,6 +3,7 @@ package com.mapbox.mapboxandroiddemo.examples.extrusions;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -28,6 +29,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillExtrusionOpa
 /**
  * Create a 3D indoor map with the fill-extrude-height paint property
  */
+@Example(
+  category = R.id.nav_extrusions,
+  title = R.string.activity_extrusions_indoor_3d_title,
+  description = R.string.activity_extrusions_indoor_3d_description,
+  imageUrl = R.string.activity_extrusions_indoor_3d_url,
+  order = 40)
 public class Indoor3DMapActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -4,6 +4,7 @@ import android.graphics.Color;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -27,6 +28,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillExtrusionOpa
 /**
  * Use data-driven styling and GeoJSON data to set extrusions' heights
  */
+@Example(
+  category = R.id.nav_extrusions,
+  title = R.string.activity_extrusions_catalina_marathon_extrusions_title,
+  description = R.string.activity_extrusions_catalina_marathon_extrusions_description,
+  imageUrl = R.string.activity_extrusions_catalina_marathon_extrusions_url,
+  order = 20)
 public class MarathonExtrusionActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
@@ -7,6 +7,7 @@ import android.view.Menu;
 import android.view.MenuItem;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -36,6 +37,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillExtrusionHei
 /**
  * Use imported vector data to set the height of 3D building extrusions
  */
+@Example(
+  category = R.id.nav_extrusions,
+  title = R.string.activity_extrusions_population_density_extrusions_title,
+  description = R.string.activity_extrusions_population_density_extrusions_description,
+  imageUrl = R.string.activity_extrusions_population_density_extrusions_url,
+  order = 10)
 public class PopulationDensityExtrusionActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
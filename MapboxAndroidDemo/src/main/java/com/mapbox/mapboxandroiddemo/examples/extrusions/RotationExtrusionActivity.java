@@ -12,6 +12,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -26,6 +27,13 @@ import timber.log.Timber;
 /**
  * Change the camera's bearing and tilt based on device movement while viewing building extrusions
  */
+@Example(
+  category = R.id.nav_extrusions,
+  title = R.string.activity_extrusions_rotate_extrusions_title,
+  description = R.string.activity_extrusions_rotate_extrusions_description,
+  imageUrl = R.string.activity_extrusions_rotate_extrusions_url,
+  order = 50,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class RotationExtrusionActivity extends AppCompatActivity implements SensorEventListener {
 
   private MapView mapView;
@@ -13,6 +13,7 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -45,6 +46,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
  * Use Mapbox Java Services to request directions from the Mapbox Directions API and show the
  * route with a LineLayer.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_directions_title,
+  description = R.string.activity_java_services_directions_description,
+  imageUrl = R.string.activity_java_services_directions_url,
+  order = 30)
 public class DirectionsActivity extends AppCompatActivity {
 
   private static final String ROUTE_LAYER_ID = "route-layer-id";
@@ -12,6 +12,7 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -55,6 +56,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
  * Make a directions request with the Mapbox Directions API and then draw a line behind a moving
  * SymbolLayer icon which moves along the Directions response route.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_directions_gradient_title,
+  description = R.string.activity_java_services_directions_gradient_description,
+  imageUrl = R.string.activity_java_services_directions_gradient_url,
+  order = 150)
 public class DirectionsGradientLineActivity extends AppCompatActivity implements MapboxMap.OnMapClickListener {
 
   private static final String ORIGIN_ICON_ID = "origin-icon-id";
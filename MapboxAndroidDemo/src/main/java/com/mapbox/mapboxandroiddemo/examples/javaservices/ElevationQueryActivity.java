@@ -8,11 +8,12 @@ import android.widget.Toast;
 
 import com.mapbox.android.core.permissions.PermissionsListener;
 import com.mapbox.android.core.permissions.PermissionsManager;
-import com.mapbox.api.tilequery.MapboxTilequery;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.CachedTilequery;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -32,9 +33,6 @@ import java.util.List;
 
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 import timber.log.Timber;
 
 import static com.mapbox.mapboxsdk.style.expressions.Expression.get;
@@ -50,16 +48,26 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textSize;
  * elevation data can be found at
  * https://docs.mapbox.com/help/troubleshooting/access-elevation-data/
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_turf_elevation_query_title,
+  description = R.string.activity_java_services_turf_elevation_query_description,
+  imageUrl = R.string.activity_java_services_turf_elevation_query_url,
+  order = 130,
+  showNewIcon = true)
 public class ElevationQueryActivity extends AppCompatActivity implements
   OnMapReadyCallback, PermissionsListener, MapboxMap.OnMapClickListener {
 
   private static final String RESULT_GEOJSON_SOURCE_ID = "RESULT_GEOJSON_SOURCE_ID";
   private static final String LAYER_ID = "LAYER_ID";
+  private static final CachedTilequery.Options ELEVATION_QUERY = new CachedTilequery.Options(
+    "mapbox.mapbox-terrain-v2", "contour", "polygon", 0, 5, true);
   private PermissionsManager permissionsManager;
   private MapboxMap mapboxMap;
   private MapView mapView;
   private TextView elevationQueryNumbersOnlyResponseTextView;
   private TextView elevationQueryJsonResponseTextView;
+  private CachedTilequery cachedTilequery;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -72,6 +80,8 @@ public class ElevationQueryActivity extends AppCompatActivity implements
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_javaservices_elevation_query);
 
+    cachedTilequery = new CachedTilequery(this, getString(R.string.access_token));
+
     elevationQueryJsonResponseTextView = findViewById(R.id.elevation_query_api_response_json_textview);
     elevationQueryNumbersOnlyResponseTextView = findViewById(R.id.elevation_query_api_response_elevation_numbers_only);
 
@@ -125,38 +135,31 @@ public class ElevationQueryActivity extends AppCompatActivity implements
   }
 
   /**
-   * Use the Java SDK's MapboxTilequery class to build a API request and use the API response
+   * Use the Java SDK's MapboxTilequery class, through a cache that answers repeated clicks on the same
+   * spot without another request, to query the Tilequery API and use the API response
    *
    * @param point where the Tilequery API should query Mapbox's "mapbox.mapbox-terrain-v2" tileset
    *              for elevation data.
    */
   private void makeElevationRequestToTilequeryApi(@NonNull final Style style, @NonNull LatLng point) {
-    MapboxTilequery elevationQuery = MapboxTilequery.builder()
-      .accessToken(getString(R.string.access_token))
-      .tilesetIds("mapbox.mapbox-terrain-v2")
-      .query(Point.fromLngLat(point.getLongitude(), point.getLatitude()))
-      .geometry("polygon")
-      .layers("contour")
-      .build();
-
-    elevationQuery.enqueueCall(new Callback<FeatureCollection>() {
+    Point queryPoint = Point.fromLngLat(point.getLongitude(), point.getLatitude());
+    cachedTilequery.query(ELEVATION_QUERY, queryPoint, new CachedTilequery.TilequeryCallback() {
       @Override
-      public void onResponse(Call<FeatureCollection> call, Response<FeatureCollection> response) {
-
-        if (response.body().features() != null) {
-          List<Feature> featureList = response.body().features();
+      public void onResponse(@NonNull FeatureCollection featureCollection) {
 
-          String listOfElevationNumbers = "";
+        if (featureCollection.features() != null) {
+          List<Feature> featureList = featureCollection.features();
 
           // Build a list of the elevation numbers in the response.
+          StringBuilder listOfElevationNumbers = new StringBuilder();
           for (Feature singleFeature : featureList) {
-            listOfElevationNumbers = listOfElevationNumbers + singleFeature.getStringProperty("ele") + ", ";
+            listOfElevationNumbers.append(singleFeature.getStringProperty("ele")).append(", ");
           }
 
           // Set this TextViews with the response info/JSON.
           elevationQueryNumbersOnlyResponseTextView.setText(String.format(getString(
             R.string.elevation_numbers_only_textview), featureList.size(), listOfElevationNumbers));
-          elevationQueryJsonResponseTextView.setText(response.body().toJson());
+          elevationQueryJsonResponseTextView.setText(featureCollection.toJson());
 
           // Update the SymbolLayer that's responsible for showing the number text with the highest/lowest
           // elevation number
@@ -176,7 +179,7 @@ public class ElevationQueryActivity extends AppCompatActivity implements
       }
 
       @Override
-      public void onFailure(Call<FeatureCollection> call, Throwable throwable) {
+      public void onFailure(@NonNull Throwable throwable) {
         Timber.d("Request failed: %s", throwable.getMessage());
         Toast.makeText(ElevationQueryActivity.this,
           R.string.elevation_tilequery_api_response_error, Toast.LENGTH_SHORT).show();
@@ -278,6 +281,7 @@ public class ElevationQueryActivity extends AppCompatActivity implements
   @Override
   protected void onDestroy() {
     super.onDestroy();
+    cachedTilequery.cancel();
     if (mapboxMap != null) {
       mapboxMap.removeOnMapClickListener(this);
     }
@@ -20,6 +20,7 @@ import com.mapbox.api.geocoding.v5.models.GeocodingResponse;
 import com.mapbox.core.exceptions.ServicesException;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -40,6 +41,12 @@ import timber.log.Timber;
 /**
  * Use the Mapbox Geocoding API to retrieve various information about a set of coordinates.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_geocoding_title,
+  description = R.string.activity_java_services_geocoding_description,
+  imageUrl = R.string.activity_java_services_geocoding_url,
+  order = 70)
 public class GeocodingActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
@@ -12,6 +12,7 @@ import com.mapbox.api.isochrone.MapboxIsochrone;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -70,6 +71,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
  * See how far a car can travel in certain time periods by requesting information from the Mapbox
  * Isochrone API (https://www.mapbox.com/api-documentation/#isochrone)
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_isochrone_title,
+  description = R.string.activity_java_services_isochrone_description,
+  imageUrl = R.string.activity_java_services_isochrone_url,
+  order = 80)
 public class IsochroneActivity extends AppCompatActivity implements MapboxMap.OnMapClickListener {
 
   private static final String ISOCHRONE_RESPONSE_GEOJSON_SOURCE_ID = "ISOCHRONE_RESPONSE_GEOJSON_SOURCE_ID";
@@ -8,8 +8,14 @@ import com.mapbox.api.isochrone.IsochroneCriteria;
 import com.mapbox.api.isochrone.MapboxIsochrone;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiPolygon;
 import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.IsochroneRequestManager;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -22,17 +28,12 @@ import com.mapbox.mapboxsdk.style.layers.FillLayer;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.mapboxsdk.utils.BitmapUtils;
-import com.mapbox.turf.TurfMeta;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
-import timber.log.Timber;
 
 import static com.mapbox.mapboxsdk.style.expressions.Expression.eq;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.geometryType;
@@ -50,6 +51,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
  * (https://www.mapbox.com/api-documentation/#isochrone) to see how far one can
  * travel in a car.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_isochrone_with_seekbar_title,
+  description = R.string.activity_java_services_isochrone_with_seekbar_description,
+  imageUrl = R.string.activity_java_services_isochrone_with_seekbar_url,
+  order = 90,
+  showNewIcon = true)
 public class IsochroneSeekbarActivity extends AppCompatActivity {
 
   private static final String RESPONSE_FILL_LAYER_GEOJSON_SOURCE_ID = "RESPONSE_FILL_LAYER_GEOJSON_SOURCE_ID";
@@ -60,6 +68,7 @@ public class IsochroneSeekbarActivity extends AppCompatActivity {
   private static final Point DOWNTOWN_VIENNA = Point.fromLngLat(16.374893, 48.20355511);
   private MapView mapView;
   private MapboxMap mapboxMap;
+  private IsochroneRequestManager isochroneRequestManager;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -72,6 +81,29 @@ public class IsochroneSeekbarActivity extends AppCompatActivity {
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_javaservices_isochrone_with_seekbar);
 
+    isochroneRequestManager = new IsochroneRequestManager(new IsochroneRequestManager.RequestFactory() {
+      @NonNull
+      @Override
+      public Call<FeatureCollection> createCall(@NonNull Point center, @NonNull String profile, int minutes) {
+        return MapboxIsochrone.builder()
+          .accessToken(getString(R.string.access_token))
+          .profile(profile)
+          .addContoursMinutes(minutes)
+          .polygons(true)
+          .addContoursColors("5a42f4")
+          .denoise(.4f)
+          .generalize(10f)
+          .coordinates(center)
+          .build()
+          .cloneCall();
+      }
+    }, new IsochroneRequestManager.OnIsochroneListener() {
+      @Override
+      public void onIsochrone(@NonNull FeatureCollection isochrone) {
+        showIsochrone(isochrone);
+      }
+    });
+
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
     mapView.getMapAsync(new OnMapReadyCallback() {
@@ -117,6 +149,13 @@ public class IsochroneSeekbarActivity extends AppCompatActivity {
                     progress = progress / 5;
                     progress = progress * 5;
                     liveWithinMinTextView.setText(String.format(getString(R.string.minutes_textview), progress));
+
+                    // Requests are debounced and cached, so this only reaches the API once the
+                    // slider rests on a new value
+                    if (fromUser) {
+                      makeIsochroneApiCall(new LatLng(DOWNTOWN_VIENNA.latitude(),
+                          DOWNTOWN_VIENNA.longitude()), progress);
+                    }
                   }
 
                   @Override
@@ -126,8 +165,7 @@ public class IsochroneSeekbarActivity extends AppCompatActivity {
 
                   @Override
                   public void onStopTrackingTouch(SeekBar seekBar) {
-                    makeIsochroneApiCall(new LatLng(DOWNTOWN_VIENNA.latitude(),
-                        DOWNTOWN_VIENNA.longitude()), seekBar.getProgress());
+                    // Not needed in this example.
                   }
                 });
 
@@ -145,74 +183,77 @@ public class IsochroneSeekbarActivity extends AppCompatActivity {
    * @param contourMin    The number of travel minutes to calculate Isochrone information for.
    */
   private void makeIsochroneApiCall(@NonNull LatLng mapClickPoint, @NonNull Integer contourMin) {
+    isochroneRequestManager.request(Point.fromLngLat(mapClickPoint.getLongitude(), mapClickPoint.getLatitude()),
+        IsochroneCriteria.PROFILE_DRIVING, contourMin);
+  }
 
-    MapboxIsochrone mapboxIsochroneRequest = MapboxIsochrone.builder()
-        .accessToken(getString(R.string.access_token))
-        .profile(IsochroneCriteria.PROFILE_DRIVING)
-        .addContoursMinutes(contourMin)
-        .polygons(true)
-        .addContoursColors("5a42f4")
-        .denoise(.4f)
-        .generalize(10f)
-        .coordinates(Point.fromLngLat(mapClickPoint.getLongitude(), mapClickPoint.getLatitude()))
-        .build();
-
-    mapboxIsochroneRequest.enqueueCall(new Callback<FeatureCollection>() {
+  /**
+   * Redraw Isochrone information based on the response body
+   */
+  private void showIsochrone(@NonNull FeatureCollection featureCollection) {
+    mapboxMap.getStyle(new Style.OnStyleLoaded() {
       @Override
-      public void onResponse(Call<FeatureCollection> call, Response<FeatureCollection> response) {
-        // Redraw Isochrone information based on response body
-        if (response.body() != null) {
-
-          FeatureCollection featureCollection = response.body();
-
-          mapboxMap.getStyle(new Style.OnStyleLoaded() {
-            @Override
-            public void onStyleLoaded(@NonNull Style style) {
-              GeoJsonSource fillLayerSource = style.getSourceAs(
-                  RESPONSE_FILL_LAYER_GEOJSON_SOURCE_ID);
-              if (fillLayerSource != null && featureCollection.features() != null
-                && featureCollection.features().size() > 0) {
-                fillLayerSource.setGeoJson(featureCollection);
-
-                // Move the camera from the map in case it's too zoomed in.
-                // This is here so that the isochrone information can be seen if the camera
-                // is too close to the map.
-                LatLngBounds latLngBounds = new LatLngBounds.Builder()
-                  .includes(createLatLngsForCameraBounds(featureCollection.features()))
-                  .build();
-
-                mapboxMap.easeCamera(CameraUpdateFactory.newLatLngBounds(
-                  latLngBounds, 50), 2000);
-              }
-            }
-          });
+      public void onStyleLoaded(@NonNull Style style) {
+        GeoJsonSource fillLayerSource = style.getSourceAs(
+            RESPONSE_FILL_LAYER_GEOJSON_SOURCE_ID);
+        if (fillLayerSource != null && featureCollection.features() != null
+          && featureCollection.features().size() > 0) {
+          fillLayerSource.setGeoJson(featureCollection);
+
+          // Move the camera from the map in case it's too zoomed in.
+          // This is here so that the isochrone information can be seen if the camera
+          // is too close to the map.
+          LatLngBounds latLngBounds = createCameraBounds(featureCollection.features());
+          if (latLngBounds != null) {
+            mapboxMap.easeCamera(CameraUpdateFactory.newLatLngBounds(
+              latLngBounds, 50), 2000);
+          }
         }
       }
-
-      @Override
-      public void onFailure(Call<FeatureCollection> call, Throwable throwable) {
-        Timber.d("Request failed: %s", throwable.getMessage());
-      }
     });
   }
 
   /**
-   * Use the {@link TurfMeta#coordAll(Feature, boolean)} method and the Isochrone API
-   * response to build a list of {@link LatLng}. The list will be used to create a
-   * camera bounds so that the camera can adjust to the size of the visible Isochrone
-   * API data.
+   * Walk over all coordinates of the Isochrone API response once to find the camera bounds
+   * that let the camera adjust to the size of the visible Isochrone API data.
    *
    * @param featureList list from the body of the Isochrone API response.
-   * @return a list of {@link LatLng}.
+   * @return the bounds of all features, or null if there aren't any coordinates.
    */
-  private List<LatLng> createLatLngsForCameraBounds(List<Feature> featureList) {
-    List<LatLng> latLngList = new ArrayList(featureList.size());
+  private LatLngBounds createCameraBounds(List<Feature> featureList) {
+    // north, east, south, west
+    double[] bounds = {-90, -180, 90, 180};
     for (Feature singleFeature : featureList) {
-      for (Point singlePoint : TurfMeta.coordAll(singleFeature, false)) {
-        latLngList.add(new LatLng((singlePoint.latitude()), singlePoint.longitude()));
+      Geometry geometry = singleFeature.geometry();
+      if (geometry instanceof Polygon) {
+        includeRings(bounds, ((Polygon) geometry).coordinates());
+      } else if (geometry instanceof MultiPolygon) {
+        for (List<List<Point>> polygon : ((MultiPolygon) geometry).coordinates()) {
+          includeRings(bounds, polygon);
+        }
+      } else if (geometry instanceof LineString) {
+        includePoints(bounds, ((LineString) geometry).coordinates());
       }
     }
-    return latLngList;
+    if (bounds[0] < bounds[2]) {
+      return null;
+    }
+    return LatLngBounds.from(bounds[0], bounds[1], bounds[2], bounds[3]);
+  }
+
+  private static void includeRings(double[] bounds, List<List<Point>> rings) {
+    for (List<Point> ring : rings) {
+      includePoints(bounds, ring);
+    }
+  }
+
+  private static void includePoints(double[] bounds, List<Point> points) {
+    for (Point point : points) {
+      bounds[0] = Math.max(bounds[0], point.latitude());
+      bounds[1] = Math.max(bounds[1], point.longitude());
+      bounds[2] = Math.min(bounds[2], point.latitude());
+      bounds[3] = Math.min(bounds[3], point.longitude());
+    }
   }
 
   /**
@@ -262,6 +303,7 @@ public class IsochroneSeekbarActivity extends AppCompatActivity {
   @Override
   protected void onDestroy() {
     super.onDestroy();
+    isochroneRequestManager.cancel();
     mapView.onDestroy();
   }
 
@@ -11,6 +11,7 @@ import com.mapbox.geojson.LineString
 import com.mapbox.geojson.Point
 import com.mapbox.geojson.Polygon
 import com.mapbox.mapboxandroiddemo.R
+import com.mapbox.mapboxandroiddemo.model.Example
 import com.mapbox.mapboxsdk.Mapbox
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory
 import com.mapbox.mapboxsdk.geometry.LatLng
@@ -28,6 +29,15 @@ import kotlinx.android.synthetic.main.activity_lab_turf_thick_bordered_circle.*
 /**
  * Use [TurfTransformation.circle] to eventually create a thick border around a circular-shaped [Polygon].
  */
+@Example(
+    category = R.id.nav_java_services,
+    title = R.string.activity_java_services_bordered_circle_title,
+    description = R.string.activity_java_services_bordered_circle_description,
+    imageUrl = R.string.activity_java_services_bordered_circle_url,
+    order = 170,
+    showNewIcon = true,
+    kotlinOnly = true
+)
 class KotlinBorderedCircleActivity : AppCompatActivity(), MapboxMap.OnMapClickListener {
 
     private var mapboxMap: MapboxMap ? = null
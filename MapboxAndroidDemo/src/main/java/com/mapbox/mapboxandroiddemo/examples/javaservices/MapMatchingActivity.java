@@ -16,6 +16,8 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.GeoJsonAssetLoader;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -25,11 +27,9 @@ import com.mapbox.mapboxsdk.style.layers.LineLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.mapboxsdk.utils.ColorUtils;
 
-import java.io.InputStream;
 import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Objects;
-import java.util.Scanner;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -45,6 +45,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
 /**
  * Match raw GPS points to the map so they align with roads and pathways.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_map_matching_title,
+  description = R.string.activity_java_services_map_matching_description,
+  imageUrl = R.string.activity_java_services_map_matching_url,
+  order = 20)
 public class MapMatchingActivity extends AppCompatActivity {
 
   private static final String TAG = "MapMatchingActivity";
@@ -134,8 +140,7 @@ public class MapMatchingActivity extends AppCompatActivity {
       try {
         MapMatchingActivity activity = weakReference.get();
         if (activity != null) {
-          InputStream inputStream = activity.getAssets().open("trace.geojson");
-          return FeatureCollection.fromJson(convertStreamToString(inputStream));
+          return GeoJsonAssetLoader.loadFeatureCollection(activity, "trace.geojson");
         }
       } catch (Exception exception) {
         Timber.e("Exception Loading GeoJSON: %s", exception.toString());
@@ -143,11 +148,6 @@ public class MapMatchingActivity extends AppCompatActivity {
       return null;
     }
 
-    static String convertStreamToString(InputStream is) {
-      Scanner scanner = new Scanner(is).useDelimiter("\\A");
-      return scanner.hasNext() ? scanner.next() : "";
-    }
-
     @Override
     protected void onPostExecute(@Nullable FeatureCollection featureCollection) {
       super.onPostExecute(featureCollection);
@@ -6,10 +6,12 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.cardview.widget.CardView;
 import androidx.recyclerview.widget.DefaultItemAnimator;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.LinearSnapHelper;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.recyclerview.widget.SnapHelper;
+import android.text.TextUtils;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -17,12 +19,13 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import com.mapbox.api.directions.v5.DirectionsCriteria;
-import com.mapbox.api.matrix.v1.MapboxMatrix;
-import com.mapbox.api.matrix.v1.models.MatrixResponse;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.DistanceMatrix;
+import com.mapbox.mapboxandroiddemo.utils.GeoJsonAssetLoader;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.annotations.Icon;
 import com.mapbox.mapboxsdk.annotations.IconFactory;
@@ -35,21 +38,26 @@ import com.mapbox.mapboxsdk.maps.OnMapReadyCallback;
 import com.mapbox.mapboxsdk.maps.Style;
 import com.mapbox.turf.TurfConversion;
 
-import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
 
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 import timber.log.Timber;
 
+import static com.mapbox.turf.TurfConstants.UNIT_METERS;
+import static com.mapbox.turf.TurfConstants.UNIT_MILES;
+
 
 /**
  * Use the Mapbox Java Services SDK's Matrix API to retrieve travel times between many points.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_maxtrix_api_title,
+  description = R.string.activity_java_services_matrix_api_description,
+  imageUrl = R.string.activity_java_services_matrix_url,
+  order = 60)
 public class MatrixApiActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -59,6 +67,8 @@ public class MatrixApiActivity extends AppCompatActivity {
   private RecyclerView recyclerView;
   private MatrixApiLocationRecyclerViewAdapter matrixApiLocationRecyclerViewAdapter;
   private ArrayList<SingleRecyclerViewMatrixLocation> matrixLocationList;
+  private DistanceMatrix distanceMatrix;
+  private final DecimalFormat distanceFormat = new DecimalFormat("#.##");
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -75,6 +85,8 @@ public class MatrixApiActivity extends AppCompatActivity {
 
     // Create list of positions from local GeoJSON file
     initPositionListFromGeoJsonFile();
+    distanceMatrix = new DistanceMatrix(getString(R.string.access_token), DirectionsCriteria.PROFILE_DRIVING,
+      pointList);
 
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
@@ -101,8 +113,7 @@ public class MatrixApiActivity extends AppCompatActivity {
                 public boolean onMarkerClick(@NonNull Marker marker) {
 
                   // Make a call to the Mapbox Matrix API
-                  makeMapboxMatrixApiCall(getClickedMarkerNumInPositionList(marker), Point.fromLngLat(
-                    marker.getPosition().getLongitude(), marker.getPosition().getLatitude()));
+                  makeMapboxMatrixApiCall(getClickedMarkerNumInPositionList(marker));
                   return false;
                 }
               });
@@ -115,14 +126,8 @@ public class MatrixApiActivity extends AppCompatActivity {
   }
 
   private int getClickedMarkerNumInPositionList(Marker clickedMarker) {
-    int clickedMarkerIndexPositionInList = -1;
     if (clickedMarker != null) {
-      for (Marker singleMarker : mapboxMap.getMarkers()) {
-        if (singleMarker == clickedMarker) {
-          clickedMarkerIndexPositionInList = mapboxMap.getMarkers().indexOf(singleMarker);
-        }
-      }
-      return clickedMarkerIndexPositionInList;
+      return mapboxMap.getMarkers().indexOf(clickedMarker);
     } else {
       return 0;
     }
@@ -139,45 +144,33 @@ public class MatrixApiActivity extends AppCompatActivity {
     snapHelper.attachToRecyclerView(recyclerView);
   }
 
-  private void makeMapboxMatrixApiCall(final int markerPositionInList, Point pointOfClickedMarker) {
-
-    // Build Mapbox Matrix API parameters
-    MapboxMatrix directionsMatrixClient = MapboxMatrix.builder()
-      .accessToken(getString(R.string.access_token))
-      .profile(DirectionsCriteria.PROFILE_DRIVING)
-      .coordinates(pointList)
-      .build();
-
-    // Handle the API response
-    directionsMatrixClient.enqueueCall(new Callback<MatrixResponse>() {
+  /**
+   * Get the driving distances from the clicked station to all other stations. The Matrix API can only
+   * handle a few coordinates per request, so {@link DistanceMatrix} splits the request up and
+   * remembers the stations that were already clicked.
+   */
+  private void makeMapboxMatrixApiCall(final int markerPositionInList) {
+    if (markerPositionInList < 0) {
+      return;
+    }
+    distanceMatrix.requestRow(markerPositionInList, new DistanceMatrix.RowCallback() {
       @Override
-      public void onResponse(Call<MatrixResponse> call,
-                             Response<MatrixResponse> response) {
-        if (response.body() != null) {
-          List<Double[]> durationsToAllOfTheLocationsFromTheOrigin = response.body().durations();
-          if (durationsToAllOfTheLocationsFromTheOrigin != null) {
-            for (int x = 0; x < durationsToAllOfTheLocationsFromTheOrigin.size(); x++) {
-              String finalConvertedFormattedDistance = String.valueOf(new DecimalFormat("#.##")
-                .format(TurfConversion.convertLength(
-                  durationsToAllOfTheLocationsFromTheOrigin.get(markerPositionInList)[x],
-                  "meters", "miles")));
-              if (x == markerPositionInList) {
-                matrixLocationList.get(x).setDistanceFromOrigin(finalConvertedFormattedDistance);
-              }
-              if (x != markerPositionInList) {
-                matrixLocationList.get(x).setDistanceFromOrigin(finalConvertedFormattedDistance);
-                matrixApiLocationRecyclerViewAdapter.notifyDataSetChanged();
-              }
-            }
+      public void onRow(int origin, @NonNull double[] meters) {
+        String[] distances = new String[meters.length];
+        for (int x = 0; x < meters.length; x++) {
+          if (!Double.isNaN(meters[x])) {
+            distances[x] = distanceFormat.format(TurfConversion.convertLength(meters[x], UNIT_METERS, UNIT_MILES));
           }
         }
+        // Update all cards at once
+        matrixApiLocationRecyclerViewAdapter.setDistancesFromOrigin(distances);
       }
 
       @Override
-      public void onFailure(Call<MatrixResponse> call, Throwable throwable) {
+      public void onFailure(int origin, @NonNull Throwable throwable) {
         Toast.makeText(MatrixApiActivity.this, R.string.call_error,
           Toast.LENGTH_SHORT).show();
-        Timber.d( "onResponse onFailure");
+        Timber.d("onResponse onFailure: %s", throwable.getMessage());
       }
     });
   }
@@ -196,26 +189,15 @@ public class MatrixApiActivity extends AppCompatActivity {
     }
   }
 
-  private String loadGeoJsonFromAsset(String filename) {
-    try {
-      // Load GeoJSON file from local asset folder
-      InputStream is = getAssets().open(filename);
-      int size = is.available();
-      byte[] buffer = new byte[size];
-      is.read(buffer);
-      is.close();
-      return new String(buffer, Charset.forName("UTF-8"));
-    } catch (Exception exception) {
-      Timber.d(exception.toString(), "Exception Loading GeoJSON: ");
-      exception.printStackTrace();
-      return null;
-    }
-  }
-
   private void initPositionListFromGeoJsonFile() {
 
     // Get GeoJSON features from GeoJSON file in the assets folder
-    featureCollection = FeatureCollection.fromJson(loadGeoJsonFromAsset("boston_charge_stations.geojson"));
+    try {
+      featureCollection = GeoJsonAssetLoader.loadFeatureCollection(this, "boston_charge_stations.geojson");
+    } catch (IOException exception) {
+      Timber.d("Exception Loading GeoJSON: %s", exception.toString());
+      featureCollection = FeatureCollection.fromFeatures(new ArrayList<Feature>());
+    }
 
     // Initialize List<Position> for eventual use in the Matrix API call
     pointList = new ArrayList<>();
@@ -277,6 +259,7 @@ public class MatrixApiActivity extends AppCompatActivity {
   @Override
   protected void onDestroy() {
     super.onDestroy();
+    distanceMatrix.cancel();
     mapView.onDestroy();
   }
 
@@ -289,7 +272,7 @@ public class MatrixApiActivity extends AppCompatActivity {
   /**
    * POJO model class for a single location in the recyclerview
    */
-  class SingleRecyclerViewMatrixLocation {
+  static class SingleRecyclerViewMatrixLocation {
 
     private String name;
     private LatLng locationLatLng;
@@ -314,11 +297,21 @@ public class MatrixApiActivity extends AppCompatActivity {
     public void setLocationLatLng(LatLng locationLatLng) {
       this.locationLatLng = locationLatLng;
     }
+
+    SingleRecyclerViewMatrixLocation withDistanceFromOrigin(String distanceFromOrigin) {
+      SingleRecyclerViewMatrixLocation copy = new SingleRecyclerViewMatrixLocation();
+      copy.setName(name);
+      copy.setLocationLatLng(locationLatLng);
+      copy.setDistanceFromOrigin(distanceFromOrigin);
+      return copy;
+    }
   }
 
   static class MatrixApiLocationRecyclerViewAdapter extends
     RecyclerView.Adapter<MatrixApiLocationRecyclerViewAdapter.MyViewHolder> {
 
+    private static final Object PAYLOAD_DISTANCE = new Object();
+
     private List<SingleRecyclerViewMatrixLocation> matrixLocationList;
     private Context context;
 
@@ -335,11 +328,67 @@ public class MatrixApiActivity extends AppCompatActivity {
       return new MatrixApiLocationRecyclerViewAdapter.MyViewHolder(itemView);
     }
 
+    /**
+     * Replaces the distances of all locations, in the same order as the list. Only the cards whose
+     * distance changed are rebound, and only their distance text.
+     */
+    void setDistancesFromOrigin(final String[] distances) {
+      final List<SingleRecyclerViewMatrixLocation> oldList = matrixLocationList;
+      List<SingleRecyclerViewMatrixLocation> newList = new ArrayList<>(oldList.size());
+      for (int i = 0; i < oldList.size(); i++) {
+        newList.add(oldList.get(i).withDistanceFromOrigin(i < distances.length ? distances[i] : null));
+      }
+
+      DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+        @Override
+        public int getOldListSize() {
+          return oldList.size();
+        }
+
+        @Override
+        public int getNewListSize() {
+          return oldList.size();
+        }
+
+        @Override
+        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+          // The locations themselves never change, only their distances
+          return oldItemPosition == newItemPosition;
+        }
+
+        @Override
+        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+          return TextUtils.equals(oldList.get(oldItemPosition).getDistanceFromOrigin(),
+            distances[newItemPosition]);
+        }
+
+        @Override
+        public Object getChangePayload(int oldItemPosition, int newItemPosition) {
+          return PAYLOAD_DISTANCE;
+        }
+      }, false);
+      matrixLocationList = newList;
+      diffResult.dispatchUpdatesTo(this);
+    }
+
     @Override
     public void onBindViewHolder(MatrixApiLocationRecyclerViewAdapter.MyViewHolder holder, int position) {
       SingleRecyclerViewMatrixLocation singleRecyclerViewLocation = matrixLocationList.get(position);
       holder.name.setText(singleRecyclerViewLocation.getName());
+      bindDistance(holder, singleRecyclerViewLocation);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull MatrixApiLocationRecyclerViewAdapter.MyViewHolder holder, int position,
+                                 @NonNull List<Object> payloads) {
+      if (payloads.contains(PAYLOAD_DISTANCE)) {
+        bindDistance(holder, matrixLocationList.get(position));
+      } else {
+        onBindViewHolder(holder, position);
+      }
+    }
 
+    private void bindDistance(MyViewHolder holder, SingleRecyclerViewMatrixLocation singleRecyclerViewLocation) {
       String finalDistance = singleRecyclerViewLocation.getDistanceFromOrigin()
         == null ? "" : String.format(context.getString(R.string.miles_distance),
         singleRecyclerViewLocation.getDistanceFromOrigin());
@@ -14,6 +14,7 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
@@ -53,6 +54,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
  * Use the Mapbox Directions API to request and retrieve a Directions route. Show the route line and
  * place a circle where each of the route's step maneuver locations are.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_multiple_geometries_from_directions_route_title,
+  description = R.string.activity_java_services_multiple_geometries_from_directions_route_description,
+  imageUrl = R.string.activity_java_services_multiple_geometries_from_directions_route_url,
+  order = 160,
+  showNewIcon = true)
 public class MultipleGeometriesDirectionsRouteActivity extends AppCompatActivity
     implements OnMapReadyCallback, MapboxMap.OnMapClickListener {
 
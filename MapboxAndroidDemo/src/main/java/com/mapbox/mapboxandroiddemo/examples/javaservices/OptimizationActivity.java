@@ -14,6 +14,7 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -47,6 +48,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
 /**
  * Use Mapbox Java Services to request and compare normal directions with time optimized directions.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_optimization_title,
+  description = R.string.activity_java_services_optimization_description,
+  imageUrl = R.string.activity_java_services_optimization_url,
+  order = 40)
 public class OptimizationActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener, MapboxMap.OnMapLongClickListener {
 
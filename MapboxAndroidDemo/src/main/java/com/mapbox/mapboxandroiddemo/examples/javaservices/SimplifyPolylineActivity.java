@@ -13,6 +13,8 @@ import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.utils.PolylineUtils;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.GeoJsonAssetLoader;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -22,11 +24,9 @@ import com.mapbox.mapboxsdk.style.layers.LineLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.mapboxsdk.utils.ColorUtils;
 
-import java.io.InputStream;
 import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Objects;
-import java.util.Scanner;
 
 import timber.log.Timber;
 
@@ -37,6 +37,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
  * Using the polylines utility, simplify a polyline at a
  * given tolerance to reduce the number of coordinates in that polyline.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_simplify_polyline_title,
+  description = R.string.activity_java_services_simplify_polyline_description,
+  imageUrl = R.string.activity_java_services_simplify_polyline_url,
+  order = 10)
 public class SimplifyPolylineActivity extends AppCompatActivity {
 
   private static final String TAG = "SimplifyLineActivity";
@@ -126,8 +132,7 @@ public class SimplifyPolylineActivity extends AppCompatActivity {
       try {
         SimplifyPolylineActivity activity = weakReference.get();
         if (activity != null) {
-          InputStream inputStream = activity.getAssets().open("matched_route.geojson");
-          return FeatureCollection.fromJson(convertStreamToString(inputStream));
+          return GeoJsonAssetLoader.loadFeatureCollection(activity, "matched_route.geojson");
         }
       } catch (Exception exception) {
         Timber.e("Exception loading GeoJSON: %s", exception.toString());
@@ -135,11 +140,6 @@ public class SimplifyPolylineActivity extends AppCompatActivity {
       return null;
     }
 
-    static String convertStreamToString(InputStream is) {
-      Scanner scanner = new Scanner(is).useDelimiter("\\A");
-      return scanner.hasNext() ? scanner.next() : "";
-    }
-
     @Override
     protected void onPostExecute(@Nullable FeatureCollection featureCollection) {
       super.onPostExecute(featureCollection);
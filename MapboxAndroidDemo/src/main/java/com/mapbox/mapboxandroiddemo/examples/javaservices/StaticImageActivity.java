@@ -12,6 +12,7 @@ import com.mapbox.api.staticmap.v1.MapboxStaticMap;
 import com.mapbox.api.staticmap.v1.StaticMapCriteria;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -29,6 +30,12 @@ import androidx.appcompat.app.AppCompatActivity;
  * created URL, use Picasso, a third party image loading library, to download and load the static map image into
  * the ImageView.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_static_image_title,
+  description = R.string.activity_java_services_static_image_description,
+  imageUrl = R.string.activity_java_services_static_image_url,
+  order = 50)
 public class StaticImageActivity extends AppCompatActivity implements
   OnMapReadyCallback, RadioGroup.OnCheckedChangeListener {
 
@@ -15,13 +15,14 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import com.mapbox.api.staticmap.v1.MapboxStaticMap;
-import com.mapbox.api.tilequery.MapboxTilequery;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.MainActivity;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.CachedTilequery;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -42,9 +43,6 @@ import java.util.List;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.app.NotificationCompat;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 import timber.log.Timber;
 
 import static android.app.PendingIntent.getActivity;
@@ -62,6 +60,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
  * be used with tracking the device location. For this, see
  * {@link com.mapbox.mapboxandroiddemo.examples.location.LocationChangeListeningActivity}
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_static_image_notification_title,
+  description = R.string.activity_java_services_static_image_notification_description,
+  imageUrl = R.string.activity_java_services_static_image_notification_url,
+  order = 190,
+  showNewIcon = true)
 public class StaticImageNotificationActivity extends AppCompatActivity implements
   OnMapReadyCallback, MapboxMap.OnMapClickListener, SeekBar.OnSeekBarChangeListener {
 
@@ -87,6 +92,7 @@ public class StaticImageNotificationActivity extends AppCompatActivity implement
   private TextView tilequerySearchRadiusValueTextView;
   private boolean firstNotificationBuilt = false;
   private int tilequerySearchRadiusFeet = 250;
+  private CachedTilequery cachedTilequery;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -99,6 +105,8 @@ public class StaticImageNotificationActivity extends AppCompatActivity implement
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_static_image_api_notification);
 
+    cachedTilequery = new CachedTilequery(this, getString(R.string.access_token));
+
     initSearchRadiusSeekbar();
     tilequerySearchRadiusValueTextView = findViewById(R.id.tilequery_radius_value_textView);
     tilequerySearchRadiusValueTextView.setText(String.format(getString(
@@ -363,74 +371,68 @@ public class StaticImageNotificationActivity extends AppCompatActivity implement
   }
 
   /**
-   * Use the Java SDK's MapboxTilequery class to build a API request and use the API response
+   * Use the Java SDK's MapboxTilequery class, through a cache that answers clicks close to earlier
+   * ones without another request, to query the Tilequery API and use the API response
    *
    * @param clickPoint the center point that the the tilequery will originate from.
    */
   private void queryWifiSpotsWithTilequeryApi(@NonNull LatLng clickPoint) {
-    MapboxTilequery.builder()
-      .accessToken(getString(R.string.access_token))
-      .tilesetIds("appsatmapboxcom.bml2ioc4")
-      .query(Point.fromLngLat(clickPoint.getLongitude(), clickPoint.getLatitude()))
-      .radius(tilequerySearchRadiusFeet / 3)
-      .geometry("point")
-      .layers("NYC_Wi-Fi_Hotspot_Locations-8qwm7n")
-      .build()
-      .enqueueCall(new Callback<FeatureCollection>() {
-        @Override
-        public void onResponse(Call<FeatureCollection> call, Response<FeatureCollection> response) {
-          if (response.body() != null) {
-            FeatureCollection responseFeatureCollection = response.body();
-            mapboxMap.getStyle(new Style.OnStyleLoaded() {
-              @Override
-              public void onStyleLoaded(@NonNull Style style) {
-                if (responseFeatureCollection.features() != null) {
-                  List<Feature> responseFeatureList = responseFeatureCollection.features();
-                  GeoJsonSource wifiLineSource = style.getSourceAs(WIFI_LINE_SOURCE_ID);
-
-                  LineLayer nearbyLineLayer = style.getLayerAs(WIFI_LINE_LAYER_ID);
-
-                  if (responseFeatureList.isEmpty()) {
-                    Toast.makeText(StaticImageNotificationActivity.this,
-                      getString(R.string.static_image_api_notification_no_wifi_nearby),
-                      Toast.LENGTH_SHORT).show();
-
-                    if (nearbyLineLayer != null) {
-                      if (VISIBLE.equals(nearbyLineLayer.getVisibility().getValue())) {
-                        nearbyLineLayer.setProperties(visibility(NONE));
-                      }
-                    }
-
-                  } else {
-                    if (nearbyLineLayer != null) {
-                      if (NONE.equals(nearbyLineLayer.getVisibility().getValue())) {
-                        nearbyLineLayer.setProperties(visibility(VISIBLE));
-                      }
-                      if (wifiLineSource != null) {
-                        drawLinesFromClickPointToNearbyWifi(responseFeatureList, wifiLineSource);
-                      }
-                    }
-
-                    getStaticImageFromApi(new LatLng(clickPoint.getLatitude(), clickPoint.getLongitude()),
-                      responseFeatureList.size(), responseFeatureList.get(0)
-                        .getStringProperty("location").toLowerCase());
+    CachedTilequery.Options wifiQuery = new CachedTilequery.Options("appsatmapboxcom.bml2ioc4",
+      "NYC_Wi-Fi_Hotspot_Locations-8qwm7n", "point", tilequerySearchRadiusFeet / 3, 5, true);
+    Point queryPoint = Point.fromLngLat(clickPoint.getLongitude(), clickPoint.getLatitude());
+    cachedTilequery.query(wifiQuery, queryPoint, new CachedTilequery.TilequeryCallback() {
+      @Override
+      public void onResponse(@NonNull FeatureCollection responseFeatureCollection) {
+        mapboxMap.getStyle(new Style.OnStyleLoaded() {
+          @Override
+          public void onStyleLoaded(@NonNull Style style) {
+            if (responseFeatureCollection.features() != null) {
+              List<Feature> responseFeatureList = responseFeatureCollection.features();
+              GeoJsonSource wifiLineSource = style.getSourceAs(WIFI_LINE_SOURCE_ID);
 
+              LineLayer nearbyLineLayer = style.getLayerAs(WIFI_LINE_LAYER_ID);
+
+              if (responseFeatureList.isEmpty()) {
+                Toast.makeText(StaticImageNotificationActivity.this,
+                  getString(R.string.static_image_api_notification_no_wifi_nearby),
+                  Toast.LENGTH_SHORT).show();
+
+                if (nearbyLineLayer != null) {
+                  if (VISIBLE.equals(nearbyLineLayer.getVisibility().getValue())) {
+                    nearbyLineLayer.setProperties(visibility(NONE));
+                  }
+                }
+
+              } else {
+                if (nearbyLineLayer != null) {
+                  if (NONE.equals(nearbyLineLayer.getVisibility().getValue())) {
+                    nearbyLineLayer.setProperties(visibility(VISIBLE));
+                  }
+                  if (wifiLineSource != null) {
+                    drawLinesFromClickPointToNearbyWifi(responseFeatureList, wifiLineSource);
                   }
                 }
+
+                getStaticImageFromApi(new LatLng(clickPoint.getLatitude(), clickPoint.getLongitude()),
+                  responseFeatureList.size(), responseFeatureList.get(0)
+                    .getStringProperty("location").toLowerCase());
+
               }
-            });
+            }
           }
-        }
+        });
+      }
 
-        @Override
-        public void onFailure(Call<FeatureCollection> call, Throwable throwable) {
-          Timber.d("Request failed: %s", throwable.getMessage());
-          Toast.makeText(StaticImageNotificationActivity.this, R.string.api_error,
-            Toast.LENGTH_SHORT).show();
-        }
-      });
+      @Override
+      public void onFailure(@NonNull Throwable throwable) {
+        Timber.d("Request failed: %s", throwable.getMessage());
+        Toast.makeText(StaticImageNotificationActivity.this, R.string.api_error,
+          Toast.LENGTH_SHORT).show();
+      }
+    });
   }
 
+
   /**
    * Draws a line from the click point to each of the wifi locations that were identified by the
    * Tilequery API query
@@ -508,6 +510,7 @@ public class StaticImageNotificationActivity extends AppCompatActivity implement
   @Override
   protected void onDestroy() {
     Picasso.with(this).cancelRequest(picassoTarget);
+    cachedTilequery.cancel();
     if (mapboxMap != null) {
       mapboxMap.removeOnMapClickListener(this);
     }
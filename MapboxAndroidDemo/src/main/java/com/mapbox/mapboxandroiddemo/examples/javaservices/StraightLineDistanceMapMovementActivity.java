@@ -8,9 +8,10 @@ import android.widget.Toast;
 
 import com.mapbox.android.core.permissions.PermissionsListener;
 import com.mapbox.android.core.permissions.PermissionsManager;
-import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.LiveLineSource;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.location.LocationComponent;
@@ -26,7 +27,6 @@ import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.turf.TurfMeasurement;
 
 import java.text.NumberFormat;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
@@ -43,6 +43,13 @@ import static com.mapbox.turf.TurfConstants.UNIT_METERS;
  * Use {@link com.mapbox.turf.TurfMeasurement#distance(Point, Point)} to calculate a straight line distance
  * ("as the crow flies") between the device location and the map camera's target.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_straight_line_distance_title,
+  description = R.string.activity_java_services_straight_line_distance_description,
+  imageUrl = R.string.activity_java_services_straight_line_distance_url,
+  order = 180,
+  showNewIcon = true)
 public class StraightLineDistanceMapMovementActivity extends AppCompatActivity implements
   PermissionsListener, MapboxMap.OnCameraMoveListener {
 
@@ -53,11 +60,16 @@ public class StraightLineDistanceMapMovementActivity extends AppCompatActivity i
   private static final int LINE_COLOR = Color.RED;
   private static final float LINE_WIDTH = 2f;
 
+  private static final int TARGET_POINT_INDEX = 0;
+  private static final int DEVICE_LOCATION_POINT_INDEX = 1;
+
   private PermissionsManager permissionsManager;
-  private List<Point> pointList;
   private MapView mapView;
   private MapboxMap mapboxMap;
   private TextView distanceTextView;
+  private final LiveLineSource distanceLine = new LiveLineSource(2);
+  private NumberFormat distanceFormat;
+  private Locale distanceFormatLocale;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -100,6 +112,15 @@ public class StraightLineDistanceMapMovementActivity extends AppCompatActivity i
                     distanceTextView = findViewById(R.id.straight_line_distance_textview);
                     distanceTextView.setTextColor(Color.RED);
 
+                    GeoJsonSource distanceSource = style.getSourceAs(DISTANCE_SOURCE_ID);
+                    distanceLine.setSource(distanceSource);
+                    distanceLine.setOnFrameListener(new LiveLineSource.OnFrameListener() {
+                      @Override
+                      public void onFrame(@NonNull LiveLineSource line) {
+                        redrawLine(line);
+                      }
+                    });
+
                     Toast.makeText(StraightLineDistanceMapMovementActivity.this,
                       getString(R.string.move_map_around_instruction), Toast.LENGTH_SHORT).show();
                   }
@@ -111,39 +132,35 @@ public class StraightLineDistanceMapMovementActivity extends AppCompatActivity i
 
   @Override
   public void onCameraMove() {
-    redrawLine(mapboxMap.getCameraPosition().target);
+    // The line is redrawn once in the next frame, however often the camera moves until then
+    distanceLine.invalidate();
   }
 
-  private void redrawLine(@NonNull LatLng targetLatLng) {
-    mapboxMap.getStyle(new Style.OnStyleLoaded() {
-      @Override
-      public void onStyleLoaded(@NonNull Style style) {
-        GeoJsonSource geoJsonSource = style.getSourceAs(DISTANCE_SOURCE_ID);
-        if (geoJsonSource != null) {
-          pointList = new ArrayList<>();
-          Location lastKnownLocation = mapboxMap.getLocationComponent().getLastKnownLocation();
-          if (lastKnownLocation != null) {
-
-            // Add the start and ending points to the straight line
-            Point targetPoint = Point.fromLngLat(targetLatLng.getLongitude(), targetLatLng.getLatitude());
-            Point deviceLocationPoint = Point.fromLngLat(lastKnownLocation.getLongitude(),
-              lastKnownLocation.getLatitude());
-            pointList.add(targetPoint);
-            pointList.add(deviceLocationPoint);
-
-            // Update the source with the new LineString line
-            geoJsonSource.setGeoJson(LineString.fromLngLats(pointList));
-
-            // Update the TextView with the new straight line distance
-            double distanceBetweenDeviceAndTarget = TurfMeasurement.distance(deviceLocationPoint,
-              targetPoint, UNIT_METERS);
-
-            distanceTextView.setText(String.format("%s meters", String.valueOf(
-              NumberFormat.getNumberInstance(Locale.US).format(distanceBetweenDeviceAndTarget))));
-          }
-        }
-      }
-    });
+  private void redrawLine(@NonNull LiveLineSource line) {
+    Location lastKnownLocation = mapboxMap.getLocationComponent().getLastKnownLocation();
+    if (lastKnownLocation == null) {
+      return;
+    }
+
+    // Set the start and ending points of the straight line
+    LatLng targetLatLng = mapboxMap.getCameraPosition().target;
+    line.setCoordinate(TARGET_POINT_INDEX, targetLatLng.getLongitude(), targetLatLng.getLatitude());
+    line.setCoordinate(DEVICE_LOCATION_POINT_INDEX, lastKnownLocation.getLongitude(),
+      lastKnownLocation.getLatitude());
+
+    // Update the TextView with the new straight line distance
+    double distanceBetweenDeviceAndTarget = TurfMeasurement.distance(line.getPoint(DEVICE_LOCATION_POINT_INDEX),
+      line.getPoint(TARGET_POINT_INDEX), UNIT_METERS);
+    distanceTextView.setText(String.format("%s meters", getDistanceFormat().format(distanceBetweenDeviceAndTarget)));
+  }
+
+  private NumberFormat getDistanceFormat() {
+    Locale locale = Locale.getDefault();
+    if (!locale.equals(distanceFormatLocale)) {
+      distanceFormat = NumberFormat.getNumberInstance(locale);
+      distanceFormatLocale = locale;
+    }
+    return distanceFormat;
   }
 
   @SuppressWarnings( {"MissingPermission"})
@@ -236,6 +253,7 @@ public class StraightLineDistanceMapMovementActivity extends AppCompatActivity i
     if (mapboxMap != null) {
       mapboxMap.removeOnCameraMoveListener(this);
     }
+    distanceLine.onDestroy();
     mapView.onDestroy();
   }
 
@@ -10,11 +10,12 @@ import android.widget.Toast;
 
 import com.mapbox.android.core.permissions.PermissionsListener;
 import com.mapbox.android.core.permissions.PermissionsManager;
-import com.mapbox.api.tilequery.MapboxTilequery;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.CachedTilequery;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -32,9 +33,6 @@ import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
 import java.util.List;
 
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 import timber.log.Timber;
 
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconAllowOverlap;
@@ -46,6 +44,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
  * Use the Mapbox Tilequery API to retrieve information about Features on a Vector Tileset. More info about
  * the Tilequery API can be found at https://www.mapbox.com/api-documentation/#tilequery
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_tilequery_title,
+  description = R.string.activity_java_services_tilequery_description,
+  imageUrl = R.string.activity_java_services_tilequery_url,
+  order = 100)
 public class TilequeryActivity extends AppCompatActivity implements
   OnMapReadyCallback, PermissionsListener, MapboxMap.OnMapClickListener {
 
@@ -54,10 +58,13 @@ public class TilequeryActivity extends AppCompatActivity implements
   private static final String LAYER_ID = "LAYER_ID";
   private static final String RESULT_ICON_ID = "RESULT_ICON_ID";
   private static final String CLICK_ICON_ID = "CLICK_ICON_ID";
+  private static final CachedTilequery.Options BUILDING_QUERY = new CachedTilequery.Options(
+    "mapbox.mapbox-streets-v7", "building", "polygon", 50, 10, true);
   private PermissionsManager permissionsManager;
   private MapboxMap mapboxMap;
   private MapView mapView;
   private TextView tilequeryResponseTextView;
+  private CachedTilequery cachedTilequery;
 
   @Override
 
@@ -71,6 +78,8 @@ public class TilequeryActivity extends AppCompatActivity implements
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_javaservices_tilequery);
 
+    cachedTilequery = new CachedTilequery(this, getString(R.string.access_token));
+
     tilequeryResponseTextView = findViewById(R.id.tilequery_response_info_textview);
 
     mapView = findViewById(R.id.mapView);
@@ -151,54 +160,43 @@ public class TilequeryActivity extends AppCompatActivity implements
   }
 
   /**
-   * Use the Java SDK's MapboxTilequery class to build a API request and use the API response
+   * Use the Java SDK's MapboxTilequery class, through a cache that answers repeated clicks on the same
+   * spot without another request, to query the Tilequery API and use the API response
    *
    * @param point the center point that the the tilequery will originate from.
    */
   private void makeTilequeryApiCall(@NonNull LatLng point) {
-    MapboxTilequery tilequery = MapboxTilequery.builder()
-      .accessToken(getString(R.string.access_token))
-      .tilesetIds("mapbox.mapbox-streets-v7")
-      .query(Point.fromLngLat(point.getLongitude(), point.getLatitude()))
-      .radius(50)
-      .limit(10)
-      .geometry("polygon")
-      .dedupe(true)
-      .layers("building")
-      .build();
-
-    tilequery.enqueueCall(new Callback<FeatureCollection>() {
+    Point queryPoint = Point.fromLngLat(point.getLongitude(), point.getLatitude());
+    cachedTilequery.query(BUILDING_QUERY, queryPoint, new CachedTilequery.TilequeryCallback() {
       @Override
-      public void onResponse(Call<FeatureCollection> call, Response<FeatureCollection> response) {
-        if (response.body() != null) {
-          FeatureCollection responseFeatureCollection = response.body();
-          tilequeryResponseTextView.setText(responseFeatureCollection.toJson());
-          mapboxMap.getStyle(new Style.OnStyleLoaded() {
-            @Override
-            public void onStyleLoaded(@NonNull Style style) {
-              GeoJsonSource resultSource = style.getSourceAs(RESULT_GEOJSON_SOURCE_ID);
-              if (resultSource != null && responseFeatureCollection.features() != null) {
-                List<Feature> featureList = responseFeatureCollection.features();
-                if (featureList.isEmpty()) {
-                  Toast.makeText(TilequeryActivity.this,
-                    getString(R.string.no_tilequery_response_features_toast), Toast.LENGTH_SHORT).show();
-                } else {
-                  resultSource.setGeoJson(FeatureCollection.fromFeatures(featureList));
-                }
+      public void onResponse(@NonNull FeatureCollection responseFeatureCollection) {
+        tilequeryResponseTextView.setText(responseFeatureCollection.toJson());
+        mapboxMap.getStyle(new Style.OnStyleLoaded() {
+          @Override
+          public void onStyleLoaded(@NonNull Style style) {
+            GeoJsonSource resultSource = style.getSourceAs(RESULT_GEOJSON_SOURCE_ID);
+            if (resultSource != null && responseFeatureCollection.features() != null) {
+              List<Feature> featureList = responseFeatureCollection.features();
+              if (featureList.isEmpty()) {
+                Toast.makeText(TilequeryActivity.this,
+                  getString(R.string.no_tilequery_response_features_toast), Toast.LENGTH_SHORT).show();
+              } else {
+                resultSource.setGeoJson(FeatureCollection.fromFeatures(featureList));
               }
             }
-          });
-        }
+          }
+        });
       }
 
       @Override
-      public void onFailure(Call<FeatureCollection> call, Throwable throwable) {
+      public void onFailure(@NonNull Throwable throwable) {
         Timber.d("Request failed: %s", throwable.getMessage());
         Toast.makeText(TilequeryActivity.this, R.string.api_error, Toast.LENGTH_SHORT).show();
       }
     });
   }
 
+
   /**
    * Use the Maps SDK's LocationComponent to display the device location on the map
    */
@@ -288,6 +286,7 @@ public class TilequeryActivity extends AppCompatActivity implements
   @Override
   protected void onDestroy() {
     super.onDestroy();
+    cachedTilequery.cancel();
     if (mapboxMap != null) {
       mapboxMap.removeOnMapClickListener(this);
     }
@@ -9,6 +9,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -37,6 +38,12 @@ import static com.mapbox.turf.TurfConstants.UNIT_KILOMETERS;
 /**
  * Use {@link com.mapbox.turf.TurfMeasurement#distance(Point, Point)} to measure the distance of a drawn line.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_turf_line_distance_title,
+  description = R.string.activity_java_services_turf_line_distance_description,
+  imageUrl = R.string.activity_java_services_turf_line_distance_url,
+  order = 140)
 public class TurfLineDistanceActivity extends AppCompatActivity implements MapboxMap.OnMapClickListener {
 
   private static final String SOURCE_ID = "SOURCE_ID";
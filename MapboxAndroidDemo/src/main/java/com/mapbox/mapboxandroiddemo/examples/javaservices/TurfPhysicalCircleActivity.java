@@ -11,10 +11,11 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import com.mapbox.geojson.Feature;
-import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.GeodesicCircle;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -26,7 +27,6 @@ import com.mapbox.mapboxsdk.style.layers.FillLayer;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.mapboxsdk.utils.BitmapUtils;
-import com.mapbox.turf.TurfMeta;
 import com.mapbox.turf.TurfTransformation;
 
 import androidx.annotation.NonNull;
@@ -51,6 +51,13 @@ import static com.mapbox.turf.TurfConstants.UNIT_RADIANS;
  * master/services-turf/src/main/java/com/mapbox/turf/TurfTransformation.java and
  * at http://turfjs.org/docs/#circle.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_turf_physical_circle_title,
+  description = R.string.activity_java_services_turf_physical_circle_description,
+  imageUrl = R.string.activity_java_services_turf_physical_circle_url,
+  order = 120,
+  showNewIcon = true)
 public class TurfPhysicalCircleActivity extends AppCompatActivity implements MapboxMap.OnMapClickListener,
   AdapterView.OnItemSelectedListener {
 
@@ -280,19 +287,18 @@ public class TurfPhysicalCircleActivity extends AppCompatActivity implements Map
       @Override
       public void onStyleLoaded(@NonNull Style style) {
         // Use Turf to calculate the Polygon's coordinates
-        Polygon polygonArea = getTurfPolygon(circleCenter, circleRadius, circleSteps, circleUnit);
         GeoJsonSource polygonCircleSource = style.getSourceAs(TURF_CALCULATION_FILL_LAYER_GEOJSON_SOURCE_ID);
         if (polygonCircleSource != null) {
-          polygonCircleSource.setGeoJson(Polygon.fromOuterInner(
-            LineString.fromLngLats(TurfMeta.coordAll(polygonArea, false))));
+          polygonCircleSource.setGeoJson(getTurfPolygon(circleCenter, circleRadius, circleSteps, circleUnit));
         }
       }
     });
   }
 
   /**
-   * Use the Turf library {@link TurfTransformation#circle(Point, double, int, String)} method to
-   * retrieve a {@link Polygon} .
+   * Use {@link GeodesicCircle#circle(Point, double, int, String)}, which returns the same coordinates as the
+   * Turf library's {@link TurfTransformation#circle(Point, double, int, String)} method, to
+   * retrieve a {@link Polygon}. It's fast enough to be called for every seekbar change.
    *
    * @param centerPoint a {@link Point} which the circle will center around
    * @param radius the radius of the circle
@@ -302,7 +308,7 @@ public class TurfPhysicalCircleActivity extends AppCompatActivity implements Map
    */
   private Polygon getTurfPolygon(@NonNull Point centerPoint, @NonNull double radius,
                                  @NonNull int steps, @NonNull String units) {
-    return TurfTransformation.circle(centerPoint, radius, steps, units);
+    return GeodesicCircle.circle(centerPoint, radius, steps, units);
   }
 
   /**
@@ -6,10 +6,11 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import android.widget.Toast;
 
-import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.GeodesicCircle;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -18,7 +19,6 @@ import com.mapbox.mapboxsdk.maps.OnMapReadyCallback;
 import com.mapbox.mapboxsdk.maps.Style;
 import com.mapbox.mapboxsdk.style.layers.FillLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
-import com.mapbox.turf.TurfMeta;
 import com.mapbox.turf.TurfTransformation;
 
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillColor;
@@ -28,6 +28,12 @@ import static com.mapbox.turf.TurfConstants.UNIT_MILES;
  * Use {@link TurfTransformation#circle(Point, double, int, String)} to draw a hollow circle
  * (i.e. ring) around a center coordinate.
  */
+@Example(
+  category = R.id.nav_java_services,
+  title = R.string.activity_java_services_turf_ring_title,
+  description = R.string.activity_java_services_turf_ring_description,
+  imageUrl = R.string.activity_java_services_turf_ring_url,
+  order = 110)
 public class TurfRingActivity extends AppCompatActivity implements MapboxMap.OnMapClickListener {
   private static final String CIRCLE_GEOJSON_SOURCE_ID = "CIRCLE_GEOJSON_SOURCE_ID";
   private static final String CIRCLE_LAYER_ID = "CIRCLE_LAYER_ID";
@@ -88,30 +94,24 @@ public class TurfRingActivity extends AppCompatActivity implements MapboxMap.OnM
       @Override
       public void onStyleLoaded(@NonNull Style style) {
 
-        // Use Turf to calculate the coordinates for the outer ring of the final Polygon
-        Polygon outerCirclePolygon = getTurfPolygon(OUTER_CIRCLE_MILE_RADIUS, centerPoint);
-
-        // Use Turf to calculate the coordinates for the inner ring of the final Polygon
-        Polygon innerCirclePolygon = getTurfPolygon(
-          OUTER_CIRCLE_MILE_RADIUS - MILE_DIFFERENCE_BETWEEN_CIRCLES, centerPoint);
-
         GeoJsonSource outerCircleSource = style.getSourceAs(CIRCLE_GEOJSON_SOURCE_ID);
 
         if (outerCircleSource != null) {
-          // Use the two Polygon objects above to create the final Polygon that visually represents the ring.
-          outerCircleSource.setGeoJson(Polygon.fromOuterInner(
-            // Create outer LineString
-            LineString.fromLngLats(TurfMeta.coordAll(outerCirclePolygon, false)),
-            // Create inter LineString
-            LineString.fromLngLats(TurfMeta.coordAll(innerCirclePolygon, false))
-          ));
+          // Calculate the outer and the inner circle as the two rings of the Polygon that visually
+          // represents the ring.
+          outerCircleSource.setGeoJson(getTurfPolygon(centerPoint));
         }
       }
     });
   }
 
-  private Polygon getTurfPolygon(@NonNull double radius, Point centerPoint) {
-    return TurfTransformation.circle(centerPoint, radius, CIRCLE_STEPS, UNIT_MILES);
+  /**
+   * Use {@link GeodesicCircle#ring(Point, double, double, int, String)}, which returns the same coordinates as
+   * two calls to {@link TurfTransformation#circle(Point, double, int, String)}, to create the ring.
+   */
+  private Polygon getTurfPolygon(Point centerPoint) {
+    return GeodesicCircle.ring(centerPoint, OUTER_CIRCLE_MILE_RADIUS,
+      OUTER_CIRCLE_MILE_RADIUS - MILE_DIFFERENCE_BETWEEN_CIRCLES, CIRCLE_STEPS, UNIT_MILES);
   }
 
   // Add the mapView lifecycle to the activity's lifecycle methods
@@ -1,14 +1,16 @@
 package com.mapbox.mapboxandroiddemo.examples.labs;
 
 import android.graphics.Bitmap;
-import android.graphics.Canvas;
 import android.graphics.Movie;
+import android.os.AsyncTask;
 import android.os.Bundle;
-import android.os.Handler;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.ImageSourceFramePlayer;
+import com.mapbox.mapboxandroiddemo.utils.MapAnimationScheduler;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngQuad;
@@ -19,19 +21,32 @@ import com.mapbox.mapboxsdk.maps.Style;
 import com.mapbox.mapboxsdk.style.layers.RasterLayer;
 import com.mapbox.mapboxsdk.style.sources.ImageSource;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
+
+import timber.log.Timber;
 
 /**
  * Add an animated image (GIF) anywhere on the map
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_labs_gif_on_map_title,
+  description = R.string.activity_labs_gif_on_map_description,
+  imageUrl = R.string.activity_labs_gif_on_map_url,
+  order = 110,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class AnimatedImageGifActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final String ID_IMAGE_SOURCE = "animated_image_source";
   private static final String ID_IMAGE_LAYER = "animated_image_layer";
+  private static final long FRAME_INTERVAL_MS = 50;
 
   private MapView mapView;
-  private Handler handler;
-  private Runnable runnable;
+  private MapAnimationScheduler animationScheduler;
+  private DecodeFramesTask decodeFramesTask;
+  private ImageSourceFramePlayer framePlayer;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -44,6 +59,9 @@ public class AnimatedImageGifActivity extends AppCompatActivity implements OnMap
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_animated_image_gif);
 
+    animationScheduler = new MapAnimationScheduler();
+    getLifecycle().addObserver(animationScheduler);
+
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
     mapView.getMapAsync(this);
@@ -55,14 +73,33 @@ public class AnimatedImageGifActivity extends AppCompatActivity implements OnMap
     map.setStyle(Style.MAPBOX_STREETS, new Style.OnStyleLoaded() {
       @Override
       public void onStyleLoaded(@NonNull Style style) {
-        // Use the RefreshImageRunnable class and runnable to quickly display images for a GIF/video UI experience
-        InputStream gifInputStream = getResources().openRawResource(R.raw.waving_bear);
-        runnable = new RefreshImageRunnable(style, Movie.decodeStream(gifInputStream), handler = new Handler());
-        handler.postDelayed(runnable, 100);
+        // Draw all frames of the GIF once in the background, then play them back for a GIF/video UI experience
+        decodeFramesTask = new DecodeFramesTask(AnimatedImageGifActivity.this, style);
+        decodeFramesTask.execute();
       }
     });
   }
 
+  private void startPlayback(@NonNull Style style, @NonNull Bitmap[] frames) {
+    // Set the bounds/size of the gif. Then create an image source object with a unique id,
+    // the bounds, and the first frame
+    ImageSource imageSource = new ImageSource(ID_IMAGE_SOURCE,
+      new LatLngQuad(
+        new LatLng(46.437, -80.425),
+        new LatLng(46.437, -71.516),
+        new LatLng(37.936, -71.516),
+        new LatLng(37.936, -80.425)), frames[0]);
+
+    // Add the source to the map
+    style.addSource(imageSource);
+
+    // Create an raster layer with a unique id and the image source created above. Then add the layer to the map.
+    style.addLayer(new RasterLayer(ID_IMAGE_LAYER, ID_IMAGE_SOURCE));
+
+    framePlayer = new ImageSourceFramePlayer(imageSource, frames);
+    animationScheduler.schedule(framePlayer, FRAME_INTERVAL_MS);
+  }
+
   @Override
   protected void onStart() {
     super.onStart();
@@ -85,14 +122,17 @@ public class AnimatedImageGifActivity extends AppCompatActivity implements OnMap
   protected void onStop() {
     super.onStop();
     mapView.onStop();
-    if (handler != null) {
-      handler.removeCallbacks(runnable);
-    }
   }
 
   @Override
   protected void onDestroy() {
     super.onDestroy();
+    if (decodeFramesTask != null) {
+      decodeFramesTask.cancel(true);
+    }
+    if (framePlayer != null) {
+      framePlayer.release();
+    }
     mapView.onDestroy();
   }
 
@@ -102,58 +142,42 @@ public class AnimatedImageGifActivity extends AppCompatActivity implements OnMap
     mapView.onSaveInstanceState(outState);
   }
 
-  private static class RefreshImageRunnable implements Runnable {
+  private static class DecodeFramesTask extends AsyncTask<Void, Void, Bitmap[]> {
 
-    private ImageSource imageSource;
-    private Style style;
-    private Movie movie;
-    private Handler handler;
-    private long movieStart;
-    private Bitmap bitmap;
-    private Canvas canvas;
+    private final WeakReference<AnimatedImageGifActivity> activityRef;
+    private final Style style;
+    private final InputStream gifInputStream;
 
-    RefreshImageRunnable(Style style, Movie movie, Handler handler) {
+    DecodeFramesTask(AnimatedImageGifActivity activity, Style style) {
+      this.activityRef = new WeakReference<>(activity);
       this.style = style;
-      this.movie = movie;
-      this.handler = handler;
-      bitmap = Bitmap.createBitmap(movie.width(), movie.height(), Bitmap.Config.ARGB_8888);
-      canvas = new Canvas(bitmap);
+      this.gifInputStream = activity.getResources().openRawResource(R.raw.waving_bear);
     }
 
     @Override
-    public void run() {
-      long now = android.os.SystemClock.uptimeMillis();
-      if (movieStart == 0) {
-        movieStart = now;
-      }
-
-      int dur = movie.duration();
-      if (dur == 0) {
-        dur = 1000;
+    protected Bitmap[] doInBackground(Void... voids) {
+      try {
+        Movie movie = Movie.decodeStream(gifInputStream);
+        if (movie == null) {
+          return null;
+        }
+        return ImageSourceFramePlayer.decodeMovie(movie, FRAME_INTERVAL_MS,
+          ImageSourceFramePlayer.getDefaultMaxBytes());
+      } finally {
+        try {
+          gifInputStream.close();
+        } catch (IOException exception) {
+          Timber.e(exception);
+        }
       }
+    }
 
-      movie.setTime((int) ((now - movieStart) % dur));
-      movie.draw(canvas, 0, 0);
-
-      if (imageSource == null) {
-        // Set the bounds/size of the gif. Then create an image source object with a unique id,
-        // the bounds, and drawable image
-        imageSource = new ImageSource(ID_IMAGE_SOURCE,
-          new LatLngQuad(
-            new LatLng(46.437, -80.425),
-            new LatLng(46.437, -71.516),
-            new LatLng(37.936, -71.516),
-            new LatLng(37.936, -80.425)), bitmap);
-
-        // Add the source to the map
-        style.addSource(imageSource);
-
-        // Create an raster layer with a unique id and the image source created above. Then add the layer to the map.
-        style.addLayer(new RasterLayer(ID_IMAGE_LAYER, ID_IMAGE_SOURCE));
+    @Override
+    protected void onPostExecute(Bitmap[] frames) {
+      AnimatedImageGifActivity activity = activityRef.get();
+      if (activity != null && frames != null && style.isFullyLoaded()) {
+        activity.startPlayback(style, frames);
       }
-
-      imageSource.setImage(bitmap);
-      handler.postDelayed(this, 50);
     }
   }
 }
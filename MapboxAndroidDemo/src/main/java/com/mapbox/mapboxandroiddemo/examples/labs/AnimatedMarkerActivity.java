@@ -12,6 +12,7 @@ import android.widget.Toast;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -25,6 +26,13 @@ import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 /**
  * Animate the marker to a new position on the map.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_animated_marker_title,
+  description = R.string.activity_lab_animated_marker_description,
+  imageUrl = R.string.activity_lab_animated_marker_url,
+  order = 10,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class AnimatedMarkerActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener {
 
@@ -8,6 +8,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -37,6 +38,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconImage;
  * Integrate the Maps SDK with the Android-system biometric unlock system. Use a saved fingerprint to
  * add data to the map once the user is verified.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_biometric_fingerprint_title,
+  description = R.string.activity_lab_biometric_fingerprint_description,
+  imageUrl = R.string.activity_lab_biometric_fingerprint_url,
+  order = 240,
+  showNewIcon = true)
 public class BiometricFingerprintLayerUnlockActivity extends AppCompatActivity {
 
   private static final String SOURCE_ID = "SOURCE_ID";
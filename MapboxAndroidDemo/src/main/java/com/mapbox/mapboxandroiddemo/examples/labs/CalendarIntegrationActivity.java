@@ -10,20 +10,19 @@ import android.graphics.PointF;
 import android.net.ConnectivityManager;
 import android.net.NetworkInfo;
 import android.net.Uri;
+import android.os.AsyncTask;
 import android.os.Bundle;
 import android.provider.CalendarContract;
 import android.widget.Toast;
 
 import com.mapbox.android.core.permissions.PermissionsListener;
 import com.mapbox.api.geocoding.v5.GeocodingCriteria;
-import com.mapbox.api.geocoding.v5.MapboxGeocoding;
-import com.mapbox.api.geocoding.v5.models.CarmenFeature;
-import com.mapbox.api.geocoding.v5.models.GeocodingResponse;
-import com.mapbox.core.exceptions.ServicesException;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.CachedGeocoder;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -33,17 +32,16 @@ import com.mapbox.mapboxsdk.maps.Style;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Map;
 
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.app.ActivityCompat;
 import androidx.core.content.ContextCompat;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 import timber.log.Timber;
 
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconAllowOverlap;
@@ -55,6 +53,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconSize;
  * Use the Android system's calendar content provider and the Mapbox Geocoding API to show
  * past calendar events on the map.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_calendar_integration_title,
+  description = R.string.activity_lab_calendar_integration_description,
+  imageUrl = R.string.activity_lab_calendar_integration_url,
+  order = 140)
 public class CalendarIntegrationActivity extends AppCompatActivity implements
     OnMapReadyCallback, PermissionsListener, MapboxMap.OnMapClickListener {
 
@@ -68,8 +72,9 @@ public class CalendarIntegrationActivity extends AppCompatActivity implements
   private String geojsonSourceId = "geojsonSourceId";
   private MapView mapView;
   private MapboxMap mapboxMap;
-  private List<Feature> featureList;
   private FeatureCollection featureCollection;
+  private CachedGeocoder geocoder;
+  private GeocodeEventsTask geocodeEventsTask;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -150,87 +155,66 @@ public class CalendarIntegrationActivity extends AppCompatActivity implements
 
       Cursor cur = this.getContentResolver().query(calendarUri, projection, selection, null, null);
 
-      featureList = new ArrayList<>();
+      List<CalendarEvent> calendarEvents = new ArrayList<>();
       int index = 0;
       if (cur != null) {
-        if (!deviceHasInternetConnection()) {
-          Toast.makeText(this, R.string.no_connectivity, Toast.LENGTH_LONG).show();
-          Timber.d("No internet connectivity");
-        } else {
-          while (cur.moveToNext()) {
-            if (index <= 80) {
-              if (cur.getString(EVENT_LOCATION_INDEX) != null && !cur.getString(EVENT_LOCATION_INDEX).isEmpty()) {
-                makeMapboxGeocodingRequest(cur.getString(TITLE_INDEX), cur.getString(EVENT_LOCATION_INDEX));
-              } else {
-                Timber.d("getCalendarData: location is null or empty");
+        try {
+          if (!deviceHasInternetConnection()) {
+            Toast.makeText(this, R.string.no_connectivity, Toast.LENGTH_LONG).show();
+            Timber.d("No internet connectivity");
+          } else {
+            while (cur.moveToNext()) {
+              if (index <= 80) {
+                if (cur.getString(EVENT_LOCATION_INDEX) != null && !cur.getString(EVENT_LOCATION_INDEX).isEmpty()) {
+                  calendarEvents.add(new CalendarEvent(cur.getString(TITLE_INDEX),
+                    cur.getString(EVENT_LOCATION_INDEX)));
+                } else {
+                  Timber.d("getCalendarData: location is null or empty");
+                }
+                index++;
               }
-              index++;
             }
+            setUpData(style);
+            geocodeCalendarEvents(calendarEvents);
           }
-          setUpData(style);
+        } finally {
+          cur.close();
         }
       }
     }
   }
 
   /**
-   * Use the Mapbox Java SDK's wrapper for making a Mapbox Geocoding API request. The text in the calendar event's
-   * location field is used to make a geocoding request.
-   *
-   * @param eventTitle    title of the calendar event so that it can be added as a Feature property. The title is
-   *                      eventually displayed in a Toast when a calendar event icon is tapped on.
-   * @param eventLocation the event's location. This text is used in the Mapbox geocoding search
+   * Geocodes the locations of all calendar events in the background. Repeating locations, like a
+   * weekly meeting room, are only looked up once and answers are cached across app launches.
    */
-  private void makeMapboxGeocodingRequest(final String eventTitle, final String eventLocation) {
-    try {
-      // Build a Mapbox geocoding request
-      MapboxGeocoding client = MapboxGeocoding.builder()
-          .accessToken(getString(R.string.access_token))
-          .query(eventLocation)
-          .geocodingTypes(GeocodingCriteria.TYPE_ADDRESS)
-          .mode(GeocodingCriteria.MODE_PLACES)
-          .build();
-      client.enqueueCall(new Callback<GeocodingResponse>() {
-        @Override
-        public void onResponse(Call<GeocodingResponse> call,
-                               Response<GeocodingResponse> response) {
-          List<CarmenFeature> results = response.body().features();
-          if (results.size() > 0) {
-            // Get the first Feature from the successful geocoding response
-            CarmenFeature feature = results.get(0);
-            if (feature != null) {
-              mapboxMap.getStyle(new Style.OnStyleLoaded() {
-                @Override
-                public void onStyleLoaded(@NonNull Style style) {
-                  LatLng featureLatLng = new LatLng(feature.center().latitude(), feature.center().longitude());
-                  Feature singleFeature = Feature.fromGeometry(Point.fromLngLat(featureLatLng.getLongitude(),
-                      featureLatLng.getLatitude()));
-                  singleFeature.addStringProperty(PROPERTY_TITLE, eventTitle);
-                  singleFeature.addStringProperty(PROPERTY_LOCATION, eventLocation);
-                  featureList.add(singleFeature);
-                  featureCollection = FeatureCollection.fromFeatures(featureList);
-                  GeoJsonSource source = style.getSourceAs(geojsonSourceId);
-                  if (source != null) {
-                    source.setGeoJson(featureCollection);
-                  } else {
-                    Timber.d("onResponse: listOfCalendarEvents == null");
-                  }
-                }
-              });
-            }
-          }
-        }
+  private void geocodeCalendarEvents(List<CalendarEvent> calendarEvents) {
+    if (geocoder == null) {
+      geocoder = new CachedGeocoder(this, getString(R.string.access_token), GeocodingCriteria.TYPE_ADDRESS);
+    }
+    if (geocodeEventsTask != null) {
+      geocodeEventsTask.cancel(true);
+    }
+    geocodeEventsTask = new GeocodeEventsTask(this, geocoder, calendarEvents);
+    geocodeEventsTask.execute();
+  }
 
-        @Override
-        public void onFailure(Call<GeocodingResponse> call, Throwable throwable) {
-          Timber.d("Geocoding Failure: %s", throwable.getMessage());
+  /**
+   * Shows all geocoded calendar events with a single update of the GeoJSON source.
+   */
+  private void setGeocodedEvents(List<Feature> features) {
+    featureCollection = FeatureCollection.fromFeatures(features);
+    mapboxMap.getStyle(new Style.OnStyleLoaded() {
+      @Override
+      public void onStyleLoaded(@NonNull Style style) {
+        GeoJsonSource source = style.getSourceAs(geojsonSourceId);
+        if (source != null) {
+          source.setGeoJson(featureCollection);
+        } else {
+          Timber.d("setGeocodedEvents: listOfCalendarEvents == null");
         }
-      });
-
-    } catch (ServicesException servicesException) {
-      Timber.d("Error geocoding: %s", servicesException.toString());
-      servicesException.printStackTrace();
-    }
+      }
+    });
   }
 
   /**
@@ -347,6 +331,9 @@ public class CalendarIntegrationActivity extends AppCompatActivity implements
   @Override
   protected void onDestroy() {
     super.onDestroy();
+    if (geocodeEventsTask != null) {
+      geocodeEventsTask.cancel(true);
+    }
     if (mapboxMap != null) {
       mapboxMap.removeOnMapClickListener(this);
     }
@@ -358,4 +345,70 @@ public class CalendarIntegrationActivity extends AppCompatActivity implements
     super.onSaveInstanceState(outState);
     mapView.onSaveInstanceState(outState);
   }
+
+  /**
+   * Title and location text of a calendar event.
+   */
+  private static class CalendarEvent {
+    private final String title;
+    private final String location;
+
+    CalendarEvent(String title, String location) {
+      this.title = title;
+      this.location = location;
+    }
+  }
+
+  /**
+   * AsyncTask which geocodes the locations of a batch of calendar events and turns them into Features.
+   */
+  private static class GeocodeEventsTask extends AsyncTask<Void, Void, List<Feature>> {
+
+    private final WeakReference<CalendarIntegrationActivity> activityRef;
+    private final CachedGeocoder geocoder;
+    private final List<CalendarEvent> calendarEvents;
+
+    GeocodeEventsTask(CalendarIntegrationActivity activity, CachedGeocoder geocoder,
+                      List<CalendarEvent> calendarEvents) {
+      this.activityRef = new WeakReference<>(activity);
+      this.geocoder = geocoder;
+      this.calendarEvents = calendarEvents;
+    }
+
+    @Override
+    protected List<Feature> doInBackground(Void... voids) {
+      List<String> locations = new ArrayList<>();
+      for (CalendarEvent calendarEvent : calendarEvents) {
+        locations.add(calendarEvent.location);
+      }
+
+      Map<String, Point> points;
+      try {
+        points = geocoder.geocode(locations);
+      } catch (InterruptedException exception) {
+        return null;
+      }
+
+      List<Feature> features = new ArrayList<>();
+      for (CalendarEvent calendarEvent : calendarEvents) {
+        Point point = points.get(calendarEvent.location);
+        if (point != null) {
+          Feature singleFeature = Feature.fromGeometry(point);
+          singleFeature.addStringProperty(PROPERTY_TITLE, calendarEvent.title);
+          singleFeature.addStringProperty(PROPERTY_LOCATION, calendarEvent.location);
+          features.add(singleFeature);
+        }
+      }
+      return features;
+    }
+
+    @Override
+    protected void onPostExecute(List<Feature> features) {
+      super.onPostExecute(features);
+      CalendarIntegrationActivity activity = activityRef.get();
+      if (activity != null && features != null) {
+        activity.setGeocodedEvents(features);
+      }
+    }
+  }
 }
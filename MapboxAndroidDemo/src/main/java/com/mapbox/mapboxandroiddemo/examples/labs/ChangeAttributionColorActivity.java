@@ -5,6 +5,7 @@ import android.os.Bundle;
 import android.view.View;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -18,6 +19,13 @@ import androidx.core.content.ContextCompat;
 /**
  * Adjust the Maps SDK's attribution ImageView color so that it matches the map style or app UI
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_change_attribution_color_title,
+  description = R.string.activity_lab_change_attribution_color_description,
+  imageUrl = R.string.activity_lab_change_attribution_color_url,
+  order = 220,
+  showNewIcon = true)
 public class ChangeAttributionColorActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final String CUSTOM_GREEN_MONOCHROME_STYLE_URI =
@@ -10,6 +10,7 @@ import android.widget.FrameLayout;
 import android.widget.ImageView;
 import android.widget.Toast;
 
+import com.mapbox.android.gestures.MoveGestureDetector;
 import com.mapbox.api.directions.v5.DirectionsCriteria;
 import com.mapbox.api.directions.v5.MapboxDirections;
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
@@ -19,7 +20,10 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.DirectionsRequestManager;
 import com.mapbox.mapboxsdk.Mapbox;
+import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
 import com.mapbox.mapboxsdk.maps.OnMapReadyCallback;
@@ -27,12 +31,7 @@ import com.mapbox.mapboxsdk.maps.Style;
 import com.mapbox.mapboxsdk.style.layers.LineLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 import timber.log.Timber;
 
 import static com.mapbox.core.constants.Constants.PRECISION_6;
@@ -44,13 +43,23 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
 /**
  * Drag the map to automatically draw a directions route to wherever the map is centered.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_dashed_line_directions_picker_title,
+  description = R.string.activity_lab_dashed_line_directions_picker_description,
+  imageUrl = R.string.activity_lab_dashed_line_directions_picker_url,
+  order = 130)
 public class DashedLineDirectionsPickerActivity extends AppCompatActivity
-  implements OnMapReadyCallback, MapboxMap.OnCameraIdleListener {
+  implements OnMapReadyCallback, MapboxMap.OnCameraIdleListener, MapboxMap.OnCameraMoveListener,
+  MapboxMap.OnMoveListener {
 
   private MapView mapView;
   private MapboxMap mapboxMap;
   private FeatureCollection dashedLineDirectionsFeatureCollection;
   private Point directionsOriginPoint = Point.fromLngLat(24.9383791, 60.1698556);
+  private DirectionsRequestManager directionsRequestManager;
+  // True while the map keeps moving after the finger was lifted
+  private boolean decelerating;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -63,6 +72,35 @@ public class DashedLineDirectionsPickerActivity extends AppCompatActivity
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_place_picker_dashed_directions_route);
 
+    directionsRequestManager = new DirectionsRequestManager(new DirectionsRequestManager.RequestFactory() {
+      @NonNull
+      @Override
+      public Call<DirectionsResponse> createCall(@NonNull Point origin, @NonNull Point destination) {
+        return MapboxDirections.builder()
+          .origin(origin)
+          .destination(destination)
+          .overview(DirectionsCriteria.OVERVIEW_FULL)
+          .profile(DirectionsCriteria.PROFILE_WALKING)
+          .accessToken(getString(R.string.access_token))
+          .build()
+          .cloneCall();
+      }
+    }, new DirectionsRequestManager.OnRouteListener() {
+      @Override
+      public void onRoute(@NonNull DirectionsRoute route) {
+        drawNavigationPolylineRoute(route);
+      }
+
+      @Override
+      public void onError(@NonNull String message) {
+        Timber.d("Error: %s", message);
+        if (!message.equals("Coordinate is invalid: 0,0")) {
+          Toast.makeText(DashedLineDirectionsPickerActivity.this,
+            "Error: " + message, Toast.LENGTH_SHORT).show();
+        }
+      }
+    });
+
     // Initialize the mapboxMap view
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
@@ -90,8 +128,10 @@ public class DashedLineDirectionsPickerActivity extends AppCompatActivity
         // Add the layer for the dashed directions route line
         initDottedLineSourceAndLayer(style);
 
-        // Add the camera idle listener
+        // Add the camera listeners
         mapboxMap.addOnCameraIdleListener(DashedLineDirectionsPickerActivity.this);
+        mapboxMap.addOnCameraMoveListener(DashedLineDirectionsPickerActivity.this);
+        mapboxMap.addOnMoveListener(DashedLineDirectionsPickerActivity.this);
 
         Toast.makeText(
           DashedLineDirectionsPickerActivity.this,
@@ -104,14 +144,39 @@ public class DashedLineDirectionsPickerActivity extends AppCompatActivity
 
   @Override
   public void onCameraIdle() {
+    decelerating = false;
     if (mapboxMap != null) {
-      Point destinationPoint = Point.fromLngLat(
-        mapboxMap.getCameraPosition().target.getLongitude(),
-        mapboxMap.getCameraPosition().target.getLatitude());
-      getRoute(destinationPoint);
+      LatLng target = mapboxMap.getCameraPosition().target;
+      directionsRequestManager.request(directionsOriginPoint,
+        Point.fromLngLat(target.getLongitude(), target.getLatitude()));
+    }
+  }
+
+  @Override
+  public void onCameraMove() {
+    if (decelerating && mapboxMap != null) {
+      // Start fetching the route to where the map is likely to stop
+      LatLng target = mapboxMap.getCameraPosition().target;
+      directionsRequestManager.prefetch(directionsOriginPoint,
+        Point.fromLngLat(target.getLongitude(), target.getLatitude()));
     }
   }
 
+  @Override
+  public void onMoveBegin(@NonNull MoveGestureDetector detector) {
+    decelerating = false;
+  }
+
+  @Override
+  public void onMove(@NonNull MoveGestureDetector detector) {
+    // Left empty on purpose
+  }
+
+  @Override
+  public void onMoveEnd(@NonNull MoveGestureDetector detector) {
+    decelerating = true;
+  }
+
   /**
    * Set up a GeoJsonSource and LineLayer in order to show the directions route from the device location
    * to the place picker location
@@ -129,45 +194,6 @@ public class DashedLineDirectionsPickerActivity extends AppCompatActivity
       ), "road-label-small");
   }
 
-  /**
-   * Make a call to the Mapbox Directions API to get the route from the device location to the
-   * place picker location
-   *
-   * @param destination the location chosen by moving the map to the desired destination location
-   */
-  @SuppressWarnings( {"MissingPermission"})
-  private void getRoute(Point destination) {
-    MapboxDirections client = MapboxDirections.builder()
-      .origin(directionsOriginPoint)
-      .destination(destination)
-      .overview(DirectionsCriteria.OVERVIEW_FULL)
-      .profile(DirectionsCriteria.PROFILE_WALKING)
-      .accessToken(getString(R.string.access_token))
-      .build();
-    client.enqueueCall(new Callback<DirectionsResponse>() {
-      @Override
-      public void onResponse(Call<DirectionsResponse> call, Response<DirectionsResponse> response) {
-        if (response.body() == null) {
-          Timber.d( "No routes found, make sure you set the right user and access token.");
-          return;
-        } else if (response.body().routes().size() < 1) {
-          Timber.d( "No routes found");
-          return;
-        }
-        drawNavigationPolylineRoute(response.body().routes().get(0));
-      }
-
-      @Override
-      public void onFailure(Call<DirectionsResponse> call, Throwable throwable) {
-        Timber.d("Error: %s", throwable.getMessage());
-        if (!throwable.getMessage().equals("Coordinate is invalid: 0,0")) {
-          Toast.makeText(DashedLineDirectionsPickerActivity.this,
-            "Error: " + throwable.getMessage(), Toast.LENGTH_SHORT).show();
-        }
-      }
-    });
-  }
-
   /**
    * Update the GeoJson data that's part of the LineLayer.
    *
@@ -178,13 +204,8 @@ public class DashedLineDirectionsPickerActivity extends AppCompatActivity
       mapboxMap.getStyle(new Style.OnStyleLoaded() {
         @Override
         public void onStyleLoaded(@NonNull Style style) {
-          List<Feature> directionsRouteFeatureList = new ArrayList<>();
-          LineString lineString = LineString.fromPolyline(route.geometry(), PRECISION_6);
-          List<Point> coordinates = lineString.coordinates();
-          for (int i = 0; i < coordinates.size(); i++) {
-            directionsRouteFeatureList.add(Feature.fromGeometry(LineString.fromLngLats(coordinates)));
-          }
-          dashedLineDirectionsFeatureCollection = FeatureCollection.fromFeatures(directionsRouteFeatureList);
+          dashedLineDirectionsFeatureCollection = FeatureCollection.fromFeature(
+            Feature.fromGeometry(LineString.fromPolyline(route.geometry(), PRECISION_6)));
           GeoJsonSource source = style.getSourceAs("SOURCE_ID");
           if (source != null) {
             source.setGeoJson(dashedLineDirectionsFeatureCollection);
@@ -228,6 +249,7 @@ public class DashedLineDirectionsPickerActivity extends AppCompatActivity
   @Override
   protected void onDestroy() {
     super.onDestroy();
+    directionsRequestManager.cancel();
     mapView.onDestroy();
   }
 
@@ -4,6 +4,7 @@ import android.os.Bundle;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 
 /**
  * A placeholder activity and XML layout, which describe instruction on installing and viewing
@@ -14,6 +15,12 @@ import com.mapbox.mapboxandroiddemo.R;
  * Visit the {@link com.mapbox.mapboxandroiddemo.utils.DemoAppHomeScreenAddressWidget}
  * class to see the internal workings of the widget.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_home_screen_widget_title,
+  description = R.string.activity_lab_home_screen_widget_description,
+  imageUrl = R.string.activity_lab_home_screen_widget_url,
+  order = 170)
 public class HomeScreenWidgetActivity extends AppCompatActivity {
 
   @Override
@@ -10,9 +10,12 @@ import android.view.animation.AlphaAnimation;
 import android.widget.Button;
 
 import com.mapbox.geojson.Point;
-import com.mapbox.geojson.Polygon;
+import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.IndoorLevelManager;
 import com.mapbox.mapboxsdk.Mapbox;
+import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
 import com.mapbox.mapboxsdk.maps.OnMapReadyCallback;
@@ -20,11 +23,7 @@ import com.mapbox.mapboxsdk.maps.Style;
 import com.mapbox.mapboxsdk.style.layers.FillLayer;
 import com.mapbox.mapboxsdk.style.layers.LineLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
-import com.mapbox.turf.TurfJoins;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -41,11 +40,23 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
 /**
  * Display an indoor map of a building with toggles to switch between floor levels
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_indoor_map_title,
+  description = R.string.activity_lab_indoor_map_description,
+  imageUrl = R.string.activity_lab_indoor_map_url,
+  order = 40,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class IndoorMapActivity extends AppCompatActivity {
 
+  private static final int GROUND_LEVEL = 0;
+  private static final int SECOND_LEVEL = 1;
+
   private GeoJsonSource indoorBuildingSource;
 
-  private List<List<Point>> boundingBoxList;
+  // Parses both levels once in the background and keeps them in memory
+  private final IndoorLevelManager levelManager = new IndoorLevelManager(
+    "white_house_lvl_0.geojson", "white_house_lvl_1.geojson");
   private View levelButtons;
   private MapView mapView;
 
@@ -60,6 +71,16 @@ public class IndoorMapActivity extends AppCompatActivity {
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_lab_indoor_map);
 
+    levelManager.setOnLevelListener(new IndoorLevelManager.OnLevelListener() {
+      @Override
+      public void onLevel(int level, @NonNull FeatureCollection features) {
+        if (indoorBuildingSource != null) {
+          indoorBuildingSource.setGeoJson(features);
+        }
+      }
+    });
+    levelManager.load(this);
+
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
     mapView.getMapAsync(new OnMapReadyCallback() {
@@ -77,15 +98,15 @@ public class IndoorMapActivity extends AppCompatActivity {
             boundingBox.add(Point.fromLngLat(-77.03532, 38.89811));
             boundingBox.add(Point.fromLngLat(-77.03532, 38.89708));
 
-            boundingBoxList = new ArrayList<>();
-            boundingBoxList.add(boundingBox);
+            levelManager.setFootprint(boundingBox);
 
             mapboxMap.addOnCameraMoveListener(new MapboxMap.OnCameraMoveListener() {
               @Override
               public void onCameraMove() {
-                if (mapboxMap.getCameraPosition().zoom > 16) {
-                  if (TurfJoins.inside(Point.fromLngLat(mapboxMap.getCameraPosition().target.getLongitude(),
-                    mapboxMap.getCameraPosition().target.getLatitude()), Polygon.fromLngLats(boundingBoxList))) {
+                CameraPosition cameraPosition = mapboxMap.getCameraPosition();
+                if (cameraPosition.zoom > 16) {
+                  if (levelManager.isInsideFootprint(cameraPosition.target.getLongitude(),
+                    cameraPosition.target.getLatitude())) {
                     if (levelButtons.getVisibility() != View.VISIBLE) {
                       showLevelButton();
                     }
@@ -99,10 +120,12 @@ public class IndoorMapActivity extends AppCompatActivity {
                 }
               }
             });
-            indoorBuildingSource = new GeoJsonSource(
-              "indoor-building", loadJsonFromAsset("white_house_lvl_0.geojson"));
+            indoorBuildingSource = new GeoJsonSource("indoor-building");
             style.addSource(indoorBuildingSource);
 
+            // Shows the selected level right away if it's already loaded, otherwise once it is
+            levelManager.selectLevel(levelManager.getSelectedLevel());
+
             // Add the building layers since we know zoom levels in range
             loadBuildingLayer(style);
           }
@@ -112,7 +135,7 @@ public class IndoorMapActivity extends AppCompatActivity {
         buttonSecondLevel.setOnClickListener(new View.OnClickListener() {
           @Override
           public void onClick(View view) {
-            indoorBuildingSource.setGeoJson(loadJsonFromAsset("white_house_lvl_1.geojson"));
+            levelManager.selectLevel(SECOND_LEVEL);
           }
         });
 
@@ -120,7 +143,7 @@ public class IndoorMapActivity extends AppCompatActivity {
         buttonGroundLevel.setOnClickListener(new View.OnClickListener() {
           @Override
           public void onClick(View view) {
-            indoorBuildingSource.setGeoJson(loadJsonFromAsset("white_house_lvl_0.geojson"));
+            levelManager.selectLevel(GROUND_LEVEL);
           }
         });
       }
@@ -154,6 +177,7 @@ public class IndoorMapActivity extends AppCompatActivity {
   @Override
   protected void onDestroy() {
     super.onDestroy();
+    levelManager.cancel();
     mapView.onDestroy();
   }
 
@@ -211,21 +235,4 @@ public class IndoorMapActivity extends AppCompatActivity {
         stop(17f, 1f))));
     style.addLayer(indoorBuildingLineLayer);
   }
-
-  private String loadJsonFromAsset(String filename) {
-    // Using this method to load in GeoJSON files from the assets folder.
-
-    try {
-      InputStream is = getAssets().open(filename);
-      int size = is.available();
-      byte[] buffer = new byte[size];
-      is.read(buffer);
-      is.close();
-      return new String(buffer, Charset.forName("UTF-8"));
-
-    } catch (IOException ex) {
-      ex.printStackTrace();
-      return null;
-    }
-  }
 }
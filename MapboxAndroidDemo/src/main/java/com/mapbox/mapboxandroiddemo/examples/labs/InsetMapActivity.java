@@ -4,10 +4,9 @@ import android.graphics.Color;
 import android.os.Bundle;
 import android.view.View;
 
-import com.mapbox.geojson.Feature;
-import com.mapbox.geojson.LineString;
-import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.LiveLineSource;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -24,9 +23,6 @@ import com.mapbox.mapboxsdk.style.layers.LineLayer;
 import com.mapbox.mapboxsdk.style.layers.Property;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.fragment.app.FragmentTransaction;
@@ -39,6 +35,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineJoin;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
 
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_labs_inset_map_title,
+  description = R.string.activity_labs_inset_map_description,
+  imageUrl = R.string.activity_labs_inset_map_url,
+  order = 100)
 public class InsetMapActivity extends AppCompatActivity implements MapboxMap.OnCameraMoveListener {
 
   private static final String STYLE_URL = "mapbox://styles/mapbox/cj5l80zrp29942rmtg0zctjto";
@@ -50,6 +52,8 @@ public class InsetMapActivity extends AppCompatActivity implements MapboxMap.OnC
   private MapView mainMapView;
   private MapboxMap mainMapboxMap;
   private MapboxMap insetMapboxMap;
+  // The corners of the main map's viewport, starting and ending with the north west corner
+  private final LiveLineSource boundsLine = new LiveLineSource(5);
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -128,7 +132,15 @@ public class InsetMapActivity extends AppCompatActivity implements MapboxMap.OnC
                 visibility(VISIBLE)
               ));
 
-            updateInsetMapLineLayerBounds(style);
+            GeoJsonSource lineLayerSource = style.getSourceAs(BOUNDS_LINE_LAYER_SOURCE_ID);
+            boundsLine.setSource(lineLayerSource);
+            boundsLine.setOnFrameListener(new LiveLineSource.OnFrameListener() {
+              @Override
+              public void onFrame(@NonNull LiveLineSource line) {
+                updateInsetMapLineLayerBounds(line);
+              }
+            });
+            boundsLine.invalidate();
           }
         });
       }
@@ -154,43 +166,36 @@ public class InsetMapActivity extends AppCompatActivity implements MapboxMap.OnC
 
   @Override
   public void onCameraMove() {
-    CameraPosition mainCameraPosition = mainMapboxMap.getCameraPosition();
-    CameraPosition insetCameraPosition = new CameraPosition.Builder(mainCameraPosition)
-      .zoom(mainCameraPosition.zoom - ZOOM_DISTANCE_BETWEEN_MAIN_AND_INSET_MAPS).build();
-    insetMapboxMap.moveCamera(CameraUpdateFactory.newCameraPosition(insetCameraPosition));
     if (insetMapboxMap != null) {
-      insetMapboxMap.getStyle(new Style.OnStyleLoaded() {
-        @Override
-        public void onStyleLoaded(@NonNull Style style) {
-          updateInsetMapLineLayerBounds(style);
-        }
-      });
+      CameraPosition mainCameraPosition = mainMapboxMap.getCameraPosition();
+      CameraPosition insetCameraPosition = new CameraPosition.Builder(mainCameraPosition)
+        .zoom(mainCameraPosition.zoom - ZOOM_DISTANCE_BETWEEN_MAIN_AND_INSET_MAPS).build();
+      insetMapboxMap.moveCamera(CameraUpdateFactory.newCameraPosition(insetCameraPosition));
+
+      // The bounds are updated once in the next frame, however often the camera moves until then
+      boundsLine.invalidate();
     }
   }
 
   /**
    * Update the LineLayer with the latest coordinates of the main map's viewport bounds.
    *
-   * @param fullyLoadedStyle the inset map's fully loaded style
+   * @param line the line shown by the inset map's LineLayer
    */
-  private void updateInsetMapLineLayerBounds(@NonNull Style fullyLoadedStyle) {
-    GeoJsonSource lineLayerSource = fullyLoadedStyle.getSourceAs(BOUNDS_LINE_LAYER_SOURCE_ID);
-    if (lineLayerSource != null) {
-      LatLngBounds bounds = mainMapboxMap.getProjection().getVisibleRegion().latLngBounds;
-      List<Point> pointList = new ArrayList<>();
-      pointList.add(Point.fromLngLat(bounds.getNorthWest().getLongitude(),
-        bounds.getNorthWest().getLatitude()));
-      pointList.add(Point.fromLngLat(bounds.getNorthEast().getLongitude(),
-        bounds.getNorthEast().getLatitude()));
-      pointList.add(Point.fromLngLat(bounds.getSouthEast().getLongitude(),
-        bounds.getSouthEast().getLatitude()));
-      pointList.add(Point.fromLngLat(bounds.getSouthWest().getLongitude(),
-        bounds.getSouthWest().getLatitude()));
-      pointList.add(Point.fromLngLat(bounds.getNorthWest().getLongitude(),
-        bounds.getNorthWest().getLatitude()));
-
-      lineLayerSource.setGeoJson(Feature.fromGeometry(LineString.fromLngLats(pointList)));
+  private void updateInsetMapLineLayerBounds(@NonNull LiveLineSource line) {
+    if (mainMapboxMap == null) {
+      return;
     }
+    LatLngBounds bounds = mainMapboxMap.getProjection().getVisibleRegion().latLngBounds;
+    double west = bounds.getLonWest();
+    double east = bounds.getLonEast();
+    double north = bounds.getLatNorth();
+    double south = bounds.getLatSouth();
+    line.setCoordinate(0, west, north);
+    line.setCoordinate(1, east, north);
+    line.setCoordinate(2, east, south);
+    line.setCoordinate(3, west, south);
+    line.setCoordinate(4, west, north);
   }
 
   // Add the mapView lifecycle to the activity's lifecycle methods
@@ -230,6 +235,7 @@ public class InsetMapActivity extends AppCompatActivity implements MapboxMap.OnC
     if (mainMapboxMap != null) {
       mainMapboxMap.removeOnCameraMoveListener(this);
     }
+    boundsLine.onDestroy();
     mainMapView.onDestroy();
   }
 
@@ -19,6 +19,7 @@ import com.mapbox.api.geocoding.v5.models.GeocodingResponse;
 import com.mapbox.core.exceptions.ServicesException;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.location.LocationComponent;
@@ -54,6 +55,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
  * Drop a marker at a specific location and then perform
  * reverse geocoding to retrieve and display the location's address
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_location_picker_title,
+  description = R.string.activity_lab_location_picker_description,
+  imageUrl = R.string.activity_lab_location_picker_url,
+  order = 50)
 public class LocationPickerActivity extends AppCompatActivity implements PermissionsListener, OnMapReadyCallback {
 
   private static final String DROPPED_MARKER_LAYER_ID = "DROPPED_MARKER_LAYER_ID";
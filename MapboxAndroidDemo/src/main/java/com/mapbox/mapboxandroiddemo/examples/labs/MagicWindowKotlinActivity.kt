@@ -18,6 +18,7 @@ import android.widget.FrameLayout
 import android.widget.Toast
 import com.mapbox.android.core.location.*
 import com.mapbox.mapboxandroiddemo.R
+import com.mapbox.mapboxandroiddemo.model.Example
 import com.mapbox.mapboxsdk.Mapbox
 import com.mapbox.mapboxsdk.camera.CameraPosition
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory
@@ -39,6 +40,16 @@ import kotlin.math.min
  *
  * Moving the magic window requires Android O and above.
  */
+@Example(
+    category = R.id.nav_lab,
+    title = R.string.activity_lab_magic_window_title,
+    description = R.string.activity_lab_magic_window_description,
+    imageUrl = R.string.activity_lab_magic_window_image_url,
+    order = 150,
+    showNewIcon = true,
+    minSdkVersion = Build.VERSION_CODES.O,
+    kotlinOnly = true
+)
 class MagicWindowKotlinActivity : AppCompatActivity(), LocationEngineCallback<LocationEngineResult> {
     private lateinit var listener: DragListener
     private lateinit var locationEngine: LocationEngine
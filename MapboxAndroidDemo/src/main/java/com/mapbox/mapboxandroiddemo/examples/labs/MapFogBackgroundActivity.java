@@ -5,6 +5,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -16,6 +17,12 @@ import com.mapbox.mapboxsdk.plugins.building.BuildingPlugin;
  * Add an ImageView gradient on top of the MapView to create the effect of the map coming out of a
  * background fog.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_fog_background_title,
+  description = R.string.activity_lab_fog_background_description,
+  imageUrl = R.string.activity_lab_fog_background_url,
+  order = 120)
 public class MapFogBackgroundActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
@@ -16,6 +16,8 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.GeoJsonAssetLoader;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -27,10 +29,8 @@ import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.mapboxsdk.utils.BitmapUtils;
 
-import java.io.InputStream;
 import java.lang.ref.WeakReference;
 import java.util.List;
-import java.util.Scanner;
 
 import timber.log.Timber;
 
@@ -44,6 +44,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
 /**
  * Use a mapboxMap matched GeoJSON route to show a marker travels along the route.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_marker_following_route_title,
+  description = R.string.activity_lab_marker_following_route_description,
+  imageUrl = R.string.activity_lab_marker_following_route_url,
+  order = 60,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class MarkerFollowingRouteActivity extends AppCompatActivity {
 
   private static final String TAG = "MarkerFollowingRoute";
@@ -274,8 +281,7 @@ public class MarkerFollowingRouteActivity extends AppCompatActivity {
       try {
         MarkerFollowingRouteActivity activity = weakReference.get();
         if (activity != null) {
-          InputStream inputStream = activity.getAssets().open("matched_route.geojson");
-          return FeatureCollection.fromJson(convertStreamToString(inputStream));
+          return GeoJsonAssetLoader.loadFeatureCollection(activity, "matched_route.geojson");
         }
       } catch (Exception exception) {
         Timber.e(exception.toString());
@@ -283,11 +289,6 @@ public class MarkerFollowingRouteActivity extends AppCompatActivity {
       return null;
     }
 
-    static String convertStreamToString(InputStream is) {
-      Scanner scanner = new Scanner(is).useDelimiter("\\A");
-      return scanner.hasNext() ? scanner.next() : "";
-    }
-
     @Override
     protected void onPostExecute(@Nullable FeatureCollection featureCollection) {
       super.onPostExecute(featureCollection);
@@ -20,6 +20,8 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.TrailLineBuilder;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -38,7 +40,6 @@ import retrofit2.Callback;
 import retrofit2.Response;
 import timber.log.Timber;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.mapbox.core.constants.Constants.PRECISION_6;
@@ -56,6 +57,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
  * Make a directions request with the Mapbox Directions API and then draw a line behind a moving
  * SymbolLayer icon which moves along the Directions response route.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_moving_icon_with_trailing_line_title,
+  description = R.string.activity_lab_moving_icon_with_trailing_line_description,
+  imageUrl = R.string.activity_lab_moving_icon_with_trailing_line_url,
+  order = 190)
 public class MovingIconWithTrailingLineActivity extends AppCompatActivity {
 
   private static final String DOT_SOURCE_ID = "dot-source-id";
@@ -67,7 +74,7 @@ public class MovingIconWithTrailingLineActivity extends AppCompatActivity {
   private GeoJsonSource pointSource;
   private GeoJsonSource lineSource;
   private List<Point> routeCoordinateList;
-  private List<Point> markerLinePointList = new ArrayList<>();
+  private TrailLineBuilder markerTrail = new TrailLineBuilder();
   private int routeIndex;
   private Point originPoint = Point.fromLngLat(38.7508, 9.0309);
   private Point destinationPoint = Point.fromLngLat(38.795902, 8.984467);
@@ -153,6 +160,8 @@ public class MovingIconWithTrailingLineActivity extends AppCompatActivity {
       @Override
       public void onAnimationEnd(Animator animation) {
         super.onAnimationEnd(animation);
+        // Make sure the last position reaches the line even if its frame was skipped
+        markerTrail.flush(lineSource);
         animate();
       }
     });
@@ -161,8 +170,8 @@ public class MovingIconWithTrailingLineActivity extends AppCompatActivity {
       public void onAnimationUpdate(ValueAnimator animation) {
         Point point = (Point) animation.getAnimatedValue();
         pointSource.setGeoJson(point);
-        markerLinePointList.add(point);
-        lineSource.setGeoJson(Feature.fromGeometry(LineString.fromLngLats(markerLinePointList)));
+        markerTrail.add(point);
+        markerTrail.publish(lineSource);
       }
     });
 
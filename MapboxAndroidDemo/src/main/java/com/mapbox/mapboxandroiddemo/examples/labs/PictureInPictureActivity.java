@@ -1,5 +1,6 @@
 package com.mapbox.mapboxandroiddemo.examples.labs;
 
+import android.os.Build;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
@@ -8,6 +9,7 @@ import android.view.View;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -17,6 +19,14 @@ import com.mapbox.mapboxsdk.maps.Style;
 /**
  * Enter picture-in-picture mode with a map being persisted. Only works on devices running Android O and above.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_picture_in_picture_title,
+  description = R.string.activity_lab_picture_in_picture_description,
+  imageUrl = R.string.activity_lab_picture_in_picture_url,
+  order = 80,
+  minSdkVersion = Build.VERSION_CODES.O,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class PictureInPictureActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -8,6 +8,7 @@ import android.view.View;
 
 import com.getbase.floatingactionbutton.FloatingActionButton;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -19,13 +20,13 @@ import com.mapbox.mapboxsdk.style.layers.Layer;
 import com.mapbox.mapboxsdk.style.layers.Property;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.net.URI;
+import java.net.URISyntaxException;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
+import timber.log.Timber;
 
 import static com.mapbox.mapboxsdk.style.layers.Property.VISIBLE;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.circleColor;
@@ -36,6 +37,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
  * Use the style API to highlight different types of data.
  * In this example, parks, hotels, and attractions are displayed.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_pulsing_layer_opacity_color_title,
+  description = R.string.activity_lab_pulsing_layer_opacity_color_description,
+  imageUrl = R.string.activity_lab_pulsing_layer_opacity_color_url,
+  order = 30,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class PulsingLayerOpacityColorActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
@@ -66,8 +74,11 @@ public class PulsingLayerOpacityColorActivity extends AppCompatActivity implemen
       @Override
       public void onStyleLoaded(@NonNull final Style style) {
         // Add the hotels source to the map
-        GeoJsonSource hotelSource = new GeoJsonSource("hotels", loadJsonFromAsset("la_hotels.geojson"));
-        style.addSource(hotelSource);
+        try {
+          style.addSource(new GeoJsonSource("hotels", new URI("asset://la_hotels.geojson")));
+        } catch (URISyntaxException exception) {
+          Timber.d(exception);
+        }
 
         FillLayer hotelLayer = new FillLayer("hotels", "hotels").withProperties(
           fillColor(Color.parseColor("#5a9fcf")),
@@ -98,8 +109,11 @@ public class PulsingLayerOpacityColorActivity extends AppCompatActivity implemen
         });
 
         // Add the attractions source to the map
-        GeoJsonSource attractionsSource = new GeoJsonSource("attractions", loadJsonFromAsset("la_attractions.geojson"));
-        style.addSource(attractionsSource);
+        try {
+          style.addSource(new GeoJsonSource("attractions", new URI("asset://la_attractions.geojson")));
+        } catch (URISyntaxException exception) {
+          Timber.d(exception);
+        }
 
         CircleLayer attractionsLayer = new CircleLayer("attractions", "attractions").withProperties(
           circleColor(Color.parseColor("#5a9fcf")),
@@ -262,20 +276,4 @@ public class PulsingLayerOpacityColorActivity extends AppCompatActivity implemen
     super.onSaveInstanceState(outState);
     mapView.onSaveInstanceState(outState);
   }
-
-  private String loadJsonFromAsset(String filename) {
-    // Using this method to load in GeoJSON files from the assets folder.
-    try {
-      InputStream is = getAssets().open(filename);
-      int size = is.available();
-      byte[] buffer = new byte[size];
-      is.read(buffer);
-      is.close();
-      return new String(buffer, Charset.forName("UTF-8"));
-
-    } catch (IOException ex) {
-      ex.printStackTrace();
-      return null;
-    }
-  }
 }
@@ -2,8 +2,10 @@ package com.mapbox.mapboxandroiddemo.examples.labs;
 
 import android.graphics.BitmapFactory;
 import android.graphics.Color;
+import android.os.AsyncTask;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.cardview.widget.CardView;
 import androidx.recyclerview.widget.DefaultItemAnimator;
@@ -11,6 +13,7 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.LinearSnapHelper;
 import androidx.recyclerview.widget.RecyclerView;
 import android.util.Log;
+import android.util.SparseArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -26,6 +29,7 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -61,6 +65,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
  * When a RecyclerView item is tapped on, display the Mapbox Directions API route
  * associated with the item.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_rv_directions_title,
+  description = R.string.activity_lab_rv_directions_description,
+  imageUrl = R.string.activity_lab_rv_directions_url,
+  order = 200,
+  showNewIcon = true)
 public class RecyclerViewDirectionsActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final String TAG = "RVDirectionsActivity";
@@ -85,10 +96,11 @@ public class RecyclerViewDirectionsActivity extends AppCompatActivity implements
     new LatLng(13.784736549340208, 100.55580139160156),
     new LatLng(13.71670606117596, 100.45520782470703)
   };
-  private final List<DirectionsRoute> directionsRouteList = new ArrayList<>();
+  // Routes and their decoded line Features, keyed by the index of the route's destination
+  private final SparseArray<DirectionsRoute> directionsRouteList = new SparseArray<>();
+  private final SparseArray<Feature> decodedRouteFeatureList = new SparseArray<>();
   private MapboxMap mapboxMap;
   private MapView mapView;
-  private FeatureCollection dashedLineDirectionsFeatureCollection;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -160,8 +172,9 @@ public class RecyclerViewDirectionsActivity extends AppCompatActivity implements
    * the route for each destination.
    */
   private void getRoutesToAllPoints() {
-    for (LatLng singleLatLng : possibleDestinations) {
-      getRoute(Point.fromLngLat(singleLatLng.getLongitude(), singleLatLng.getLatitude()));
+    for (int routeId = 0; routeId < possibleDestinations.length; routeId++) {
+      LatLng singleLatLng = possibleDestinations[routeId];
+      getRoute(routeId, Point.fromLngLat(singleLatLng.getLongitude(), singleLatLng.getLatitude()));
     }
   }
 
@@ -169,10 +182,11 @@ public class RecyclerViewDirectionsActivity extends AppCompatActivity implements
    * Make a call to the Mapbox Directions API to get the route from the person location icon
    * to the marker's location and then add the route to the route list.
    *
+   * @param routeId     the index of the destination in {@link #possibleDestinations}
    * @param destination the marker associated with the recyclerview card that was tapped on.
    */
   @SuppressWarnings({"MissingPermission"})
-  private void getRoute(Point destination) {
+  private void getRoute(final int routeId, Point destination) {
     MapboxDirections client = MapboxDirections.builder()
         .origin(directionsOriginPoint)
         .destination(destination)
@@ -190,8 +204,11 @@ public class RecyclerViewDirectionsActivity extends AppCompatActivity implements
           Log.d(TAG, "No routes found");
           return;
         }
-        // Add the route to the list.
-        directionsRouteList.add(response.body().routes().get(0));
+        // Add the route to the list and decode its geometry in the background so that
+        // it's ready to be drawn when its card is tapped on.
+        DirectionsRoute route = response.body().routes().get(0);
+        directionsRouteList.put(routeId, route);
+        new DecodeRouteTask(RecyclerViewDirectionsActivity.this, routeId).execute(route);
       }
 
       @Override
@@ -208,31 +225,79 @@ public class RecyclerViewDirectionsActivity extends AppCompatActivity implements
   /**
    * Update the GeoJSON data for the direction route LineLayer.
    *
-   * @param route The route to be drawn in the map's LineLayer that was set up above.
+   * @param routeId The id of the route to be drawn in the map's LineLayer that was set up above.
    */
-  private void drawNavigationPolylineRoute(final DirectionsRoute route) {
-    if (mapboxMap != null) {
+  private void drawNavigationPolylineRoute(int routeId) {
+    final Feature routeFeature = getDecodedRouteFeature(routeId);
+    if (mapboxMap != null && routeFeature != null) {
       mapboxMap.getStyle(new Style.OnStyleLoaded() {
         @Override
         public void onStyleLoaded(@NonNull Style style) {
-          List<Feature> directionsRouteFeatureList = new ArrayList<>();
-          LineString lineString = LineString.fromPolyline(route.geometry(), PRECISION_6);
-          List<Point> lineStringCoordinates = lineString.coordinates();
-          for (int i = 0; i < lineStringCoordinates.size(); i++) {
-            directionsRouteFeatureList.add(Feature.fromGeometry(
-                LineString.fromLngLats(lineStringCoordinates)));
-          }
-          dashedLineDirectionsFeatureCollection =
-              FeatureCollection.fromFeatures(directionsRouteFeatureList);
           GeoJsonSource source = style.getSourceAs(DASHED_DIRECTIONS_LINE_LAYER_SOURCE_ID);
           if (source != null) {
-            source.setGeoJson(dashedLineDirectionsFeatureCollection);
+            source.setGeoJson(routeFeature);
           }
         }
       });
     }
   }
 
+  /**
+   * Get the single line Feature for a route, decoding it right away if the background
+   * decoding hasn't finished yet.
+   */
+  @Nullable
+  private Feature getDecodedRouteFeature(int routeId) {
+    Feature routeFeature = decodedRouteFeatureList.get(routeId);
+    if (routeFeature == null) {
+      DirectionsRoute route = directionsRouteList.get(routeId);
+      if (route != null && route.geometry() != null) {
+        routeFeature = decodeRoute(route);
+        decodedRouteFeatureList.put(routeId, routeFeature);
+      }
+    }
+    return routeFeature;
+  }
+
+  /**
+   * Decodes the route's polyline once into the single Feature that's published to the line source.
+   */
+  static Feature decodeRoute(@NonNull DirectionsRoute route) {
+    return Feature.fromGeometry(LineString.fromPolyline(route.geometry(), PRECISION_6));
+  }
+
+  /**
+   * Decodes a route's polyline geometry off of the main thread as soon as the route arrives.
+   */
+  private static class DecodeRouteTask extends AsyncTask<DirectionsRoute, Void, Feature> {
+
+    private final WeakReference<RecyclerViewDirectionsActivity> weakReference;
+    private final int routeId;
+
+    DecodeRouteTask(RecyclerViewDirectionsActivity activity, int routeId) {
+      this.weakReference = new WeakReference<>(activity);
+      this.routeId = routeId;
+    }
+
+    @Override
+    protected Feature doInBackground(DirectionsRoute... routes) {
+      if (routes[0].geometry() == null) {
+        return null;
+      }
+      return decodeRoute(routes[0]);
+    }
+
+    @Override
+    protected void onPostExecute(@Nullable Feature routeFeature) {
+      super.onPostExecute(routeFeature);
+      RecyclerViewDirectionsActivity activity = weakReference.get();
+      if (activity != null && routeFeature != null
+          && activity.decodedRouteFeatureList.get(routeId) == null) {
+        activity.decodedRouteFeatureList.put(routeId, routeFeature);
+      }
+    }
+  }
+
   /**
    * Create a FeatureCollection to display the possible destination markers.
    *
@@ -335,8 +400,10 @@ public class RecyclerViewDirectionsActivity extends AppCompatActivity implements
       holder.setClickListener(new ItemClickListener() {
         @Override
         public void onClick(View view, int position) {
-          weakReference.get()
-              .drawNavigationPolylineRoute(weakReference.get().directionsRouteList.get(position));
+          RecyclerViewDirectionsActivity activity = weakReference.get();
+          if (activity != null) {
+            activity.drawNavigationPolylineRoute(position);
+          }
         }
       });
     }
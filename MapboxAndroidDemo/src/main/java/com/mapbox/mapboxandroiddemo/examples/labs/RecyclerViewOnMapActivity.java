@@ -20,6 +20,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -42,6 +43,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
 /**
  * Use a recyclerview with a Mapbox map to easily explore content all on one screen
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_rv_on_map_title,
+  description = R.string.activity_lab_rv_on_map_description,
+  imageUrl = R.string.activity_lab_rv_on_map_url,
+  order = 90,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class RecyclerViewOnMapActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final String SYMBOL_ICON_ID = "SYMBOL_ICON_ID";
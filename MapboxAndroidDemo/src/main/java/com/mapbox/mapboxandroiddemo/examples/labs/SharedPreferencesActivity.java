@@ -9,6 +9,7 @@ import android.widget.Toast;
 
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -31,6 +32,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
 /**
  * Use shared preferences to save and retrieve data, so that the data can be displayed after closing the app.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_shared_preferences_title,
+  description = R.string.activity_lab_shared_preferences_description,
+  imageUrl = R.string.activity_lab_shared_preferences_url,
+  order = 230,
+  showNewIcon = true)
 public class SharedPreferencesActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener {
 
@@ -16,9 +16,11 @@ import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
-import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.TrailLineBuilder;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -28,7 +30,6 @@ import com.mapbox.mapboxsdk.style.layers.LineLayer;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import retrofit2.Call;
@@ -51,6 +52,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
  * Rather than showing the directions route all at once, have it "snake" from the origin to destination by showing the
  * route one {@link LegStep} section at a time.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_labs_snaking_directions_route_title,
+  description = R.string.activity_labs_snaking_directions_route_description,
+  imageUrl = R.string.activity_labs_snaking_directions_route_url,
+  order = 160)
 public class SnakingDirectionsRouteActivity extends AppCompatActivity
   implements OnMapReadyCallback {
 
@@ -178,7 +185,7 @@ public class SnakingDirectionsRouteActivity extends AppCompatActivity
   private static class DrawRouteRunnable implements Runnable {
     private MapboxMap mapboxMap;
     private List<LegStep> steps;
-    private List<Feature> drivingRoutePolyLineFeatureList;
+    private TrailLineBuilder drivingRouteLine;
     private Handler handler;
     private int counterIndex;
 
@@ -187,7 +194,7 @@ public class SnakingDirectionsRouteActivity extends AppCompatActivity
       this.steps = steps;
       this.handler = handler;
       this.counterIndex = 0;
-      drivingRoutePolyLineFeatureList = new ArrayList<>();
+      drivingRouteLine = new TrailLineBuilder();
     }
 
     @Override
@@ -195,15 +202,13 @@ public class SnakingDirectionsRouteActivity extends AppCompatActivity
       if (counterIndex < steps.size()) {
         LegStep singleStep = steps.get(counterIndex);
         if (singleStep != null && singleStep.geometry() != null) {
-          LineString lineStringRepresentingSingleStep = LineString.fromPolyline(
-            singleStep.geometry(), Constants.PRECISION_5);
-          Feature featureLineString = Feature.fromGeometry(lineStringRepresentingSingleStep);
-          drivingRoutePolyLineFeatureList.add(featureLineString);
+          // Extend the single route line with this step instead of adding one Feature per step
+          drivingRouteLine.addAll(PolylineUtils.decode(singleStep.geometry(), Constants.PRECISION_5));
         }
         if (mapboxMap.getStyle() != null) {
           GeoJsonSource source = mapboxMap.getStyle().getSourceAs(DRIVING_ROUTE_POLYLINE_SOURCE_ID);
           if (source != null) {
-            source.setGeoJson(FeatureCollection.fromFeatures(drivingRoutePolyLineFeatureList));
+            drivingRouteLine.flush(source);
           }
         }
         counterIndex++;
@@ -2,14 +2,15 @@ package com.mapbox.mapboxandroiddemo.examples.labs;
 
 import android.graphics.BitmapFactory;
 import android.os.Bundle;
-import android.os.Handler;
 import android.widget.Toast;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxandroiddemo.model.IssModel;
+import com.mapbox.mapboxandroiddemo.utils.MapAnimationScheduler;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -38,12 +39,18 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconSize;
 /**
  * Display the space station's real-time location
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_space_station_location_title,
+  description = R.string.activity_lab_space_station_location_description,
+  imageUrl = R.string.activity_lab_space_station_location_url,
+  order = 70,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class SpaceStationLocationActivity extends AppCompatActivity {
 
   private static final String TAG = "SpaceStationActivity";
 
-  private Handler handler;
-  private Runnable runnable;
+  private MapAnimationScheduler animationScheduler;
   private Call<IssModel> call;
 
   // apiCallTime is the time interval when we call the API in milliseconds, by default this is set
@@ -66,6 +73,11 @@ public class SpaceStationLocationActivity extends AppCompatActivity {
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_lab_space_station_location);
 
+    // The scheduler pauses the API calls while the activity isn't in view and resumes them when
+    // the user returns to it.
+    animationScheduler = new MapAnimationScheduler();
+    getLifecycle().addObserver(animationScheduler);
+
     // Initialize the MapView
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
@@ -99,11 +111,10 @@ public class SpaceStationLocationActivity extends AppCompatActivity {
 
     final IssApiService service = client.create(IssApiService.class);
 
-    // A handler is needed to called the API every x amount of seconds.
-    handler = new Handler();
-    runnable = new Runnable() {
+    // The scheduler calls the API every x amount of seconds, starting right away.
+    animationScheduler.schedule(new MapAnimationScheduler.Ticker() {
       @Override
-      public void run() {
+      public void onTick(long frameTimeMillis) {
         // Call the API so we can get the updated coordinates.
         call = service.loadLocation();
         call.enqueue(new Callback<IssModel>() {
@@ -130,13 +141,8 @@ public class SpaceStationLocationActivity extends AppCompatActivity {
 
           }
         });
-        // Schedule the next execution time for this runnable.
-        handler.postDelayed(this, apiCallTime);
       }
-    };
-
-    // The first time this runs we don't need a delay so we immediately post.
-    handler.post(runnable);
+    }, apiCallTime);
   }
 
   private void initSpaceStationSymbolLayer(@NonNull Style style) {
@@ -183,10 +189,6 @@ public class SpaceStationLocationActivity extends AppCompatActivity {
   public void onResume() {
     super.onResume();
     mapView.onResume();
-    // When the user returns to the activity we want to resume the API calling.
-    if (handler != null && runnable != null) {
-      handler.post(runnable);
-    }
   }
 
   @Override
@@ -205,11 +207,6 @@ public class SpaceStationLocationActivity extends AppCompatActivity {
   public void onPause() {
     super.onPause();
     mapView.onPause();
-    // When the user leaves the activity, there is no need in calling the API since the map
-    // isn't in view.
-    if (handler != null && runnable != null) {
-      handler.removeCallbacks(runnable);
-    }
   }
 
   @Override
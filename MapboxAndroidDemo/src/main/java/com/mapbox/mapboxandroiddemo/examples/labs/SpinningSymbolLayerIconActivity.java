@@ -5,6 +5,7 @@ import android.os.Bundle;
 import android.view.animation.LinearInterpolator;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -32,6 +33,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconRotate;
  * Use an Android-system ValueAnimator and the Maps SDK's runtime styling functionality to
  * continually updated a SymbolLayer icons' rotation. This creates a spinning effect.
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_spinning_icon_title,
+  description = R.string.activity_lab_spinning_icon_description,
+  imageUrl = R.string.activity_lab_spinning_icon_url,
+  order = 210,
+  showNewIcon = true)
 public class SpinningSymbolLayerIconActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final String SOURCE_ID = "SOURCE_ID";
@@ -5,7 +5,6 @@ import android.animation.AnimatorSet;
 import android.animation.TypeEvaluator;
 import android.animation.ValueAnimator;
 import android.annotation.SuppressLint;
-import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
@@ -16,7 +15,6 @@ import android.graphics.PorterDuffXfermode;
 import android.graphics.Rect;
 import android.os.AsyncTask;
 import android.os.Bundle;
-import android.os.Handler;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.interpolator.view.animation.FastOutSlowInInterpolator;
@@ -38,6 +36,11 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.GeoJsonAssetLoader;
+import com.mapbox.mapboxandroiddemo.utils.MapAnimationScheduler;
+import com.mapbox.mapboxandroiddemo.utils.ThumbnailFetcher;
+import com.mapbox.mapboxandroiddemo.utils.ViewIconRenderer;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -58,12 +61,13 @@ import com.mapbox.mapboxsdk.style.sources.Source;
 import com.mapbox.mapboxsdk.style.sources.TileSet;
 import com.mapbox.mapboxsdk.style.sources.VectorSource;
 import com.squareup.picasso.Picasso;
+import com.squareup.picasso.Transformation;
 
-import java.io.InputStream;
+import java.io.File;
+import java.io.IOException;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.ref.WeakReference;
-import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -107,6 +111,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textOffset;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textSize;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
 
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_symbol_layer_and_mapillary_on_map_title,
+  description = R.string.activity_lab_symbol_layer_and_mapillary_on_map_description,
+  imageUrl = R.string.activity_lab_symbol_layer_on_map_url,
+  order = 20,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class SymbolLayerMapillaryActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener {
   private static final String SOURCE_ID = "mapbox.poi";
@@ -128,6 +139,10 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
   private static final int LOADING_PROGRESS_STEPS = 25; //number of steps in a progress animation
   private static final int LOADING_STEP_DURATION = 50; //duration between each step
 
+  private static final String THUMBNAIL_CACHE_DIRECTORY = "mapillary_thumbnails";
+  private static final long THUMBNAIL_CACHE_BYTES = 10 * 1024 * 1024;
+  private static final int THUMBNAIL_FETCH_PARALLELISM = 4;
+
   private MapView mapView;
   private MapboxMap mapboxMap;
   private RecyclerView recyclerView;
@@ -138,6 +153,8 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
   private AnimatorSet animatorSet;
 
   private LoadMapillaryDataTask loadMapillaryDataTask;
+  private ThumbnailFetcher thumbnailFetcher;
+  private MapAnimationScheduler animationScheduler;
 
   @ActivityStep
   private int currentStep;
@@ -173,6 +190,9 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
     recyclerView = findViewById(R.id.rv_on_top_of_map);
 
     // Initialize the map view
+    animationScheduler = new MapAnimationScheduler();
+    getLifecycle().addObserver(animationScheduler);
+
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
     mapView.getMapAsync(this);
@@ -494,8 +514,14 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
       loadMapillaryDataTask.cancel(true);
     }
 
+    if (thumbnailFetcher == null) {
+      thumbnailFetcher = new ThumbnailFetcher(Picasso.with(getApplicationContext()),
+        new CircleCropTransformation(), LoadMapillaryDataTask.IMAGE_SIZE,
+        new File(getCacheDir(), THUMBNAIL_CACHE_DIRECTORY), THUMBNAIL_CACHE_BYTES, THUMBNAIL_FETCH_PARALLELISM);
+    }
+
     loadMapillaryDataTask = new LoadMapillaryDataTask(this,
-      mapboxMap, Picasso.with(getApplicationContext()), new Handler(), feature);
+      mapboxMap, thumbnailFetcher, animationScheduler, feature);
     loadMapillaryDataTask.execute(50);
   }
 
@@ -513,11 +539,11 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
 
     ImageView imageView = view.findViewById(R.id.logoView);
     imageView.setImageResource(currentState ? R.drawable.ic_favorite : R.drawable.ic_favorite_border);
-    Bitmap bitmap = SymbolGenerator.generate(view);
+    Bitmap bitmap = ViewIconRenderer.getInstance().render(getCalloutContentKey(feature), view);
     mapboxMap.getStyle(new Style.OnStyleLoaded() {
       @Override
       public void onStyleLoaded(@NonNull Style style) {
-        style.addImage(title, bitmap);
+        ViewIconRenderer.getInstance().addToStyle(style, title, bitmap);
         refreshSource();
       }
     });
@@ -531,13 +557,21 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
       @Override
       public void onStyleLoaded(@NonNull Style style) {
         // calling addImages is faster as separate addImage calls for each bitmap.
-        style.addImages(imageMap);
+        ViewIconRenderer.getInstance().addToStyle(style, imageMap);
       }
     });
     // need to store reference to views to be able to use them as hitboxes for click events.
     SymbolLayerMapillaryActivity.this.viewMap = viewMap;
   }
 
+  /**
+   * Describes everything that's shown in a feature's callout, so that equal callouts are only drawn once.
+   */
+  private static String getCalloutContentKey(Feature feature) {
+    return feature.getStringProperty(PROPERTY_TITLE) + "\n" + feature.getStringProperty(PROPERTY_STYLE)
+      + "\n" + feature.getBooleanProperty(PROPERTY_FAVOURITE);
+  }
+
   private void setActivityStep(@ActivityStep int activityStep) {
     Feature selectedFeature = getSelectedFeature();
     double zoom = stepZoomMap.get(activityStep);
@@ -592,6 +626,12 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
     if (mapboxMap != null) {
       mapboxMap.removeOnMapClickListener(this);
     }
+    if (loadMapillaryDataTask != null) {
+      loadMapillaryDataTask.cancel(true);
+    }
+    if (thumbnailFetcher != null) {
+      thumbnailFetcher.shutdown();
+    }
     mapView.onDestroy();
   }
 
@@ -702,8 +742,11 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
         return null;
       }
 
-      String geoJson = loadGeoJsonFromAsset(activity, "sf_poi.geojson");
-      return FeatureCollection.fromJson(geoJson);
+      try {
+        return GeoJsonAssetLoader.loadFeatureCollection(activity, "sf_poi.geojson");
+      } catch (IOException exception) {
+        throw new RuntimeException(exception);
+      }
     }
 
     @Override
@@ -716,20 +759,6 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
       activity.setupData(featureCollection);
       new GenerateViewIconTask(activity).execute(featureCollection);
     }
-
-    static String loadGeoJsonFromAsset(Context context, String filename) {
-      try {
-        // Load GeoJSON file from local asset folder
-        InputStream is = context.getAssets().open(filename);
-        int size = is.available();
-        byte[] buffer = new byte[size];
-        is.read(buffer);
-        is.close();
-        return new String(buffer, Charset.forName("UTF-8"));
-      } catch (Exception exception) {
-        throw new RuntimeException(exception);
-      }
-    }
   }
 
   /**
@@ -741,9 +770,9 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
    * Generating Views on background thread since we are not going to be adding them to the view hierarchy.
    * </p>
    */
-  private static class GenerateViewIconTask extends AsyncTask<FeatureCollection, Void, HashMap<String, Bitmap>> {
+  private static class GenerateViewIconTask extends AsyncTask<FeatureCollection, Void,
+    ViewIconRenderer.RenderResult> {
 
-    private final HashMap<String, View> viewMap = new HashMap<>();
     private final WeakReference<SymbolLayerMapillaryActivity> activityRef;
     private final boolean refreshSource;
 
@@ -758,46 +787,50 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
 
     @SuppressWarnings("WrongThread")
     @Override
-    protected HashMap<String, Bitmap> doInBackground(FeatureCollection... params) {
+    protected ViewIconRenderer.RenderResult doInBackground(FeatureCollection... params) {
       SymbolLayerMapillaryActivity activity = activityRef.get();
       if (activity != null) {
-        HashMap<String, Bitmap> imagesMap = new HashMap<>();
-        LayoutInflater inflater = LayoutInflater.from(activity);
+        List<ViewIconRenderer.IconRequest> requests = new ArrayList<>();
         FeatureCollection featureCollection = params[0];
 
         for (Feature feature : featureCollection.features()) {
-          View view = inflater.inflate(R.layout.mapillary_layout_callout, null);
-
           String name = feature.getStringProperty(PROPERTY_TITLE);
-          TextView titleTv = view.findViewById(R.id.title);
-          titleTv.setText(name);
-
           String style = feature.getStringProperty(PROPERTY_STYLE);
-          TextView styleTv = view.findViewById(R.id.style);
-          styleTv.setText(style);
-
           boolean favourite = feature.getBooleanProperty(PROPERTY_FAVOURITE);
-          ImageView imageView = view.findViewById(R.id.logoView);
-          imageView.setImageResource(favourite ? R.drawable.ic_favorite : R.drawable.ic_favorite_border);
 
-          Bitmap bitmap = SymbolGenerator.generate(view);
-          imagesMap.put(name, bitmap);
-          viewMap.put(name, view);
+          // The views are kept even for cached icons because they're used as hitboxes for click events
+          requests.add(new ViewIconRenderer.IconRequest(name, getCalloutContentKey(feature), inflater -> {
+            View view = inflater.inflate(R.layout.mapillary_layout_callout, null);
+
+            TextView titleTv = view.findViewById(R.id.title);
+            titleTv.setText(name);
+
+            TextView styleTv = view.findViewById(R.id.style);
+            styleTv.setText(style);
+
+            ImageView imageView = view.findViewById(R.id.logoView);
+            imageView.setImageResource(favourite ? R.drawable.ic_favorite : R.drawable.ic_favorite_border);
+            return view;
+          }, true));
         }
 
-        return imagesMap;
+        try {
+          return ViewIconRenderer.getInstance().renderAll(LayoutInflater.from(activity), requests);
+        } catch (InterruptedException exception) {
+          return null;
+        }
       } else {
         return null;
       }
     }
 
     @Override
-    protected void onPostExecute(HashMap<String, Bitmap> bitmapHashMap) {
-      super.onPostExecute(bitmapHashMap);
+    protected void onPostExecute(ViewIconRenderer.RenderResult renderResult) {
+      super.onPostExecute(renderResult);
       SymbolLayerMapillaryActivity activity = activityRef.get();
-      if (activity != null && bitmapHashMap != null) {
+      if (activity != null && renderResult != null) {
 
-        activity.setImageGenResults(viewMap, bitmapHashMap);
+        activity.setImageGenResults(renderResult.views, renderResult.images);
         if (refreshSource) {
           activity.refreshSource();
         }
@@ -823,18 +856,19 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
 
     private WeakReference<SymbolLayerMapillaryActivity> activityRef;
     private MapboxMap map;
-    private Picasso picasso;
-    private final Handler progressHandler;
+    private ThumbnailFetcher thumbnailFetcher;
+    private final MapAnimationScheduler animationScheduler;
     private int loadingProgress;
     private boolean loadingIncrease = true;
     private Feature feature;
 
-    public LoadMapillaryDataTask(SymbolLayerMapillaryActivity activity, MapboxMap map, Picasso picasso,
-                                 Handler progressHandler, Feature feature) {
+    public LoadMapillaryDataTask(SymbolLayerMapillaryActivity activity, MapboxMap map,
+                                 ThumbnailFetcher thumbnailFetcher, MapAnimationScheduler animationScheduler,
+                                 Feature feature) {
       this.activityRef = new WeakReference<>(activity);
       this.map = map;
-      this.picasso = picasso;
-      this.progressHandler = progressHandler;
+      this.thumbnailFetcher = thumbnailFetcher;
+      this.animationScheduler = animationScheduler;
       this.feature = feature;
     }
 
@@ -843,11 +877,11 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
       super.onPreExecute();
       loadingProgress = 0;
       setLoadingState(true, false);
+      animationScheduler.schedule(progressTicker, LOADING_STEP_DURATION);
     }
 
     @Override
     protected MapillaryDataLoadResult doInBackground(Integer... radius) {
-      progressHandler.post(progressRunnable);
       try {
         Thread.sleep(2500); //ensure loading visualisation
       } catch (InterruptedException exception) {
@@ -868,16 +902,14 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
         Response response = okHttpClient.newCall(request).execute();
         FeatureCollection featureCollection = FeatureCollection.fromJson(response.body().string());
         MapillaryDataLoadResult mapillaryDataLoadResult = new MapillaryDataLoadResult(featureCollection);
+
+        // Fetch the circular thumbnails in parallel, features sharing a key are only requested once
+        Map<String, String> imageUrlMap = new HashMap<>();
         for (Feature feature : featureCollection.features()) {
           String imageId = feature.getStringProperty(KEY_UNIQUE_FEATURE);
-          String imageUrl = String.format(URL_IMAGE_PLACEHOLDER, imageId);
-          Bitmap bitmap = picasso.load(imageUrl).resize(IMAGE_SIZE, IMAGE_SIZE).get();
-
-          //cropping bitmap to be circular
-          bitmap = getCroppedBitmap(bitmap);
-
-          mapillaryDataLoadResult.add(feature, bitmap);
+          imageUrlMap.put(imageId, String.format(URL_IMAGE_PLACEHOLDER, imageId));
         }
+        mapillaryDataLoadResult.bitmapHashMap.putAll(thumbnailFetcher.fetchAll(imageUrlMap));
         return mapillaryDataLoadResult;
 
       } catch (Exception exception) {
@@ -900,12 +932,8 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
 
       FeatureCollection featureCollection = mapillaryDataLoadResult.mapillaryFeatureCollection;
 
-      Map<Feature, Bitmap> bitmapMap = mapillaryDataLoadResult.bitmapHashMap;
-      for (Map.Entry<Feature, Bitmap> featureBitmapEntry : bitmapMap.entrySet()) {
-        Feature feature = featureBitmapEntry.getKey();
-        String key = feature.getStringProperty(KEY_UNIQUE_FEATURE);
-        map.getStyle().addImage(key, featureBitmapEntry.getValue());
-      }
+      // calling addImages is faster as separate addImage calls for each bitmap.
+      map.getStyle().addImages(mapillaryDataLoadResult.bitmapHashMap);
 
       GeoJsonSource mapillarySource = (GeoJsonSource) map.getStyle().getSource(ID_SOURCE);
       if (mapillarySource == null) {
@@ -1005,9 +1033,9 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
       return output;
     }
 
-    private Runnable progressRunnable = new Runnable() {
+    private MapAnimationScheduler.Ticker progressTicker = new MapAnimationScheduler.Ticker() {
       @Override
-      public void run() {
+      public void onTick(long frameTimeMillis) {
         if (isCancelled()) {
           setLoadingState(false, false);
           return;
@@ -1030,12 +1058,11 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
         if (activity != null) {
           activity.refreshSource();
         }
-        progressHandler.postDelayed(this, LOADING_STEP_DURATION);
       }
     };
 
     private void setLoadingState(boolean isLoading, boolean isSuccess) {
-      progressHandler.removeCallbacksAndMessages(null);
+      animationScheduler.cancel(progressTicker);
       feature.addBooleanProperty(PROPERTY_LOADING, isLoading);
       SymbolLayerMapillaryActivity activity = activityRef.get();
       if (activity != null) {
@@ -1051,42 +1078,30 @@ public class SymbolLayerMapillaryActivity extends AppCompatActivity implements O
   }
 
   private static class MapillaryDataLoadResult {
-    private final HashMap<Feature, Bitmap> bitmapHashMap = new HashMap<>();
+    // Thumbnails keyed by the feature's KEY_UNIQUE_FEATURE value, which is also its icon image id
+    private final HashMap<String, Bitmap> bitmapHashMap = new HashMap<>();
     private final FeatureCollection mapillaryFeatureCollection;
 
     MapillaryDataLoadResult(FeatureCollection mapillaryFeatureCollection) {
       this.mapillaryFeatureCollection = mapillaryFeatureCollection;
     }
-
-    public void add(Feature feature, Bitmap bitmap) {
-      bitmapHashMap.put(feature, bitmap);
-    }
   }
 
   /**
-   * Utility class to generate Bitmaps for Symbol.
+   * Picasso transformation cropping a downloaded Mapillary image to a circle.
    */
-  private static class SymbolGenerator {
+  private static class CircleCropTransformation implements Transformation {
 
-    /**
-     * Generate a Bitmap from an Android SDK View.
-     *
-     * @param view the View to be drawn to a Bitmap
-     * @return the generated bitmap
-     */
-    static Bitmap generate(@NonNull View view) {
-      int measureSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-      view.measure(measureSpec, measureSpec);
-
-      int measuredWidth = view.getMeasuredWidth();
-      int measuredHeight = view.getMeasuredHeight();
-
-      view.layout(0, 0, measuredWidth, measuredHeight);
-      Bitmap bitmap = Bitmap.createBitmap(measuredWidth, measuredHeight, Bitmap.Config.ARGB_8888);
-      bitmap.eraseColor(Color.TRANSPARENT);
-      Canvas canvas = new Canvas(bitmap);
-      view.draw(canvas);
-      return bitmap;
+    @Override
+    public Bitmap transform(Bitmap source) {
+      Bitmap output = LoadMapillaryDataTask.getCroppedBitmap(source);
+      source.recycle();
+      return output;
+    }
+
+    @Override
+    public String key() {
+      return "circle";
     }
   }
 
@@ -16,6 +16,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -37,6 +38,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
  * <p>
  * More info about https://developer.android.com/reference/android/view/animation/Interpolator
  */
+@Example(
+  category = R.id.nav_lab,
+  title = R.string.activity_lab_animated_interpolator_icon_drop_title,
+  description = R.string.activity_lab_animated_interpolator_icon_drop_description,
+  imageUrl = R.string.activity_lab_animated_interpolator_icon_drop_url,
+  order = 180)
 public class ValueAnimatorIconAnimationActivity extends AppCompatActivity implements
   OnMapReadyCallback, MapView.OnDidFinishRenderingMapListener {
 
@@ -14,6 +14,7 @@ import com.mapbox.android.core.location.LocationEngineResult;
 import com.mapbox.android.core.permissions.PermissionsListener;
 import com.mapbox.android.core.permissions.PermissionsManager;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.location.LocationComponent;
 import com.mapbox.mapboxsdk.location.LocationComponentActivationOptions;
@@ -33,6 +34,12 @@ import androidx.appcompat.app.AppCompatActivity;
 /**
  * Use the Mapbox Core Library to receive updates when the device changes location.
  */
+@Example(
+  category = R.id.nav_location,
+  title = R.string.activity_location_location_change_listening_title,
+  description = R.string.activity_location_location_change_listening_description,
+  imageUrl = R.string.activity_location_location_change_listening_url,
+  order = 50)
 public class LocationChangeListeningActivity extends AppCompatActivity implements
     OnMapReadyCallback, PermissionsListener {
 
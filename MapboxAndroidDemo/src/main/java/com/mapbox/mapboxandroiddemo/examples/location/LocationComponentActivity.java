@@ -8,6 +8,7 @@ import android.widget.Toast;
 import com.mapbox.android.core.permissions.PermissionsListener;
 import com.mapbox.android.core.permissions.PermissionsManager;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.location.LocationComponent;
 import com.mapbox.mapboxsdk.location.LocationComponentActivationOptions;
@@ -23,6 +24,13 @@ import java.util.List;
 /**
  * Use the LocationComponent to easily add a device location "puck" to a Mapbox map.
  */
+@Example(
+  category = R.id.nav_location,
+  title = R.string.activity_location_location_component_title,
+  description = R.string.activity_location_location_component_description,
+  imageUrl = R.string.activity_location_location_component_url,
+  order = 10,
+  kotlinActivity = KotlinLocationComponentActivity.class)
 public class LocationComponentActivity extends AppCompatActivity implements
   OnMapReadyCallback, PermissionsListener {
 
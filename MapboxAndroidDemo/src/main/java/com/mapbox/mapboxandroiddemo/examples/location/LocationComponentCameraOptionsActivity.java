@@ -14,6 +14,7 @@ import com.mapbox.android.core.location.LocationEngineRequest;
 import com.mapbox.android.core.permissions.PermissionsListener;
 import com.mapbox.android.core.permissions.PermissionsManager;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
 import com.mapbox.mapboxsdk.location.LocationComponent;
@@ -36,6 +37,12 @@ import java.util.List;
  * can be found at https://docs.mapbox.com/android/maps/overview/location-component and in
  * {@link CameraMode}.
  */
+@Example(
+  category = R.id.nav_location,
+  title = R.string.activity_location_location_component_camera_options_title,
+  description = R.string.activity_location_location_component_camera_options_description,
+  imageUrl = R.string.activity_location_location_component_camera_options_url,
+  order = 40)
 public class LocationComponentCameraOptionsActivity extends AppCompatActivity implements OnMapReadyCallback,
   OnLocationClickListener, OnCameraTrackingChangedListener {
 
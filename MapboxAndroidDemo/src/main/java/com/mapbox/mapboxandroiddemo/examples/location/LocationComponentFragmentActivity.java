@@ -6,6 +6,7 @@ import android.widget.Toast;
 import com.mapbox.android.core.permissions.PermissionsListener;
 import com.mapbox.android.core.permissions.PermissionsManager;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -25,6 +26,12 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.fragment.app.FragmentTransaction;
 
+@Example(
+  category = R.id.nav_location,
+  title = R.string.activity_location_user_location_map_frag_title,
+  description = R.string.activity_location_user_location_map_frag_plugin_description,
+  imageUrl = R.string.activity_location_user_location_fragment_plugin_url,
+  order = 20)
 public class LocationComponentFragmentActivity extends AppCompatActivity implements PermissionsListener {
 
   private MapboxMap mapboxMap;
@@ -10,6 +10,7 @@ import android.widget.Toast;
 import com.mapbox.android.core.permissions.PermissionsListener;
 import com.mapbox.android.core.permissions.PermissionsManager;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.location.LocationComponent;
 import com.mapbox.mapboxsdk.location.LocationComponentActivationOptions;
@@ -28,6 +29,12 @@ import java.util.List;
 /**
  * Use the LocationLayerOptions class to customize the LocationComponent's device location icon.
  */
+@Example(
+  category = R.id.nav_location,
+  title = R.string.activity_location_location_component_options_title,
+  description = R.string.activity_location_location_component_options_description,
+  imageUrl = R.string.activity_location_location_component_options_url,
+  order = 30)
 public class LocationComponentOptionsActivity extends AppCompatActivity implements
   OnMapReadyCallback, OnLocationClickListener, PermissionsListener, OnCameraTrackingChangedListener {
 
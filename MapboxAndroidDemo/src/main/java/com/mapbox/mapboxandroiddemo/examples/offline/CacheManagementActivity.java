@@ -10,6 +10,7 @@ import com.google.android.gms.tasks.Task;
 import com.google.firebase.remoteconfig.FirebaseRemoteConfig;
 import com.mapbox.mapboxandroiddemo.BuildConfig;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.log.Logger;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -26,6 +27,12 @@ import androidx.appcompat.app.AppCompatActivity;
  * This activity shows how to adjust the cache based on Android system button UI click
  * listening. It also shows how to hook Firebase Remote Config into cache management logic.
  */
+@Example(
+  category = R.id.nav_offline,
+  title = R.string.activity_offline_cache_management_title,
+  description = R.string.activity_offline_cache_management_description,
+  imageUrl = R.string.activity_offline_cache_management_url,
+  order = 30)
 public class CacheManagementActivity extends AppCompatActivity {
 
   // Firebase Remote Config keys
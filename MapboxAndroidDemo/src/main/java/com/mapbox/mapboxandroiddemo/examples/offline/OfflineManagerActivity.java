@@ -12,9 +12,15 @@ import android.widget.ProgressBar;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.commons.MapboxOfflineRegion;
+import com.mapbox.mapboxandroiddemo.commons.OfflineDownloadScheduler;
+import com.mapbox.mapboxandroiddemo.commons.OfflineRegionIndex;
+import com.mapbox.mapboxandroiddemo.commons.OfflineRegionMetadata;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
+import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -22,26 +28,28 @@ import com.mapbox.mapboxsdk.maps.OnMapReadyCallback;
 import com.mapbox.mapboxsdk.maps.Style;
 import com.mapbox.mapboxsdk.offline.OfflineManager;
 import com.mapbox.mapboxsdk.offline.OfflineRegion;
-import com.mapbox.mapboxsdk.offline.OfflineRegionError;
-import com.mapbox.mapboxsdk.offline.OfflineRegionStatus;
 import com.mapbox.mapboxsdk.offline.OfflineTilePyramidRegionDefinition;
 
-import org.json.JSONObject;
-
-import java.util.ArrayList;
+import java.util.List;
 
 import timber.log.Timber;
 
 /**
  * Download, view, navigate to, and delete an offline region.
  */
+@Example(
+  category = R.id.nav_offline,
+  title = R.string.activity_offline_manager_title,
+  description = R.string.activity_offline_manager_description,
+  imageUrl = R.string.activity_offline_manager_url,
+  order = 20,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class OfflineManagerActivity extends AppCompatActivity {
 
   private static final String TAG = "OffManActivity";
 
-  // JSON encoding/decoding
-  public static final String JSON_CHARSET = "UTF-8";
-  public static final String JSON_FIELD_REGION_NAME = "FIELD_REGION_NAME";
+  // Number of regions that download at the same time, the others wait in a queue
+  private static final int MAX_ACTIVE_DOWNLOADS = 2;
 
   // UI elements
   private MapView mapView;
@@ -55,7 +63,8 @@ public class OfflineManagerActivity extends AppCompatActivity {
 
   // Offline objects
   private OfflineManager offlineManager;
-  private OfflineRegion offlineRegion;
+  private OfflineDownloadScheduler downloadScheduler;
+  private OfflineRegionIndex regionIndex;
 
 
   @Override
@@ -69,6 +78,9 @@ public class OfflineManagerActivity extends AppCompatActivity {
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_offline_manager);
 
+    // Names, bounds and sizes of the downloaded regions
+    regionIndex = new OfflineRegionIndex(this);
+
     // Set up the MapView
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
@@ -104,6 +116,9 @@ public class OfflineManagerActivity extends AppCompatActivity {
                 downloadedRegionList();
               }
             });
+
+            // Queue downloads and continue the unfinished ones
+            setUpDownloadScheduler();
           }
         });
       }
@@ -144,6 +159,11 @@ public class OfflineManagerActivity extends AppCompatActivity {
   @Override
   protected void onDestroy() {
     super.onDestroy();
+    if (downloadScheduler != null) {
+      // Unfinished downloads continue the next time the activity is opened
+      downloadScheduler.pause();
+    }
+    regionIndex.close();
     mapView.onDestroy();
   }
 
@@ -213,27 +233,17 @@ public class OfflineManagerActivity extends AppCompatActivity {
         OfflineTilePyramidRegionDefinition definition = new OfflineTilePyramidRegionDefinition(
           styleUrl, bounds, minZoom, maxZoom, pixelRatio);
 
-        // Build a JSONObject using the user-defined offline region title,
-        // convert it into string, and use it to create a metadata variable.
+        // Encode the user-defined offline region title into a metadata variable.
         // The metadata variable will later be passed to createOfflineRegion()
-        byte[] metadata;
-        try {
-          JSONObject jsonObject = new JSONObject();
-          jsonObject.put(JSON_FIELD_REGION_NAME, regionName);
-          String json = jsonObject.toString();
-          metadata = json.getBytes(JSON_CHARSET);
-        } catch (Exception exception) {
-          Timber.e("Failed to encode metadata: %s", exception.getMessage());
-          metadata = null;
-        }
+        byte[] metadata = OfflineRegionMetadata.encode(regionName);
 
         // Create the offline region and launch the download
         offlineManager.createOfflineRegion(definition, metadata, new OfflineManager.CreateOfflineRegionCallback() {
           @Override
           public void onCreate(OfflineRegion offlineRegion) {
             Timber.d( "Offline region created: %s" , regionName);
-            OfflineManagerActivity.this.offlineRegion = offlineRegion;
-            launchDownload();
+            regionIndex.put(offlineRegion, regionName);
+            downloadScheduler.enqueue(new MapboxOfflineRegion(offlineRegion, regionIndex));
           }
 
           @Override
@@ -245,172 +255,210 @@ public class OfflineManagerActivity extends AppCompatActivity {
     });
   }
 
-  private void launchDownload() {
-    // Set up an observer to handle download progress and
-    // notify the user when the region is finished downloading
-    offlineRegion.setObserver(new OfflineRegion.OfflineRegionObserver() {
-      @Override
-      public void onStatusChanged(OfflineRegionStatus status) {
-        // Compute a percentage
-        double percentage = status.getRequiredResourceCount() >= 0
-          ? (100.0 * status.getCompletedResourceCount() / status.getRequiredResourceCount()) :
-          0.0;
-
-        if (status.isComplete()) {
-          // Download complete
-          endProgress(getString(R.string.end_progress_success));
-          return;
-        } else if (status.isRequiredResourceCountPrecise()) {
-          // Switch to determinate state
-          setPercentage((int) Math.round(percentage));
+  private void setUpDownloadScheduler() {
+    // The scheduler downloads a few regions at a time, handles progress and
+    // notifies the user when all regions are finished downloading
+    downloadScheduler = new OfflineDownloadScheduler(MAX_ACTIVE_DOWNLOADS,
+      OfflineDownloadScheduler.getPreferencesStore(this), new OfflineDownloadScheduler.Listener() {
+        @Override
+        public void onProgress(long regionId, int percentage) {
+          if (percentage >= 0) {
+            // Switch to determinate state
+            setPercentage(percentage);
+          }
+          Timber.d("Region %d: %d%% downloaded.", regionId, percentage);
         }
 
-        // Log what is being currently downloaded
-        Timber.d("%s/%s resources; %s bytes downloaded.",
-          String.valueOf(status.getCompletedResourceCount()),
-          String.valueOf(status.getRequiredResourceCount()),
-          String.valueOf(status.getCompletedResourceSize()));
+        @Override
+        public void onComplete(long regionId) {
+          Timber.d("Region %d downloaded.", regionId);
+          if (downloadScheduler.getPendingCount() == 0) {
+            endProgress(getString(R.string.end_progress_success));
+          }
+        }
+
+        @Override
+        public void onError(long regionId, @NonNull String message) {
+          Timber.e("Region %d error: %s", regionId, message);
+          if (downloadScheduler.getPendingCount() == 0) {
+            endProgress(message);
+          }
+        }
+      });
+
+    // The region the user is looking at is downloaded first
+    map.addOnCameraIdleListener(new MapboxMap.OnCameraIdleListener() {
+      @Override
+      public void onCameraIdle() {
+        LatLng target = map.getCameraPosition().target;
+        downloadScheduler.setCameraTarget(target.getLatitude(), target.getLongitude());
       }
+    });
 
+    // Continue the downloads that didn't finish the last time
+    offlineManager.listOfflineRegions(new OfflineManager.ListOfflineRegionsCallback() {
       @Override
-      public void onError(OfflineRegionError error) {
-        Timber.e("onError reason: %s", error.getReason());
-        Timber.e("onError message: %s", error.getMessage());
+      public void onList(OfflineRegion[] offlineRegions) {
+        // Index regions created before this version and continue the unfinished downloads
+        regionIndex.sync(offlineRegions);
+        downloadScheduler.restore(MapboxOfflineRegion.wrap(offlineRegions, regionIndex));
+        if (downloadScheduler.getPendingCount() > 0) {
+          startProgress();
+        }
       }
 
       @Override
-      public void mapboxTileCountLimitExceeded(long limit) {
-        Timber.e("Mapbox tile count limit exceeded: %s", limit);
+      public void onError(String error) {
+        Timber.e( "Error: %s", error);
       }
     });
-
-    // Change the region state
-    offlineRegion.setDownloadState(OfflineRegion.STATE_ACTIVE);
   }
 
   private void downloadedRegionList() {
     // Build a region list when the user clicks the list button
 
-    // Reset the region selected int to 0
-    regionSelected = 0;
+    // Query the region index, sorted by name
+    final List<OfflineRegionIndex.Entry> entries = regionIndex.list();
 
-    // Query the DB asynchronously
-    offlineManager.listOfflineRegions(new OfflineManager.ListOfflineRegionsCallback() {
-      @Override
-      public void onList(final OfflineRegion[] offlineRegions) {
-        // Check result. If no regions have been
-        // downloaded yet, notify user and return
-        if (offlineRegions == null || offlineRegions.length == 0) {
-          Toast.makeText(getApplicationContext(), getString(R.string.toast_no_regions_yet), Toast.LENGTH_SHORT).show();
-          return;
+    // Check result. If no regions have been
+    // downloaded yet, notify user and return
+    if (entries.isEmpty()) {
+      Toast.makeText(getApplicationContext(), getString(R.string.toast_no_regions_yet), Toast.LENGTH_SHORT).show();
+      return;
+    }
+
+    // Preselect the first region on screen, or the first one if none is
+    regionSelected = getFirstVisibleRegion(entries);
+
+    // Add all of the region names to a list
+    final CharSequence[] items = new CharSequence[entries.size()];
+    for (int i = 0; i < items.length; i++) {
+      items[i] = getRegionName(entries.get(i));
+    }
+
+    // Build a dialog containing the list of regions
+    AlertDialog dialog = new AlertDialog.Builder(OfflineManagerActivity.this)
+      .setTitle(getString(R.string.navigate_title))
+      .setSingleChoiceItems(items, regionSelected, new DialogInterface.OnClickListener() {
+        @Override
+        public void onClick(DialogInterface dialog, int which) {
+          // Track which region the user selects
+          regionSelected = which;
         }
+      })
+      .setPositiveButton(getString(R.string.navigate_positive_button), new DialogInterface.OnClickListener() {
+        @Override
+        public void onClick(DialogInterface dialog, int id) {
+
+          Toast.makeText(OfflineManagerActivity.this, items[regionSelected], Toast.LENGTH_LONG).show();
+
+          // Get the region bounds and zoom
+          LatLngBounds bounds = entries.get(regionSelected).getBounds();
+          double regionZoom = entries.get(regionSelected).getMinZoom();
+
+          // Create new camera position
+          CameraPosition cameraPosition = new CameraPosition.Builder()
+            .target(bounds.getCenter())
+            .zoom(regionZoom)
+            .build();
+
+          // Move camera to new position
+          map.moveCamera(CameraUpdateFactory.newCameraPosition(cameraPosition));
 
-        // Add all of the region names to a list
-        ArrayList<String> offlineRegionsNames = new ArrayList<>();
-        for (OfflineRegion offlineRegion : offlineRegions) {
-          offlineRegionsNames.add(getRegionName(offlineRegion));
         }
-        final CharSequence[] items = offlineRegionsNames.toArray(new CharSequence[offlineRegionsNames.size()]);
-
-        // Build a dialog containing the list of regions
-        AlertDialog dialog = new AlertDialog.Builder(OfflineManagerActivity.this)
-          .setTitle(getString(R.string.navigate_title))
-          .setSingleChoiceItems(items, 0, new DialogInterface.OnClickListener() {
-            @Override
-            public void onClick(DialogInterface dialog, int which) {
-              // Track which region the user selects
-              regionSelected = which;
-            }
-          })
-          .setPositiveButton(getString(R.string.navigate_positive_button), new DialogInterface.OnClickListener() {
-            @Override
-            public void onClick(DialogInterface dialog, int id) {
-
-              Toast.makeText(OfflineManagerActivity.this, items[regionSelected], Toast.LENGTH_LONG).show();
-
-              // Get the region bounds and zoom
-              LatLngBounds bounds = (offlineRegions[regionSelected].getDefinition()).getBounds();
-              double regionZoom = (offlineRegions[regionSelected].getDefinition()).getMinZoom();
-
-              // Create new camera position
-              CameraPosition cameraPosition = new CameraPosition.Builder()
-                .target(bounds.getCenter())
-                .zoom(regionZoom)
-                .build();
-
-              // Move camera to new position
-              map.moveCamera(CameraUpdateFactory.newCameraPosition(cameraPosition));
-
-            }
-          })
-          .setNeutralButton(getString(R.string.navigate_neutral_button_title), new DialogInterface.OnClickListener() {
-            @Override
-            public void onClick(DialogInterface dialog, int id) {
-              // Make progressBar indeterminate and
-              // set it to visible to signal that
-              // the deletion process has begun
-              progressBar.setIndeterminate(true);
-              progressBar.setVisibility(View.VISIBLE);
-
-              // Begin the deletion process
-              offlineRegions[regionSelected].delete(new OfflineRegion.OfflineRegionDeleteCallback() {
-                @Override
-                public void onDelete() {
-                  // Once the region is deleted, remove the
-                  // progressBar and display a toast
-                  progressBar.setVisibility(View.INVISIBLE);
-                  progressBar.setIndeterminate(false);
-                  Toast.makeText(getApplicationContext(), getString(R.string.toast_region_deleted),
-                    Toast.LENGTH_LONG).show();
-                }
-
-                @Override
-                public void onError(String error) {
-                  progressBar.setVisibility(View.INVISIBLE);
-                  progressBar.setIndeterminate(false);
-                  Timber.e( "Error: %s", error);
-                }
-              });
-            }
-          })
-          .setNegativeButton(getString(R.string.navigate_negative_button_title), new DialogInterface.OnClickListener() {
-            @Override
-            public void onClick(DialogInterface dialog, int id) {
-              // When the user cancels, don't do anything.
-              // The dialog will automatically close
-            }
-          }).create();
-        dialog.show();
+      })
+      .setNeutralButton(getString(R.string.navigate_neutral_button_title), new DialogInterface.OnClickListener() {
+        @Override
+        public void onClick(DialogInterface dialog, int id) {
+          deleteRegion(entries.get(regionSelected).getId());
+        }
+      })
+      .setNegativeButton(getString(R.string.navigate_negative_button_title), new DialogInterface.OnClickListener() {
+        @Override
+        public void onClick(DialogInterface dialog, int id) {
+          // When the user cancels, don't do anything.
+          // The dialog will automatically close
+        }
+      }).create();
+    dialog.show();
+  }
+
+  private void deleteRegion(final long regionId) {
+    // Make progressBar indeterminate and
+    // set it to visible to signal that
+    // the deletion process has begun
+    progressBar.setIndeterminate(true);
+    progressBar.setVisibility(View.VISIBLE);
 
+    // Stop downloading the region
+    downloadScheduler.remove(regionId);
+
+    // Only the region to delete is needed from the OfflineManager
+    offlineManager.listOfflineRegions(new OfflineManager.ListOfflineRegionsCallback() {
+      @Override
+      public void onList(OfflineRegion[] offlineRegions) {
+        for (OfflineRegion offlineRegion : offlineRegions) {
+          if (offlineRegion.getID() == regionId) {
+            // Begin the deletion process
+            offlineRegion.delete(new OfflineRegion.OfflineRegionDeleteCallback() {
+              @Override
+              public void onDelete() {
+                // Once the region is deleted, remove the
+                // progressBar and display a toast
+                regionIndex.remove(regionId);
+                progressBar.setVisibility(View.INVISIBLE);
+                progressBar.setIndeterminate(false);
+                Toast.makeText(getApplicationContext(), getString(R.string.toast_region_deleted),
+                  Toast.LENGTH_LONG).show();
+              }
+
+              @Override
+              public void onError(String error) {
+                progressBar.setVisibility(View.INVISIBLE);
+                progressBar.setIndeterminate(false);
+                Timber.e( "Error: %s", error);
+              }
+            });
+            return;
+          }
+        }
+        // Already gone
+        regionIndex.remove(regionId);
+        progressBar.setVisibility(View.INVISIBLE);
+        progressBar.setIndeterminate(false);
       }
 
       @Override
       public void onError(String error) {
+        progressBar.setVisibility(View.INVISIBLE);
+        progressBar.setIndeterminate(false);
         Timber.e( "Error: %s", error);
       }
     });
   }
 
-  private String getRegionName(OfflineRegion offlineRegion) {
-    // Get the region name from the offline region metadata
-    String regionName;
-
-    try {
-      byte[] metadata = offlineRegion.getMetadata();
-      String json = new String(metadata, JSON_CHARSET);
-      JSONObject jsonObject = new JSONObject(json);
-      regionName = jsonObject.getString(JSON_FIELD_REGION_NAME);
-    } catch (Exception exception) {
-      Timber.e("Failed to decode metadata: %s", exception.getMessage());
-      regionName = String.format(getString(R.string.region_name), offlineRegion.getID());
+  private int getFirstVisibleRegion(List<OfflineRegionIndex.Entry> entries) {
+    List<OfflineRegionIndex.Entry> visible = regionIndex.intersecting(
+      map.getProjection().getVisibleRegion().latLngBounds);
+    if (!visible.isEmpty()) {
+      for (int i = 0; i < entries.size(); i++) {
+        if (entries.get(i).getId() == visible.get(0).getId()) {
+          return i;
+        }
+      }
     }
-    return regionName;
+    return 0;
+  }
+
+  private String getRegionName(OfflineRegionIndex.Entry entry) {
+    // The region name comes from the offline region metadata
+    String regionName = entry.getName();
+    return regionName != null ? regionName : String.format(getString(R.string.region_name), entry.getId());
   }
 
   // Progress bar methods
   private void startProgress() {
-    // Disable buttons
-    downloadButton.setEnabled(false);
+    // Disable the list button. More regions can still be queued for download.
     listButton.setEnabled(false);
 
     // Start and show the progress bar
@@ -8,6 +8,7 @@ import android.widget.ProgressBar;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
@@ -28,6 +29,13 @@ import timber.log.Timber;
 /**
  * Download and view an offline map using the Mapbox Android SDK.
  */
+@Example(
+  category = R.id.nav_offline,
+  title = R.string.activity_offline_simple_title,
+  description = R.string.activity_offline_simple_description,
+  imageUrl = R.string.activity_offline_simple_url,
+  order = 10,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class SimpleOfflineMapActivity extends AppCompatActivity {
 
   private boolean isEndNotified;
@@ -5,6 +5,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -15,6 +16,13 @@ import com.mapbox.mapboxsdk.plugins.building.BuildingPlugin;
 /**
  *  Use the buildings plugin to display buildings' heights (extrusions) in 3D.
  */
+@Example(
+  category = R.id.nav_plugins,
+  title = R.string.activity_plugins_building_plugin_title,
+  description = R.string.activity_plugins_building_plugin_description,
+  imageUrl = R.string.activity_plugins_building_plugin_url,
+  order = 20,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class BuildingPluginActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -8,6 +8,7 @@ import android.view.View;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -22,6 +23,13 @@ import com.mapbox.mapboxsdk.plugins.localization.MapLocale;
 /**
  * Use the localization plugin to retrieve the device's language and set all map text labels to that language.
  */
+@Example(
+  category = R.id.nav_plugins,
+  title = R.string.activity_plugins_localization_plugin_title,
+  description = R.string.activity_plugins_localization_plugin_description,
+  imageUrl = R.string.activity_plugins_localization_plugin_url,
+  order = 50,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class LocalizationPluginActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
@@ -9,6 +9,7 @@ import android.widget.FrameLayout;
 import android.widget.TextView;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -23,6 +24,12 @@ import static android.view.ViewGroup.LayoutParams.WRAP_CONTENT;
 /**
  * Use the Mapbox MarkerView Plugin to create a marker which uses a custom Android view as the icon.
  */
+@Example(
+  category = R.id.nav_plugins,
+  title = R.string.activity_plugins_markerview_plugin_title,
+  description = R.string.activity_plugins_markerview_plugin_description,
+  imageUrl = R.string.activity_plugins_markerview_plugin_url,
+  order = 60)
 public class MarkerViewPluginActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -19,6 +19,9 @@ import com.mapbox.mapboxsdk.plugins.places.picker.model.PlacePickerOptions;
  * choosing a map location. Once selected, return to the previous location with a
  * CarmenFeature to extract information from for whatever use that you want.
  */
+// TODO: This example isn't listed in the app because it crashes due to incompatibility
+//  between the Mapbox Places Plugin and this app's usage of AndroidX. This is being tracked at:
+//  https://github.com/mapbox/mapbox-plugins-android/issues/908
 public class PlaceSelectionPluginActivity extends AppCompatActivity {
 
   private static final int REQUEST_CODE = 5678;
@@ -15,6 +15,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -36,6 +37,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
  * automatically makes geocoding requests, has built-in saved locations, includes location picker functionality,
  * and adds beautiful UI into your Android project.
  */
+@Example(
+  category = R.id.nav_plugins,
+  title = R.string.activity_plugins_places_plugin_title,
+  description = R.string.activity_plugins_places_plugin_description,
+  imageUrl = R.string.activity_plugins_places_plugin_url,
+  order = 30,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class PlacesPluginActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private static final int REQUEST_CODE_AUTOCOMPLETE = 1;
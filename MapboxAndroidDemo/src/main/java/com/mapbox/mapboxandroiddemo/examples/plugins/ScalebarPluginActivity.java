@@ -7,6 +7,7 @@ import android.view.View;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -20,6 +21,12 @@ import com.mapbox.pluginscalebar.ScaleBarPlugin;
  * one another at a certain zoom level. The scalebar can be customized with options such as the
  * text color/size, referesh interval, margins, and border width.
  */
+@Example(
+  category = R.id.nav_plugins,
+  title = R.string.activity_plugins_scalebar_plugin_title,
+  description = R.string.activity_plugins_scalebar_plugin_description,
+  imageUrl = R.string.activity_plugins_scalebar_plugin_url,
+  order = 70)
 public class ScalebarPluginActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
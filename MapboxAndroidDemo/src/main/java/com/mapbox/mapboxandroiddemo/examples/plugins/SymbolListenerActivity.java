@@ -6,6 +6,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -22,6 +23,12 @@ import com.mapbox.mapboxsdk.plugins.annotation.OnSymbolClickListener;
 /**
  * Change symbol icon by pressing on icon
  */
+@Example(
+  category = R.id.nav_plugins,
+  title = R.string.activity_plugins_symbol_listener_title,
+  description = R.string.activity_plugins_symbol_listener_description,
+  imageUrl = R.string.activity_plugins_symbol_listener_url,
+  order = 40)
 public class SymbolListenerActivity extends AppCompatActivity implements
   OnMapReadyCallback {
 
@@ -6,6 +6,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import android.view.View;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -17,6 +18,12 @@ import com.mapbox.mapboxsdk.plugins.traffic.TrafficPlugin;
  * Toggle the Mapbox Traffic plugin to display real-time traffic data on top
  * of your map (not all regions supported at the moment).
  */
+@Example(
+  category = R.id.nav_plugins,
+  title = R.string.activity_plugins_traffic_plugin_title,
+  description = R.string.activity_plugins_traffic_plugin_description,
+  imageUrl = R.string.activity_plugins_traffic_plugin_url,
+  order = 10)
 public class TrafficPluginActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -4,6 +4,7 @@ import android.graphics.Color;
 import android.graphics.PointF;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 
 import android.view.Gravity;
@@ -13,20 +14,19 @@ import android.widget.Toast;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
-import com.mapbox.geojson.LineString;
-import com.mapbox.geojson.Point;
-import com.mapbox.geojson.Polygon;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.BuildingOutlineCache;
 import com.mapbox.mapboxsdk.Mapbox;
-import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
 import com.mapbox.mapboxsdk.maps.OnMapReadyCallback;
 import com.mapbox.mapboxsdk.maps.Style;
+import com.mapbox.mapboxsdk.style.layers.Layer;
 import com.mapbox.mapboxsdk.style.layers.LineLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.mapbox.mapboxsdk.style.layers.Property.LINE_CAP_ROUND;
@@ -39,11 +39,20 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
 /**
  * Query the building layer to draw an outline around the building that is in the middle of the map
  */
+@Example(
+  category = R.id.nav_query_map,
+  title = R.string.activity_query_building_outline_title,
+  description = R.string.activity_query_building_outline_description,
+  imageUrl = R.string.activity_query_building_outline_url,
+  order = 60,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class BuildingOutlineActivity extends AppCompatActivity implements
     OnMapReadyCallback, MapboxMap.OnCameraIdleListener {
 
   private MapView mapView;
   private MapboxMap mapboxMap;
+  private final BuildingOutlineCache outlineCache = new BuildingOutlineCache();
+  private BuildingOutlineCache.Outline shownOutline;
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -106,59 +115,61 @@ public class BuildingOutlineActivity extends AppCompatActivity implements
 
   /**
    * Query the map for a building Feature in the map's building layer. The query happens in the middle of the
-   * map ("the target"). If there's a building Feature in the middle of the map, its coordinates are turned
-   * into a list of Point objects so that a LineString can be created.
-   *
-   * @return the LineString built via the building's coordinates
+   * map ("the target"). Nothing is queried while the target stays inside the building that's already outlined.
    */
-  private LineString getBuildingFeatureOutline(@NonNull Style style) {
-    // Retrieve the middle of the map
-    final PointF pixel = mapboxMap.getProjection().toScreenLocation(new LatLng(
-        mapboxMap.getCameraPosition().target.getLatitude(),
-        mapboxMap.getCameraPosition().target.getLongitude()
-    ));
-
-    List<Point> pointList = new ArrayList<>();
+  private void updateOutline(@NonNull Style style) {
+    GeoJsonSource source = style.getSourceAs("source");
+    if (source == null) {
+      return;
+    }
 
     // Check whether the map style has a building layer
-    if (style.getLayer("building") != null) {
-
-      // Retrieve the building Feature that is displayed in the middle of the map
-      List<Feature> features = mapboxMap.queryRenderedFeatures(pixel, "building");
-      if (features.size() > 0) {
-        if (features.get(0).geometry() instanceof Polygon) {
-          Polygon buildingFeature = (Polygon) features.get(0).geometry();
-          // Build a list of Point objects from the building Feature's coordinates
-          if (buildingFeature != null) {
-            for (int i = 0; i < buildingFeature.coordinates().size(); i++) {
-              for (int j = 0;
-                   j < buildingFeature.coordinates().get(i).size(); j++) {
-                pointList.add(Point.fromLngLat(
-                  buildingFeature.coordinates().get(i).get(j).longitude(),
-                  buildingFeature.coordinates().get(i).get(j).latitude()
-                ));
-              }
-            }
-          }
-        }
-        // Create a LineString from the list of Point objects
-      }
-    } else {
+    Layer buildingLayer = style.getLayer("building");
+    if (buildingLayer == null) {
       Toast.makeText(this, R.string.building_layer_not_present, Toast.LENGTH_SHORT).show();
+      showOutline(source, null);
+      return;
+    }
+
+    CameraPosition cameraPosition = mapboxMap.getCameraPosition();
+    double longitude = cameraPosition.target.getLongitude();
+    double latitude = cameraPosition.target.getLatitude();
+    if (cameraPosition.zoom < buildingLayer.getMinZoom()) {
+      // Buildings aren't shown at this zoom level
+      outlineCache.clearLastOutline();
+      showOutline(source, null);
+      return;
     }
-    return LineString.fromLngLats(pointList);
+    if (outlineCache.findLastOutline(longitude, latitude) != null) {
+      // Still the same building
+      return;
+    }
+
+    // Retrieve the building Feature that is displayed in the middle of the map
+    final PointF pixel = mapboxMap.getProjection().toScreenLocation(cameraPosition.target);
+    List<Feature> features = mapboxMap.queryRenderedFeatures(pixel, "building");
+    BuildingOutlineCache.Outline outline = null;
+    if (features.size() > 0) {
+      outline = outlineCache.getOutline(features.get(0), longitude, latitude);
+    } else {
+      outlineCache.clearLastOutline();
+    }
+    showOutline(source, outline);
   }
 
   /**
-   * Update the FeatureCollection used by the building outline LineLayer. Then refresh the map.
+   * Update the data source used by the building outline LineLayer, which draws the rings of the building's
+   * polygon. The source isn't touched if the outline is already shown.
    */
-  private void updateOutline(@NonNull Style style) {
-    // Update the data source used by the building outline LineLayer and refresh the map
-    FeatureCollection featureCollection = FeatureCollection.fromFeatures(new Feature[]
-      {Feature.fromGeometry(getBuildingFeatureOutline(style))});
-    GeoJsonSource source = style.getSourceAs("source");
-    if (source != null) {
-      source.setGeoJson(featureCollection);
+  private void showOutline(@NonNull GeoJsonSource source, @Nullable BuildingOutlineCache.Outline outline) {
+    if (outline == shownOutline) {
+      return;
+    }
+    shownOutline = outline;
+    if (outline != null) {
+      source.setGeoJson(outline.getFeature());
+    } else {
+      source.setGeoJson(FeatureCollection.fromFeatures(new Feature[]{}));
     }
   }
 
@@ -7,6 +7,7 @@ import android.widget.Toast;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -28,6 +29,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillOpacity;
 /**
  * Detect click events on a polygon that was added as a GeoJsonSource.
  */
+@Example(
+  category = R.id.nav_query_map,
+  title = R.string.activity_query_click_on_layer_title,
+  description = R.string.activity_query_click_on_layer_description,
+  imageUrl = R.string.activity_query_click_on_layer_url,
+  order = 40,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class ClickOnLayerActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener {
 
@@ -12,6 +12,7 @@ import android.widget.Toast;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -27,6 +28,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillColor;
 /**
  * Get the feature count inside of a bounding box and highlight all of the buildings in the box.
  */
+@Example(
+  category = R.id.nav_query_map,
+  title = R.string.activity_query_feature_count_title,
+  description = R.string.activity_query_feature_count_description,
+  imageUrl = R.string.activity_query_feature_count_url,
+  order = 20,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class FeatureCountActivity extends AppCompatActivity {
 
   private MapView mapView;
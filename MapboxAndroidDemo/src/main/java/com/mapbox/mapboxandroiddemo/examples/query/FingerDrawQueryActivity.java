@@ -10,6 +10,7 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import android.view.MotionEvent;
 import android.view.View;
+import android.widget.TextView;
 import android.widget.Toast;
 
 import com.mapbox.geojson.Feature;
@@ -18,6 +19,9 @@ import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.GeoJsonAssetLoader;
+import com.mapbox.mapboxandroiddemo.utils.PointFeatureIndex;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -29,13 +33,10 @@ import com.mapbox.mapboxsdk.style.layers.Layer;
 import com.mapbox.mapboxsdk.style.layers.LineLayer;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
-import com.mapbox.turf.TurfJoins;
 
-import java.io.InputStream;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 import timber.log.Timber;
 
@@ -58,6 +59,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
  * Use the Android system {@link android.view.View.OnTouchListener} to draw
  * an polygon and/or a line. Also perform a search for data points within the drawn polygon area.
  */
+@Example(
+  category = R.id.nav_query_map,
+  title = R.string.activity_lab_drag_draw_title,
+  description = R.string.activity_lab_drag_draw_description,
+  imageUrl = R.string.activity_lab_drag_draw_url,
+  order = 80)
 public class FingerDrawQueryActivity extends AppCompatActivity {
 
   private static final String SEARCH_DATA_SYMBOL_LAYER_SOURCE_ID = "SEARCH_DATA_SYMBOL_LAYER_SOURCE_ID";
@@ -75,7 +82,9 @@ public class FingerDrawQueryActivity extends AppCompatActivity {
 
   private MapView mapView;
   private MapboxMap mapboxMap;
-  private FeatureCollection searchPointFeatureCollection;
+  private PointFeatureIndex searchPointIndex;
+  private View liveSearchResultCardView;
+  private TextView liveSearchResultTextView;
   private List<Point> freehandTouchPointListForPolygon = new ArrayList<>();
   private List<Point> freehandTouchPointListForLine = new ArrayList<>();
   private boolean showSearchDataLocations = true;
@@ -124,6 +133,13 @@ public class FingerDrawQueryActivity extends AppCompatActivity {
             fillPolygonSource.setGeoJson(drawnPolygon);
           }
 
+          // Keep the number of data points within the drawn area up to date while the finger moves
+          if (showSearchDataLocations && !drawSingleLineOnly && searchPointIndex != null) {
+            liveSearchResultTextView.setText(String.format(getString(R.string.live_search_result_size),
+              searchPointIndex.countWithin(freehandTouchPointListForPolygon)));
+            liveSearchResultCardView.setVisibility(View.VISIBLE);
+          }
+
           // Take certain actions when the drawing is done
           if (motionEvent.getAction() == MotionEvent.ACTION_UP) {
 
@@ -133,20 +149,17 @@ public class FingerDrawQueryActivity extends AppCompatActivity {
               freehandTouchPointListForLine.add(freehandTouchPointListForPolygon.get(0));
             }
 
-            if (showSearchDataLocations && !drawSingleLineOnly) {
+            if (showSearchDataLocations && !drawSingleLineOnly && searchPointIndex != null) {
 
-              // Use Turf to calculate the number of data points within a certain Polygon area
-              FeatureCollection pointsInSearchAreaFeatureCollection =
-                TurfJoins.pointsWithinPolygon(searchPointFeatureCollection,
-                  FeatureCollection.fromFeature(Feature.fromGeometry(
-                    drawnPolygon)));
+              // Use the spatial index to calculate the number of data points within the Polygon area
+              int pointsInSearchAreaCount = searchPointIndex.countWithin(freehandTouchPointListForPolygon);
 
               // Create a Toast which say show many data points within a certain Polygon area
               if (VISIBLE.equals(style.getLayer(
                 SEARCH_DATA_SYMBOL_LAYER_ID).getVisibility().getValue())) {
                 Toast.makeText(FingerDrawQueryActivity.this, String.format(
                   getString(R.string.search_result_size),
-                  pointsInSearchAreaFeatureCollection.features().size()), Toast.LENGTH_SHORT).show();
+                  pointsInSearchAreaCount), Toast.LENGTH_SHORT).show();
               }
             }
 
@@ -174,6 +187,9 @@ public class FingerDrawQueryActivity extends AppCompatActivity {
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_finger_drag_draw);
 
+    liveSearchResultCardView = findViewById(R.id.live_search_result_cardview);
+    liveSearchResultTextView = findViewById(R.id.live_search_result_textview);
+
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
     mapView.getMapAsync(new OnMapReadyCallback() {
@@ -188,7 +204,7 @@ public class FingerDrawQueryActivity extends AppCompatActivity {
             if (showSearchDataLocations) {
               new LoadGeoJson(FingerDrawQueryActivity.this).execute();
             } else {
-              setUpExample(null);
+              setUpExample(null, null);
             }
 
             findViewById(R.id.clear_map_for_new_draw_fab)
@@ -199,6 +215,7 @@ public class FingerDrawQueryActivity extends AppCompatActivity {
                     // Reset ArrayLists
                     freehandTouchPointListForPolygon = new ArrayList<>();
                     freehandTouchPointListForLine = new ArrayList<>();
+                    liveSearchResultCardView.setVisibility(View.GONE);
 
                     // Add empty Feature array to the sources
                     GeoJsonSource drawLineSource = style.getSourceAs(FREEHAND_DRAW_LINE_LAYER_SOURCE_ID);
@@ -245,9 +262,9 @@ public class FingerDrawQueryActivity extends AppCompatActivity {
     mapView.setOnTouchListener(customOnTouchListener);
   }
 
-  private void setUpExample(FeatureCollection searchDataFeatureCollection) {
+  private void setUpExample(FeatureCollection searchDataFeatureCollection, PointFeatureIndex searchDataIndex) {
 
-    searchPointFeatureCollection = searchDataFeatureCollection;
+    searchPointIndex = searchDataIndex;
 
     mapboxMap.getStyle(new Style.OnStyleLoaded() {
       @Override
@@ -309,9 +326,23 @@ public class FingerDrawQueryActivity extends AppCompatActivity {
   }
 
   /**
-   * Use an AsyncTask to retrieve GeoJSON data from a file in the assets folder.
+   * Holds the loaded search data together with the spatial index built from it.
    */
-  private static class LoadGeoJson extends AsyncTask<Void, Void, FeatureCollection> {
+  private static class SearchData {
+    private final FeatureCollection featureCollection;
+    private final PointFeatureIndex pointFeatureIndex;
+
+    SearchData(FeatureCollection featureCollection, PointFeatureIndex pointFeatureIndex) {
+      this.featureCollection = featureCollection;
+      this.pointFeatureIndex = pointFeatureIndex;
+    }
+  }
+
+  /**
+   * Use an AsyncTask to retrieve GeoJSON data from a file in the assets folder and to build
+   * the spatial index that's used for the search, so that neither blocks the UI thread.
+   */
+  private static class LoadGeoJson extends AsyncTask<Void, Void, SearchData> {
 
     private WeakReference<FingerDrawQueryActivity> weakReference;
 
@@ -320,12 +351,13 @@ public class FingerDrawQueryActivity extends AppCompatActivity {
     }
 
     @Override
-    protected FeatureCollection doInBackground(Void... voids) {
+    protected SearchData doInBackground(Void... voids) {
       try {
         FingerDrawQueryActivity activity = weakReference.get();
         if (activity != null) {
-          InputStream inputStream = activity.getAssets().open("albuquerque_locations.geojson");
-          return FeatureCollection.fromJson(convertStreamToString(inputStream));
+          FeatureCollection featureCollection =
+            GeoJsonAssetLoader.loadFeatureCollection(activity, "albuquerque_locations.geojson");
+          return new SearchData(featureCollection, new PointFeatureIndex(featureCollection));
         }
       } catch (Exception exception) {
         Timber.e("Exception Loading GeoJSON: %s", exception.toString());
@@ -333,18 +365,13 @@ public class FingerDrawQueryActivity extends AppCompatActivity {
       return null;
     }
 
-    static String convertStreamToString(InputStream is) {
-      Scanner scanner = new Scanner(is).useDelimiter("\\A");
-      return scanner.hasNext() ? scanner.next() : "";
-    }
-
 
     @Override
-    protected void onPostExecute(@Nullable FeatureCollection featureCollection) {
-      super.onPostExecute(featureCollection);
+    protected void onPostExecute(@Nullable SearchData searchData) {
+      super.onPostExecute(searchData);
       FingerDrawQueryActivity activity = weakReference.get();
-      if (activity != null && featureCollection != null) {
-        activity.setUpExample(featureCollection);
+      if (activity != null && searchData != null) {
+        activity.setUpExample(searchData.featureCollection, searchData.pointFeatureIndex);
       }
     }
   }
@@ -8,6 +8,7 @@ import android.widget.Toast;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -38,6 +39,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
 /**
  * Detect a tap on a data-driven styled line and add a line behind it for a highlight effect
  */
+@Example(
+  category = R.id.nav_query_map,
+  title = R.string.activity_query_highlighted_line_title,
+  description = R.string.activity_query_highlighted_line_description,
+  imageUrl = R.string.activity_query_highlighted_line_url,
+  order = 70)
 public class HighlightedLineActivity extends AppCompatActivity implements
   OnMapReadyCallback, MapboxMap.OnMapClickListener {
 
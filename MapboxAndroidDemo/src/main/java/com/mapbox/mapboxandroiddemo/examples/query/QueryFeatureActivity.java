@@ -2,8 +2,6 @@ package com.mapbox.mapboxandroiddemo.examples.query;
 
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
-import android.graphics.Canvas;
-import android.graphics.Color;
 import android.graphics.PointF;
 import android.os.AsyncTask;
 import android.os.Bundle;
@@ -16,6 +14,8 @@ import com.google.gson.JsonElement;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.ViewIconRenderer;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.annotations.BubbleLayout;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -27,6 +27,7 @@ import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 
 import java.lang.ref.WeakReference;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +45,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
 /**
  * Display map property information for a clicked map feature.
  */
+@Example(
+  category = R.id.nav_query_map,
+  title = R.string.activity_query_feature_title,
+  description = R.string.activity_query_feature_description,
+  imageUrl = R.string.activity_query_feature_url,
+  order = 30,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class QueryFeatureActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener {
 
@@ -198,7 +206,7 @@ public class QueryFeatureActivity extends AppCompatActivity implements OnMapRead
   public void setImageGenResults(HashMap<String, Bitmap> imageMap) {
     if (mapboxMap != null) {
       mapboxMap.getStyle(style -> {
-        style.addImages(imageMap);
+        ViewIconRenderer.getInstance().addToStyle(style, imageMap);
       });
     }
   }
@@ -227,37 +235,48 @@ public class QueryFeatureActivity extends AppCompatActivity implements OnMapRead
       QueryFeatureActivity activity = activityRef.get();
       HashMap<String, Bitmap> imagesMap = new HashMap<>();
       if (activity != null) {
-        LayoutInflater inflater = LayoutInflater.from(activity);
 
         if (params[0].features() != null) {
           featureAtMapClickPoint = params[0].features().get(0);
 
           StringBuilder stringBuilder = new StringBuilder();
 
-          BubbleLayout bubbleLayout = (BubbleLayout) inflater.inflate(
-            R.layout.activity_query_feature_window_symbol_layer, null);
-
-          TextView titleTextView = bubbleLayout.findViewById(R.id.info_window_title);
-          titleTextView.setText(activity.getString(R.string.query_feature_marker_title));
+          String title = activity.getString(R.string.query_feature_marker_title);
 
           if (featureAtMapClickPoint.properties() != null) {
             for (Map.Entry<String, JsonElement> entry : featureAtMapClickPoint.properties().entrySet()) {
               stringBuilder.append(String.format("%s - %s", entry.getKey(), entry.getValue()));
               stringBuilder.append(System.getProperty("line.separator"));
             }
+            String propertiesList = stringBuilder.toString();
+
+            // Clicking the same feature again reuses the callout that was already drawn for it
+            ViewIconRenderer.IconRequest request = new ViewIconRenderer.IconRequest(CALLOUT_IMAGE_ID,
+              title + "\n" + propertiesList, inflater -> {
+                BubbleLayout bubbleLayout = (BubbleLayout) inflater.inflate(
+                  R.layout.activity_query_feature_window_symbol_layer, null);
+
+                TextView titleTextView = bubbleLayout.findViewById(R.id.info_window_title);
+                titleTextView.setText(title);
 
-            TextView propertiesListTextView = bubbleLayout.findViewById(R.id.info_window_feature_properties_list);
-            propertiesListTextView.setText(stringBuilder.toString());
+                TextView propertiesListTextView = bubbleLayout.findViewById(R.id.info_window_feature_properties_list);
+                propertiesListTextView.setText(propertiesList);
 
-            int measureSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-            bubbleLayout.measure(measureSpec, measureSpec);
+                int measureSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+                bubbleLayout.measure(measureSpec, measureSpec);
 
-            float measuredWidth = bubbleLayout.getMeasuredWidth();
+                float measuredWidth = bubbleLayout.getMeasuredWidth();
 
-            bubbleLayout.setArrowPosition(measuredWidth / 2 - 5);
+                bubbleLayout.setArrowPosition(measuredWidth / 2 - 5);
+                return bubbleLayout;
+              }, false);
 
-            Bitmap bitmap = QueryFeatureActivity.SymbolGenerator.generate(bubbleLayout);
-            imagesMap.put(CALLOUT_IMAGE_ID, bitmap);
+            try {
+              imagesMap.putAll(ViewIconRenderer.getInstance().renderAll(LayoutInflater.from(activity),
+                Collections.singletonList(request)).images);
+            } catch (InterruptedException exception) {
+              return imagesMap;
+            }
           }
         }
       }
@@ -277,33 +296,6 @@ public class QueryFeatureActivity extends AppCompatActivity implements OnMapRead
 
   }
 
-  /**
-   * Utility class to generate Bitmaps for Symbol.
-   */
-  private static class SymbolGenerator {
-
-    /**
-     * Generate a Bitmap from an Android SDK View.
-     *
-     * @param view the View to be drawn to a Bitmap
-     * @return the generated bitmap
-     */
-    static Bitmap generate(@NonNull View view) {
-      int measureSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-      view.measure(measureSpec, measureSpec);
-
-      int measuredWidth = view.getMeasuredWidth();
-      int measuredHeight = view.getMeasuredHeight();
-
-      view.layout(0, 0, measuredWidth, measuredHeight);
-      Bitmap bitmap = Bitmap.createBitmap(measuredWidth, measuredHeight, Bitmap.Config.ARGB_8888);
-      bitmap.eraseColor(Color.TRANSPARENT);
-      Canvas canvas = new Canvas(bitmap);
-      view.draw(canvas);
-      return bitmap;
-    }
-  }
-
   @Override
   public void onResume() {
     super.onResume();
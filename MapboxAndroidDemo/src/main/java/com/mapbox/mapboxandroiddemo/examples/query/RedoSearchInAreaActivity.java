@@ -13,6 +13,7 @@ import com.mapbox.android.gestures.MoveGestureDetector;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -34,6 +35,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillOpacity;
  * Use MapboxMap.queryRenderedFeatures() to find and highlight certain features within the map viewport.
  * The search button re-appears when the map is moved.
  */
+@Example(
+  category = R.id.nav_query_map,
+  title = R.string.activity_query_redo_search_in_area_title,
+  description = R.string.activity_query_redo_search_in_area_description,
+  imageUrl = R.string.activity_query_redo_search_in_area_url,
+  order = 50,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class RedoSearchInAreaActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMoveListener {
 
@@ -10,6 +10,8 @@ import android.widget.Toast;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.BuildingOutlineCache;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -25,11 +27,19 @@ import java.util.List;
 /**
  * Use the query feature to select a building, get its geometry, and draw a polygon highlighting it.
  */
+@Example(
+  category = R.id.nav_query_map,
+  title = R.string.activity_query_select_building_title,
+  description = R.string.activity_query_select_building_description,
+  imageUrl = R.string.activity_query_select_building_url,
+  order = 10,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class SelectBuildingActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener {
 
   private MapView mapView;
   private MapboxMap mapboxMap;
+  private final BuildingOutlineCache outlineCache = new BuildingOutlineCache();
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -68,12 +78,17 @@ public class SelectBuildingActivity extends AppCompatActivity implements OnMapRe
 
   @Override
   public boolean onMapClick(@NonNull LatLng point) {
+    if (outlineCache.findLastOutline(point.getLongitude(), point.getLatitude()) != null) {
+      // The building is already selected
+      return true;
+    }
     mapboxMap.getStyle(new Style.OnStyleLoaded() {
       @Override
       public void onStyleLoaded(@NonNull Style style) {
         final PointF finalPoint = mapboxMap.getProjection().toScreenLocation(point);
         List<Feature> features = mapboxMap.queryRenderedFeatures(finalPoint, "building");
         if (features.size() > 0) {
+          outlineCache.getOutline(features.get(0), point.getLongitude(), point.getLatitude());
           GeoJsonSource selectedBuildingSource = style.getSourceAs("source-id");
           if (selectedBuildingSource != null) {
             selectedBuildingSource.setGeoJson(FeatureCollection.fromFeatures(features));
@@ -11,6 +11,7 @@ import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.MainActivity;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
@@ -31,6 +32,12 @@ import static android.app.PendingIntent.getActivity;
  * Test activity showing how to use a the {@link com.mapbox.mapboxsdk.snapshotter.MapSnapshotter}
  * in a way that utilizes provided bitmaps in native notifications.
  */
+@Example(
+  category = R.id.nav_snapshot_image_generator,
+  title = R.string.activity_image_generator_snapshot_notification_title,
+  description = R.string.activity_image_generator_snapshot_notification_description,
+  imageUrl = R.string.activity_image_generator_snapshot_notification_url,
+  order = 10)
 public class SnapshotNotificationActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapClickListener {
 
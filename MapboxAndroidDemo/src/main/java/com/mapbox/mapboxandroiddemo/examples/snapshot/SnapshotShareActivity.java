@@ -11,6 +11,7 @@ import android.widget.Toast;
 
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -28,6 +29,12 @@ import java.io.IOException;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
+@Example(
+  category = R.id.nav_snapshot_image_generator,
+  title = R.string.activity_image_generator_snapshot_share_title,
+  description = R.string.activity_image_generator_snapshot_share_description,
+  imageUrl = R.string.activity_image_generator_snapshot_share_url,
+  order = 20)
 public class SnapshotShareActivity extends AppCompatActivity {
 
   private MapView mapView;
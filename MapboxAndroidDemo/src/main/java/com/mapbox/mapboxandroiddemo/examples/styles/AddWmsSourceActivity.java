@@ -6,6 +6,7 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -18,6 +19,13 @@ import com.mapbox.mapboxsdk.style.sources.TileSet;
 /**
  * Adding an external Web Map Service layer to the map.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_add_wms_source_title,
+  description = R.string.activity_styles_add_wms_source_description,
+  imageUrl = R.string.activity_styles_add_wms_source_url,
+  order = 70,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class AddWmsSourceActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -7,6 +7,7 @@ import android.widget.SeekBar;
 import android.widget.TextView;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -21,6 +22,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.rasterOpacity;
 /**
  * Use a seekbar to adjust the opacity of a raster layer on top of a map.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_adjust_layer_opacity_title,
+  description = R.string.activity_styles_adjust_layer_opacity_description,
+  imageUrl = R.string.activity_styles_adjust_layer_opacity_url,
+  order = 90)
 public class AdjustLayerOpacityActivity extends AppCompatActivity {
 
   private MapView mapView;
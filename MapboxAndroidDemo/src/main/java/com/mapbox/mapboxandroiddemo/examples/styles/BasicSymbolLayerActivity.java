@@ -9,6 +9,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -28,6 +29,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
 /**
  * Display {@link SymbolLayer} icons on the map.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_basic_symbol_layer_title,
+  description = R.string.activity_styles_basic_symbol_layer_description,
+  imageUrl = R.string.activity_styles_symbol_layer_url,
+  order = 20,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class BasicSymbolLayerActivity extends AppCompatActivity implements
   OnMapReadyCallback {
 
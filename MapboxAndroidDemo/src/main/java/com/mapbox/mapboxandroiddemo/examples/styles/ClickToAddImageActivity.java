@@ -15,6 +15,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngQuad;
@@ -41,6 +42,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.circleRadius;
  * Tap the map in four locations to set the bounds for an image that is selected from the device's gallery
  * and then added to the map.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_click_to_add_image_title,
+  description = R.string.activity_styles_click_to_add_image_description,
+  imageUrl = R.string.activity_styles_click_to_add_image_url,
+  order = 200)
 public class ClickToAddImageActivity extends AppCompatActivity implements
   OnMapReadyCallback, MapboxMap.OnMapClickListener {
 
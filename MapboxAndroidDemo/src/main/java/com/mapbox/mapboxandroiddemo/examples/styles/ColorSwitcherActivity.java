@@ -10,6 +10,7 @@ import android.widget.SeekBar;
 import android.widget.Spinner;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -22,6 +23,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillColor;
 /**
  * Using setPaintProperty to change a layer's fill color.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_color_switcher_title,
+  description = R.string.activity_styles_color_switcher_description,
+  imageUrl = R.string.activity_styles_color_switcher_url,
+  order = 50,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class ColorSwitcherActivity extends AppCompatActivity {
 
   private MapView mapView;
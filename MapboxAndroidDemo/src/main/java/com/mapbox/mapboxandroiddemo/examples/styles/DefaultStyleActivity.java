@@ -7,6 +7,7 @@ import android.view.Menu;
 import android.view.MenuItem;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -16,6 +17,12 @@ import com.mapbox.mapboxsdk.maps.Style;
 /**
  * Use a variety of professionally designed styles with the Mapbox Android SDK.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_default_title,
+  description = R.string.activity_styles_default_description,
+  imageUrl = R.string.activity_styles_default_url,
+  order = 10)
 public class DefaultStyleActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -4,6 +4,7 @@ import android.graphics.Color;
 import android.os.Bundle;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -24,6 +25,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillOpacity;
 /**
  * Using the second argument of addLayer, you can add a layer below existing one
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_geojson_layer_in_stack_title,
+  description = R.string.activity_styles_geojson_layer_in_stack_description,
+  imageUrl = R.string.activity_styles_geojson_layer_in_stack_url,
+  order = 80,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class GeojsonLayerInStackActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -6,6 +6,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -20,6 +21,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.hillshadeShadowC
 /**
  * Use terrain data to show hills and use runtime styling to style the hill shading.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_hillshade_title,
+  description = R.string.activity_style_hillshade_description,
+  imageUrl = R.string.activity_style_hillshade_url,
+  order = 170)
 public class HillShadeActivity extends AppCompatActivity implements
   OnMapReadyCallback {
 
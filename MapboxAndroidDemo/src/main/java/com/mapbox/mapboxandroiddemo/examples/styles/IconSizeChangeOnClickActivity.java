@@ -11,6 +11,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -30,6 +31,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconOffset;
 /**
  * Use a SymbolLayer to display icons and then change an icon's size when tapped on.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_symbol_icon_onclick_size_change_title,
+  description = R.string.activity_styles_symbol_icon_onclick_size_change_description,
+  imageUrl = R.string.activity_styles_symbol_icon_onclick_size_change_url,
+  order = 30)
 public class IconSizeChangeOnClickActivity extends AppCompatActivity implements
   OnMapReadyCallback, MapboxMap.OnMapClickListener {
 
@@ -5,6 +5,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngQuad;
@@ -18,6 +19,13 @@ import com.mapbox.mapboxsdk.style.sources.ImageSource;
 /**
  * Use an ImageSource to add an image to the map.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_style_image_source_title,
+  description = R.string.activity_style_image_source_description,
+  imageUrl = R.string.activity_style_image_source_url,
+  order = 150,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class ImageSourceActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
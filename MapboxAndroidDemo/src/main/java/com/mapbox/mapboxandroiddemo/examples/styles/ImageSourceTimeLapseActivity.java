@@ -1,11 +1,15 @@
 package com.mapbox.mapboxandroiddemo.examples.styles;
 
+import android.graphics.Bitmap;
+import android.os.AsyncTask;
 import android.os.Bundle;
-import android.os.Handler;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
+import com.mapbox.mapboxandroiddemo.utils.ImageSourceFramePlayer;
+import com.mapbox.mapboxandroiddemo.utils.MapAnimationScheduler;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngQuad;
@@ -16,16 +20,32 @@ import com.mapbox.mapboxsdk.maps.Style;
 import com.mapbox.mapboxsdk.style.layers.RasterLayer;
 import com.mapbox.mapboxsdk.style.sources.ImageSource;
 
+import java.lang.ref.WeakReference;
+
 /**
  * Use a series of images to create an animation with an ImageSource
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_style_image_source_time_lapse_title,
+  description = R.string.activity_style_image_source_time_lapse_description,
+  imageUrl = R.string.activity_style_image_source_time_lapse_url,
+  order = 160,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class ImageSourceTimeLapseActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
-  private Handler handler;
-  private Runnable runnable;
+  private MapAnimationScheduler animationScheduler;
+  private DecodeFramesTask decodeFramesTask;
+  private ImageSourceFramePlayer framePlayer;
   private static final String ID_IMAGE_SOURCE = "animated_image_source";
   private static final String ID_IMAGE_LAYER = "animated_image_layer";
+  private static final int[] DRAWABLES = new int[] {
+    R.drawable.southeast_radar_0,
+    R.drawable.southeast_radar_1,
+    R.drawable.southeast_radar_2,
+    R.drawable.southeast_radar_3
+  };
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
@@ -38,6 +58,9 @@ public class ImageSourceTimeLapseActivity extends AppCompatActivity implements O
     // This contains the MapView in XML and needs to be called after the access token is configured.
     setContentView(R.layout.activity_image_source_time_lapse);
 
+    animationScheduler = new MapAnimationScheduler();
+    getLifecycle().addObserver(animationScheduler);
+
     mapView = findViewById(R.id.mapView);
     mapView.onCreate(savedInstanceState);
     mapView.getMapAsync(this);
@@ -54,43 +77,52 @@ public class ImageSourceTimeLapseActivity extends AppCompatActivity implements O
             new LatLng(46.437, -80.425),
             new LatLng(46.437, -71.516),
             new LatLng(37.936, -71.516),
-            new LatLng(37.936, -80.425)), R.drawable.southeast_radar_0));
+            new LatLng(37.936, -80.425)), DRAWABLES[0]));
 
         // Add layer
         style.addLayer(new RasterLayer(ID_IMAGE_LAYER, ID_IMAGE_SOURCE));
 
-        // Loop the GeoJSON refreshing
-        handler = new Handler();
-        runnable = new RefreshImageRunnable(handler, style);
-        handler.postDelayed(runnable, 100);
+        // Decode all images once in the background, then loop through them
+        decodeFramesTask = new DecodeFramesTask(ImageSourceTimeLapseActivity.this, style);
+        decodeFramesTask.execute();
       }
     });
   }
 
-  private static class RefreshImageRunnable implements Runnable {
-    private final Style loadedMapStyle;
-    private final Handler handler;
-    private int[] drawables;
-    private int drawableIndex;
-
-    RefreshImageRunnable(Handler handler,Style loadedMapStyle) {
-      this.handler = handler;
-      this.loadedMapStyle = loadedMapStyle;
-      drawables = new int[4];
-      drawables[0] = R.drawable.southeast_radar_0;
-      drawables[1] = R.drawable.southeast_radar_1;
-      drawables[2] = R.drawable.southeast_radar_2;
-      drawables[3] = R.drawable.southeast_radar_3;
-      drawableIndex = 1;
+  private void startPlayback(@NonNull Style style, @NonNull Bitmap[] frames) {
+    ImageSource imageSource = style.getSourceAs(ID_IMAGE_SOURCE);
+    if (imageSource != null) {
+      framePlayer = new ImageSourceFramePlayer(imageSource, frames);
+      animationScheduler.schedule(framePlayer, 1000);
+    }
+  }
+
+  private static class DecodeFramesTask extends AsyncTask<Void, Void, Bitmap[]> {
+
+    private final WeakReference<ImageSourceTimeLapseActivity> activityRef;
+    private final Style style;
+
+    DecodeFramesTask(ImageSourceTimeLapseActivity activity, Style style) {
+      this.activityRef = new WeakReference<>(activity);
+      this.style = style;
+    }
+
+    @Override
+    protected Bitmap[] doInBackground(Void... voids) {
+      ImageSourceTimeLapseActivity activity = activityRef.get();
+      if (activity == null) {
+        return null;
+      }
+      return ImageSourceFramePlayer.decodeResources(activity.getResources(), DRAWABLES,
+        ImageSourceFramePlayer.getDefaultMaxBytes());
     }
 
     @Override
-    public void run() {
-      ((ImageSource) loadedMapStyle.getSource(ID_IMAGE_SOURCE)).setImage(drawables[drawableIndex++]);
-      if (drawableIndex > 3) {
-        drawableIndex = 0;
+    protected void onPostExecute(Bitmap[] frames) {
+      ImageSourceTimeLapseActivity activity = activityRef.get();
+      if (activity != null && frames != null && style.isFullyLoaded()) {
+        activity.startPlayback(style, frames);
       }
-      handler.postDelayed(this, 1000);
     }
   }
 
@@ -129,8 +161,11 @@ public class ImageSourceTimeLapseActivity extends AppCompatActivity implements O
   @Override
   protected void onDestroy() {
     super.onDestroy();
-    if (handler != null && runnable != null) {
-      handler.removeCallbacks(runnable);
+    if (decodeFramesTask != null) {
+      decodeFramesTask.cancel(true);
+    }
+    if (framePlayer != null) {
+      framePlayer.release();
     }
     mapView.onDestroy();
   }
@@ -4,6 +4,7 @@ import android.os.Bundle
 import android.widget.Toast
 import androidx.appcompat.app.AppCompatActivity
 import com.mapbox.mapboxandroiddemo.R
+import com.mapbox.mapboxandroiddemo.model.Example
 import com.mapbox.mapboxsdk.Mapbox
 import com.mapbox.mapboxsdk.maps.MapView
 import com.mapbox.mapboxsdk.maps.Style
@@ -18,6 +19,15 @@ import kotlinx.android.synthetic.main.activity_style_worldview_switch.*
  * More about Mapbox's worldview can be found at
  * https://docs.mapbox.com/vector-tiles/reference/mapbox-streets-v8/#-worldview-text
  */
+@Example(
+    category = R.id.nav_styles,
+    title = R.string.activity_styles_worldview_switch_title,
+    description = R.string.activity_styles_worldview_switch_description,
+    imageUrl = R.string.activity_styles_worldview_switch_url,
+    order = 260,
+    showNewIcon = true,
+    kotlinOnly = true
+)
 class KotlinWorldviewSwitchActivity : AppCompatActivity() {
 
     private lateinit var mapView: MapView
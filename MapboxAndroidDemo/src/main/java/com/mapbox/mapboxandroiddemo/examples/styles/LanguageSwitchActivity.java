@@ -7,6 +7,7 @@ import android.view.Menu;
 import android.view.MenuItem;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -19,6 +20,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textField;
 /**
  * Use runtime styling to change the language displayed on the map
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_language_switch_title,
+  description = R.string.activity_styles_language_switch_description,
+  imageUrl = R.string.activity_styles_language_switch_url,
+  order = 110,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class LanguageSwitchActivity extends AppCompatActivity {
 
   private MapView mapView;
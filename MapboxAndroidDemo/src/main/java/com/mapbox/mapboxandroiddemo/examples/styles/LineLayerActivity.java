@@ -10,6 +10,7 @@ import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -26,6 +27,13 @@ import java.util.List;
 /**
  * Add a GeoJSON line to a map.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_line_layer_title,
+  description = R.string.activity_styles_line_layer_description,
+  imageUrl = R.string.activity_styles_line_layer_url,
+  order = 40,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class LineLayerActivity extends AppCompatActivity {
 
   private MapView mapView;
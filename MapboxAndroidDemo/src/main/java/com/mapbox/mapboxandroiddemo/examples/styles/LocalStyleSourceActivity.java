@@ -6,6 +6,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import android.view.View;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -15,6 +16,12 @@ import com.mapbox.mapboxsdk.maps.Style;
 /**
  * Example loads the map style via a locally stored style JSON file or custom raster style
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_local_style_or_raster_source_title,
+  description = R.string.activity_styles_local_style_or_raster_source_description,
+  imageUrl = R.string.activity_styles_local_style_or_raster_source_url,
+  order = 140)
 public class LocalStyleSourceActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -5,6 +5,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -14,6 +15,12 @@ import com.mapbox.mapboxsdk.maps.Style;
 /**
  * Use a custom Mapbox-hosted style.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_mapbox_studio_title,
+  description = R.string.activity_styles_mapbox_studio_description,
+  imageUrl = R.string.activity_styles_mapbox_studio_url,
+  order = 130)
 public class MapboxStudioStyleActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -8,6 +8,7 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -32,6 +33,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textOffset;
  * cannot be found in a map style, a custom image can be provided to the map via
  * the listener.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_missing_icon_title,
+  description = R.string.activity_styles_missing_icon_description,
+  imageUrl = R.string.activity_styles_missing_icon_url,
+  order = 240)
 public class MissingIconActivity extends AppCompatActivity {
 
   private static final String ICON_SOURCE_ID = "ICON_SOURCE_ID";
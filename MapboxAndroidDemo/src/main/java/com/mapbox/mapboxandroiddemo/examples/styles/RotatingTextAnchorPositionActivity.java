@@ -7,6 +7,7 @@ import android.view.View;
 import android.widget.TextView;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -30,6 +31,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textIgnorePlacem
 /**
  * Use runtime-styling to adjust the state label SymbolLayer's textField anchor position.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_rotating_anchor_text_title,
+  description = R.string.activity_styles_rotating_anchor_text_description,
+  imageUrl = R.string.activity_styles_rotating_anchor_text_url,
+  order = 210)
 public class RotatingTextAnchorPositionActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -5,6 +5,7 @@ import android.os.Bundle;
 import android.view.View;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -19,6 +20,12 @@ import androidx.appcompat.app.AppCompatActivity;
 /**
  * Change various properties of a map based on user interaction and other runtime situations.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_runtime_styling_title,
+  description = R.string.activity_styles_runtime_styling_description,
+  imageUrl = R.string.activity_styles_runtime_styling_url,
+  order = 270)
 public class RuntimeStylingActivity extends AppCompatActivity {
 
   private MapView mapView;
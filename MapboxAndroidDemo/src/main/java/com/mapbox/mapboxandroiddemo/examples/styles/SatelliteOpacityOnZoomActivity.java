@@ -8,6 +8,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
@@ -32,6 +33,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.rasterOpacity;
  * Go from the Mapbox Streets style to a satellite photo raster layer as the map camera zooms in.
  * This is similar to how Snap uses Mapbox for Snap Maps.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_satellite_opacity_on_zoom_title,
+  description = R.string.activity_style_satellite_opacity_on_zoom_description,
+  imageUrl = R.string.activity_style_satellite_opacity_on_zoom_url,
+  order = 220)
 public class SatelliteOpacityOnZoomActivity extends AppCompatActivity implements
   OnMapReadyCallback {
 
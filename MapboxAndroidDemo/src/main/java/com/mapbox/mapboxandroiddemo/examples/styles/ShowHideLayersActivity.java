@@ -7,6 +7,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import android.view.View;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -25,6 +26,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
 /**
  * Toggle visibility of a dataset with a Button.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_show_hide_layer_title,
+  description = R.string.activity_styles_show_hide_layer_description,
+  imageUrl = R.string.activity_styles_show_hide_layer_url,
+  order = 120)
 public class ShowHideLayersActivity extends AppCompatActivity {
 
   private MapView mapView;
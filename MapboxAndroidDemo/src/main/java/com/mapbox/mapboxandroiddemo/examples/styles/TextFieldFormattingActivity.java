@@ -7,6 +7,7 @@ import android.view.View;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -22,6 +23,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textSize;
 /**
  * Use runtime styling to adjust the font, size, and color of SymbolLayer text fields.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_text_field_formatting_title,
+  description = R.string.activity_styles_text_field_formatting_description,
+  imageUrl = R.string.activity_styles_text_field_formatting_url,
+  order = 230)
 public class TextFieldFormattingActivity extends AppCompatActivity {
 
   private static final String[] textFonts = new String[] {"Roboto Black", "Arial Unicode MS Regular"};
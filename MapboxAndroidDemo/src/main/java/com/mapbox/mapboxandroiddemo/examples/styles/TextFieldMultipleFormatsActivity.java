@@ -6,6 +6,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -27,6 +28,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textField;
  * Use runtime styling to create labels with a SymbolLayer that include multiple text
  * languages, fonts, sizes, and colors.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_text_field_multiple_formats_title,
+  description = R.string.activity_styles_text_field_multiple_formats_description,
+  imageUrl = R.string.activity_styles_text_field_multiple_formats_url,
+  order = 180)
 public class TextFieldMultipleFormatsActivity extends AppCompatActivity {
 
   private MapView mapView;
@@ -10,6 +10,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import android.widget.VideoView;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -31,6 +32,12 @@ import timber.log.Timber;
  * Create a transparent render surface and add whatever you want to the background. This example
  * has a video of moving water behind Earth's land.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_transparent_background_title,
+  description = R.string.activity_styles_transparent_background_description,
+  imageUrl = R.string.activity_styles_transparent_background_url,
+  order = 190)
 public class TransparentBackgroundActivity extends AppCompatActivity implements OnMapReadyCallback {
 
   private MapView mapView;
@@ -9,6 +9,7 @@ import timber.log.Timber;
 import android.widget.Toast;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -39,6 +40,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.textVariableAnch
  * renderer a list of preferred text anchor positions via
  * {@link com.mapbox.mapboxsdk.style.layers.PropertyFactory#textVariableAnchor(String[])}.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_variable_label_placement_title,
+  description = R.string.activity_styles_variable_label_placement_description,
+  imageUrl = R.string.activity_styles_variable_label_placement_url,
+  order = 250)
 public class VariableLabelPlacementActivity extends AppCompatActivity {
 
   private static final String GEOJSON_SRC_ID = "poi_source_id";
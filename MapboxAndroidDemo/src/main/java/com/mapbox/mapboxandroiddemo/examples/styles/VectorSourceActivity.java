@@ -6,6 +6,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -23,6 +24,12 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineWidth;
 /**
  * Add a vector source to a map.
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_vector_source_title,
+  description = R.string.activity_styles_vector_source_description,
+  imageUrl = R.string.activity_styles_vector_source_url,
+  order = 60)
 public class VectorSourceActivity extends AppCompatActivity {
 
   private MapView mapView;
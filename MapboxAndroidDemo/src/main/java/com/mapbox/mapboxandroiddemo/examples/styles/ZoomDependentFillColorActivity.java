@@ -5,6 +5,7 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.mapbox.mapboxandroiddemo.R;
+import com.mapbox.mapboxandroiddemo.model.Example;
 import com.mapbox.mapboxsdk.Mapbox;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
 import com.mapbox.mapboxsdk.geometry.LatLng;
@@ -23,6 +24,13 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.fillColor;
 /**
  * Use runtime styling to change the water layer's fill color based on the map zoom level
  */
+@Example(
+  category = R.id.nav_styles,
+  title = R.string.activity_styles_zoom_dependent_fill_color_title,
+  description = R.string.activity_styles_zoom_dependent_fill_color_description,
+  imageUrl = R.string.activity_styles_zoom_dependent_fill_color_url,
+  order = 100,
+  flavors = {Example.GLOBAL, Example.CHINA})
 public class ZoomDependentFillColorActivity extends AppCompatActivity {
 
   private MapView mapView;
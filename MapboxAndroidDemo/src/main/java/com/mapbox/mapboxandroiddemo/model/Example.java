@@ -0,0 +1,60 @@
+package com.mapbox.mapboxandroiddemo.model;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lists an activity in the example catalog of {@link com.mapbox.mapboxandroiddemo.MainActivity}.
+ * <p>
+ * The annotations are only read by scripts/generate-example-registry.js, which writes the
+ * ExampleCatalog of each flavor. Run {@code make example-registry} after adding or changing one.
+ * </p>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Example {
+
+  String GLOBAL = "global";
+  String CHINA = "china";
+
+  /**
+   * The id of the navigation drawer item the example is listed under.
+   */
+  int category();
+
+  int title();
+
+  int description();
+
+  int imageUrl();
+
+  /**
+   * Position within the category, lower values are listed first.
+   */
+  int order();
+
+  boolean showNewIcon() default false;
+
+  /**
+   * 0 if the example runs on the app's minimum SDK version.
+   */
+  int minSdkVersion() default 0;
+
+  /**
+   * The Kotlin version of the example, if there is one.
+   */
+  Class<?> kotlinActivity() default Void.class;
+
+  /**
+   * True for Kotlin examples without a Java version, which are only listed with the Kotlin
+   * examples.
+   */
+  boolean kotlinOnly() default false;
+
+  /**
+   * The product flavors that list the example.
+   */
+  String[] flavors() default GLOBAL;
+}
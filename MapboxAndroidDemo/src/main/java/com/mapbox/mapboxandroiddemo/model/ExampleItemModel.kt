@@ -1,15 +1,14 @@
 package com.mapbox.mapboxandroiddemo.model
 
-import android.content.Intent
-
-// Just a model for the detailed item recycler
+// Just a model for the detailed item recycler. The activities are only referenced by their
+// class names, so the Intents are created when an example is opened.
 class ExampleItemModel(
   val categoryId: Int,
   val title: Int,
   val description: Int,
-  val javaActivity: Intent?,
-  val kotlinActivity: Intent?,
+  val javaActivityClassName: String?,
+  val kotlinActivityClassName: String?,
   val imageUrl: Int,
   val showNewIcon: Boolean,
   val minSdkVersion: Int
-)
\ No newline at end of file
+)
@@ -0,0 +1,199 @@
+package com.mapbox.mapboxandroiddemo.model;
+
+import android.os.Build;
+import android.util.SparseArray;
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Looks up the examples in the table generated from the {@link Example} annotations, see the ExampleCatalog of
+ * each flavor.
+ * <p>
+ * The table is sorted by category and only holds resource ids and activity class names, so nothing is loaded or
+ * allocated per example until a category is listed. The models are created then and reused, so the same example
+ * is always the same instance. Searching goes through a token index over the titles and descriptions of all
+ * languages that was built together with the table. Must be used on the main thread.
+ * </p>
+ */
+public final class ExampleRegistry {
+
+  public static final int COLUMN_TITLE = 0;
+  public static final int COLUMN_DESCRIPTION = 1;
+  public static final int COLUMN_IMAGE_URL = 2;
+  public static final int COLUMN_MIN_SDK_VERSION = 3;
+  public static final int COLUMN_SHOW_NEW_ICON = 4;
+  public static final int COLUMN_COUNT = 5;
+
+  private static final String SEARCH_TOKEN_SEPARATOR = " ";
+  private static final String SEARCH_POSTINGS_SEPARATOR = ";";
+  private static final String SEARCH_ROW_SEPARATOR = ",";
+  // Must split the query the same way scripts/generate-example-registry.js split the texts
+  private static final String QUERY_SEPARATOR = "[^\\p{L}\\p{N}]+";
+
+  private final int[] categories;
+  private final int[] categoryStarts;
+  private final int[] table;
+  private final String[] javaActivities;
+  private final String[] kotlinActivities;
+  private final String searchTokens;
+  private final String searchPostings;
+
+  private final ExampleItemModel[] models;
+  private final SparseArray<List<ExampleItemModel>> javaExamples = new SparseArray<>();
+  private final SparseArray<List<ExampleItemModel>> kotlinExamples = new SparseArray<>();
+
+  // Decoded on the first search
+  private String[] tokens;
+  private int[][] postings;
+
+  /**
+   * @param categories       the navigation drawer item ids
+   * @param categoryStarts   the first row of each category, followed by the row count
+   * @param table            {@link #COLUMN_COUNT} values per row
+   * @param javaActivities   the Java activity class name per row, or null
+   * @param kotlinActivities the Kotlin activity class name per row, or null
+   * @param searchTokens     the lower case words of the titles and descriptions, sorted and separated by spaces
+   * @param searchPostings   the rows containing each word, separated by commas, per word separated by semicolons
+   */
+  public ExampleRegistry(@NonNull int[] categories, @NonNull int[] categoryStarts, @NonNull int[] table,
+                         @NonNull String[] javaActivities, @NonNull String[] kotlinActivities,
+                         @NonNull String searchTokens, @NonNull String searchPostings) {
+    this.categories = categories;
+    this.categoryStarts = categoryStarts;
+    this.table = table;
+    this.javaActivities = javaActivities;
+    this.kotlinActivities = kotlinActivities;
+    this.searchTokens = searchTokens;
+    this.searchPostings = searchPostings;
+    models = new ExampleItemModel[javaActivities.length];
+  }
+
+  /**
+   * @param categoryId the id of the navigation drawer item
+   * @param java       true for the Java examples, false for the Kotlin ones
+   * @return the examples the device's SDK version supports, in the order they're listed, which can't be modified
+   */
+  @NonNull
+  public List<ExampleItemModel> getExamples(int categoryId, boolean java) {
+    SparseArray<List<ExampleItemModel>> examplesByCategory = java ? javaExamples : kotlinExamples;
+    List<ExampleItemModel> examples = examplesByCategory.get(categoryId);
+    if (examples == null) {
+      examples = new ArrayList<>();
+      int category = indexOf(categories, categoryId);
+      if (category >= 0) {
+        for (int row = categoryStarts[category]; row < categoryStarts[category + 1]; row++) {
+          if (isListed(row, java)) {
+            examples.add(getModel(category, row));
+          }
+        }
+      }
+      examples = Collections.unmodifiableList(examples);
+      examplesByCategory.put(categoryId, examples);
+    }
+    return examples;
+  }
+
+  /**
+   * Finds the examples whose title or description, in any language, has a word starting with each word of the
+   * query.
+   *
+   * @param java true for the Java examples, false for the Kotlin ones
+   * @return the matching examples ordered by category, empty if the query has no words
+   */
+  @NonNull
+  public List<ExampleItemModel> search(@NonNull String query, boolean java) {
+    boolean[] matches = null;
+    for (String word : query.toLowerCase(Locale.ROOT).split(QUERY_SEPARATOR)) {
+      if (word.isEmpty()) {
+        continue;
+      }
+      boolean[] wordMatches = findRows(word);
+      if (matches == null) {
+        matches = wordMatches;
+      } else {
+        for (int row = 0; row < matches.length; row++) {
+          matches[row] &= wordMatches[row];
+        }
+      }
+    }
+
+    List<ExampleItemModel> results = new ArrayList<>();
+    if (matches == null) {
+      return results;
+    }
+    for (int category = 0; category < categories.length; category++) {
+      for (int row = categoryStarts[category]; row < categoryStarts[category + 1]; row++) {
+        if (matches[row] && isListed(row, java)) {
+          results.add(getModel(category, row));
+        }
+      }
+    }
+    return results;
+  }
+
+  private boolean[] findRows(String prefix) {
+    if (tokens == null) {
+      decodeSearchIndex();
+    }
+    boolean[] rows = new boolean[models.length];
+    int index = Arrays.binarySearch(tokens, prefix);
+    if (index < 0) {
+      index = -index - 1;
+    }
+    // All tokens starting with the prefix follow it in the sorted array
+    for (; index < tokens.length && tokens[index].startsWith(prefix); index++) {
+      for (int row : postings[index]) {
+        rows[row] = true;
+      }
+    }
+    return rows;
+  }
+
+  private void decodeSearchIndex() {
+    tokens = searchTokens.isEmpty() ? new String[0] : searchTokens.split(SEARCH_TOKEN_SEPARATOR);
+    String[] rowLists = searchPostings.split(SEARCH_POSTINGS_SEPARATOR);
+    postings = new int[tokens.length][];
+    for (int i = 0; i < tokens.length; i++) {
+      String[] rows = rowLists[i].split(SEARCH_ROW_SEPARATOR);
+      postings[i] = new int[rows.length];
+      for (int j = 0; j < rows.length; j++) {
+        postings[i][j] = Integer.parseInt(rows[j]);
+      }
+    }
+  }
+
+  private boolean isListed(int row, boolean java) {
+    String className = java ? javaActivities[row] : kotlinActivities[row];
+    return className != null && Build.VERSION.SDK_INT >= table[row * COLUMN_COUNT + COLUMN_MIN_SDK_VERSION];
+  }
+
+  private ExampleItemModel getModel(int category, int row) {
+    if (models[row] == null) {
+      int offset = row * COLUMN_COUNT;
+      models[row] = new ExampleItemModel(
+        categories[category],
+        table[offset + COLUMN_TITLE],
+        table[offset + COLUMN_DESCRIPTION],
+        javaActivities[row],
+        kotlinActivities[row],
+        table[offset + COLUMN_IMAGE_URL],
+        table[offset + COLUMN_SHOW_NEW_ICON] != 0,
+        table[offset + COLUMN_MIN_SDK_VERSION]);
+    }
+    return models[row];
+  }
+
+  private static int indexOf(int[] values, int value) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,211 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.LruCache;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Remembers the outlines of buildings queried from the map, so that a building under the camera
+ * target or a tap doesn't have to be queried and copied again.
+ * <p>
+ * Outlines are cached by feature id. The rings of a building are flattened into one primitive
+ * buffer without creating any objects, and the outline keeps its bounding box, so checking whether
+ * a coordinate is inside the building only reads arrays. While the coordinate stays inside the
+ * {@link #getLastOutline() last outline}, there's nothing to query.
+ * </p>
+ * <p>
+ * Rendered features are clipped at tile boundaries, so the same building can come back with a
+ * different part of its geometry. A cached outline is only reused if it contains the queried
+ * coordinate. Must be used on the main thread.
+ * </p>
+ */
+public class BuildingOutlineCache {
+
+  private static final int DEFAULT_MAX_SIZE = 64;
+
+  private final LruCache<String, Outline> outlines;
+
+  // Reused while flattening, the outline keeps trimmed copies
+  private double[] coordinates = new double[256];
+  private int[] ringEnds = new int[8];
+
+  private Outline lastOutline;
+  private int buildCount;
+
+  public BuildingOutlineCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  public BuildingOutlineCache(int maxSize) {
+    outlines = new LruCache<>(maxSize);
+  }
+
+  /**
+   * @return the last outline if it contains the coordinate, or null if the map has to be queried
+   */
+  @Nullable
+  public Outline findLastOutline(double longitude, double latitude) {
+    return lastOutline != null && lastOutline.contains(longitude, latitude) ? lastOutline : null;
+  }
+
+  /**
+   * Returns the outline of a queried building and makes it the last outline.
+   *
+   * @param feature   a feature of the building layer
+   * @param longitude longitude the feature was queried at
+   * @param latitude  latitude the feature was queried at
+   * @return the outline, or null if the feature isn't a polygon
+   */
+  @Nullable
+  public Outline getOutline(@NonNull Feature feature, double longitude, double latitude) {
+    String id = feature.id();
+    Outline outline = id != null ? outlines.get(id) : null;
+    if (outline == null || !outline.contains(longitude, latitude)) {
+      outline = buildOutline(feature);
+      if (outline != null && id != null) {
+        outlines.put(id, outline);
+      }
+    }
+    lastOutline = outline;
+    return outline;
+  }
+
+  @Nullable
+  public Outline getLastOutline() {
+    return lastOutline;
+  }
+
+  /**
+   * Forgets the last outline, for example when no building is shown anymore.
+   */
+  public void clearLastOutline() {
+    lastOutline = null;
+  }
+
+  /**
+   * Number of outlines that were flattened from feature geometries so far.
+   */
+  public int getBuildCount() {
+    return buildCount;
+  }
+
+  @Nullable
+  private Outline buildOutline(@NonNull Feature feature) {
+    Geometry geometry = feature.geometry();
+    int coordinateCount = 0;
+    int ringCount = 0;
+    if (geometry instanceof Polygon) {
+      coordinateCount = flattenRings(((Polygon) geometry).coordinates(), 0, 0);
+      ringCount = ((Polygon) geometry).coordinates().size();
+    } else if (geometry instanceof MultiPolygon) {
+      List<List<List<Point>>> polygons = ((MultiPolygon) geometry).coordinates();
+      for (int i = 0; i < polygons.size(); i++) {
+        coordinateCount = flattenRings(polygons.get(i), coordinateCount, ringCount);
+        ringCount += polygons.get(i).size();
+      }
+    }
+    if (ringCount == 0 || coordinateCount == 0) {
+      return null;
+    }
+    buildCount++;
+    return new Outline(feature, Arrays.copyOf(coordinates, coordinateCount), Arrays.copyOf(ringEnds, ringCount));
+  }
+
+  /**
+   * Appends the longitude and latitude of every ring position to the buffer.
+   *
+   * @return the number of values in the buffer
+   */
+  private int flattenRings(@NonNull List<List<Point>> rings, int size, int ringCount) {
+    if (ringCount + rings.size() > ringEnds.length) {
+      ringEnds = Arrays.copyOf(ringEnds, Math.max(ringEnds.length * 2, ringCount + rings.size()));
+    }
+    for (int i = 0; i < rings.size(); i++) {
+      List<Point> ring = rings.get(i);
+      if (size + ring.size() * 2 > coordinates.length) {
+        coordinates = Arrays.copyOf(coordinates, Math.max(coordinates.length * 2, size + ring.size() * 2));
+      }
+      for (int j = 0; j < ring.size(); j++) {
+        Point point = ring.get(j);
+        coordinates[size++] = point.longitude();
+        coordinates[size++] = point.latitude();
+      }
+      ringEnds[ringCount + i] = size;
+    }
+    return size;
+  }
+
+  /**
+   * The flattened rings of a building and the feature they came from.
+   */
+  public static class Outline {
+
+    private final Feature feature;
+    private final double[] coordinates;
+    private final int[] ringEnds;
+    private final double west;
+    private final double south;
+    private final double east;
+    private final double north;
+
+    Outline(@NonNull Feature feature, @NonNull double[] coordinates, @NonNull int[] ringEnds) {
+      this.feature = feature;
+      this.coordinates = coordinates;
+      this.ringEnds = ringEnds;
+      double west = Double.POSITIVE_INFINITY;
+      double south = Double.POSITIVE_INFINITY;
+      double east = Double.NEGATIVE_INFINITY;
+      double north = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < coordinates.length; i += 2) {
+        west = Math.min(west, coordinates[i]);
+        east = Math.max(east, coordinates[i]);
+        south = Math.min(south, coordinates[i + 1]);
+        north = Math.max(north, coordinates[i + 1]);
+      }
+      this.west = west;
+      this.south = south;
+      this.east = east;
+      this.north = north;
+    }
+
+    @NonNull
+    public Feature getFeature() {
+      return feature;
+    }
+
+    /**
+     * Checks the bounding box first, then casts a ray over all rings. Holes and the parts of a
+     * multi polygon are handled by the even-odd rule.
+     */
+    public boolean contains(double longitude, double latitude) {
+      if (longitude < west || longitude > east || latitude < south || latitude > north) {
+        return false;
+      }
+      boolean inside = false;
+      int ringStart = 0;
+      for (int ringEnd : ringEnds) {
+        for (int i = ringStart, j = ringEnd - 2; i < ringEnd; j = i, i += 2) {
+          double xi = coordinates[i];
+          double yi = coordinates[i + 1];
+          double xj = coordinates[j];
+          double yj = coordinates[j + 1];
+          if ((yi > latitude) != (yj > latitude)
+            && longitude < (xj - xi) * (latitude - yi) / (yj - yi) + xi) {
+            inside = !inside;
+          }
+        }
+        ringStart = ringEnd;
+      }
+      return inside;
+    }
+  }
+}
@@ -0,0 +1,319 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteOpenHelper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.api.geocoding.v5.GeocodingCriteria;
+import com.mapbox.api.geocoding.v5.MapboxGeocoding;
+import com.mapbox.api.geocoding.v5.models.CarmenFeature;
+import com.mapbox.api.geocoding.v5.models.GeocodingResponse;
+import com.mapbox.core.exceptions.ServicesException;
+import com.mapbox.geojson.Point;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Response;
+import timber.log.Timber;
+
+/**
+ * Forward geocodes a batch of free-form queries, such as calendar event locations, with the
+ * Mapbox Geocoding API.
+ * <p>
+ * Queries are normalized (trimmed, lower cased, whitespace collapsed) so that every distinct
+ * location is only requested once per batch. Answers, including "nothing found", are stored in a
+ * SQLite database and reused until they're older than {@link #CACHE_TTL_MS}. Only a few requests
+ * run at the same time.
+ * </p>
+ */
+public class CachedGeocoder {
+
+  private static final long CACHE_TTL_MS = TimeUnit.DAYS.toMillis(30);
+  private static final int MAX_CONCURRENT_REQUESTS = 4;
+
+  private final String accessToken;
+  private final String geocodingTypes;
+  private final Cache database;
+  @Nullable
+  private final String baseUrl;
+
+  /**
+   * @param context        used to open the cache database
+   * @param accessToken    Mapbox access token for the requests
+   * @param geocodingTypes one of the {@link GeocodingCriteria} types, like {@link GeocodingCriteria#TYPE_ADDRESS}
+   */
+  public CachedGeocoder(@NonNull Context context, @NonNull String accessToken, @NonNull String geocodingTypes) {
+    this(accessToken, geocodingTypes, new CacheDatabase(context.getApplicationContext()), null);
+  }
+
+  /**
+   * Lets tests replace the database and point the requests at a local server.
+   */
+  CachedGeocoder(@NonNull String accessToken, @NonNull String geocodingTypes, @NonNull Cache cache,
+                 @Nullable String baseUrl) {
+    this.accessToken = accessToken;
+    this.geocodingTypes = geocodingTypes;
+    this.database = cache;
+    this.baseUrl = baseUrl;
+  }
+
+  /**
+   * Geocodes all queries and blocks until every one of them has been answered. Must not be
+   * called on the main thread.
+   *
+   * @param queries the texts to search for, duplicates are fine
+   * @return the position of the first result by query; queries without a result are left out
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  @NonNull
+  public Map<String, Point> geocode(@NonNull Collection<String> queries) throws InterruptedException {
+    Map<String, List<String>> queriesByKey = new HashMap<>();
+    for (String query : queries) {
+      String key = normalize(query);
+      if (key.isEmpty()) {
+        continue;
+      }
+      List<String> sameKey = queriesByKey.get(key);
+      if (sameKey == null) {
+        sameKey = new ArrayList<>();
+        queriesByKey.put(key, sameKey);
+      }
+      sameKey.add(query);
+    }
+
+    long now = System.currentTimeMillis();
+    Map<String, CacheEntry> entries;
+    try {
+      entries = database.read(geocodingTypes, queriesByKey.keySet(), now - CACHE_TTL_MS);
+      List<String> missingKeys = new ArrayList<>();
+      for (String key : queriesByKey.keySet()) {
+        if (!entries.containsKey(key)) {
+          missingKeys.add(key);
+        }
+      }
+      Timber.d("Geocoding %d distinct queries, %d from cache", queriesByKey.size(),
+        queriesByKey.size() - missingKeys.size());
+
+      if (!missingKeys.isEmpty()) {
+        Map<String, CacheEntry> fetched = fetch(missingKeys);
+        database.write(geocodingTypes, fetched, now);
+        entries.putAll(fetched);
+      }
+    } finally {
+      // Batches are rare, so don't keep the database open in between
+      database.close();
+    }
+
+    Map<String, Point> results = new HashMap<>();
+    for (Map.Entry<String, List<String>> entry : queriesByKey.entrySet()) {
+      CacheEntry cacheEntry = entries.get(entry.getKey());
+      if (cacheEntry != null && cacheEntry.point != null) {
+        for (String query : entry.getValue()) {
+          results.put(query, cacheEntry.point);
+        }
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Requests the keys with a bounded number of parallel requests. Failed requests are left out of
+   * the result so that they're not cached and retried next time.
+   */
+  private Map<String, CacheEntry> fetch(List<String> keys) throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(MAX_CONCURRENT_REQUESTS, keys.size()));
+    try {
+      Map<String, Future<CacheEntry>> futures = new HashMap<>();
+      for (final String key : keys) {
+        futures.put(key, executor.submit(new Callable<CacheEntry>() {
+          @Override
+          public CacheEntry call() throws IOException {
+            return request(key);
+          }
+        }));
+      }
+
+      Map<String, CacheEntry> fetched = new HashMap<>();
+      for (Map.Entry<String, Future<CacheEntry>> entry : futures.entrySet()) {
+        try {
+          CacheEntry cacheEntry = entry.getValue().get();
+          if (cacheEntry != null) {
+            fetched.put(entry.getKey(), cacheEntry);
+          }
+        } catch (ExecutionException exception) {
+          Timber.d("Geocoding Failure: %s", exception.getCause().getMessage());
+        }
+      }
+      return fetched;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Nullable
+  private CacheEntry request(String key) throws IOException {
+    MapboxGeocoding client;
+    try {
+      MapboxGeocoding.Builder builder = MapboxGeocoding.builder()
+        .accessToken(accessToken)
+        .query(key)
+        .geocodingTypes(geocodingTypes)
+        .mode(GeocodingCriteria.MODE_PLACES);
+      if (baseUrl != null) {
+        builder.baseUrl(baseUrl);
+      }
+      client = builder.build();
+    } catch (ServicesException servicesException) {
+      // Not an answer about the location, so it must not be cached as "nothing found"
+      Timber.d("Error geocoding: %s", servicesException.toString());
+      return null;
+    }
+
+    Response<GeocodingResponse> response = client.executeCall();
+    if (!response.isSuccessful() || response.body() == null) {
+      Timber.d("Geocoding Failure: HTTP %d", response.code());
+      return null;
+    }
+    List<CarmenFeature> features = response.body().features();
+    if (features.isEmpty() || features.get(0).center() == null) {
+      return new CacheEntry(null);
+    }
+    return new CacheEntry(features.get(0).center());
+  }
+
+  private static String normalize(String query) {
+    return query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.US);
+  }
+
+  static class CacheEntry {
+    @Nullable
+    final Point point;
+
+    CacheEntry(@Nullable Point point) {
+      this.point = point;
+    }
+  }
+
+  /**
+   * Stores the answers by geocoding types and normalized query.
+   */
+  interface Cache {
+
+    /**
+     * Drops the entries older than {@code oldestTimestamp} and returns the stored ones out of {@code keys}.
+     */
+    Map<String, CacheEntry> read(String types, Collection<String> keys, long oldestTimestamp);
+
+    void write(String types, Map<String, CacheEntry> entries, long timestamp);
+
+    void close();
+  }
+
+  private static class CacheDatabase extends SQLiteOpenHelper implements Cache {
+
+    private static final String DATABASE_NAME = "geocoding_cache.db";
+    private static final int DATABASE_VERSION = 1;
+    private static final String TABLE = "geocoding";
+    private static final String COLUMN_TYPES = "types";
+    private static final String COLUMN_QUERY = "query";
+    private static final String COLUMN_LONGITUDE = "longitude";
+    private static final String COLUMN_LATITUDE = "latitude";
+    private static final String COLUMN_FOUND = "found";
+    private static final String COLUMN_TIMESTAMP = "timestamp";
+
+    CacheDatabase(Context context) {
+      super(context, DATABASE_NAME, null, DATABASE_VERSION);
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+      db.execSQL("CREATE TABLE " + TABLE + " ("
+        + COLUMN_TYPES + " TEXT NOT NULL, "
+        + COLUMN_QUERY + " TEXT NOT NULL, "
+        + COLUMN_LONGITUDE + " REAL, "
+        + COLUMN_LATITUDE + " REAL, "
+        + COLUMN_FOUND + " INTEGER NOT NULL, "
+        + COLUMN_TIMESTAMP + " INTEGER NOT NULL, "
+        + "PRIMARY KEY (" + COLUMN_TYPES + ", " + COLUMN_QUERY + "))");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+      // It's only a cache, start over
+      db.execSQL("DROP TABLE IF EXISTS " + TABLE);
+      onCreate(db);
+    }
+
+    @Override
+    public Map<String, CacheEntry> read(String types, Collection<String> keys, long oldestTimestamp) {
+      Map<String, CacheEntry> entries = new HashMap<>();
+      try {
+        SQLiteDatabase db = getWritableDatabase();
+        db.delete(TABLE, COLUMN_TIMESTAMP + " < ?", new String[] {String.valueOf(oldestTimestamp)});
+        for (String key : keys) {
+          Cursor cursor = db.query(TABLE,
+            new String[] {COLUMN_LONGITUDE, COLUMN_LATITUDE, COLUMN_FOUND},
+            COLUMN_TYPES + " = ? AND " + COLUMN_QUERY + " = ?", new String[] {types, key},
+            null, null, null);
+          try {
+            if (cursor.moveToFirst()) {
+              entries.put(key, new CacheEntry(cursor.getInt(2) != 0
+                ? Point.fromLngLat(cursor.getDouble(0), cursor.getDouble(1)) : null));
+            }
+          } finally {
+            cursor.close();
+          }
+        }
+      } catch (SQLiteException exception) {
+        Timber.w(exception, "Unable to read the geocoding cache");
+      }
+      return entries;
+    }
+
+    @Override
+    public void write(String types, Map<String, CacheEntry> entries, long timestamp) {
+      try {
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransaction();
+        try {
+          ContentValues values = new ContentValues();
+          for (Map.Entry<String, CacheEntry> entry : entries.entrySet()) {
+            Point point = entry.getValue().point;
+            values.clear();
+            values.put(COLUMN_TYPES, types);
+            values.put(COLUMN_QUERY, entry.getKey());
+            values.put(COLUMN_FOUND, point != null ? 1 : 0);
+            values.put(COLUMN_TIMESTAMP, timestamp);
+            if (point != null) {
+              values.put(COLUMN_LONGITUDE, point.longitude());
+              values.put(COLUMN_LATITUDE, point.latitude());
+            }
+            db.insertWithOnConflict(TABLE, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+          }
+          db.setTransactionSuccessful();
+        } finally {
+          db.endTransaction();
+        }
+      } catch (SQLiteException exception) {
+        Timber.w(exception, "Unable to write the geocoding cache");
+      }
+    }
+  }
+}
@@ -0,0 +1,525 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.LruCache;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mapbox.api.tilequery.MapboxTilequery;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Point;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import timber.log.Timber;
+
+/**
+ * Answers Mapbox Tilequery API queries from a cache of whole map tiles where it can.
+ * <p>
+ * The API answers with the point of each feature that is closest to the query point, so only
+ * point features can be measured again from another click. For queries limited to points, the
+ * API is asked for everything around the center of the tile that contains the click instead, with
+ * the radius grown so that it covers the query radius around any point of the tile. The tile zoom
+ * is picked so that the tile's half diagonal is no longer than the query radius: the tile is then
+ * fetched with at most twice the query radius, and its response stays under the API's limit of
+ * {@value #MAX_LIMIT} unless a single query area holds about a quarter of that. That response is
+ * kept in memory and on disk, and every later query in the same tile is answered locally by
+ * measuring the distance from the query point to the cached points. When the tile holds more
+ * features than the API returns at once, the query is sent as is, and so are all later queries in
+ * that tile.
+ * </p>
+ * <p>
+ * Queries for lines and polygons are always sent for the clicked point itself. Their answers are
+ * kept in memory for repeated clicks within about a meter.
+ * </p>
+ * <p>
+ * Distances are measured in a flat projection around the query point, which is accurate enough
+ * for the few kilometers of a tile. Callbacks arrive on the main thread.
+ * </p>
+ */
+public class CachedTilequery {
+
+  private static final int MIN_BUCKET_ZOOM = 14;
+  private static final int MAX_BUCKET_ZOOM = 20;
+  private static final int MAX_LIMIT = 50;
+  private static final int MAX_CACHED_RESPONSES = 64;
+  // Clicks are rounded to 1e-5 degrees, about a meter, to reuse the answers for lines and polygons
+  private static final double CLICK_CELLS_PER_DEGREE = 1e5;
+  private static final long DISK_TTL_MS = TimeUnit.DAYS.toMillis(7);
+  private static final String CACHE_DIRECTORY = "tilequery_cache";
+  private static final long CACHE_FORMAT_STAMP = 1;
+  private static final double EARTH_RADIUS_METERS = 6378137;
+  private static final double EARTH_CIRCUMFERENCE_METERS = 2 * Math.PI * EARTH_RADIUS_METERS;
+  private static final String PROPERTY_TILEQUERY = "tilequery";
+  private static final String PROPERTY_DISTANCE = "distance";
+
+  private static final LruCache<String, FeatureCollection> MEMORY_CACHE = new LruCache<>(MAX_CACHED_RESPONSES);
+  private static final ExecutorService DISK_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+    @Override
+    public Thread newThread(@NonNull Runnable runnable) {
+      Thread thread = new Thread(runnable, "CachedTilequery");
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
+
+  private final File cacheDirectory;
+  private final String accessToken;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final Map<String, List<PendingQuery>> waitingForTile = new HashMap<>();
+  private final List<Call<FeatureCollection>> calls = new ArrayList<>();
+  private boolean cancelled;
+
+  public interface TilequeryCallback {
+    void onResponse(@NonNull FeatureCollection featureCollection);
+
+    void onFailure(@NonNull Throwable throwable);
+  }
+
+  /**
+   * The parts of a query that stay the same between clicks, see {@link MapboxTilequery.Builder}.
+   */
+  public static final class Options {
+    private final String tilesetIds;
+    private final String layers;
+    private final String geometry;
+    private final int radius;
+    private final int limit;
+    private final boolean dedupe;
+
+    /**
+     * @param tilesetIds comma separated tileset ids
+     * @param layers     comma separated layer names, or null for all layers
+     * @param geometry   "point", "linestring", "polygon" or null for all geometry types
+     * @param radius     search radius in meters
+     * @param limit      maximum number of features, at most {@value #MAX_LIMIT}
+     * @param dedupe     whether features that are split across tiles are merged
+     */
+    public Options(@NonNull String tilesetIds, @Nullable String layers, @Nullable String geometry,
+                   int radius, int limit, boolean dedupe) {
+      this.tilesetIds = tilesetIds;
+      this.layers = layers;
+      this.geometry = geometry;
+      this.radius = Math.max(0, radius);
+      this.limit = Math.max(1, Math.min(MAX_LIMIT, limit));
+      this.dedupe = dedupe;
+    }
+
+    private String getKey() {
+      return tilesetIds + "|" + layers + "|" + geometry + "|" + radius + "|" + dedupe;
+    }
+
+    /**
+     * Lines and polygons come back as their closest point to the query, which can't be measured
+     * again from another click.
+     */
+    boolean isTileCacheable() {
+      return "point".equals(geometry);
+    }
+  }
+
+  public CachedTilequery(@NonNull Context context, @NonNull String accessToken) {
+    this.cacheDirectory = new File(context.getCacheDir(), CACHE_DIRECTORY);
+    this.accessToken = accessToken;
+  }
+
+  /**
+   * @param options  what to look for
+   * @param point    where to look
+   * @param callback receives the features sorted by distance, like the Tilequery API returns them
+   */
+  public void query(@NonNull final Options options, @NonNull final Point point,
+                    @NonNull final TilequeryCallback callback) {
+    if (!options.isTileCacheable()) {
+      queryExactly(options, point, callback);
+      return;
+    }
+
+    final Tile tile = new Tile(point, getBucketZoom(options.radius, point.latitude()));
+    final String key = options.getKey() + "|" + tile.zoom + "/" + tile.x + "/" + tile.y;
+    PendingQuery pendingQuery = new PendingQuery(options, point, callback);
+
+    FeatureCollection cached = MEMORY_CACHE.get(key);
+    if (cached != null) {
+      answer(pendingQuery, cached);
+      return;
+    }
+
+    List<PendingQuery> waiting = waitingForTile.get(key);
+    if (waiting != null) {
+      // The tile is already being loaded
+      waiting.add(pendingQuery);
+      return;
+    }
+    waiting = new ArrayList<>();
+    waiting.add(pendingQuery);
+    waitingForTile.put(key, waiting);
+
+    final File file = new File(cacheDirectory, key.replaceAll("[^A-Za-z0-9.-]", "_") + ".bin");
+    DISK_EXECUTOR.execute(new Runnable() {
+      @Override
+      public void run() {
+        final FeatureCollection fromDisk = readFromDisk(file);
+        mainHandler.post(new Runnable() {
+          @Override
+          public void run() {
+            if (fromDisk != null) {
+              onTileLoaded(key, fromDisk);
+            } else {
+              fetchTile(key, file, options, tile);
+            }
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * Cancels all running requests and drops their callbacks. Call it from onDestroy.
+   */
+  public void cancel() {
+    cancelled = true;
+    for (Call<FeatureCollection> call : calls) {
+      call.cancel();
+    }
+    calls.clear();
+    waitingForTile.clear();
+  }
+
+  private void fetchTile(final String key, final File file, Options options, Tile tile) {
+    if (cancelled) {
+      return;
+    }
+    // Everything within the query radius of any point in the tile
+    int radius = (int) Math.ceil(options.radius + tile.getHalfDiagonalMeters());
+    enqueue(options, tile.getCenter(), radius, MAX_LIMIT, new TilequeryCallback() {
+      @Override
+      public void onResponse(@NonNull final FeatureCollection featureCollection) {
+        onTileLoaded(key, featureCollection);
+        if (isComplete(featureCollection)) {
+          DISK_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+              writeToDisk(featureCollection, file);
+            }
+          });
+        }
+      }
+
+      @Override
+      public void onFailure(@NonNull Throwable throwable) {
+        List<PendingQuery> waiting = waitingForTile.remove(key);
+        if (waiting != null) {
+          for (PendingQuery pendingQuery : waiting) {
+            pendingQuery.callback.onFailure(throwable);
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Sends the query for the point itself and keeps the answer for later clicks on about the same spot.
+   */
+  private void queryExactly(Options options, Point point, final TilequeryCallback callback) {
+    final String key = getClickKey(options, point);
+    FeatureCollection cached = MEMORY_CACHE.get(key);
+    if (cached != null) {
+      callback.onResponse(cached);
+      return;
+    }
+    enqueue(options, point, options.radius, options.limit, new TilequeryCallback() {
+      @Override
+      public void onResponse(@NonNull FeatureCollection featureCollection) {
+        MEMORY_CACHE.put(key, featureCollection);
+        callback.onResponse(featureCollection);
+      }
+
+      @Override
+      public void onFailure(@NonNull Throwable throwable) {
+        callback.onFailure(throwable);
+      }
+    });
+  }
+
+  /**
+   * The lowest zoom, within {@value #MIN_BUCKET_ZOOM} and {@value #MAX_BUCKET_ZOOM}, at which the
+   * tiles around the latitude have a half diagonal no longer than the radius.
+   */
+  static int getBucketZoom(int radius, double latitude) {
+    double halfDiagonalAtZoomZero = EARTH_CIRCUMFERENCE_METERS * Math.cos(Math.toRadians(latitude)) / Math.sqrt(2);
+    int zoom = (int) Math.ceil(Math.log(halfDiagonalAtZoomZero / Math.max(1, radius)) / Math.log(2));
+    return Math.max(MIN_BUCKET_ZOOM, Math.min(MAX_BUCKET_ZOOM, zoom));
+  }
+
+  static String getClickKey(Options options, Point point) {
+    return options.getKey() + "|" + options.limit
+      + "|" + Math.round(point.longitude() * CLICK_CELLS_PER_DEGREE)
+      + "/" + Math.round(point.latitude() * CLICK_CELLS_PER_DEGREE);
+  }
+
+  private void onTileLoaded(String key, FeatureCollection featureCollection) {
+    // Incomplete tiles are kept as well, so that later queries in them go straight to the API
+    MEMORY_CACHE.put(key, featureCollection);
+    List<PendingQuery> waiting = waitingForTile.remove(key);
+    if (waiting != null && !cancelled) {
+      for (PendingQuery pendingQuery : waiting) {
+        answer(pendingQuery, featureCollection);
+      }
+    }
+  }
+
+  private void answer(PendingQuery pendingQuery, FeatureCollection tileFeatures) {
+    if (!isComplete(tileFeatures)) {
+      // Too many features around the tile for the API to return them all, ask for exactly this point
+      queryExactly(pendingQuery.options, pendingQuery.point, pendingQuery.callback);
+      return;
+    }
+    pendingQuery.callback.onResponse(filter(tileFeatures, pendingQuery.point, pendingQuery.options));
+  }
+
+  private void enqueue(Options options, Point point, int radius, int limit, final TilequeryCallback callback) {
+    MapboxTilequery.Builder builder = MapboxTilequery.builder()
+      .accessToken(accessToken)
+      .tilesetIds(options.tilesetIds)
+      .query(point)
+      .radius(radius)
+      .limit(limit)
+      .dedupe(options.dedupe);
+    if (options.layers != null) {
+      builder.layers(options.layers);
+    }
+    if (options.geometry != null) {
+      builder.geometry(options.geometry);
+    }
+    Call<FeatureCollection> call = builder.build().cloneCall();
+    calls.add(call);
+    call.enqueue(new Callback<FeatureCollection>() {
+      @Override
+      public void onResponse(Call<FeatureCollection> call, Response<FeatureCollection> response) {
+        calls.remove(call);
+        if (cancelled) {
+          return;
+        }
+        if (response.body() != null) {
+          callback.onResponse(response.body());
+        } else {
+          callback.onFailure(new IOException("HTTP " + response.code()));
+        }
+      }
+
+      @Override
+      public void onFailure(Call<FeatureCollection> call, Throwable throwable) {
+        calls.remove(call);
+        if (!cancelled) {
+          callback.onFailure(throwable);
+        }
+      }
+    });
+  }
+
+  static boolean isComplete(FeatureCollection featureCollection) {
+    return featureCollection.features() == null || featureCollection.features().size() < MAX_LIMIT;
+  }
+
+  /**
+   * Picks the point features within the query radius and sorts them by distance, with the distance
+   * in their tilequery property updated to the query point.
+   */
+  static FeatureCollection filter(FeatureCollection tileFeatures, Point point, Options options) {
+    List<Feature> features = tileFeatures.features();
+    if (features == null) {
+      return FeatureCollection.fromFeatures(new ArrayList<Feature>());
+    }
+    Projection projection = new Projection(point);
+    List<Candidate> nearby = new ArrayList<>();
+    for (Feature feature : features) {
+      if (!(feature.geometry() instanceof Point)) {
+        continue;
+      }
+      double distance = projection.distanceTo((Point) feature.geometry());
+      if (distance <= options.radius) {
+        nearby.add(new Candidate(feature, distance));
+      }
+    }
+
+    // Stable, so features at the same distance keep the API's order
+    Collections.sort(nearby, new Comparator<Candidate>() {
+      @Override
+      public int compare(Candidate first, Candidate second) {
+        return Double.compare(first.distance, second.distance);
+      }
+    });
+    List<Feature> result = new ArrayList<>(Math.min(nearby.size(), options.limit));
+    for (int i = 0; i < nearby.size() && i < options.limit; i++) {
+      result.add(withDistance(nearby.get(i).feature, nearby.get(i).distance));
+    }
+    return FeatureCollection.fromFeatures(result);
+  }
+
+  /**
+   * Copies the feature with a new distance, the cached features are shared and stay unchanged.
+   */
+  private static Feature withDistance(Feature feature, double distance) {
+    JsonObject properties = new JsonObject();
+    JsonObject tilequery = new JsonObject();
+    if (feature.properties() != null) {
+      for (Map.Entry<String, JsonElement> entry : feature.properties().entrySet()) {
+        properties.add(entry.getKey(), entry.getValue());
+      }
+      JsonElement oldTilequery = feature.properties().get(PROPERTY_TILEQUERY);
+      if (oldTilequery != null && oldTilequery.isJsonObject()) {
+        for (Map.Entry<String, JsonElement> entry : oldTilequery.getAsJsonObject().entrySet()) {
+          tilequery.add(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+    tilequery.addProperty(PROPERTY_DISTANCE, distance);
+    properties.add(PROPERTY_TILEQUERY, tilequery);
+    return Feature.fromGeometry(feature.geometry(), properties, feature.id(), feature.bbox());
+  }
+
+  @Nullable
+  private static FeatureCollection readFromDisk(File file) {
+    if (!file.exists()) {
+      return null;
+    }
+    if (System.currentTimeMillis() - file.lastModified() > DISK_TTL_MS) {
+      file.delete();
+      return null;
+    }
+    try {
+      return GeoJsonBinaryCache.read(file, CACHE_FORMAT_STAMP);
+    } catch (IOException | RuntimeException exception) {
+      Timber.w(exception, "Discarding unreadable Tilequery cache %s", file.getName());
+      file.delete();
+      return null;
+    }
+  }
+
+  private static void writeToDisk(FeatureCollection featureCollection, File file) {
+    try {
+      GeoJsonBinaryCache.write(featureCollection, file, CACHE_FORMAT_STAMP);
+    } catch (IOException exception) {
+      Timber.w(exception, "Unable to write Tilequery cache %s", file.getName());
+    }
+  }
+
+  private static class Candidate {
+    final Feature feature;
+    final double distance;
+
+    Candidate(Feature feature, double distance) {
+      this.feature = feature;
+      this.distance = distance;
+    }
+  }
+
+  private static class PendingQuery {
+    final Options options;
+    final Point point;
+    final TilequeryCallback callback;
+
+    PendingQuery(Options options, Point point, TilequeryCallback callback) {
+      this.options = options;
+      this.point = point;
+      this.callback = callback;
+    }
+  }
+
+  /**
+   * A Web Mercator tile.
+   */
+  static class Tile {
+    final int zoom;
+    final int x;
+    final int y;
+
+    Tile(Point point, int zoom) {
+      this.zoom = zoom;
+      int count = 1 << zoom;
+      double latitude = Math.toRadians(Math.max(-85.0511, Math.min(85.0511, point.latitude())));
+      double mercatorY = (1 - Math.log(Math.tan(latitude) + 1 / Math.cos(latitude)) / Math.PI) / 2;
+      x = clamp((int) Math.floor((point.longitude() + 180) / 360 * count), count);
+      y = clamp((int) Math.floor(mercatorY * count), count);
+    }
+
+    Point getCenter() {
+      int count = 1 << zoom;
+      double longitude = (x + 0.5) / count * 360 - 180;
+      double latitude = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * (y + 0.5) / count))));
+      return Point.fromLngLat(longitude, latitude);
+    }
+
+    double getHalfDiagonalMeters() {
+      // Tiles are square in meters at their latitude, use the edge closest to the equator
+      int count = 1 << zoom;
+      double northEdge = Math.atan(Math.sinh(Math.PI * (1 - 2.0 * y / count)));
+      double southEdge = Math.atan(Math.sinh(Math.PI * (1 - 2.0 * (y + 1) / count)));
+      double widestLatitude = Math.min(Math.abs(northEdge), Math.abs(southEdge));
+      if (northEdge > 0 && southEdge < 0) {
+        widestLatitude = 0;
+      }
+      double size = EARTH_CIRCUMFERENCE_METERS * Math.cos(widestLatitude) / count;
+      return size * Math.sqrt(2) / 2;
+    }
+
+    private static int clamp(int value, int count) {
+      return Math.max(0, Math.min(count - 1, value));
+    }
+  }
+
+  /**
+   * Equirectangular projection to meters around the query point.
+   */
+  private static class Projection {
+    private final double originLongitude;
+    private final double originLatitude;
+    private final double metersPerDegreeLongitude;
+    private final double metersPerDegreeLatitude;
+
+    Projection(Point origin) {
+      originLongitude = origin.longitude();
+      originLatitude = origin.latitude();
+      metersPerDegreeLatitude = Math.toRadians(EARTH_RADIUS_METERS);
+      metersPerDegreeLongitude = metersPerDegreeLatitude * Math.cos(Math.toRadians(originLatitude));
+    }
+
+    double distanceTo(Point point) {
+      return Math.hypot(x(point), y(point));
+    }
+
+    private double x(Point point) {
+      double deltaLongitude = point.longitude() - originLongitude;
+      if (deltaLongitude > 180) {
+        deltaLongitude -= 360;
+      } else if (deltaLongitude < -180) {
+        deltaLongitude += 360;
+      }
+      return deltaLongitude * metersPerDegreeLongitude;
+    }
+
+    private double y(Point point) {
+      return (point.latitude() - originLatitude) * metersPerDegreeLatitude;
+    }
+  }
+}
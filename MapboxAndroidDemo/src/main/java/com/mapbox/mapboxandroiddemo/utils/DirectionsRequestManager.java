@@ -0,0 +1,211 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.collection.LruCache;
+
+import com.mapbox.api.directions.v5.MapboxDirections;
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.geojson.Point;
+
+import java.util.Locale;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import timber.log.Timber;
+
+/**
+ * Requests routes from the Mapbox Directions API to a destination that follows the map camera.
+ * <p>
+ * Only one request runs at a time: a new one cancels the one that's still on its way, so a slow
+ * response for an old destination can't replace the route to the latest one. Routes are cached by
+ * origin and by a grid cell of about 20 meters around the destination, so panning back to a spot
+ * that was already routed to doesn't send another request. While the camera is still decelerating
+ * after a fling, {@link #prefetch(Point, Point)} requests the route for the cell under the camera
+ * target once it moves slowly enough to likely stop there.
+ * </p>
+ * <p>
+ * All methods must be called on the main thread.
+ * </p>
+ */
+public class DirectionsRequestManager {
+
+  private static final int MAX_CACHED_ROUTES = 32;
+
+  // 1e-5 degrees are about a meter at the equator
+  private static final double ORIGIN_PRECISION = 1e5;
+  // Destinations within the same 2e-4 by 2e-4 degree cell share a route
+  private static final double DESTINATION_CELL_SIZE = 2e-4;
+  // Slower than this the camera is about to stop, so the current cell is worth prefetching
+  private static final double PREFETCH_MAX_CELLS_PER_SECOND = 2;
+
+  private final LruCache<String, DirectionsRoute> cache = new LruCache<>(MAX_CACHED_ROUTES);
+  private final RequestFactory requestFactory;
+  private final OnRouteListener listener;
+  private final Clock clock;
+
+  private String latestKey;
+  private String inFlightKey;
+  private Call<DirectionsResponse> inFlightCall;
+  private int requestCount;
+
+  // Last camera target passed to prefetch, to tell how fast the camera moves
+  private double lastMoveLongitude;
+  private double lastMoveLatitude;
+  private long lastMoveMillis = -1;
+
+  /**
+   * Builds the call for a route. Usually a {@link MapboxDirections} with the activity's profile and
+   * access token.
+   */
+  public interface RequestFactory {
+    @NonNull
+    Call<DirectionsResponse> createCall(@NonNull Point origin, @NonNull Point destination);
+  }
+
+  public interface OnRouteListener {
+    void onRoute(@NonNull DirectionsRoute route);
+
+    void onError(@NonNull String message);
+  }
+
+  /**
+   * Tells how fast the camera moves, {@link SystemClock#uptimeMillis()} outside of tests.
+   */
+  interface Clock {
+    long uptimeMillis();
+  }
+
+  public DirectionsRequestManager(@NonNull RequestFactory requestFactory, @NonNull OnRouteListener listener) {
+    this(requestFactory, listener, SystemClock::uptimeMillis);
+  }
+
+  DirectionsRequestManager(@NonNull RequestFactory requestFactory, @NonNull OnRouteListener listener,
+                           @NonNull Clock clock) {
+    this.requestFactory = requestFactory;
+    this.listener = listener;
+    this.clock = clock;
+  }
+
+  /**
+   * Asks for the route to the destination the camera stopped at. Cached routes are delivered right
+   * away. Any route that arrives later for an older request is dropped.
+   */
+  public void request(@NonNull Point origin, @NonNull Point destination) {
+    lastMoveMillis = -1;
+    String key = getKey(origin, destination);
+    latestKey = key;
+
+    DirectionsRoute cached = cache.get(key);
+    if (cached != null) {
+      cancelInFlightCall();
+      listener.onRoute(cached);
+      return;
+    }
+    if (key.equals(inFlightKey)) {
+      // Prefetched while the camera was decelerating, it's delivered as this is the latest key now
+      return;
+    }
+    send(key, origin, destination);
+  }
+
+  /**
+   * Requests the route for the cell under the moving camera target ahead of time, once the camera
+   * moves slowly enough. Call it from the camera move listener after the gesture ended.
+   */
+  public void prefetch(@NonNull Point origin, @NonNull Point destination) {
+    long now = clock.uptimeMillis();
+    long previousMillis = lastMoveMillis;
+    double movedCells = Math.max(Math.abs(destination.longitude() - lastMoveLongitude),
+      Math.abs(destination.latitude() - lastMoveLatitude)) / DESTINATION_CELL_SIZE;
+    lastMoveLongitude = destination.longitude();
+    lastMoveLatitude = destination.latitude();
+    lastMoveMillis = now;
+    if (previousMillis < 0 || now <= previousMillis
+      || movedCells * 1000 / (now - previousMillis) > PREFETCH_MAX_CELLS_PER_SECOND) {
+      return;
+    }
+
+    String key = getKey(origin, destination);
+    if (key.equals(inFlightKey) || cache.get(key) != null) {
+      return;
+    }
+    send(key, origin, destination);
+  }
+
+  /**
+   * Number of requests sent to the API so far.
+   */
+  public int getRequestCount() {
+    return requestCount;
+  }
+
+  /**
+   * Cancels the running request. Call it from onDestroy.
+   */
+  public void cancel() {
+    cancelInFlightCall();
+    latestKey = null;
+  }
+
+  private void send(final String key, Point origin, Point destination) {
+    cancelInFlightCall();
+    requestCount++;
+    final Call<DirectionsResponse> call = requestFactory.createCall(origin, destination);
+    inFlightKey = key;
+    inFlightCall = call;
+    call.enqueue(new Callback<DirectionsResponse>() {
+      @Override
+      public void onResponse(Call<DirectionsResponse> responseCall, Response<DirectionsResponse> response) {
+        if (call != inFlightCall) {
+          // Superseded while the response was on its way
+          return;
+        }
+        inFlightKey = null;
+        inFlightCall = null;
+        DirectionsResponse body = response.body();
+        if (body == null || body.routes().isEmpty()) {
+          Timber.d("No routes found: HTTP %d", response.code());
+          return;
+        }
+        DirectionsRoute route = body.routes().get(0);
+        cache.put(key, route);
+        if (key.equals(latestKey)) {
+          listener.onRoute(route);
+        }
+      }
+
+      @Override
+      public void onFailure(Call<DirectionsResponse> responseCall, Throwable throwable) {
+        if (call != inFlightCall || responseCall.isCanceled()) {
+          return;
+        }
+        inFlightKey = null;
+        inFlightCall = null;
+        if (key.equals(latestKey)) {
+          listener.onError(String.valueOf(throwable.getMessage()));
+        }
+      }
+    });
+  }
+
+  private void cancelInFlightCall() {
+    if (inFlightCall != null) {
+      inFlightCall.cancel();
+      inFlightCall = null;
+      inFlightKey = null;
+    }
+  }
+
+  private static long getCell(double degrees) {
+    return (long) Math.floor(degrees / DESTINATION_CELL_SIZE);
+  }
+
+  private static String getKey(Point origin, Point destination) {
+    return String.format(Locale.US, "%d,%d/%d,%d",
+      Math.round(origin.longitude() * ORIGIN_PRECISION), Math.round(origin.latitude() * ORIGIN_PRECISION),
+      getCell(destination.longitude()), getCell(destination.latitude()));
+  }
+}
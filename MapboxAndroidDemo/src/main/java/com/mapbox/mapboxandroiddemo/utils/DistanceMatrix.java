@@ -0,0 +1,311 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.DirectionsCriteria;
+import com.mapbox.api.matrix.v1.MapboxMatrix;
+import com.mapbox.api.matrix.v1.models.MatrixResponse;
+import com.mapbox.geojson.Point;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Driving distances between all pairs of a set of points, loaded from the Mapbox Matrix API one
+ * origin row at a time.
+ * <p>
+ * The Matrix API only accepts a limited number of coordinates per request, so the rows are split
+ * into tiles of a few origins and up to {@value #MAX_COORDINATES} coordinates. Only a few tiles
+ * are requested at the same time. The results go into one flat array of meters, and rows that
+ * were loaded once are answered from there afterwards.
+ * </p>
+ * <p>
+ * All methods must be called on the main thread, and the callbacks arrive there too.
+ * </p>
+ */
+public class DistanceMatrix {
+
+  private static final int MAX_COORDINATES = 25;
+  private static final int MAX_ORIGINS_PER_TILE = 5;
+  private static final int MAX_CONCURRENT_REQUESTS = 4;
+
+  private final String accessToken;
+  private final String profile;
+  private final List<Point> points;
+  private final int size;
+  @Nullable
+  private final String baseUrl;
+  private final CallFactory callFactory;
+
+  // Row-major, origin * size + destination. NaN for pairs without a route.
+  private final double[] meters;
+  private final boolean[] rowLoaded;
+  private final Map<Integer, List<RowCallback>> waitingForRow = new HashMap<>();
+  private final ArrayDeque<Tile> queuedTiles = new ArrayDeque<>();
+  private final List<Call<MatrixResponse>> runningCalls = new ArrayList<>();
+
+  public interface RowCallback {
+    /**
+     * @param origin the row's origin
+     * @param meters distance from the origin to every point, NaN where there's no route. Owned by
+     *               the caller.
+     */
+    void onRow(int origin, @NonNull double[] meters);
+
+    void onFailure(int origin, @NonNull Throwable throwable);
+  }
+
+  /**
+   * Sends the request of a tile, {@link MapboxMatrix#cloneCall()} outside of tests.
+   */
+  interface CallFactory {
+    @NonNull
+    Call<MatrixResponse> createCall(@NonNull MapboxMatrix matrix);
+  }
+
+  /**
+   * @param accessToken Mapbox access token for the requests
+   * @param profile     one of the {@link DirectionsCriteria} profiles, except driving-traffic which
+   *                    allows fewer coordinates
+   * @param points      the origins and destinations
+   */
+  public DistanceMatrix(@NonNull String accessToken, @NonNull String profile, @NonNull List<Point> points) {
+    this(accessToken, profile, points, null, MapboxMatrix::cloneCall);
+  }
+
+  /**
+   * Lets tests point the requests at a local server and pick the thread the responses arrive on.
+   */
+  DistanceMatrix(@NonNull String accessToken, @NonNull String profile, @NonNull List<Point> points,
+                 @Nullable String baseUrl, @NonNull CallFactory callFactory) {
+    this.accessToken = accessToken;
+    this.profile = profile;
+    this.points = new ArrayList<>(points);
+    this.size = points.size();
+    this.meters = new double[size * size];
+    this.rowLoaded = new boolean[size];
+    this.baseUrl = baseUrl;
+    this.callFactory = callFactory;
+  }
+
+  /**
+   * Loads the distances from one origin to all points.
+   */
+  public void requestRow(int origin, @NonNull RowCallback callback) {
+    requestRows(new int[] {origin}, callback);
+  }
+
+  /**
+   * Loads the distances from several origins to all points. The callback is called once for every
+   * origin, in the order they finish loading.
+   */
+  public void requestRows(@NonNull int[] origins, @NonNull RowCallback callback) {
+    List<Integer> missing = new ArrayList<>();
+    for (int origin : origins) {
+      if (rowLoaded[origin]) {
+        callback.onRow(origin, getRow(origin));
+        continue;
+      }
+      List<RowCallback> waiting = waitingForRow.get(origin);
+      if (waiting == null) {
+        waiting = new ArrayList<>();
+        waitingForRow.put(origin, waiting);
+        missing.add(origin);
+      }
+      waiting.add(callback);
+    }
+
+    // Split the missing rows into tiles of a few origins and as many destinations as fit next to them
+    for (int start = 0; start < missing.size(); start += MAX_ORIGINS_PER_TILE) {
+      int[] tileOrigins = toArray(missing.subList(start, Math.min(missing.size(), start + MAX_ORIGINS_PER_TILE)));
+      Row[] rows = new Row[tileOrigins.length];
+      for (int i = 0; i < rows.length; i++) {
+        rows[i] = new Row(tileOrigins[i]);
+      }
+      int destinationsPerTile = MAX_COORDINATES - tileOrigins.length;
+      int tileCount = (size + destinationsPerTile - 1) / destinationsPerTile;
+      for (Row row : rows) {
+        row.remainingTiles = tileCount;
+      }
+      for (int destination = 0; destination < size; destination += destinationsPerTile) {
+        queuedTiles.add(new Tile(rows, destination, Math.min(size, destination + destinationsPerTile)));
+      }
+    }
+    startQueuedTiles();
+  }
+
+  /**
+   * @return the distance in meters, or NaN if it isn't loaded or there's no route
+   */
+  public double getMeters(int origin, int destination) {
+    return rowLoaded[origin] ? meters[origin * size + destination] : Double.NaN;
+  }
+
+  /**
+   * Cancels all running and queued requests without calling their callbacks.
+   */
+  public void cancel() {
+    queuedTiles.clear();
+    for (Call<MatrixResponse> call : runningCalls) {
+      call.cancel();
+    }
+    runningCalls.clear();
+    waitingForRow.clear();
+  }
+
+  private void startQueuedTiles() {
+    while (runningCalls.size() < MAX_CONCURRENT_REQUESTS && !queuedTiles.isEmpty()) {
+      Tile tile = queuedTiles.poll();
+      if (!tile.isObsolete()) {
+        start(tile);
+      }
+    }
+  }
+
+  private void start(final Tile tile) {
+    List<Point> coordinates = new ArrayList<>(tile.rows.length + tile.destinationEnd - tile.destinationStart);
+    Integer[] sources = new Integer[tile.rows.length];
+    for (int i = 0; i < tile.rows.length; i++) {
+      coordinates.add(points.get(tile.rows[i].origin));
+      sources[i] = i;
+    }
+    Integer[] destinations = new Integer[tile.destinationEnd - tile.destinationStart];
+    for (int i = 0; i < destinations.length; i++) {
+      coordinates.add(points.get(tile.destinationStart + i));
+      destinations[i] = sources.length + i;
+    }
+
+    MapboxMatrix.Builder builder = MapboxMatrix.builder()
+      .accessToken(accessToken)
+      .profile(profile)
+      .coordinates(coordinates)
+      .sources(sources)
+      .destinations(destinations)
+      .addAnnotations(DirectionsCriteria.ANNOTATION_DISTANCE);
+    if (baseUrl != null) {
+      builder.baseUrl(baseUrl);
+    }
+    Call<MatrixResponse> call = callFactory.createCall(builder.build());
+    runningCalls.add(call);
+    call.enqueue(new Callback<MatrixResponse>() {
+      @Override
+      public void onResponse(Call<MatrixResponse> call, Response<MatrixResponse> response) {
+        if (!runningCalls.remove(call)) {
+          // Cancelled
+          return;
+        }
+        List<Double[]> distances = response.body() != null ? response.body().distances() : null;
+        if (distances == null || distances.size() != tile.rows.length) {
+          onTileFailed(tile, new IOException("Matrix request failed: HTTP " + response.code()));
+        } else {
+          onTileLoaded(tile, distances);
+        }
+        startQueuedTiles();
+      }
+
+      @Override
+      public void onFailure(Call<MatrixResponse> call, Throwable throwable) {
+        if (!runningCalls.remove(call)) {
+          return;
+        }
+        onTileFailed(tile, throwable);
+        startQueuedTiles();
+      }
+    });
+  }
+
+  private void onTileLoaded(Tile tile, List<Double[]> distances) {
+    for (int i = 0; i < tile.rows.length; i++) {
+      Row row = tile.rows[i];
+      Double[] rowDistances = distances.get(i);
+      int offset = row.origin * size;
+      for (int destination = tile.destinationStart; destination < tile.destinationEnd; destination++) {
+        Double distance = destination - tile.destinationStart < rowDistances.length
+          ? rowDistances[destination - tile.destinationStart] : null;
+        meters[offset + destination] = distance != null ? distance : Double.NaN;
+      }
+      if (--row.remainingTiles == 0 && !row.failed) {
+        rowLoaded[row.origin] = true;
+        List<RowCallback> waiting = waitingForRow.remove(row.origin);
+        if (waiting != null) {
+          for (RowCallback callback : waiting) {
+            callback.onRow(row.origin, getRow(row.origin));
+          }
+        }
+      }
+    }
+  }
+
+  private void onTileFailed(Tile tile, Throwable throwable) {
+    for (Row row : tile.rows) {
+      row.remainingTiles--;
+      if (row.failed) {
+        continue;
+      }
+      // Report the row once, the other tiles of it still finish but don't matter anymore
+      row.failed = true;
+      List<RowCallback> waiting = waitingForRow.remove(row.origin);
+      if (waiting != null) {
+        for (RowCallback callback : waiting) {
+          callback.onFailure(row.origin, throwable);
+        }
+      }
+    }
+  }
+
+  private double[] getRow(int origin) {
+    return Arrays.copyOfRange(meters, origin * size, (origin + 1) * size);
+  }
+
+  private static int[] toArray(List<Integer> list) {
+    int[] array = new int[list.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = list.get(i);
+    }
+    return array;
+  }
+
+  private static class Row {
+    final int origin;
+    int remainingTiles;
+    boolean failed;
+
+    Row(int origin) {
+      this.origin = origin;
+    }
+  }
+
+  private static class Tile {
+    final Row[] rows;
+    final int destinationStart;
+    final int destinationEnd;
+
+    Tile(Row[] rows, int destinationStart, int destinationEnd) {
+      this.rows = rows;
+      this.destinationStart = destinationStart;
+      this.destinationEnd = destinationEnd;
+    }
+
+    /**
+     * True if all of the tile's rows failed already, so it's not worth sending anymore.
+     */
+    boolean isObsolete() {
+      for (Row row : rows) {
+        if (!row.failed) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
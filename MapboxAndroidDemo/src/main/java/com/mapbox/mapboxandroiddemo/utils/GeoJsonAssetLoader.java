@@ -0,0 +1,163 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+import com.mapbox.geojson.GeometryAdapterFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads GeoJSON files from the assets folder with a pull parser. Each element of the
+ * "features" array is decoded directly into a {@link Feature}, so the file is never held
+ * in memory as one large String before parsing.
+ */
+public final class GeoJsonAssetLoader {
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final int BUFFER_SIZE = 16 * 1024;
+  private static final String KEY_FEATURES = "features";
+
+  private static TypeAdapter<Feature> featureAdapter;
+
+  /**
+   * Receives every {@link Feature} of a collection as soon as it has been parsed.
+   */
+  public interface FeatureVisitor {
+    void onFeature(@NonNull Feature feature);
+  }
+
+  private GeoJsonAssetLoader() {
+    // No instances
+  }
+
+  /**
+   * Loads a GeoJSON FeatureCollection file from the assets folder.
+   *
+   * @param context   used to access the asset manager
+   * @param assetName file name inside the assets folder
+   * @return the parsed collection, empty when the file has no "features" array
+   * @throws IOException if the file can't be opened or isn't valid GeoJSON
+   */
+  @NonNull
+  public static FeatureCollection loadFeatureCollection(@NonNull Context context, @NonNull String assetName)
+    throws IOException {
+    InputStream inputStream = context.getAssets().open(assetName);
+    try {
+      return readFeatureCollection(inputStream);
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  /**
+   * Loads a single GeoJSON Feature file (not a collection) from the assets folder.
+   */
+  @NonNull
+  public static Feature loadFeature(@NonNull Context context, @NonNull String assetName) throws IOException {
+    InputStream inputStream = context.getAssets().open(assetName);
+    try {
+      JsonReader reader = newReader(inputStream);
+      return withProperties(getFeatureAdapter().read(reader));
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  /**
+   * Streams each Feature of an assets folder FeatureCollection file to the visitor without
+   * keeping the whole collection around.
+   */
+  public static void streamFeatures(@NonNull Context context, @NonNull String assetName,
+                                    @NonNull FeatureVisitor visitor) throws IOException {
+    InputStream inputStream = context.getAssets().open(assetName);
+    try {
+      streamFeatures(inputStream, visitor);
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  /**
+   * Parses a FeatureCollection from any stream. The caller remains responsible for closing it.
+   */
+  @NonNull
+  public static FeatureCollection readFeatureCollection(@NonNull InputStream inputStream) throws IOException {
+    final List<Feature> features = new ArrayList<>();
+    streamFeatures(inputStream, new FeatureVisitor() {
+      @Override
+      public void onFeature(@NonNull Feature feature) {
+        features.add(feature);
+      }
+    });
+    return FeatureCollection.fromFeatures(features);
+  }
+
+  /**
+   * Walks the top level object of a FeatureCollection and hands every element of its
+   * "features" array to the visitor. All other top level members are skipped.
+   */
+  public static void streamFeatures(@NonNull InputStream inputStream,
+                                    @NonNull FeatureVisitor visitor) throws IOException {
+    TypeAdapter<Feature> adapter = getFeatureAdapter();
+    JsonReader reader = newReader(inputStream);
+    reader.beginObject();
+    while (reader.hasNext()) {
+      if (KEY_FEATURES.equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        while (reader.hasNext()) {
+          Feature feature = adapter.read(reader);
+          if (feature != null) {
+            visitor.onFeature(withProperties(feature));
+          }
+        }
+        reader.endArray();
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+  }
+
+  private static JsonReader newReader(InputStream inputStream) {
+    JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(inputStream, UTF_8), BUFFER_SIZE));
+    reader.setLenient(true);
+    return reader;
+  }
+
+  /**
+   * Matches {@link Feature#fromJson(String)}, which never returns a Feature with null properties.
+   */
+  private static Feature withProperties(Feature feature) {
+    if (feature.properties() != null) {
+      return feature;
+    }
+    return Feature.fromGeometry(feature.geometry(), new JsonObject(), feature.id(), feature.bbox());
+  }
+
+  private static synchronized TypeAdapter<Feature> getFeatureAdapter() {
+    if (featureAdapter == null) {
+      Gson gson = new GsonBuilder()
+        .registerTypeAdapterFactory(GeoJsonAdapterFactory.create())
+        .registerTypeAdapterFactory(GeometryAdapterFactory.create())
+        .create();
+      featureAdapter = gson.getAdapter(Feature.class);
+    }
+    return featureAdapter;
+  }
+}
@@ -0,0 +1,525 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.content.Context;
+import android.content.pm.PackageManager;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.mapbox.geojson.BoundingBox;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.GeometryCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.MultiPoint;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import timber.log.Timber;
+
+/**
+ * Keeps a compact binary copy of a bundled GeoJSON FeatureCollection in the app's cache
+ * directory. The first load parses the text asset with {@link GeoJsonAssetLoader} and writes
+ * the binary file. Later loads memory-map that file and rebuild the features without any
+ * JSON parsing.
+ * <p>
+ * Coordinates are stored as zigzag varint deltas of 1e-7 degree integers, so they come back
+ * rounded to 1e-7 degrees. Property keys and string values are interned in a string table.
+ * A file written by another app install or another format version is treated as stale and
+ * the text path is used instead.
+ * </p>
+ * <p>
+ * Only use it where the app itself needs the features. Data that's just shown on the map should
+ * stay an asset:// GeoJsonSource, which the map parses natively off the main thread.
+ * </p>
+ */
+public final class GeoJsonBinaryCache {
+
+  private static final int MAGIC = 0x4D424643;
+  private static final int FORMAT_VERSION = 1;
+  private static final double COORDINATE_SCALE = 1e7;
+  private static final String CACHE_DIRECTORY = "geojson_cache";
+  private static final String CACHE_EXTENSION = ".bin";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private static final byte GEOMETRY_NONE = 0;
+  private static final byte GEOMETRY_POINT = 1;
+  private static final byte GEOMETRY_MULTI_POINT = 2;
+  private static final byte GEOMETRY_LINE_STRING = 3;
+  private static final byte GEOMETRY_MULTI_LINE_STRING = 4;
+  private static final byte GEOMETRY_POLYGON = 5;
+  private static final byte GEOMETRY_MULTI_POLYGON = 6;
+  private static final byte GEOMETRY_COLLECTION = 7;
+
+  private static final byte JSON_NULL = 0;
+  private static final byte JSON_TRUE = 1;
+  private static final byte JSON_FALSE = 2;
+  private static final byte JSON_NUMBER = 3;
+  private static final byte JSON_STRING = 4;
+  private static final byte JSON_ARRAY = 5;
+  private static final byte JSON_OBJECT = 6;
+
+  private GeoJsonBinaryCache() {
+    // No instances
+  }
+
+  /**
+   * Loads a FeatureCollection asset, preferring the binary cache and falling back to the
+   * GeoJSON text when the cache is missing, stale or unreadable. Call this off the main thread.
+   */
+  @NonNull
+  public static FeatureCollection load(@NonNull Context context, @NonNull String assetName) throws IOException {
+    File cacheFile = getCacheFile(context, assetName);
+    long sourceStamp = getSourceStamp(context);
+    if (cacheFile.exists()) {
+      try {
+        FeatureCollection cached = read(cacheFile, sourceStamp);
+        if (cached != null) {
+          return cached;
+        }
+      } catch (IOException | RuntimeException exception) {
+        Timber.w(exception, "Discarding unreadable GeoJSON cache %s", cacheFile.getName());
+      }
+    }
+
+    FeatureCollection featureCollection = GeoJsonAssetLoader.loadFeatureCollection(context, assetName);
+    try {
+      write(featureCollection, cacheFile, sourceStamp);
+    } catch (IOException exception) {
+      Timber.w(exception, "Unable to write GeoJSON cache for %s", assetName);
+    }
+    return featureCollection;
+  }
+
+  /**
+   * Reads a cache file written by {@link #write(FeatureCollection, File, long)}.
+   *
+   * @return the features, or null when the file belongs to a different source stamp or format
+   */
+  @Nullable
+  public static FeatureCollection read(@NonNull File file, long sourceStamp) throws IOException {
+    FileInputStream inputStream = new FileInputStream(file);
+    try {
+      FileChannel channel = inputStream.getChannel();
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != sourceStamp) {
+        return null;
+      }
+      return new Reader(buffer).readFeatureCollection();
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  /**
+   * Writes the binary form of the collection. The file is replaced atomically so that a
+   * reader never sees a partially written cache.
+   */
+  public static void write(@NonNull FeatureCollection featureCollection, @NonNull File file,
+                           long sourceStamp) throws IOException {
+    File directory = file.getParentFile();
+    if (directory != null && !directory.exists() && !directory.mkdirs()) {
+      throw new IOException("Unable to create " + directory);
+    }
+
+    Writer writer = new Writer();
+    writer.writeFeatureCollection(featureCollection);
+
+    File temporaryFile = new File(file.getPath() + ".tmp");
+    DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)));
+    try {
+      output.writeInt(MAGIC);
+      output.writeInt(FORMAT_VERSION);
+      output.writeLong(sourceStamp);
+      writer.writeTo(output);
+    } finally {
+      output.close();
+    }
+    if (!temporaryFile.renameTo(file)) {
+      temporaryFile.delete();
+      throw new IOException("Unable to move cache into place: " + file);
+    }
+  }
+
+  private static File getCacheFile(Context context, String assetName) {
+    return new File(new File(context.getCacheDir(), CACHE_DIRECTORY), assetName + CACHE_EXTENSION);
+  }
+
+  /**
+   * Bundled assets can only change when the app itself is updated, so the install time
+   * identifies the version of the asset the cache was built from.
+   */
+  private static long getSourceStamp(Context context) {
+    try {
+      return context.getPackageManager().getPackageInfo(context.getPackageName(), 0).lastUpdateTime;
+    } catch (PackageManager.NameNotFoundException exception) {
+      return 0;
+    }
+  }
+
+  private static long toFixed(double degrees) {
+    return Math.round(degrees * COORDINATE_SCALE);
+  }
+
+  private static class Writer {
+
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(body);
+
+    void writeFeatureCollection(FeatureCollection featureCollection) throws IOException {
+      List<Feature> features = featureCollection.features();
+      int count = features == null ? 0 : features.size();
+      writeVarLong(out, count);
+      for (int i = 0; i < count; i++) {
+        writeFeature(features.get(i));
+      }
+    }
+
+    void writeTo(DataOutputStream output) throws IOException {
+      writeVarLong(output, strings.size());
+      for (String string : strings) {
+        byte[] bytes = string.getBytes(UTF_8);
+        writeVarLong(output, bytes.length);
+        output.write(bytes);
+      }
+      body.writeTo(output);
+    }
+
+    private void writeFeature(Feature feature) throws IOException {
+      writeOptionalString(feature.id());
+
+      BoundingBox bbox = feature.bbox();
+      out.writeBoolean(bbox != null);
+      if (bbox != null) {
+        out.writeDouble(bbox.west());
+        out.writeDouble(bbox.south());
+        out.writeDouble(bbox.east());
+        out.writeDouble(bbox.north());
+      }
+
+      writeGeometry(feature.geometry());
+
+      JsonObject properties = feature.properties();
+      writeObject(properties == null ? new JsonObject() : properties);
+    }
+
+    private void writeGeometry(@Nullable Geometry geometry) throws IOException {
+      if (geometry instanceof Point) {
+        out.writeByte(GEOMETRY_POINT);
+        List<Point> single = new ArrayList<>(1);
+        single.add((Point) geometry);
+        writePoints(single);
+      } else if (geometry instanceof MultiPoint) {
+        out.writeByte(GEOMETRY_MULTI_POINT);
+        writePoints(((MultiPoint) geometry).coordinates());
+      } else if (geometry instanceof LineString) {
+        out.writeByte(GEOMETRY_LINE_STRING);
+        writePoints(((LineString) geometry).coordinates());
+      } else if (geometry instanceof MultiLineString) {
+        out.writeByte(GEOMETRY_MULTI_LINE_STRING);
+        writeRings(((MultiLineString) geometry).coordinates());
+      } else if (geometry instanceof Polygon) {
+        out.writeByte(GEOMETRY_POLYGON);
+        writeRings(((Polygon) geometry).coordinates());
+      } else if (geometry instanceof MultiPolygon) {
+        out.writeByte(GEOMETRY_MULTI_POLYGON);
+        List<List<List<Point>>> polygons = ((MultiPolygon) geometry).coordinates();
+        writeVarLong(out, polygons.size());
+        for (List<List<Point>> polygon : polygons) {
+          writeRings(polygon);
+        }
+      } else if (geometry instanceof GeometryCollection) {
+        out.writeByte(GEOMETRY_COLLECTION);
+        List<Geometry> geometries = ((GeometryCollection) geometry).geometries();
+        writeVarLong(out, geometries.size());
+        for (Geometry child : geometries) {
+          writeGeometry(child);
+        }
+      } else {
+        out.writeByte(GEOMETRY_NONE);
+      }
+    }
+
+    private void writeRings(List<List<Point>> rings) throws IOException {
+      writeVarLong(out, rings.size());
+      for (List<Point> ring : rings) {
+        writePoints(ring);
+      }
+    }
+
+    private void writePoints(List<Point> points) throws IOException {
+      boolean hasAltitude = false;
+      for (Point point : points) {
+        if (point.hasAltitude()) {
+          hasAltitude = true;
+          break;
+        }
+      }
+
+      writeVarLong(out, points.size());
+      out.writeBoolean(hasAltitude);
+      long lastLongitude = 0;
+      long lastLatitude = 0;
+      for (Point point : points) {
+        long longitude = toFixed(point.longitude());
+        long latitude = toFixed(point.latitude());
+        writeVarLong(out, zigzag(longitude - lastLongitude));
+        writeVarLong(out, zigzag(latitude - lastLatitude));
+        lastLongitude = longitude;
+        lastLatitude = latitude;
+        if (hasAltitude) {
+          out.writeDouble(point.hasAltitude() ? point.altitude() : Double.NaN);
+        }
+      }
+    }
+
+    private void writeElement(@Nullable JsonElement element) throws IOException {
+      if (element == null || element.isJsonNull()) {
+        out.writeByte(JSON_NULL);
+      } else if (element.isJsonObject()) {
+        out.writeByte(JSON_OBJECT);
+        writeObject(element.getAsJsonObject());
+      } else if (element.isJsonArray()) {
+        JsonArray array = element.getAsJsonArray();
+        out.writeByte(JSON_ARRAY);
+        writeVarLong(out, array.size());
+        for (JsonElement child : array) {
+          writeElement(child);
+        }
+      } else {
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+          out.writeByte(primitive.getAsBoolean() ? JSON_TRUE : JSON_FALSE);
+        } else {
+          out.writeByte(primitive.isNumber() ? JSON_NUMBER : JSON_STRING);
+          writeString(primitive.getAsString());
+        }
+      }
+    }
+
+    private void writeObject(JsonObject object) throws IOException {
+      writeVarLong(out, object.size());
+      for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+        writeString(entry.getKey());
+        writeElement(entry.getValue());
+      }
+    }
+
+    private void writeOptionalString(@Nullable String value) throws IOException {
+      writeVarLong(out, value == null ? 0 : intern(value) + 1);
+    }
+
+    private void writeString(String value) throws IOException {
+      writeVarLong(out, intern(value));
+    }
+
+    private int intern(String value) {
+      Integer index = stringIndex.get(value);
+      if (index == null) {
+        index = strings.size();
+        strings.add(value);
+        stringIndex.put(value, index);
+      }
+      return index;
+    }
+
+    private static long zigzag(long value) {
+      return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+      while ((value & ~0x7FL) != 0) {
+        output.writeByte((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      output.writeByte((int) value);
+    }
+  }
+
+  private static class Reader {
+
+    private final ByteBuffer buffer;
+    private String[] strings;
+
+    Reader(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    FeatureCollection readFeatureCollection() {
+      strings = new String[readCount()];
+      for (int i = 0; i < strings.length; i++) {
+        byte[] bytes = new byte[readCount()];
+        buffer.get(bytes);
+        strings[i] = new String(bytes, UTF_8);
+      }
+
+      int count = readCount();
+      List<Feature> features = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        features.add(readFeature());
+      }
+      return FeatureCollection.fromFeatures(features);
+    }
+
+    private Feature readFeature() {
+      int idIndex = readCount();
+      String id = idIndex == 0 ? null : strings[idIndex - 1];
+
+      BoundingBox bbox = null;
+      if (buffer.get() != 0) {
+        bbox = BoundingBox.fromLngLats(buffer.getDouble(), buffer.getDouble(),
+          buffer.getDouble(), buffer.getDouble());
+      }
+
+      Geometry geometry = readGeometry();
+      return Feature.fromGeometry(geometry, readObject(), id, bbox);
+    }
+
+    @Nullable
+    private Geometry readGeometry() {
+      byte type = buffer.get();
+      switch (type) {
+        case GEOMETRY_POINT:
+          return readPoints().get(0);
+        case GEOMETRY_MULTI_POINT:
+          return MultiPoint.fromLngLats(readPoints());
+        case GEOMETRY_LINE_STRING:
+          return LineString.fromLngLats(readPoints());
+        case GEOMETRY_MULTI_LINE_STRING:
+          return MultiLineString.fromLngLats(readRings());
+        case GEOMETRY_POLYGON:
+          return Polygon.fromLngLats(readRings());
+        case GEOMETRY_MULTI_POLYGON:
+          int polygonCount = readCount();
+          List<List<List<Point>>> polygons = new ArrayList<>(polygonCount);
+          for (int i = 0; i < polygonCount; i++) {
+            polygons.add(readRings());
+          }
+          return MultiPolygon.fromLngLats(polygons);
+        case GEOMETRY_COLLECTION:
+          int geometryCount = readCount();
+          List<Geometry> geometries = new ArrayList<>(geometryCount);
+          for (int i = 0; i < geometryCount; i++) {
+            geometries.add(readGeometry());
+          }
+          return GeometryCollection.fromGeometries(geometries);
+        case GEOMETRY_NONE:
+          return null;
+        default:
+          throw new IllegalStateException("Unknown geometry type " + type);
+      }
+    }
+
+    private List<List<Point>> readRings() {
+      int count = readCount();
+      List<List<Point>> rings = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        rings.add(readPoints());
+      }
+      return rings;
+    }
+
+    private List<Point> readPoints() {
+      int count = readCount();
+      boolean hasAltitude = buffer.get() != 0;
+      List<Point> points = new ArrayList<>(count);
+      long longitude = 0;
+      long latitude = 0;
+      for (int i = 0; i < count; i++) {
+        longitude += unzigzag(readVarLong());
+        latitude += unzigzag(readVarLong());
+        double altitude = hasAltitude ? buffer.getDouble() : Double.NaN;
+        if (Double.isNaN(altitude)) {
+          points.add(Point.fromLngLat(longitude / COORDINATE_SCALE, latitude / COORDINATE_SCALE));
+        } else {
+          points.add(Point.fromLngLat(longitude / COORDINATE_SCALE, latitude / COORDINATE_SCALE, altitude));
+        }
+      }
+      return points;
+    }
+
+    private JsonElement readElement() {
+      byte type = buffer.get();
+      switch (type) {
+        case JSON_NULL:
+          return JsonNull.INSTANCE;
+        case JSON_TRUE:
+          return new JsonPrimitive(true);
+        case JSON_FALSE:
+          return new JsonPrimitive(false);
+        case JSON_NUMBER:
+          // Same representation Gson uses when it parses a number into a JsonElement
+          return new JsonPrimitive(new LazilyParsedNumber(strings[readCount()]));
+        case JSON_STRING:
+          return new JsonPrimitive(strings[readCount()]);
+        case JSON_ARRAY:
+          int count = readCount();
+          JsonArray array = new JsonArray();
+          for (int i = 0; i < count; i++) {
+            array.add(readElement());
+          }
+          return array;
+        case JSON_OBJECT:
+          return readObject();
+        default:
+          throw new IllegalStateException("Unknown JSON type " + type);
+      }
+    }
+
+    private JsonObject readObject() {
+      int count = readCount();
+      JsonObject object = new JsonObject();
+      for (int i = 0; i < count; i++) {
+        String key = strings[readCount()];
+        object.add(key, readElement());
+      }
+      return object;
+    }
+
+    private int readCount() {
+      return (int) readVarLong();
+    }
+
+    private long readVarLong() {
+      long result = 0;
+      int shift = 0;
+      byte current;
+      do {
+        current = buffer.get();
+        result |= (long) (current & 0x7F) << shift;
+        shift += 7;
+      } while ((current & 0x80) != 0);
+      return result;
+    }
+
+    private static long unzigzag(long value) {
+      return (value >>> 1) ^ -(value & 1);
+    }
+  }
+}
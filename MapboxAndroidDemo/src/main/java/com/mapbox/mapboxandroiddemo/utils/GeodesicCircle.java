@@ -0,0 +1,111 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+import androidx.collection.LruCache;
+
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+import com.mapbox.turf.TurfConversion;
+import com.mapbox.turf.TurfTransformation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates circle and ring Polygons around a center with a radius in physical units, with the
+ * same results as {@link TurfTransformation#circle(Point, double, int, String)}.
+ * <p>
+ * The sine and cosine of every step's bearing only depend on the number of steps, so they're
+ * computed once per step count and reused. Everything that depends on the center and the radius
+ * is computed once per circle instead of once per step, and the coordinates go straight into
+ * the Polygon without any intermediate geometries.
+ * </p>
+ */
+public final class GeodesicCircle {
+
+  // Step counts of the last few circles, a seekbar rarely produces more than a handful
+  private static final LruCache<Integer, double[]> BEARING_TABLES = new LruCache<>(8);
+
+  private GeodesicCircle() {
+    // Utility class
+  }
+
+  /**
+   * @param center the center of the circle
+   * @param radius the radius of the circle
+   * @param steps  number of coordinates on the circle's outline
+   * @param units  one of the units found inside {@link com.mapbox.turf.TurfConstants}
+   * @return a Polygon in the shape of a circle
+   */
+  @NonNull
+  public static Polygon circle(@NonNull Point center, double radius, int steps, @NonNull String units) {
+    List<List<Point>> rings = new ArrayList<>(1);
+    rings.add(outline(center, radius, steps, units));
+    return Polygon.fromLngLats(rings);
+  }
+
+  /**
+   * @param center      the center of both circles
+   * @param outerRadius the radius of the outer circle
+   * @param innerRadius the radius of the hole
+   * @param steps       number of coordinates on each of the outlines
+   * @param units       one of the units found inside {@link com.mapbox.turf.TurfConstants}
+   * @return a Polygon in the shape of a ring
+   */
+  @NonNull
+  public static Polygon ring(@NonNull Point center, double outerRadius, double innerRadius, int steps,
+                             @NonNull String units) {
+    List<List<Point>> rings = new ArrayList<>(2);
+    rings.add(outline(center, outerRadius, steps, units));
+    rings.add(outline(center, innerRadius, steps, units));
+    return Polygon.fromLngLats(rings);
+  }
+
+  /**
+   * Computes the closed outline of a circle, using the same formula as
+   * {@link com.mapbox.turf.TurfMeasurement#destination(Point, double, double, String)}.
+   */
+  private static List<Point> outline(Point center, double radius, int steps, String units) {
+    double[] bearings = getBearingTable(steps);
+    double longitude = TurfConversion.degreesToRadians(center.longitude());
+    double latitude = TurfConversion.degreesToRadians(center.latitude());
+    double distance = TurfConversion.lengthToRadians(radius, units);
+    double sinLatitude = Math.sin(latitude);
+    double cosLatitude = Math.cos(latitude);
+    double sinDistance = Math.sin(distance);
+    double cosDistance = Math.cos(distance);
+
+    List<Point> coordinates = new ArrayList<>(steps + 1);
+    for (int i = 0; i < steps; i++) {
+      double sinBearing = bearings[2 * i];
+      double cosBearing = bearings[2 * i + 1];
+      double sinDestinationLatitude = sinLatitude * cosDistance + cosLatitude * sinDistance * cosBearing;
+      double destinationLatitude = Math.asin(sinDestinationLatitude);
+      double destinationLongitude = longitude + Math.atan2(sinBearing * sinDistance * cosLatitude,
+        cosDistance - sinLatitude * sinDestinationLatitude);
+      coordinates.add(Point.fromLngLat(TurfConversion.radiansToDegrees(destinationLongitude),
+        TurfConversion.radiansToDegrees(destinationLatitude)));
+    }
+    if (steps > 0) {
+      coordinates.add(coordinates.get(0));
+    }
+    return coordinates;
+  }
+
+  /**
+   * @return the sine and cosine of every step's bearing, interleaved
+   */
+  private static double[] getBearingTable(int steps) {
+    double[] table = BEARING_TABLES.get(steps);
+    if (table == null) {
+      table = new double[2 * Math.max(0, steps)];
+      for (int i = 0; i < steps; i++) {
+        double bearing = TurfConversion.degreesToRadians(i * 360d / steps);
+        table[2 * i] = Math.sin(bearing);
+        table[2 * i + 1] = Math.cos(bearing);
+      }
+      BEARING_TABLES.put(steps, table);
+    }
+    return table;
+  }
+}
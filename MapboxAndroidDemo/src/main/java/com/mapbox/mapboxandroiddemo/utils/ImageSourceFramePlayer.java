@@ -0,0 +1,161 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Movie;
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.style.sources.ImageSource;
+
+/**
+ * Plays a sequence of images, like the frames of a GIF or the images of a time-lapse, on an
+ * {@link ImageSource}. Schedule it with a {@link MapAnimationScheduler} to advance one frame
+ * per tick.
+ * <p>
+ * All frames are decoded once up front by {@link #decodeMovie(Movie, long, long)} or
+ * {@link #decodeResources(Resources, int[], long)}, so playback doesn't draw or decode
+ * anything. When the frames wouldn't fit into the given number of bytes they're downsampled
+ * until they do. Decoding may take a while and should happen on a background thread.
+ * </p>
+ */
+public class ImageSourceFramePlayer implements MapAnimationScheduler.Ticker {
+
+  private final Bitmap[] frames;
+  private final FrameTarget target;
+  private int frameIndex;
+  private boolean started;
+
+  /**
+   * Shows a frame, lets tests play the frames without an ImageSource.
+   */
+  interface FrameTarget {
+    void showFrame(int index);
+  }
+
+  /**
+   * @param imageSource the source to update, it's expected to show the first frame already
+   * @param frames      the decoded frames
+   */
+  public ImageSourceFramePlayer(@NonNull final ImageSource imageSource, @NonNull final Bitmap[] frames) {
+    this(frames, new FrameTarget() {
+      @Override
+      public void showFrame(int index) {
+        imageSource.setImage(frames[index]);
+      }
+    });
+  }
+
+  ImageSourceFramePlayer(@NonNull Bitmap[] frames, @NonNull FrameTarget target) {
+    this.frames = frames;
+    this.target = target;
+  }
+
+  @Override
+  public void onTick(long frameTimeMillis) {
+    if (!started || frames.length < 2) {
+      // The first frame is already showing, the first tick only starts the cadence
+      started = true;
+      return;
+    }
+    frameIndex = (frameIndex + 1) % frames.length;
+    target.showFrame(frameIndex);
+  }
+
+  /**
+   * Frees the frames. The player must not be scheduled anymore.
+   */
+  public void release() {
+    for (Bitmap frame : frames) {
+      frame.recycle();
+    }
+  }
+
+  /**
+   * A memory budget for the frames of one animation, an eighth of the app's heap.
+   */
+  public static long getDefaultMaxBytes() {
+    return Runtime.getRuntime().maxMemory() / 8;
+  }
+
+  /**
+   * Renders a GIF (or any other {@link Movie}) at a fixed frame rate.
+   *
+   * @param movie           the decoded movie
+   * @param frameIntervalMs time between two frames
+   * @param maxBytes        memory budget for all frames together
+   * @return one frame for every frameIntervalMs of the movie's duration
+   */
+  @NonNull
+  public static Bitmap[] decodeMovie(@NonNull Movie movie, long frameIntervalMs, long maxBytes) {
+    int duration = movie.duration() > 0 ? movie.duration() : 1000;
+    int frameCount = (int) Math.max(1, (duration + frameIntervalMs - 1) / frameIntervalMs);
+    float scale = getScale(movie.width(), movie.height(), frameCount, maxBytes);
+    int width = Math.max(1, Math.round(movie.width() * scale));
+    int height = Math.max(1, Math.round(movie.height() * scale));
+
+    Bitmap[] frames = new Bitmap[frameCount];
+    for (int i = 0; i < frameCount; i++) {
+      frames[i] = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+      Canvas canvas = new Canvas(frames[i]);
+      canvas.scale(scale, scale);
+      movie.setTime((int) Math.min(duration - 1, i * frameIntervalMs));
+      movie.draw(canvas, 0, 0);
+    }
+    return frames;
+  }
+
+  /**
+   * Decodes drawable resources, for example the images of a time-lapse.
+   *
+   * @param resources   used to open the drawables
+   * @param drawableIds the images in playback order
+   * @param maxBytes    memory budget for all frames together
+   * @return the decoded images, in the same order
+   */
+  @NonNull
+  public static Bitmap[] decodeResources(@NonNull Resources resources, @DrawableRes int[] drawableIds,
+                                         long maxBytes) {
+    // Read only the sizes first to find out how much the images need to be downsampled
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inJustDecodeBounds = true;
+    long totalBytes = 0;
+    for (int drawableId : drawableIds) {
+      BitmapFactory.decodeResource(resources, drawableId, options);
+      totalBytes += (long) options.outWidth * options.outHeight * 4;
+    }
+
+    options.inJustDecodeBounds = false;
+    options.inSampleSize = getSampleSize(totalBytes, maxBytes);
+
+    Bitmap[] frames = new Bitmap[drawableIds.length];
+    for (int i = 0; i < drawableIds.length; i++) {
+      frames[i] = BitmapFactory.decodeResource(resources, drawableIds[i], options);
+    }
+    return frames;
+  }
+
+  /**
+   * @return the power of two the images are downsampled by so that they fit into maxBytes
+   */
+  static int getSampleSize(long totalBytes, long maxBytes) {
+    int sampleSize = 1;
+    while (totalBytes / ((long) sampleSize * sampleSize) > maxBytes) {
+      sampleSize *= 2;
+    }
+    return sampleSize;
+  }
+
+  /**
+   * @return the factor the movie's frames are scaled by so that they fit into maxBytes
+   */
+  static float getScale(int width, int height, int frameCount, long maxBytes) {
+    long totalBytes = (long) width * height * 4 * frameCount;
+    if (totalBytes <= maxBytes) {
+      return 1f;
+    }
+    return (float) Math.sqrt((double) maxBytes / totalBytes);
+  }
+}
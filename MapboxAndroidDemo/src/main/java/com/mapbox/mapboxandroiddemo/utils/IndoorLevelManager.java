@@ -0,0 +1,326 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.content.Context;
+import android.os.AsyncTask;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.MultiPoint;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+import com.mapbox.turf.TurfJoins;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import timber.log.Timber;
+
+/**
+ * Keeps the parsed floor levels of an indoor map in memory, so switching levels doesn't read and
+ * parse a GeoJSON file again.
+ * <p>
+ * {@link #load(Context)} parses every level in the background, through {@link GeoJsonBinaryCache},
+ * starting with the selected one. Levels are kept as long as their estimated size fits into the
+ * memory cap. {@link #selectLevel(int)} delivers a level that's in memory right away and loads an
+ * evicted one again.
+ * </p>
+ * <p>
+ * The manager also tells whether a coordinate is inside the building's footprint. The bounding box
+ * of the footprint is checked before the exact polygon test, so coordinates away from the building
+ * don't create any objects. Must be used on the main thread.
+ * </p>
+ */
+public class IndoorLevelManager {
+
+  private static final long DEFAULT_MAX_BYTES = 4 * 1024 * 1024;
+
+  // Rough sizes of the parsed objects on the heap, only used to stay within the cap
+  private static final int POINT_BYTES = 48;
+  private static final int FEATURE_BYTES = 256;
+
+  private final String[] levelAssets;
+  private final LruCache<Integer, Level> levels;
+  private final boolean[] loading;
+  private final List<LoadLevelsTask> tasks = new ArrayList<>();
+
+  private Context context;
+  private OnLevelListener listener;
+  private int selectedLevel;
+
+  private Polygon footprint;
+  private double footprintWest;
+  private double footprintSouth;
+  private double footprintEast;
+  private double footprintNorth;
+
+  /**
+   * Receives the features of the selected level.
+   */
+  public interface OnLevelListener {
+    void onLevel(int level, @NonNull FeatureCollection features);
+  }
+
+  /**
+   * @param levelAssets the GeoJSON asset of each level, from the lowest level up
+   */
+  public IndoorLevelManager(@NonNull String... levelAssets) {
+    this(DEFAULT_MAX_BYTES, levelAssets);
+  }
+
+  /**
+   * @param maxBytes    estimated heap size the parsed levels may take
+   * @param levelAssets the GeoJSON asset of each level, from the lowest level up
+   */
+  public IndoorLevelManager(long maxBytes, @NonNull String... levelAssets) {
+    this.levelAssets = levelAssets;
+    loading = new boolean[levelAssets.length];
+    levels = new LruCache<Integer, Level>((int) Math.min(maxBytes, Integer.MAX_VALUE)) {
+      @Override
+      protected int sizeOf(Integer key, Level value) {
+        return value.bytes;
+      }
+    };
+  }
+
+  public void setOnLevelListener(@Nullable OnLevelListener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * Starts parsing all levels that aren't in memory in the background, the selected one first.
+   */
+  public void load(@NonNull Context context) {
+    this.context = context.getApplicationContext();
+    List<Integer> missing = new ArrayList<>();
+    for (int level = 0; level < levelAssets.length; level++) {
+      if (!loading[level] && levels.get(level) == null) {
+        missing.add(level);
+      }
+    }
+    if (missing.remove(Integer.valueOf(selectedLevel))) {
+      missing.add(0, selectedLevel);
+    }
+    startTask(missing);
+  }
+
+  /**
+   * Makes a level the selected one. The listener gets it right away if it's in memory, otherwise
+   * once it's loaded.
+   */
+  public void selectLevel(int level) {
+    selectedLevel = level;
+    Level loaded = levels.get(level);
+    if (loaded != null) {
+      if (listener != null) {
+        listener.onLevel(level, loaded.features);
+      }
+    } else if (!loading[level] && context != null) {
+      // Evicted to stay within the memory cap
+      startTask(Collections.singletonList(level));
+    }
+  }
+
+  public int getSelectedLevel() {
+    return selectedLevel;
+  }
+
+  public int getLevelCount() {
+    return levelAssets.length;
+  }
+
+  /**
+   * @return the level's features if it's in memory, null otherwise
+   */
+  @Nullable
+  public FeatureCollection getLevel(int level) {
+    Level loaded = levels.get(level);
+    return loaded != null ? loaded.features : null;
+  }
+
+  /**
+   * Sets the outline of the building, which usually doesn't need to be closed.
+   */
+  public void setFootprint(@NonNull List<Point> outline) {
+    footprint = Polygon.fromLngLats(Collections.singletonList(outline));
+    footprintWest = Double.POSITIVE_INFINITY;
+    footprintSouth = Double.POSITIVE_INFINITY;
+    footprintEast = Double.NEGATIVE_INFINITY;
+    footprintNorth = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < outline.size(); i++) {
+      Point point = outline.get(i);
+      footprintWest = Math.min(footprintWest, point.longitude());
+      footprintEast = Math.max(footprintEast, point.longitude());
+      footprintSouth = Math.min(footprintSouth, point.latitude());
+      footprintNorth = Math.max(footprintNorth, point.latitude());
+    }
+  }
+
+  /**
+   * @return true if the coordinate is inside the footprint, false if it's outside or no footprint was set
+   */
+  public boolean isInsideFootprint(double longitude, double latitude) {
+    if (footprint == null
+      || longitude < footprintWest || longitude > footprintEast
+      || latitude < footprintSouth || latitude > footprintNorth) {
+      return false;
+    }
+    return TurfJoins.inside(Point.fromLngLat(longitude, latitude), footprint);
+  }
+
+  /**
+   * Stops delivering levels. Call it from onDestroy. Levels that were still loading are loaded again
+   * by the next {@link #load(Context)}.
+   */
+  public void cancel() {
+    for (LoadLevelsTask task : tasks) {
+      task.cancel(false);
+    }
+    tasks.clear();
+    // Cancelled tasks never report their remaining levels
+    Arrays.fill(loading, false);
+    listener = null;
+  }
+
+  private void startTask(List<Integer> levelsToLoad) {
+    if (levelsToLoad.isEmpty()) {
+      return;
+    }
+    String[] assets = new String[levelsToLoad.size()];
+    int[] indices = new int[levelsToLoad.size()];
+    for (int i = 0; i < indices.length; i++) {
+      indices[i] = levelsToLoad.get(i);
+      assets[i] = levelAssets[indices[i]];
+      loading[indices[i]] = true;
+    }
+    LoadLevelsTask task = new LoadLevelsTask(this, context, indices, assets);
+    tasks.add(task);
+    task.execute();
+  }
+
+  private void onLevelLoaded(int level, @Nullable Level loaded) {
+    loading[level] = false;
+    if (loaded == null) {
+      return;
+    }
+    levels.put(level, loaded);
+    if (level == selectedLevel && listener != null) {
+      listener.onLevel(level, loaded.features);
+    }
+  }
+
+  private void onTaskFinished(LoadLevelsTask task) {
+    tasks.remove(task);
+  }
+
+  /**
+   * Estimates the heap size of the parsed level from its coordinate count.
+   */
+  private static int estimateBytes(@NonNull FeatureCollection featureCollection) {
+    List<Feature> features = featureCollection.features();
+    if (features == null) {
+      return FEATURE_BYTES;
+    }
+    long bytes = FEATURE_BYTES;
+    for (int i = 0; i < features.size(); i++) {
+      bytes += FEATURE_BYTES + (long) countPoints(features.get(i).geometry()) * POINT_BYTES;
+    }
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  private static int countPoints(@Nullable Geometry geometry) {
+    int count = 0;
+    if (geometry instanceof Point) {
+      count = 1;
+    } else if (geometry instanceof LineString) {
+      count = ((LineString) geometry).coordinates().size();
+    } else if (geometry instanceof MultiPoint) {
+      count = ((MultiPoint) geometry).coordinates().size();
+    } else if (geometry instanceof Polygon) {
+      count = countPoints(((Polygon) geometry).coordinates());
+    } else if (geometry instanceof MultiLineString) {
+      count = countPoints(((MultiLineString) geometry).coordinates());
+    } else if (geometry instanceof MultiPolygon) {
+      for (List<List<Point>> polygon : ((MultiPolygon) geometry).coordinates()) {
+        count += countPoints(polygon);
+      }
+    }
+    return count;
+  }
+
+  private static int countPoints(@NonNull List<List<Point>> lines) {
+    int count = 0;
+    for (int i = 0; i < lines.size(); i++) {
+      count += lines.get(i).size();
+    }
+    return count;
+  }
+
+  private static class Level {
+    final FeatureCollection features;
+    final int bytes;
+
+    Level(FeatureCollection features, int bytes) {
+      this.features = features;
+      this.bytes = bytes;
+    }
+  }
+
+  /**
+   * Parses levels one after the other and hands each one to the manager as soon as it's ready.
+   */
+  private static class LoadLevelsTask extends AsyncTask<Void, Object, Void> {
+
+    private final WeakReference<IndoorLevelManager> managerReference;
+    private final Context context;
+    private final int[] levels;
+    private final String[] assets;
+
+    LoadLevelsTask(IndoorLevelManager manager, Context context, int[] levels, String[] assets) {
+      this.managerReference = new WeakReference<>(manager);
+      this.context = context;
+      this.levels = levels;
+      this.assets = assets;
+    }
+
+    @Override
+    protected Void doInBackground(Void... voids) {
+      for (int i = 0; i < levels.length && !isCancelled(); i++) {
+        Level level = null;
+        try {
+          FeatureCollection features = GeoJsonBinaryCache.load(context, assets[i]);
+          level = new Level(features, estimateBytes(features));
+        } catch (Exception exception) {
+          Timber.e("Exception loading indoor level %s: %s", assets[i], exception.toString());
+        }
+        publishProgress(levels[i], level);
+      }
+      return null;
+    }
+
+    @Override
+    protected void onProgressUpdate(Object... values) {
+      IndoorLevelManager manager = managerReference.get();
+      if (manager != null && !isCancelled()) {
+        manager.onLevelLoaded((Integer) values[0], (Level) values[1]);
+      }
+    }
+
+    @Override
+    protected void onPostExecute(Void result) {
+      IndoorLevelManager manager = managerReference.get();
+      if (manager != null) {
+        manager.onTaskFinished(this);
+      }
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.collection.LruCache;
+
+import com.mapbox.api.isochrone.MapboxIsochrone;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Point;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import timber.log.Timber;
+
+/**
+ * Requests isochrones from the Mapbox Isochrone API for UI that changes quickly, like a seekbar.
+ * <p>
+ * Requests are debounced, so while the user is still dragging only the latest one is sent once
+ * things calm down. Responses are cached by center, profile and minutes, where the center is
+ * rounded to about ten meters. A request that's already on its way is never sent a second time,
+ * and only the response for the latest request is delivered to the listener. Asking again for the
+ * isochrone that was delivered last doesn't deliver it a second time.
+ * </p>
+ * <p>
+ * All methods must be called on the main thread.
+ * </p>
+ */
+public class IsochroneRequestManager {
+
+  private static final long DEBOUNCE_MS = 300;
+  private static final int MAX_CACHED_RESPONSES = 32;
+
+  // 1e-4 degrees are about 11 meters at the equator
+  private static final double CENTER_PRECISION = 1e4;
+
+  private final LruCache<String, FeatureCollection> cache = new LruCache<>(MAX_CACHED_RESPONSES);
+  private final Map<String, Call<FeatureCollection>> inFlight = new HashMap<>();
+  private final RequestFactory requestFactory;
+  private final OnIsochroneListener listener;
+  private final MainThread mainThread;
+
+  private String latestKey;
+  private String deliveredKey;
+  private Runnable pendingRequest;
+  private int requestCount;
+
+  /**
+   * Builds the call for a key. Usually the call of a {@link MapboxIsochrone} with the activity's
+   * styling options, like polygons and colors.
+   */
+  public interface RequestFactory {
+    @NonNull
+    Call<FeatureCollection> createCall(@NonNull Point center, @NonNull String profile, int minutes);
+  }
+
+  public interface OnIsochroneListener {
+    void onIsochrone(@NonNull FeatureCollection isochrone);
+  }
+
+  /**
+   * Runs the debounced requests, a {@link Handler} on the main looper outside of tests.
+   */
+  interface MainThread {
+    void postDelayed(@NonNull Runnable runnable, long delayMillis);
+
+    void removeCallbacks(@NonNull Runnable runnable);
+  }
+
+  public IsochroneRequestManager(@NonNull RequestFactory requestFactory, @NonNull OnIsochroneListener listener) {
+    this(requestFactory, listener, new HandlerMainThread());
+  }
+
+  IsochroneRequestManager(@NonNull RequestFactory requestFactory, @NonNull OnIsochroneListener listener,
+                          @NonNull MainThread mainThread) {
+    this.requestFactory = requestFactory;
+    this.listener = listener;
+    this.mainThread = mainThread;
+  }
+
+  /**
+   * Asks for an isochrone. Cached answers are delivered right away, everything else after the
+   * debounce delay unless another request comes in before that.
+   *
+   * @param center  the center of the isochrone
+   * @param profile one of the {@link com.mapbox.api.isochrone.IsochroneCriteria} profiles
+   * @param minutes travel time
+   */
+  public void request(@NonNull final Point center, @NonNull final String profile, final int minutes) {
+    final String key = getKey(center, profile, minutes);
+    latestKey = key;
+    cancelPendingRequest();
+
+    if (key.equals(deliveredKey)) {
+      // Already showing, like while a seekbar moves within one step
+      return;
+    }
+    FeatureCollection cached = cache.get(key);
+    if (cached != null) {
+      deliver(key, cached);
+      return;
+    }
+    if (inFlight.containsKey(key)) {
+      // The response will be delivered because this is the latest key now
+      return;
+    }
+
+    pendingRequest = new Runnable() {
+      @Override
+      public void run() {
+        pendingRequest = null;
+        send(key, center, profile, minutes);
+      }
+    };
+    mainThread.postDelayed(pendingRequest, DEBOUNCE_MS);
+  }
+
+  /**
+   * Number of requests sent to the API so far.
+   */
+  public int getRequestCount() {
+    return requestCount;
+  }
+
+  /**
+   * Drops the pending request and cancels all running ones. Call it from onDestroy.
+   */
+  public void cancel() {
+    cancelPendingRequest();
+    for (Call<FeatureCollection> call : inFlight.values()) {
+      call.cancel();
+    }
+    inFlight.clear();
+  }
+
+  private void send(final String key, Point center, String profile, int minutes) {
+    requestCount++;
+    Call<FeatureCollection> call = requestFactory.createCall(center, profile, minutes);
+    inFlight.put(key, call);
+    call.enqueue(new Callback<FeatureCollection>() {
+      @Override
+      public void onResponse(Call<FeatureCollection> call, Response<FeatureCollection> response) {
+        inFlight.remove(key);
+        FeatureCollection isochrone = response.body();
+        if (isochrone == null) {
+          Timber.d("Request failed: HTTP %d", response.code());
+          return;
+        }
+        cache.put(key, isochrone);
+        if (key.equals(latestKey)) {
+          deliver(key, isochrone);
+        }
+      }
+
+      @Override
+      public void onFailure(Call<FeatureCollection> call, Throwable throwable) {
+        inFlight.remove(key);
+        if (!call.isCanceled()) {
+          Timber.d("Request failed: %s", throwable.getMessage());
+        }
+      }
+    });
+  }
+
+  private void deliver(String key, FeatureCollection isochrone) {
+    deliveredKey = key;
+    listener.onIsochrone(isochrone);
+  }
+
+  private void cancelPendingRequest() {
+    if (pendingRequest != null) {
+      mainThread.removeCallbacks(pendingRequest);
+      pendingRequest = null;
+    }
+  }
+
+  private static String getKey(Point center, String profile, int minutes) {
+    return String.format(Locale.US, "%d,%d/%s/%d",
+      Math.round(center.longitude() * CENTER_PRECISION), Math.round(center.latitude() * CENTER_PRECISION),
+      profile, minutes);
+  }
+
+  private static class HandlerMainThread implements MainThread {
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    @Override
+    public void postDelayed(@NonNull Runnable runnable, long delayMillis) {
+      handler.postDelayed(runnable, delayMillis);
+    }
+
+    @Override
+    public void removeCallbacks(@NonNull Runnable runnable) {
+      handler.removeCallbacks(runnable);
+    }
+  }
+}
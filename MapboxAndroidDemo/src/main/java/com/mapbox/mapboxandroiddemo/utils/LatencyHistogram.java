@@ -0,0 +1,135 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in logarithmic buckets, like an HdrHistogram with a fixed precision of
+ * {@value #SUB_BUCKET_COUNT} buckets per power of two (at most 6.25% error).
+ * <p>
+ * Recording only increments a couple of atomic counters, so any number of threads can record at the
+ * same time without locking. Percentiles are computed from a {@link Snapshot}.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  // Latencies are recorded in microseconds, everything above 2^36 µs (about 19 hours) is clamped
+  private static final int MAX_EXPONENT = 36;
+  private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+  private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong maxMicros = new AtomicLong();
+
+  /**
+   * Records one latency.
+   */
+  public void record(long duration, @NonNull TimeUnit unit) {
+    long micros = Math.max(0, Math.min(MAX_VALUE, unit.toMicros(duration)));
+    counts.incrementAndGet(getIndex(micros));
+    long max = maxMicros.get();
+    while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+      max = maxMicros.get();
+    }
+  }
+
+  /**
+   * Copies the current counts. Latencies recorded while copying may or may not be included.
+   */
+  @NonNull
+  public Snapshot getSnapshot() {
+    long[] copy = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      copy[i] = counts.get(i);
+    }
+    return new Snapshot(copy, maxMicros.get());
+  }
+
+  /**
+   * Moves the current counts into a snapshot and starts over. Every latency ends up in exactly one
+   * snapshot, even while other threads are recording.
+   */
+  @NonNull
+  public Snapshot getSnapshotAndReset() {
+    long[] copy = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      copy[i] = counts.getAndSet(i, 0);
+    }
+    return new Snapshot(copy, maxMicros.getAndSet(0));
+  }
+
+  static int getIndex(long micros) {
+    if (micros < SUB_BUCKET_COUNT) {
+      return (int) micros;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(micros);
+    int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * @return the largest value that falls into the bucket
+   */
+  static long getHighestValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    int subBucket = index % SUB_BUCKET_COUNT;
+    int shift = exponent - SUB_BUCKET_BITS;
+    return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * Immutable copy of a histogram's counts.
+   */
+  public static final class Snapshot {
+    private final long[] counts;
+    private final long maxMicros;
+    private final long totalCount;
+
+    Snapshot(long[] counts, long maxMicros) {
+      this.counts = counts;
+      this.maxMicros = maxMicros;
+      long total = 0;
+      for (long count : counts) {
+        total += count;
+      }
+      this.totalCount = total;
+    }
+
+    public long getCount() {
+      return totalCount;
+    }
+
+    /**
+     * @param percentile between 0 and 100, for example 95 for the p95
+     * @return the latency that the given share of the recorded latencies is at or below, 0 if
+     * nothing was recorded
+     */
+    public long getPercentile(double percentile, @NonNull TimeUnit unit) {
+      if (totalCount == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return unit.convert(Math.min(getHighestValue(i), maxMicros), TimeUnit.MICROSECONDS);
+        }
+      }
+      return unit.convert(maxMicros, TimeUnit.MICROSECONDS);
+    }
+
+    public long getMax(@NonNull TimeUnit unit) {
+      return unit.convert(maxMicros, TimeUnit.MICROSECONDS);
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps a line with a fixed number of points that follows the map camera, such as a line to the
+ * camera target or the outline of another map's viewport, and updates its GeoJsonSource at most
+ * once per display frame.
+ * <p>
+ * Camera move callbacks often arrive several times per frame. Instead of querying the map and
+ * building a new geometry in each of them, call {@link #invalidate()} and update the coordinates
+ * from {@link OnFrameListener#onFrame(LiveLineSource)}, which runs once in the next frame. The
+ * coordinates are kept in a primitive buffer and the {@link Point}s are only created again for
+ * coordinates that changed, so a frame in which nothing moved doesn't touch the source at all.
+ * </p>
+ * <p>
+ * Call {@link #onDestroy()} from the activity's onDestroy. All methods must be called on the main
+ * thread.
+ * </p>
+ */
+public class LiveLineSource {
+
+  private final double[] coordinates;
+  // Created from the coordinates when first needed, null while a coordinate changed or wasn't set
+  private final Point[] points;
+  private final boolean[] assigned;
+  private final MapAnimationScheduler.FrameClock clock;
+  private final MapAnimationScheduler.FrameClock.Callback frameCallback =
+    new MapAnimationScheduler.FrameClock.Callback() {
+      @Override
+      public void doFrame(long frameTimeNanos) {
+        frameScheduled = false;
+        runFrame();
+      }
+    };
+
+  private LineTarget target;
+  private OnFrameListener listener;
+  private boolean frameScheduled;
+  private boolean inFrame;
+  private boolean dirty;
+  private int assignedCount;
+  private int publishCount;
+
+  /**
+   * Updates the coordinates of the line, once per frame after {@link #invalidate()}.
+   */
+  public interface OnFrameListener {
+    void onFrame(@NonNull LiveLineSource line);
+  }
+
+  /**
+   * Shows the line, a {@link GeoJsonSource} outside of tests.
+   */
+  interface LineTarget {
+    void setGeoJson(@NonNull LineString line);
+  }
+
+  /**
+   * @param pointCount number of points of the line, repeat the first one at the end to close it
+   */
+  public LiveLineSource(int pointCount) {
+    this(pointCount, new MapAnimationScheduler.ChoreographerFrameClock());
+  }
+
+  LiveLineSource(int pointCount, @NonNull MapAnimationScheduler.FrameClock clock) {
+    this.clock = clock;
+    coordinates = new double[pointCount * 2];
+    points = new Point[pointCount];
+    assigned = new boolean[pointCount];
+  }
+
+  /**
+   * Sets the source the line is shown with, for example once the style is loaded. Coordinates set
+   * before are sent in the next frame.
+   */
+  public void setSource(@Nullable final GeoJsonSource source) {
+    setTarget(source == null ? null : new LineTarget() {
+      @Override
+      public void setGeoJson(@NonNull LineString line) {
+        source.setGeoJson(line);
+      }
+    });
+  }
+
+  void setTarget(@Nullable LineTarget target) {
+    this.target = target;
+    if (target != null) {
+      dirty = true;
+      scheduleFrame();
+    }
+  }
+
+  public void setOnFrameListener(@Nullable OnFrameListener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * Asks for a call to the {@link OnFrameListener} in the next frame. Calling it again before then
+   * does nothing, so it can be called from every camera move callback.
+   */
+  public void invalidate() {
+    scheduleFrame();
+  }
+
+  /**
+   * Moves a point of the line. The source is updated in the next frame, or at the end of the
+   * current one when called from the {@link OnFrameListener}.
+   */
+  public void setCoordinate(int index, double longitude, double latitude) {
+    if (assigned[index] && coordinates[index * 2] == longitude && coordinates[index * 2 + 1] == latitude) {
+      return;
+    }
+    if (!assigned[index]) {
+      assigned[index] = true;
+      assignedCount++;
+    }
+    coordinates[index * 2] = longitude;
+    coordinates[index * 2 + 1] = latitude;
+    points[index] = null;
+    dirty = true;
+    scheduleFrame();
+  }
+
+  /**
+   * @return the point at the index, or null if it wasn't set yet
+   */
+  @Nullable
+  public Point getPoint(int index) {
+    if (points[index] == null && assigned[index]) {
+      points[index] = Point.fromLngLat(coordinates[index * 2], coordinates[index * 2 + 1]);
+    }
+    return points[index];
+  }
+
+  public int getPointCount() {
+    return points.length;
+  }
+
+  /**
+   * Number of times the source was updated so far.
+   */
+  public int getPublishCount() {
+    return publishCount;
+  }
+
+  public void onDestroy() {
+    if (frameScheduled) {
+      clock.removeFrameCallback(frameCallback);
+      frameScheduled = false;
+    }
+    target = null;
+    listener = null;
+  }
+
+  private void runFrame() {
+    if (listener != null) {
+      inFrame = true;
+      listener.onFrame(this);
+      inFrame = false;
+    }
+    if (!dirty || target == null || assignedCount < points.length) {
+      return;
+    }
+    List<Point> pointList = new ArrayList<>(points.length);
+    for (int i = 0; i < points.length; i++) {
+      pointList.add(getPoint(i));
+    }
+    target.setGeoJson(LineString.fromLngLats(pointList));
+    dirty = false;
+    publishCount++;
+  }
+
+  private void scheduleFrame() {
+    // Changes made by the listener are sent at the end of the current frame
+    if (!frameScheduled && !inFrame) {
+      clock.postFrameCallback(frameCallback, 0);
+      frameScheduled = true;
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.view.Choreographer;
+import androidx.annotation.NonNull;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleObserver;
+import androidx.lifecycle.OnLifecycleEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import timber.log.Timber;
+
+/**
+ * Runs any number of periodic map animations, like swapping the image of an ImageSource or
+ * changing a layer filter, from a single display frame callback instead of a separate
+ * Handler loop for each of them.
+ * <p>
+ * Ticks are aligned with display frames. A ticker that fell behind by more than one interval,
+ * for example because the main thread was busy, skips the missed ticks instead of catching
+ * up with a burst of them. When the tickers of one frame take longer than the frame budget,
+ * the remaining ones are moved to the next frame and run first there.
+ * </p>
+ * <p>
+ * The scheduler follows the lifecycle of the activity it's added to as an observer, with
+ * getLifecycle().addObserver(scheduler). Nothing runs between {@link #onPause()} and {@link #onResume()}.
+ * All methods must be called on the main thread.
+ * </p>
+ */
+public class MapAnimationScheduler implements LifecycleObserver {
+
+  private static final long DEFAULT_FRAME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+  // Tickers that are due further away than this wait with a delayed frame callback
+  private static final long IDLE_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(32);
+
+  private final FrameClock clock;
+  private final long frameBudgetNanos;
+  private final List<Task> tasks = new ArrayList<>();
+  private final FrameClock.Callback frameCallback = new FrameClock.Callback() {
+    @Override
+    public void doFrame(long frameTimeNanos) {
+      frameScheduled = false;
+      runFrame(frameTimeNanos);
+    }
+  };
+
+  private boolean paused;
+  private boolean frameScheduled;
+  private int nextTaskIndex;
+  private long droppedTickCount;
+  private long overBudgetFrameCount;
+
+  /**
+   * Receives the periodic callbacks.
+   */
+  public interface Ticker {
+    /**
+     * @param frameTimeMillis time of the display frame this tick belongs to, in the
+     *                        {@link android.os.SystemClock#uptimeMillis()} time base
+     */
+    void onTick(long frameTimeMillis);
+  }
+
+  /**
+   * Source of display frames and time. The default implementation uses the {@link Choreographer};
+   * tests can provide a fake one which advances time and delivers frames by hand.
+   */
+  public interface FrameClock {
+
+    interface Callback {
+      void doFrame(long frameTimeNanos);
+    }
+
+    /**
+     * Delivers the callback with the first display frame after the delay has passed.
+     */
+    void postFrameCallback(@NonNull Callback callback, long delayMillis);
+
+    void removeFrameCallback(@NonNull Callback callback);
+
+    /**
+     * Current time in the same time base as the frame times.
+     */
+    long nanoTime();
+  }
+
+  public MapAnimationScheduler() {
+    this(new ChoreographerFrameClock(), DEFAULT_FRAME_BUDGET_NANOS);
+  }
+
+  /**
+   * @param clock            delivers the frames
+   * @param frameBudgetNanos time tickers may take in one frame before the rest is deferred
+   */
+  public MapAnimationScheduler(@NonNull FrameClock clock, long frameBudgetNanos) {
+    this.clock = clock;
+    this.frameBudgetNanos = frameBudgetNanos;
+  }
+
+  /**
+   * Starts calling the ticker every intervalMillis, beginning with the next display frame.
+   * Scheduling a ticker again changes its interval.
+   */
+  public void schedule(@NonNull Ticker ticker, long intervalMillis) {
+    cancel(ticker);
+    tasks.add(new Task(ticker, TimeUnit.MILLISECONDS.toNanos(Math.max(1, intervalMillis))));
+    scheduleFrame();
+  }
+
+  /**
+   * Stops calling the ticker. Can be called from within {@link Ticker#onTick(long)}.
+   */
+  public void cancel(@NonNull Ticker ticker) {
+    for (int i = 0; i < tasks.size(); i++) {
+      if (tasks.get(i).ticker == ticker) {
+        tasks.remove(i);
+        if (nextTaskIndex > i) {
+          nextTaskIndex--;
+        }
+        break;
+      }
+    }
+    if (tasks.isEmpty()) {
+      unscheduleFrame();
+    }
+  }
+
+  @OnLifecycleEvent(Lifecycle.Event.ON_RESUME)
+  public void onResume() {
+    paused = false;
+    // Overdue tickers start a fresh cadence instead of running twice in a row
+    long now = clock.nanoTime();
+    for (Task task : tasks) {
+      if (task.nextDueNanos != Task.NOT_STARTED && task.nextDueNanos < now) {
+        task.nextDueNanos = Task.NOT_STARTED;
+      }
+    }
+    scheduleFrame();
+  }
+
+  @OnLifecycleEvent(Lifecycle.Event.ON_PAUSE)
+  public void onPause() {
+    paused = true;
+    unscheduleFrame();
+  }
+
+  @OnLifecycleEvent(Lifecycle.Event.ON_DESTROY)
+  public void onDestroy() {
+    tasks.clear();
+    unscheduleFrame();
+    if (droppedTickCount > 0 || overBudgetFrameCount > 0) {
+      Timber.d("Dropped %d stale ticks, %d frames over budget", droppedTickCount, overBudgetFrameCount);
+    }
+  }
+
+  /**
+   * Number of ticks that were skipped because a ticker fell behind by more than one interval.
+   */
+  public long getDroppedTickCount() {
+    return droppedTickCount;
+  }
+
+  /**
+   * Number of frames in which not all due tickers could run within the frame budget.
+   */
+  public long getOverBudgetFrameCount() {
+    return overBudgetFrameCount;
+  }
+
+  private void runFrame(long frameTimeNanos) {
+    long frameTimeMillis = TimeUnit.NANOSECONDS.toMillis(frameTimeNanos);
+    long start = clock.nanoTime();
+
+    // Work on a copy, tickers may schedule or cancel while they run
+    Task[] snapshot = tasks.toArray(new Task[tasks.size()]);
+    int first = snapshot.length == 0 ? 0 : nextTaskIndex % snapshot.length;
+    nextTaskIndex = 0;
+    for (int i = 0; i < snapshot.length; i++) {
+      int index = (first + i) % snapshot.length;
+      Task task = snapshot[index];
+      if (!tasks.contains(task)) {
+        continue;
+      }
+      if (task.nextDueNanos == Task.NOT_STARTED) {
+        task.nextDueNanos = frameTimeNanos;
+      }
+      if (frameTimeNanos < task.nextDueNanos) {
+        continue;
+      }
+      if (clock.nanoTime() - start > frameBudgetNanos) {
+        // Out of time, let this one go first in the next frame
+        overBudgetFrameCount++;
+        nextTaskIndex = index;
+        break;
+      }
+
+      long late = frameTimeNanos - task.nextDueNanos;
+      if (late >= task.intervalNanos) {
+        droppedTickCount += late / task.intervalNanos;
+        task.nextDueNanos = frameTimeNanos + task.intervalNanos;
+      } else {
+        task.nextDueNanos += task.intervalNanos;
+      }
+      task.ticker.onTick(frameTimeMillis);
+    }
+    scheduleFrame();
+  }
+
+  private void scheduleFrame() {
+    if (paused || frameScheduled || tasks.isEmpty()) {
+      return;
+    }
+    long now = clock.nanoTime();
+    long nextDue = Long.MAX_VALUE;
+    for (Task task : tasks) {
+      nextDue = Math.min(nextDue, task.nextDueNanos == Task.NOT_STARTED ? now : task.nextDueNanos);
+    }
+    long wait = nextDue - now;
+    long delayMillis = wait > IDLE_THRESHOLD_NANOS
+      ? TimeUnit.NANOSECONDS.toMillis(wait - IDLE_THRESHOLD_NANOS / 2) : 0;
+    clock.postFrameCallback(frameCallback, delayMillis);
+    frameScheduled = true;
+  }
+
+  private void unscheduleFrame() {
+    if (frameScheduled) {
+      clock.removeFrameCallback(frameCallback);
+      frameScheduled = false;
+    }
+  }
+
+  private static class Task {
+    static final long NOT_STARTED = Long.MIN_VALUE;
+
+    final Ticker ticker;
+    final long intervalNanos;
+    long nextDueNanos = NOT_STARTED;
+
+    Task(Ticker ticker, long intervalNanos) {
+      this.ticker = ticker;
+      this.intervalNanos = intervalNanos;
+    }
+  }
+
+  /**
+   * Delivers the frames of the main thread's {@link Choreographer}.
+   */
+  static class ChoreographerFrameClock implements FrameClock, Choreographer.FrameCallback {
+
+    private final Choreographer choreographer = Choreographer.getInstance();
+    private Callback callback;
+
+    @Override
+    public void postFrameCallback(@NonNull Callback callback, long delayMillis) {
+      this.callback = callback;
+      choreographer.postFrameCallbackDelayed(this, delayMillis);
+    }
+
+    @Override
+    public void removeFrameCallback(@NonNull Callback callback) {
+      choreographer.removeFrameCallback(this);
+      this.callback = null;
+    }
+
+    @Override
+    public long nanoTime() {
+      // Choreographer frame times use the System.nanoTime() time base
+      return System.nanoTime();
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+      Callback current = callback;
+      callback = null;
+      if (current != null) {
+        current.doFrame(frameTimeNanos);
+      }
+    }
+  }
+}
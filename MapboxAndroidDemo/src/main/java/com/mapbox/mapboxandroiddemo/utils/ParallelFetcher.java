@@ -0,0 +1,126 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import timber.log.Timber;
+
+/**
+ * Loads keyed resources on a bounded number of threads. A key that is already being loaded is not
+ * requested a second time; the caller waits for the running request instead.
+ *
+ * @param <T> type of the loaded resources
+ */
+class ParallelFetcher<T> {
+
+  private final Loader<T> loader;
+  private final ExecutorService executor;
+  private final ConcurrentHashMap<String, Future<T>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Loads a single resource, called on one of the fetcher's threads.
+   */
+  interface Loader<T> {
+    @Nullable
+    T load(@NonNull String key, @NonNull String url) throws IOException;
+  }
+
+  /**
+   * @param loader      loads the resources
+   * @param parallelism maximum number of simultaneous loads
+   */
+  ParallelFetcher(@NonNull Loader<T> loader, int parallelism) {
+    this.loader = loader;
+    this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+  }
+
+  /**
+   * Loads all resources and blocks until each of them has been loaded or has failed.
+   *
+   * @param urls resource URLs by key
+   * @return the loaded resources by key; keys that failed to load or were cancelled by
+   * {@link #shutdown()} are left out
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  @NonNull
+  Map<String, T> fetchAll(@NonNull Map<String, String> urls) throws InterruptedException {
+    Map<String, Future<T>> futures = new HashMap<>();
+    for (Map.Entry<String, String> entry : urls.entrySet()) {
+      futures.put(entry.getKey(), submit(entry.getKey(), entry.getValue()));
+    }
+
+    Map<String, T> results = new HashMap<>();
+    for (Map.Entry<String, Future<T>> entry : futures.entrySet()) {
+      try {
+        T result = entry.getValue().get();
+        if (result != null) {
+          results.put(entry.getKey(), result);
+        }
+      } catch (ExecutionException exception) {
+        Timber.w(exception.getCause(), "Unable to load %s", entry.getKey());
+      } catch (CancellationException exception) {
+        Timber.d("Loading %s was cancelled", entry.getKey());
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Stops the threads. Requests that haven't finished yet are cancelled, so a thread waiting in
+   * {@link #fetchAll(Map)} returns with the resources loaded so far.
+   */
+  void shutdown() {
+    for (Runnable queued : executor.shutdownNow()) {
+      if (queued instanceof Future) {
+        ((Future<?>) queued).cancel(true);
+      }
+    }
+    // Running requests, which shutdownNow only interrupts
+    for (Future<T> running : inFlight.values()) {
+      running.cancel(true);
+    }
+    inFlight.clear();
+  }
+
+  private Future<T> submit(final String key, final String url) {
+    FutureTask<T> task = new FutureTask<>(new Callable<T>() {
+      @Override
+      public T call() throws IOException {
+        try {
+          return loader.load(key, url);
+        } finally {
+          inFlight.remove(key);
+        }
+      }
+    });
+    if (executor.isShutdown()) {
+      task.cancel(false);
+      return task;
+    }
+    Future<T> existing = inFlight.putIfAbsent(key, task);
+    if (existing != null) {
+      return existing;
+    }
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException exception) {
+      // Shut down in the meantime
+      inFlight.remove(key, task);
+      task.cancel(false);
+    }
+    return task;
+  }
+}
@@ -0,0 +1,251 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Static KD-tree over the Point features of a {@link FeatureCollection}, packed into primitive
+ * arrays. It's built once and then answers "which points are inside this polygon" queries by
+ * first pruning to the polygon's bounding box and only then running the exact ray-casting test
+ * on the remaining candidates.
+ * <p>
+ * Features without a Point geometry are ignored.
+ * </p>
+ */
+public class PointFeatureIndex {
+
+  private static final int NODE_SIZE = 64;
+
+  private final Feature[] features;
+  private final int[] ids;
+  private final double[] coordinates;
+
+  private int[] stack = new int[48];
+
+  public PointFeatureIndex(@NonNull FeatureCollection featureCollection) {
+    List<Feature> pointFeatures = new ArrayList<>();
+    if (featureCollection.features() != null) {
+      for (Feature feature : featureCollection.features()) {
+        if (feature.geometry() instanceof Point) {
+          pointFeatures.add(feature);
+        }
+      }
+    }
+
+    int count = pointFeatures.size();
+    features = pointFeatures.toArray(new Feature[count]);
+    ids = new int[count];
+    coordinates = new double[count * 2];
+    for (int i = 0; i < count; i++) {
+      Point point = (Point) features[i].geometry();
+      ids[i] = i;
+      coordinates[i * 2] = point.longitude();
+      coordinates[i * 2 + 1] = point.latitude();
+    }
+    sort(0, count - 1, 0);
+  }
+
+  public int size() {
+    return features.length;
+  }
+
+  /**
+   * Counts the points inside the polygon.
+   *
+   * @param ring the polygon's outer ring, first and last point may or may not be the same
+   */
+  public int countWithin(@NonNull List<Point> ring) {
+    return queryWithin(ring, null);
+  }
+
+  /**
+   * Collects the features whose points are inside the polygon.
+   *
+   * @param ring the polygon's outer ring, first and last point may or may not be the same
+   */
+  @NonNull
+  public List<Feature> featuresWithin(@NonNull List<Point> ring) {
+    List<Feature> result = new ArrayList<>();
+    queryWithin(ring, result);
+    return result;
+  }
+
+  private int queryWithin(List<Point> ring, List<Feature> result) {
+    int ringSize = ring.size();
+    if (ringSize < 3 || features.length == 0) {
+      return 0;
+    }
+
+    double[] polygon = new double[ringSize * 2];
+    double minX = Double.POSITIVE_INFINITY;
+    double minY = Double.POSITIVE_INFINITY;
+    double maxX = Double.NEGATIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < ringSize; i++) {
+      Point point = ring.get(i);
+      double x = point.longitude();
+      double y = point.latitude();
+      polygon[i * 2] = x;
+      polygon[i * 2 + 1] = y;
+      minX = Math.min(minX, x);
+      minY = Math.min(minY, y);
+      maxX = Math.max(maxX, x);
+      maxY = Math.max(maxY, y);
+    }
+
+    int found = 0;
+    int top = 0;
+    stack[top++] = 0;
+    stack[top++] = features.length - 1;
+    stack[top++] = 0;
+
+    while (top > 0) {
+      int axis = stack[--top];
+      int right = stack[--top];
+      int left = stack[--top];
+
+      if (right - left <= NODE_SIZE) {
+        for (int i = left; i <= right; i++) {
+          found += testPoint(i, minX, minY, maxX, maxY, polygon, result);
+        }
+        continue;
+      }
+
+      int middle = (left + right) >> 1;
+      found += testPoint(middle, minX, minY, maxX, maxY, polygon, result);
+
+      double value = coordinates[middle * 2 + axis];
+      int nextAxis = 1 - axis;
+      if (top + 6 > stack.length) {
+        int[] grown = new int[stack.length * 2];
+        System.arraycopy(stack, 0, grown, 0, top);
+        stack = grown;
+      }
+      if ((axis == 0 ? minX : minY) <= value) {
+        stack[top++] = left;
+        stack[top++] = middle - 1;
+        stack[top++] = nextAxis;
+      }
+      if ((axis == 0 ? maxX : maxY) >= value) {
+        stack[top++] = middle + 1;
+        stack[top++] = right;
+        stack[top++] = nextAxis;
+      }
+    }
+    return found;
+  }
+
+  private int testPoint(int index, double minX, double minY, double maxX, double maxY,
+                        double[] polygon, List<Feature> result) {
+    double x = coordinates[index * 2];
+    double y = coordinates[index * 2 + 1];
+    if (x < minX || x > maxX || y < minY || y > maxY || !isInside(x, y, polygon)) {
+      return 0;
+    }
+    if (result != null) {
+      result.add(features[ids[index]]);
+    }
+    return 1;
+  }
+
+  /**
+   * Even-odd ray casting test against a ring stored as [x0, y0, x1, y1, ...].
+   */
+  private static boolean isInside(double x, double y, double[] polygon) {
+    boolean inside = false;
+    int count = polygon.length / 2;
+    for (int i = 0, j = count - 1; i < count; j = i++) {
+      double xi = polygon[i * 2];
+      double yi = polygon[i * 2 + 1];
+      double xj = polygon[j * 2];
+      double yj = polygon[j * 2 + 1];
+      if ((yi > y) != (yj > y) && x < (xj - xi) * (y - yi) / (yj - yi) + xi) {
+        inside = !inside;
+      }
+    }
+    return inside;
+  }
+
+  private void sort(int left, int right, int axis) {
+    if (right - left <= NODE_SIZE) {
+      return;
+    }
+    int middle = (left + right) >> 1;
+    select(middle, left, right, axis);
+    sort(left, middle - 1, 1 - axis);
+    sort(middle + 1, right, 1 - axis);
+  }
+
+  /**
+   * Partially sorts [left, right] on the axis so that the k-th element ends up at index k,
+   * with smaller values before it and larger ones after it (Floyd-Rivest selection).
+   */
+  private void select(int k, int left, int right, int axis) {
+    while (right > left) {
+      if (right - left > 600) {
+        int n = right - left + 1;
+        int m = k - left + 1;
+        double z = Math.log(n);
+        double s = 0.5 * Math.exp(2 * z / 3);
+        double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * (m - n / 2 < 0 ? -1 : 1);
+        int newLeft = (int) Math.max(left, Math.floor(k - m * s / n + sd));
+        int newRight = (int) Math.min(right, Math.floor(k + (n - m) * s / n + sd));
+        select(k, newLeft, newRight, axis);
+      }
+
+      double value = coordinates[k * 2 + axis];
+      int i = left;
+      int j = right;
+
+      swap(left, k);
+      if (coordinates[right * 2 + axis] > value) {
+        swap(left, right);
+      }
+
+      while (i < j) {
+        swap(i, j);
+        i++;
+        j--;
+        while (coordinates[i * 2 + axis] < value) {
+          i++;
+        }
+        while (coordinates[j * 2 + axis] > value) {
+          j--;
+        }
+      }
+
+      if (coordinates[left * 2 + axis] == value) {
+        swap(left, j);
+      } else {
+        j++;
+        swap(j, right);
+      }
+
+      if (j <= k) {
+        left = j + 1;
+      }
+      if (k <= j) {
+        right = j - 1;
+      }
+    }
+  }
+
+  private void swap(int i, int j) {
+    int id = ids[i];
+    ids[i] = ids[j];
+    ids[j] = id;
+
+    double x = coordinates[i * 2];
+    double y = coordinates[i * 2 + 1];
+    coordinates[i * 2] = coordinates[j * 2];
+    coordinates[i * 2 + 1] = coordinates[j * 2 + 1];
+    coordinates[j * 2] = x;
+    coordinates[j * 2 + 1] = y;
+  }
+}
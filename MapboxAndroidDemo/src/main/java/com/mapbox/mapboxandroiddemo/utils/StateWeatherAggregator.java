@@ -0,0 +1,354 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Sums up weather records per state, like the ones in weather_data_per_state_before2006.geojson,
+ * while the file is being parsed.
+ * <p>
+ * Each record's state is looked up in a hash index that maps the state name to a slot in
+ * primitive arrays holding the bounds of the records and the lowest, highest and mean temperature.
+ * Features are handed to a small thread pool in chunks as they come out of the parser, every chunk
+ * is summed up on its own and the chunks are merged in file order, so states keep the order in
+ * which they first appear.
+ * </p>
+ */
+public final class StateWeatherAggregator {
+
+  private static final int CHUNK_SIZE = 2048;
+  private static final String PROPERTY_STATE = "state";
+  private static final String PROPERTY_ELEMENT = "element";
+  private static final String PROPERTY_VALUE = "value";
+  private static final String PROPERTY_LATITUDE = "latitude";
+  private static final String PROPERTY_LONGITUDE = "longitude";
+  private static final String TEMPERATURE_ELEMENT = "Temperature";
+
+  private static volatile ExecutorService executor;
+
+  private StateWeatherAggregator() {
+    // No instances
+  }
+
+  /**
+   * Parses a FeatureCollection asset and sums up its records per state. Must not be called on the
+   * main thread.
+   *
+   * @param features receives every feature of the file, or null if only the aggregates are needed
+   */
+  @NonNull
+  public static StateAggregates load(@NonNull Context context, @NonNull String assetName,
+                                     @Nullable List<Feature> features) throws IOException {
+    InputStream inputStream = context.getAssets().open(assetName);
+    try {
+      return aggregate(inputStream, features);
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  /**
+   * Parses a FeatureCollection from any stream and sums up its records per state. The caller
+   * remains responsible for closing the stream. Must not be called on the main thread.
+   *
+   * @param features receives every feature of the stream, or null if only the aggregates are needed
+   */
+  @NonNull
+  public static StateAggregates aggregate(@NonNull InputStream inputStream, @Nullable List<Feature> features)
+    throws IOException {
+    ChunkingVisitor visitor = new ChunkingVisitor(getExecutor(), features);
+    GeoJsonAssetLoader.streamFeatures(inputStream, visitor);
+    visitor.submitChunk();
+
+    StateAggregates result = new StateAggregates();
+    try {
+      for (Future<StateAggregates> future : visitor.chunks) {
+        result.merge(future.get());
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while aggregating", exception);
+    } catch (ExecutionException exception) {
+      throw new IOException("Unable to aggregate", exception.getCause());
+    }
+    return result;
+  }
+
+  private static ExecutorService getExecutor() {
+    if (executor == null) {
+      synchronized (StateWeatherAggregator.class) {
+        if (executor == null) {
+          int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+          executor = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+              Thread thread = new Thread(runnable, "StateWeatherAggregator");
+              thread.setDaemon(true);
+              thread.setPriority(Thread.NORM_PRIORITY - 1);
+              return thread;
+            }
+          });
+        }
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * Hands the parsed features to the thread pool in chunks while the parser continues.
+   */
+  private static class ChunkingVisitor implements GeoJsonAssetLoader.FeatureVisitor {
+
+    private final ExecutorService executor;
+    private final List<Feature> features;
+    private final List<Future<StateAggregates>> chunks = new ArrayList<>();
+    private List<Feature> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    ChunkingVisitor(ExecutorService executor, @Nullable List<Feature> features) {
+      this.executor = executor;
+      this.features = features;
+    }
+
+    @Override
+    public void onFeature(@NonNull Feature feature) {
+      if (features != null) {
+        features.add(feature);
+      }
+      chunk.add(feature);
+      if (chunk.size() == CHUNK_SIZE) {
+        submitChunk();
+      }
+    }
+
+    void submitChunk() {
+      if (!chunk.isEmpty()) {
+        chunks.add(executor.submit(new ChunkTask(chunk)));
+        chunk = new ArrayList<>(CHUNK_SIZE);
+      }
+    }
+  }
+
+  private static class ChunkTask implements Callable<StateAggregates> {
+
+    private final List<Feature> features;
+
+    ChunkTask(List<Feature> features) {
+      this.features = features;
+    }
+
+    @Override
+    public StateAggregates call() {
+      StateAggregates aggregates = new StateAggregates();
+      for (int i = 0; i < features.size(); i++) {
+        aggregates.add(features.get(i));
+      }
+      return aggregates;
+    }
+  }
+
+  /**
+   * The bounds and temperatures of every state, by slot. Slots are numbered in the order in which
+   * the states first appear.
+   */
+  public static final class StateAggregates {
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private String[] names = new String[64];
+    private double[] west = new double[64];
+    private double[] south = new double[64];
+    private double[] east = new double[64];
+    private double[] north = new double[64];
+    private double[] minTemperature = new double[64];
+    private double[] maxTemperature = new double[64];
+    private double[] temperatureSum = new double[64];
+    private int[] temperatureCount = new int[64];
+    private int size;
+
+    StateAggregates() {
+    }
+
+    public int getStateCount() {
+      return size;
+    }
+
+    @NonNull
+    public String getName(int slot) {
+      return names[slot];
+    }
+
+    /**
+     * @return the slot of the state, or -1 if there's no such state
+     */
+    public int indexOf(@Nullable CharSequence name) {
+      Integer slot = name != null ? slots.get(name.toString()) : null;
+      return slot != null ? slot : -1;
+    }
+
+    /**
+     * @return the bounds of the state's records, or null if none of them had a location
+     */
+    @Nullable
+    public LatLngBounds getBounds(int slot) {
+      if (west[slot] > east[slot]) {
+        return null;
+      }
+      return LatLngBounds.from(north[slot], east[slot], south[slot], west[slot]);
+    }
+
+    /**
+     * @return the lowest temperature record, NaN if the state has none
+     */
+    public double getMinTemperature(int slot) {
+      return temperatureCount[slot] > 0 ? minTemperature[slot] : Double.NaN;
+    }
+
+    /**
+     * @return the highest temperature record, NaN if the state has none
+     */
+    public double getMaxTemperature(int slot) {
+      return temperatureCount[slot] > 0 ? maxTemperature[slot] : Double.NaN;
+    }
+
+    /**
+     * @return the mean of the temperature records, NaN if the state has none
+     */
+    public double getMeanTemperature(int slot) {
+      return temperatureCount[slot] > 0 ? temperatureSum[slot] / temperatureCount[slot] : Double.NaN;
+    }
+
+    void add(@NonNull Feature feature) {
+      JsonObject properties = feature.properties();
+      String name = getString(properties, PROPERTY_STATE);
+      if (name == null) {
+        return;
+      }
+      int slot = getOrCreateSlot(name);
+
+      Geometry geometry = feature.geometry();
+      if (geometry instanceof Point) {
+        includeLocation(slot, ((Point) geometry).longitude(), ((Point) geometry).latitude());
+      } else {
+        // Records without a geometry may still have their location as properties
+        double latitude = parseDouble(getString(properties, PROPERTY_LATITUDE));
+        double longitude = parseDouble(getString(properties, PROPERTY_LONGITUDE));
+        if (!Double.isNaN(latitude) && !Double.isNaN(longitude)) {
+          includeLocation(slot, longitude, latitude);
+        }
+      }
+
+      String element = getString(properties, PROPERTY_ELEMENT);
+      if (element != null && element.contains(TEMPERATURE_ELEMENT)) {
+        double temperature = parseDouble(getString(properties, PROPERTY_VALUE));
+        if (!Double.isNaN(temperature)) {
+          includeTemperature(slot, temperature, temperature, temperature, 1);
+        }
+      }
+    }
+
+    /**
+     * Adds the states of a later chunk of the same file.
+     */
+    void merge(@NonNull StateAggregates other) {
+      for (int otherSlot = 0; otherSlot < other.size; otherSlot++) {
+        int slot = getOrCreateSlot(other.names[otherSlot]);
+        if (other.west[otherSlot] <= other.east[otherSlot]) {
+          includeLocation(slot, other.west[otherSlot], other.south[otherSlot]);
+          includeLocation(slot, other.east[otherSlot], other.north[otherSlot]);
+        }
+        if (other.temperatureCount[otherSlot] > 0) {
+          includeTemperature(slot, other.minTemperature[otherSlot], other.maxTemperature[otherSlot],
+            other.temperatureSum[otherSlot], other.temperatureCount[otherSlot]);
+        }
+      }
+    }
+
+    private int getOrCreateSlot(@NonNull String name) {
+      Integer existing = slots.get(name);
+      if (existing != null) {
+        return existing;
+      }
+      if (size == names.length) {
+        grow();
+      }
+      int slot = size++;
+      slots.put(name, slot);
+      names[slot] = name;
+      west[slot] = Double.POSITIVE_INFINITY;
+      south[slot] = Double.POSITIVE_INFINITY;
+      east[slot] = Double.NEGATIVE_INFINITY;
+      north[slot] = Double.NEGATIVE_INFINITY;
+      minTemperature[slot] = Double.POSITIVE_INFINITY;
+      maxTemperature[slot] = Double.NEGATIVE_INFINITY;
+      return slot;
+    }
+
+    private void includeLocation(int slot, double longitude, double latitude) {
+      west[slot] = Math.min(west[slot], longitude);
+      east[slot] = Math.max(east[slot], longitude);
+      south[slot] = Math.min(south[slot], latitude);
+      north[slot] = Math.max(north[slot], latitude);
+    }
+
+    private void includeTemperature(int slot, double min, double max, double sum, int count) {
+      minTemperature[slot] = Math.min(minTemperature[slot], min);
+      maxTemperature[slot] = Math.max(maxTemperature[slot], max);
+      temperatureSum[slot] += sum;
+      temperatureCount[slot] += count;
+    }
+
+    private void grow() {
+      int capacity = names.length * 2;
+      names = Arrays.copyOf(names, capacity);
+      west = Arrays.copyOf(west, capacity);
+      south = Arrays.copyOf(south, capacity);
+      east = Arrays.copyOf(east, capacity);
+      north = Arrays.copyOf(north, capacity);
+      minTemperature = Arrays.copyOf(minTemperature, capacity);
+      maxTemperature = Arrays.copyOf(maxTemperature, capacity);
+      temperatureSum = Arrays.copyOf(temperatureSum, capacity);
+      temperatureCount = Arrays.copyOf(temperatureCount, capacity);
+    }
+
+    @Nullable
+    private static String getString(@Nullable JsonObject properties, @NonNull String key) {
+      if (properties == null) {
+        return null;
+      }
+      JsonElement element = properties.get(key);
+      return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+
+    private static double parseDouble(@Nullable String value) {
+      if (value == null) {
+        return Double.NaN;
+      }
+      try {
+        return Double.parseDouble(value);
+      } catch (NumberFormatException exception) {
+        return Double.NaN;
+      }
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.squareup.picasso.Picasso;
+import com.squareup.picasso.Transformation;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+
+import timber.log.Timber;
+
+/**
+ * Downloads small images with Picasso on a bounded number of threads and keeps the already
+ * transformed result in a size-bounded disk cache.
+ * <p>
+ * Requests are identified by a key. A key that is already being fetched is not requested a
+ * second time, see {@link ParallelFetcher}. The least recently used files are removed once the
+ * cache directory grows past its size limit.
+ * </p>
+ */
+public class ThumbnailFetcher {
+
+  private static final String FILE_EXTENSION = ".png";
+
+  private final Picasso picasso;
+  private final Transformation transformation;
+  private final int size;
+  private final File cacheDirectory;
+  private final long maxCacheBytes;
+  private final ParallelFetcher<Bitmap> fetcher;
+
+  /**
+   * @param picasso        used for the network requests
+   * @param transformation applied to every downloaded image before it's cached
+   * @param size           width and height the images are resized to
+   * @param cacheDirectory directory holding the transformed images
+   * @param maxCacheBytes  size limit of the cache directory
+   * @param parallelism    maximum number of simultaneous downloads
+   */
+  public ThumbnailFetcher(@NonNull Picasso picasso, @NonNull Transformation transformation, int size,
+                          @NonNull File cacheDirectory, long maxCacheBytes, int parallelism) {
+    this.picasso = picasso;
+    this.transformation = transformation;
+    this.size = size;
+    this.cacheDirectory = cacheDirectory;
+    this.maxCacheBytes = maxCacheBytes;
+    this.fetcher = new ParallelFetcher<>(new ParallelFetcher.Loader<Bitmap>() {
+      @Override
+      public Bitmap load(@NonNull String key, @NonNull String url) throws IOException {
+        return ThumbnailFetcher.this.load(key, url);
+      }
+    }, parallelism);
+  }
+
+  /**
+   * Fetches all images and blocks until each of them has been loaded or has failed.
+   *
+   * @param urls image URLs by key
+   * @return the loaded images by key; keys that failed to load or were cancelled by
+   * {@link #shutdown()} are left out
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  @NonNull
+  public Map<String, Bitmap> fetchAll(@NonNull Map<String, String> urls) throws InterruptedException {
+    try {
+      return fetcher.fetchAll(urls);
+    } finally {
+      trimCache();
+    }
+  }
+
+  /**
+   * Stops the download threads. Requests that haven't finished yet are cancelled, so a thread
+   * waiting in {@link #fetchAll(Map)} returns with the images loaded so far.
+   */
+  public void shutdown() {
+    fetcher.shutdown();
+  }
+
+  @Nullable
+  private Bitmap load(String key, String url) throws IOException {
+    File file = getCacheFile(key);
+    if (file.exists()) {
+      Bitmap cached = BitmapFactory.decodeFile(file.getPath());
+      if (cached != null) {
+        // Mark the file as recently used for the LRU trimming
+        file.setLastModified(System.currentTimeMillis());
+        return cached;
+      }
+    }
+
+    Bitmap bitmap = picasso.load(url).resize(size, size).transform(transformation).get();
+    if (bitmap != null) {
+      writeToCache(file, bitmap);
+    }
+    return bitmap;
+  }
+
+  private void writeToCache(File file, Bitmap bitmap) {
+    if (!cacheDirectory.exists() && !cacheDirectory.mkdirs()) {
+      return;
+    }
+    File temporaryFile = new File(file.getPath() + ".tmp");
+    try {
+      OutputStream outputStream = new FileOutputStream(temporaryFile);
+      try {
+        bitmap.compress(Bitmap.CompressFormat.PNG, 100, outputStream);
+      } finally {
+        outputStream.close();
+      }
+      if (!temporaryFile.renameTo(file)) {
+        temporaryFile.delete();
+      }
+    } catch (IOException exception) {
+      Timber.w(exception, "Unable to cache image %s", file.getName());
+      temporaryFile.delete();
+    }
+  }
+
+  /**
+   * Deletes the least recently used files until the directory fits within its size limit.
+   */
+  private synchronized void trimCache() {
+    File[] files = cacheDirectory.listFiles();
+    if (files == null) {
+      return;
+    }
+    long totalBytes = 0;
+    for (File file : files) {
+      totalBytes += file.length();
+    }
+    if (totalBytes <= maxCacheBytes) {
+      return;
+    }
+
+    Arrays.sort(files, new Comparator<File>() {
+      @Override
+      public int compare(File first, File second) {
+        long difference = first.lastModified() - second.lastModified();
+        return difference < 0 ? -1 : difference > 0 ? 1 : 0;
+      }
+    });
+    for (int i = 0; i < files.length && totalBytes > maxCacheBytes; i++) {
+      long length = files[i].length();
+      if (files[i].delete()) {
+        totalBytes -= length;
+      }
+    }
+  }
+
+  private File getCacheFile(String key) {
+    // Keys come from remote data, so keep only characters that are safe in a file name
+    return new File(cacheDirectory, key.replaceAll("[^A-Za-z0-9_-]", "_") + FILE_EXTENSION);
+  }
+}
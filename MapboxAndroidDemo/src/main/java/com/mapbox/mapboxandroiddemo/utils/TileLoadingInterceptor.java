@@ -4,9 +4,13 @@ import android.app.ActivityManager;
 import android.content.Context;
 import android.net.ConnectivityManager;
 import android.net.NetworkCapabilities;
+import android.net.Network;
 import android.net.NetworkInfo;
+import android.net.NetworkRequest;
 import android.os.Build;
 import android.os.Bundle;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.StringDef;
 import android.util.DisplayMetrics;
 import android.view.Display;
@@ -21,25 +25,53 @@ import java.io.IOException;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 
+import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
 import okhttp3.Request;
 import okhttp3.Response;
+import timber.log.Timber;
 
 /**
  * This Interceptor allows to measure time spent getting a response object over network.
- * The following data will be collected:
- *  responseCode, elapsedMS
- *  requestUrl (request string till the question mark),
- *  and device metadata.
+ * <p>
+ * Latencies and response codes are recorded into histograms per host and per URL prefix, the host
+ * plus the first two path segments (for example api.mapbox.com/v4/mapbox.satellite). Recording
+ * doesn't lock and only allocates the URL prefix, so it doesn't slow down the tile requests. Once
+ * a minute, one performance event per URL prefix is sent with the following data:
+ *  count, p50, p95, p99 and max elapsedMS, and the response codes seen since the last event,
+ *  connectionState and device metadata.
+ * </p>
+ * The percentiles since the app started can also be queried in-process, see
+ * {@link #getLatencyPercentile(String, double, TimeUnit)}.
  */
 public class TileLoadingInterceptor implements Interceptor {
 
+  private static final long FLUSH_INTERVAL_SECONDS = 60;
+  private static final int MAX_RESPONSE_CODE = 600;
+  private static final int PREFIX_PATH_SEGMENTS = 2;
+
   private static String metadata = null;
 
+  private static final ConcurrentHashMap<String, SourceMetrics> HOSTS = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, SourceMetrics> PREFIXES = new ConcurrentHashMap<>();
+  private static ScheduledExecutorService flushExecutor;
+
+  @ConnectionState
+  private static volatile String connectionState = null;
+
   @StringDef( {CONNECTION_NONE, CONNECTION_CELLULAR, CONNECTION_WIFI})
   @Retention(RetentionPolicy.SOURCE)
   @interface ConnectionState {
@@ -48,6 +80,10 @@ public class TileLoadingInterceptor implements Interceptor {
   private static final String CONNECTION_CELLULAR = "cellular";
   private static final String CONNECTION_WIFI = "wifi";
 
+  public TileLoadingInterceptor() {
+    startFlushing();
+  }
+
   @Override
   public Response intercept(Chain chain) throws IOException {
     Request request = chain.request();
@@ -56,42 +92,175 @@ public class TileLoadingInterceptor implements Interceptor {
     Response response = chain.proceed(request);
     elapsed = System.nanoTime() - elapsed;
 
-    triggerPerformanceEvent(response, elapsed / 1000000);
+    HttpUrl url = request.url();
+    // Only the prefixes are sent in performance events, hosts are kept for in-process queries
+    getSourceMetrics(HOSTS, url.host(), false).record(elapsed, response.code());
+    getSourceMetrics(PREFIXES, getUrlPrefix(url), true).record(elapsed, response.code());
 
     return response;
   }
 
-  private void triggerPerformanceEvent(Response response, long elapsedMs) {
+  /**
+   * @return the hosts and URL prefixes that requests were recorded for
+   */
+  @NonNull
+  public static Set<String> getSources() {
+    Set<String> sources = new HashSet<>(HOSTS.keySet());
+    sources.addAll(PREFIXES.keySet());
+    return sources;
+  }
 
-    String connectionState = getWifiState();
-    List<Attribute<String>> attributes = new ArrayList<>();
-    String request = getUrl(response.request());
-    attributes.add(
-            new Attribute<>("requestUrl", request));
-    attributes.add(
-            new Attribute<>("responseCode", String.valueOf(response.code())));
-    attributes.add(
-            new Attribute<>("connectionState", connectionState));
+  /**
+   * @param source     a host or URL prefix from {@link #getSources()}
+   * @param percentile between 0 and 100, for example 95 for the p95
+   * @param unit       the unit of the returned latency
+   * @return the latency of the source's requests since the app started, 0 if there weren't any
+   */
+  public static long getLatencyPercentile(@NonNull String source, double percentile, @NonNull TimeUnit unit) {
+    SourceMetrics metrics = getSourceMetrics(source);
+    return metrics == null ? 0 : metrics.latency.getSnapshot().getPercentile(percentile, unit);
+  }
 
-    List<Attribute<Long>> counters = new ArrayList<>();
-    counters.add(new Attribute<>("elapsedMS", elapsedMs));
+  /**
+   * @return how many of the source's responses had the given HTTP status code since the app started
+   */
+  public static long getResponseCount(@NonNull String source, int code) {
+    SourceMetrics metrics = getSourceMetrics(source);
+    return metrics == null || code < 0 || code >= MAX_RESPONSE_CODE ? 0 : metrics.responseCodes.get(code);
+  }
 
-    Bundle bundle = new Bundle();
+  private static synchronized void startFlushing() {
+    if (flushExecutor != null) {
+      return;
+    }
+    flushExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(@NonNull Runnable runnable) {
+        Thread thread = new Thread(runnable, "TileLoadingMetrics");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+      }
+    });
+    flushExecutor.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          triggerPerformanceEvents();
+        } catch (RuntimeException exception) {
+          // Don't let one failed flush cancel all future ones
+          Timber.e(exception, "Couldn't send tile loading metrics");
+        }
+      }
+    }, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+  }
+
+  private static void triggerPerformanceEvents() {
+    if (Mapbox.getTelemetry() == null || PREFIXES.isEmpty()) {
+      return;
+    }
+    String connectionState = getConnectionState();
     Gson gson = new Gson();
-    bundle.putString("attributes", gson.toJson(attributes));
-    bundle.putString("counters", gson.toJson(counters));
-    bundle.putString("metadata", getMetadata());
+    boolean triggered = false;
+    for (Map.Entry<String, SourceMetrics> entry : PREFIXES.entrySet()) {
+      SourceMetrics metrics = entry.getValue();
+      LatencyHistogram.Snapshot latency = metrics.intervalLatency.getSnapshotAndReset();
+      String responseCodes = metrics.drainIntervalResponseCodes();
+      if (latency.getCount() == 0) {
+        continue;
+      }
+
+      List<Attribute<String>> attributes = new ArrayList<>();
+      attributes.add(
+              new Attribute<>("requestUrl", entry.getKey()));
+      attributes.add(
+              new Attribute<>("responseCodes", responseCodes));
+      attributes.add(
+              new Attribute<>("connectionState", connectionState));
+
+      List<Attribute<Long>> counters = new ArrayList<>();
+      counters.add(new Attribute<>("count", latency.getCount()));
+      counters.add(new Attribute<>("p50ElapsedMS", latency.getPercentile(50, TimeUnit.MILLISECONDS)));
+      counters.add(new Attribute<>("p95ElapsedMS", latency.getPercentile(95, TimeUnit.MILLISECONDS)));
+      counters.add(new Attribute<>("p99ElapsedMS", latency.getPercentile(99, TimeUnit.MILLISECONDS)));
+      counters.add(new Attribute<>("maxElapsedMS", latency.getMax(TimeUnit.MILLISECONDS)));
 
-    if (Mapbox.getTelemetry() != null) {
+      Bundle bundle = new Bundle();
+      bundle.putString("attributes", gson.toJson(attributes));
+      bundle.putString("counters", gson.toJson(counters));
+      bundle.putString("metadata", getMetadata());
       Mapbox.getTelemetry().onPerformanceEvent(bundle);
+      triggered = true;
+    }
+    if (triggered) {
       Mapbox.getTelemetry().setUserTelemetryRequestState(true);
     }
   }
 
-  private static String getUrl(Request request) {
-    String url = request.url().toString();
-    int questionIndex = url.indexOf('?');
-    return questionIndex > 0 ? url.substring(0, questionIndex) : url;
+  private static SourceMetrics getSourceMetrics(String source) {
+    SourceMetrics metrics = PREFIXES.get(source);
+    return metrics != null ? metrics : HOSTS.get(source);
+  }
+
+  private static SourceMetrics getSourceMetrics(ConcurrentHashMap<String, SourceMetrics> sources, String source,
+                                                boolean reported) {
+    SourceMetrics metrics = sources.get(source);
+    if (metrics == null) {
+      metrics = new SourceMetrics(reported);
+      SourceMetrics existing = sources.putIfAbsent(source, metrics);
+      if (existing != null) {
+        metrics = existing;
+      }
+    }
+    return metrics;
+  }
+
+  /**
+   * @return the host and the first few path segments, without the scheme and query
+   */
+  private static String getUrlPrefix(HttpUrl url) {
+    StringBuilder prefix = new StringBuilder(url.host());
+    List<String> segments = url.pathSegments();
+    for (int i = 0; i < segments.size() && i < PREFIX_PATH_SEGMENTS; i++) {
+      prefix.append('/').append(segments.get(i));
+    }
+    return prefix.toString();
+  }
+
+  /**
+   * @return the connection state, kept up to date by a network callback where available so it
+   * doesn't have to be looked up for every event
+   */
+  @ConnectionState
+  private static String getConnectionState() {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      return getWifiState();
+    }
+    if (connectionState == null) {
+      connectionState = getWifiState();
+      ConnectivityManager connectivityManager = (ConnectivityManager) Mapbox.getApplicationContext()
+        .getSystemService(Context.CONNECTIVITY_SERVICE);
+      if (connectivityManager != null) {
+        connectivityManager.registerNetworkCallback(new NetworkRequest.Builder().build(),
+          new ConnectivityManager.NetworkCallback() {
+            @Override
+            public void onAvailable(Network network) {
+              connectionState = getWifiState();
+            }
+
+            @Override
+            public void onCapabilitiesChanged(Network network, NetworkCapabilities networkCapabilities) {
+              connectionState = getWifiState();
+            }
+
+            @Override
+            public void onLost(Network network) {
+              connectionState = getWifiState();
+            }
+          });
+      }
+    }
+    return connectionState;
   }
 
   private static String getMetadata() {
@@ -171,6 +340,51 @@ public class TileLoadingInterceptor implements Interceptor {
     return CONNECTION_NONE;
   }
 
+  private static class SourceMetrics {
+    // Since the app started, for in-process queries
+    final LatencyHistogram latency = new LatencyHistogram();
+    final AtomicLongArray responseCodes = new AtomicLongArray(MAX_RESPONSE_CODE);
+
+    // Since the last performance event, null for sources that aren't reported
+    @Nullable
+    final LatencyHistogram intervalLatency;
+    @Nullable
+    final AtomicLongArray intervalResponseCodes;
+
+    SourceMetrics(boolean reported) {
+      intervalLatency = reported ? new LatencyHistogram() : null;
+      intervalResponseCodes = reported ? new AtomicLongArray(MAX_RESPONSE_CODE) : null;
+    }
+
+    void record(long elapsedNanos, int code) {
+      // Codes outside of the HTTP range are counted as 0
+      int index = code >= 0 && code < MAX_RESPONSE_CODE ? code : 0;
+      latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+      responseCodes.incrementAndGet(index);
+      if (intervalLatency != null && intervalResponseCodes != null) {
+        intervalLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        intervalResponseCodes.incrementAndGet(index);
+      }
+    }
+
+    /**
+     * @return the response codes since the last call, like "200:31,404:2"
+     */
+    String drainIntervalResponseCodes() {
+      StringBuilder builder = new StringBuilder();
+      for (int code = 0; code < MAX_RESPONSE_CODE; code++) {
+        long count = intervalResponseCodes.getAndSet(code, 0);
+        if (count > 0) {
+          if (builder.length() > 0) {
+            builder.append(',');
+          }
+          builder.append(code).append(':').append(count);
+        }
+      }
+      return builder.toString();
+    }
+  }
+
   private static class Attribute<T> {
     private String name;
     private T value;
@@ -0,0 +1,325 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.GeoJson;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds a growing line, such as the trail behind an animated icon, without rebuilding the
+ * whole geometry for every new point.
+ * <p>
+ * Coordinates are kept in a primitive buffer. Once enough new points have piled up, the older
+ * part of the line is thinned with the Douglas-Peucker algorithm while the most recent points
+ * are left untouched. Every point goes through one thinning pass only, so the line never strays
+ * further than the tolerance from the points that were added. {@link #publish(GeoJsonSource)}
+ * pushes the line to a source at most once per display frame, so callers can add a point on every
+ * animation update.
+ * </p>
+ * <p>
+ * The {@link Point}s are appended to an array that's only ever written past the points already
+ * handed out, so {@link #toLineString()} wraps it in a fixed-size view instead of copying the
+ * trail. Thinning and {@link #clear()} start a new array.
+ * </p>
+ */
+public class TrailLineBuilder {
+
+  private static final long DEFAULT_MIN_PUBLISH_INTERVAL_MS = 16;
+  private static final double DEFAULT_TOLERANCE_DEGREES = 0.00001;
+  private static final int DEFAULT_THINNING_THRESHOLD = 256;
+  private static final int RECENT_POINTS_KEPT = 32;
+
+  private final double tolerance;
+  private final int thinningThreshold;
+  private final long minPublishIntervalMs;
+
+  private double[] coordinates = new double[64];
+  private int size;
+  private int thinnedSize;
+  // Points before this index were thinned already and are kept as they are
+  private int thinnedEnd;
+
+  private Point[] points = new Point[64];
+  private int pointCount;
+  private boolean pointsStale;
+  private LineString lineString;
+  private boolean dirty;
+  private boolean lineShown;
+  private long lastPublishTime = -1;
+
+  public TrailLineBuilder() {
+    this(DEFAULT_TOLERANCE_DEGREES, DEFAULT_THINNING_THRESHOLD, DEFAULT_MIN_PUBLISH_INTERVAL_MS);
+  }
+
+  /**
+   * @param tolerance            Douglas-Peucker tolerance in degrees
+   * @param thinningThreshold    number of points added since the last pass that triggers thinning
+   * @param minPublishIntervalMs minimum time between two source updates
+   */
+  public TrailLineBuilder(double tolerance, int thinningThreshold, long minPublishIntervalMs) {
+    this.tolerance = tolerance;
+    this.thinningThreshold = Math.max(thinningThreshold, RECENT_POINTS_KEPT * 2);
+    this.minPublishIntervalMs = minPublishIntervalMs;
+  }
+
+  /**
+   * Appends a coordinate to the end of the line. Repeated coordinates are ignored.
+   */
+  public void add(double longitude, double latitude) {
+    if (size > 0
+      && coordinates[(size - 1) * 2] == longitude
+      && coordinates[(size - 1) * 2 + 1] == latitude) {
+      return;
+    }
+    ensureCapacity(size + 1);
+    coordinates[size * 2] = longitude;
+    coordinates[size * 2 + 1] = latitude;
+    size++;
+    dirty = true;
+    lineString = null;
+
+    if (size - thinnedSize >= thinningThreshold) {
+      thin();
+    } else if (!pointsStale) {
+      if (pointCount == points.length) {
+        points = Arrays.copyOf(points, points.length * 2);
+      }
+      points[pointCount++] = Point.fromLngLat(longitude, latitude);
+    }
+  }
+
+  public void add(@NonNull Point point) {
+    add(point.longitude(), point.latitude());
+  }
+
+  public void addAll(@NonNull List<Point> newPoints) {
+    for (int i = 0; i < newPoints.size(); i++) {
+      add(newPoints.get(i));
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public void clear() {
+    size = 0;
+    thinnedSize = 0;
+    thinnedEnd = 0;
+    // Lines handed out before still use the old array
+    points = new Point[64];
+    pointCount = 0;
+    pointsStale = false;
+    lineString = null;
+    dirty = true;
+  }
+
+  /**
+   * Updates the source with the current line unless it was already updated during this
+   * display frame. A skipped update is sent by the next call to this method or to
+   * {@link #flush(GeoJsonSource)}.
+   *
+   * @return true if the source was updated
+   */
+  public boolean publish(@NonNull GeoJsonSource source) {
+    long now = SystemClock.uptimeMillis();
+    if (lastPublishTime >= 0 && now - lastPublishTime < minPublishIntervalMs) {
+      return false;
+    }
+    lastPublishTime = now;
+    return flush(source);
+  }
+
+  /**
+   * Updates the source right away if anything changed since the last update. A line with fewer
+   * than two points, such as after {@link #clear()}, removes the line from the source.
+   *
+   * @return true if the source was updated
+   */
+  public boolean flush(@NonNull GeoJsonSource source) {
+    GeoJson update = takeUpdate();
+    if (update instanceof LineString) {
+      source.setGeoJson((LineString) update);
+    } else if (update != null) {
+      source.setGeoJson((FeatureCollection) update);
+    }
+    return update != null;
+  }
+
+  /**
+   * @return what {@link #flush(GeoJsonSource)} sends to the source, the line or an empty
+   * FeatureCollection, or null if the source is up to date
+   */
+  @Nullable
+  GeoJson takeUpdate() {
+    if (!dirty) {
+      return null;
+    }
+    dirty = false;
+    if (size < 2) {
+      if (!lineShown) {
+        return null;
+      }
+      lineShown = false;
+      return FeatureCollection.fromFeatures(new Feature[] {});
+    }
+    lineShown = true;
+    return toLineString();
+  }
+
+  /**
+   * Returns the current line. The same instance is returned until the line changes, and a line
+   * that was returned isn't affected by later changes.
+   */
+  @NonNull
+  public LineString toLineString() {
+    if (lineString == null) {
+      if (pointsStale) {
+        points = new Point[Math.max(64, size * 2)];
+        for (int i = 0; i < size; i++) {
+          points[i] = Point.fromLngLat(coordinates[i * 2], coordinates[i * 2 + 1]);
+        }
+        pointCount = size;
+        pointsStale = false;
+      }
+      lineString = LineString.fromLngLats(new PointsView(points, pointCount));
+    }
+    return lineString;
+  }
+
+  /**
+   * Simplifies the points added since the last pass, except for the most recent ones, and compacts
+   * the buffer in place. Thinned points aren't thinned again, as every pass would add to the error.
+   */
+  private void thin() {
+    int start = thinnedEnd;
+    int end = size - RECENT_POINTS_KEPT;
+    if (end - start <= 1) {
+      return;
+    }
+    boolean[] keep = new boolean[end - start + 1];
+    keep[0] = true;
+    keep[end - start] = true;
+    simplify(start, end, keep);
+
+    int write = start;
+    for (int read = start; read < size; read++) {
+      if (read > end || keep[read - start]) {
+        if (read == end) {
+          thinnedEnd = write;
+        }
+        coordinates[write * 2] = coordinates[read * 2];
+        coordinates[write * 2 + 1] = coordinates[read * 2 + 1];
+        write++;
+      }
+    }
+    size = write;
+    thinnedSize = size;
+    pointsStale = true;
+  }
+
+  /**
+   * Iterative Douglas-Peucker over the buffer range [first, last], keep is indexed from first.
+   */
+  private void simplify(int first, int last, boolean[] keep) {
+    int[] stack = new int[64];
+    int top = 0;
+    stack[top++] = first;
+    stack[top++] = last;
+    double sqTolerance = tolerance * tolerance;
+
+    while (top > 0) {
+      int end = stack[--top];
+      int start = stack[--top];
+      double maxSqDistance = 0;
+      int index = -1;
+      for (int i = start + 1; i < end; i++) {
+        double sqDistance = getSqSegmentDistance(i, start, end);
+        if (sqDistance > maxSqDistance) {
+          index = i;
+          maxSqDistance = sqDistance;
+        }
+      }
+      if (index != -1 && maxSqDistance > sqTolerance) {
+        keep[index - first] = true;
+        if (top + 4 > stack.length) {
+          int[] grown = new int[stack.length * 2];
+          System.arraycopy(stack, 0, grown, 0, top);
+          stack = grown;
+        }
+        stack[top++] = start;
+        stack[top++] = index;
+        stack[top++] = index;
+        stack[top++] = end;
+      }
+    }
+  }
+
+  private double getSqSegmentDistance(int point, int segmentStart, int segmentEnd) {
+    double px = coordinates[point * 2];
+    double py = coordinates[point * 2 + 1];
+    double x = coordinates[segmentStart * 2];
+    double y = coordinates[segmentStart * 2 + 1];
+    double dx = coordinates[segmentEnd * 2] - x;
+    double dy = coordinates[segmentEnd * 2 + 1] - y;
+
+    if (dx != 0 || dy != 0) {
+      double t = ((px - x) * dx + (py - y) * dy) / (dx * dx + dy * dy);
+      if (t > 1) {
+        x = coordinates[segmentEnd * 2];
+        y = coordinates[segmentEnd * 2 + 1];
+      } else if (t > 0) {
+        x += dx * t;
+        y += dy * t;
+      }
+    }
+    dx = px - x;
+    dy = py - y;
+    return dx * dx + dy * dy;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity * 2 > coordinates.length) {
+      double[] grown = new double[Math.max(coordinates.length * 2, capacity * 2)];
+      System.arraycopy(coordinates, 0, grown, 0, size * 2);
+      coordinates = grown;
+    }
+  }
+
+  /**
+   * Read-only view of the first points of an array that's only appended to.
+   */
+  private static class PointsView extends AbstractList<Point> {
+
+    private final Point[] points;
+    private final int size;
+
+    PointsView(Point[] points, int size) {
+      this.points = points;
+      this.size = size;
+    }
+
+    @Override
+    public Point get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+      }
+      return points[index];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,328 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.util.LruCache;
+import android.view.LayoutInflater;
+import android.view.View;
+import androidx.annotation.NonNull;
+
+import com.mapbox.mapboxsdk.maps.Style;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Draws Android SDK Views into Bitmaps that can be used as SymbolLayer icons, for example
+ * info window callouts.
+ * <p>
+ * Every icon is identified by a content key which describes everything that's visible in it.
+ * Icons with the same content key are only drawn once and kept in a memory cache. Views of a
+ * batch are measured and drawn in parallel on a small thread pool, and Bitmaps that drop out of
+ * the cache are reused for new icons of the same size. LayoutInflater locks its constructor
+ * arguments while inflating, so every View is inflated through its own clone of the inflater.
+ * </p>
+ * <p>
+ * Returned Bitmaps are owned by the renderer. Pass them to {@link #addToStyle(Style, HashMap)},
+ * which copies them into the map in a single call, instead of keeping references to them.
+ * </p>
+ */
+public final class ViewIconRenderer {
+
+  private static volatile ViewIconRenderer instance;
+
+  private final ExecutorService executor;
+  private final LruCache<String, Bitmap> cache;
+  private final BitmapPool pool;
+
+  // How often each Bitmap was handed out without having been copied into a Style yet
+  private final Map<Bitmap, Integer> pinned = new WeakHashMap<>();
+
+  /**
+   * Creates the View of one icon. Called on a background thread, so the View must not be attached
+   * to the view hierarchy.
+   */
+  public interface ViewFactory {
+    @NonNull
+    View createView(@NonNull LayoutInflater inflater);
+  }
+
+  /**
+   * Describes one icon of a batch.
+   */
+  public static final class IconRequest {
+    private final String imageId;
+    private final String contentKey;
+    private final ViewFactory viewFactory;
+    private final boolean keepView;
+
+    /**
+     * @param imageId     the id the icon is added to the Style with
+     * @param contentKey  identifies the icon's content; equal keys must produce equal icons
+     * @param viewFactory creates the View the icon is drawn from
+     * @param keepView    true if the caller needs the measured View, for example as a hitbox for
+     *                    click events, even when the icon itself comes from the cache
+     */
+    public IconRequest(@NonNull String imageId, @NonNull String contentKey,
+                       @NonNull ViewFactory viewFactory, boolean keepView) {
+      this.imageId = imageId;
+      this.contentKey = contentKey;
+      this.viewFactory = viewFactory;
+      this.keepView = keepView;
+    }
+  }
+
+  /**
+   * Icons of a batch by image id, and the measured Views for the requests that asked for them.
+   */
+  public static final class RenderResult {
+    public final HashMap<String, Bitmap> images = new HashMap<>();
+    public final HashMap<String, View> views = new HashMap<>();
+  }
+
+  public static ViewIconRenderer getInstance() {
+    if (instance == null) {
+      synchronized (ViewIconRenderer.class) {
+        if (instance == null) {
+          instance = new ViewIconRenderer();
+        }
+      }
+    }
+    return instance;
+  }
+
+  private ViewIconRenderer() {
+    long maxMemory = Runtime.getRuntime().maxMemory();
+    pool = new BitmapPool(maxMemory / 32);
+    cache = new LruCache<String, Bitmap>((int) Math.min(Integer.MAX_VALUE, maxMemory / 16)) {
+      @Override
+      protected int sizeOf(String key, Bitmap bitmap) {
+        return bitmap.getByteCount();
+      }
+
+      @Override
+      protected void entryRemoved(boolean evicted, String key, Bitmap oldValue, Bitmap newValue) {
+        synchronized (pinned) {
+          if (pinned.containsKey(oldValue)) {
+            return;
+          }
+        }
+        pool.put(oldValue);
+      }
+    };
+
+    int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    executor = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+      @Override
+      public Thread newThread(@NonNull Runnable runnable) {
+        Thread thread = new Thread(runnable, "ViewIconRenderer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+      }
+    });
+  }
+
+  /**
+   * Renders a batch of icons and blocks until all of them are done. Must not be called on the
+   * main thread.
+   *
+   * @param inflater used to create the Views, should come from a themed context such as an Activity
+   * @param requests the icons to render
+   * @return the icons by image id
+   */
+  @NonNull
+  public RenderResult renderAll(@NonNull final LayoutInflater inflater, @NonNull List<IconRequest> requests)
+    throws InterruptedException {
+    // Only the first request of every content key is drawn, the others reuse its Bitmap
+    Map<String, Future<Rendered>> firstByContent = new HashMap<>();
+    List<Future<Rendered>> tasks = new ArrayList<>(requests.size());
+    for (final IconRequest request : requests) {
+      final boolean draw = !firstByContent.containsKey(request.contentKey);
+      Future<Rendered> task = null;
+      if (draw || request.keepView) {
+        task = executor.submit(new Callable<Rendered>() {
+          @Override
+          public Rendered call() {
+            return render(inflater, request, draw);
+          }
+        });
+      }
+      if (draw) {
+        firstByContent.put(request.contentKey, task);
+      }
+      tasks.add(task);
+    }
+
+    RenderResult result = new RenderResult();
+    try {
+      for (int i = 0; i < requests.size(); i++) {
+        IconRequest request = requests.get(i);
+        Bitmap bitmap = firstByContent.get(request.contentKey).get().bitmap;
+        // The first request of a content key was already pinned by its task
+        result.images.put(request.imageId, tasks.get(i) == firstByContent.get(request.contentKey)
+          ? bitmap : pin(bitmap));
+        if (request.keepView) {
+          result.views.put(request.imageId, tasks.get(i).get().view);
+        }
+      }
+    } catch (ExecutionException exception) {
+      throw new RuntimeException(exception.getCause());
+    }
+    return result;
+  }
+
+  /**
+   * Renders a single View right away on the calling thread.
+   *
+   * @param contentKey identifies the View's content; equal keys must produce equal icons
+   * @param view       the View to draw, it's measured and laid out before drawing
+   * @return the icon
+   */
+  @NonNull
+  public Bitmap render(@NonNull String contentKey, @NonNull View view) {
+    Bitmap cached = getPinned(contentKey);
+    return cached != null ? cached : draw(contentKey, measure(view));
+  }
+
+  /**
+   * Adds all icons to the Style with a single call, which is much faster than adding them one by
+   * one. The Style copies the pixels, so afterwards the Bitmaps can be reused by the renderer.
+   */
+  public void addToStyle(@NonNull Style style, @NonNull HashMap<String, Bitmap> images) {
+    style.addImages(images);
+    unpin(images.values());
+  }
+
+  /**
+   * Adds a single icon to the Style.
+   */
+  public void addToStyle(@NonNull Style style, @NonNull String imageId, @NonNull Bitmap bitmap) {
+    style.addImage(imageId, bitmap);
+    unpin(Collections.singletonList(bitmap));
+  }
+
+  private Bitmap pin(Bitmap bitmap) {
+    synchronized (pinned) {
+      Integer count = pinned.get(bitmap);
+      pinned.put(bitmap, count == null ? 1 : count + 1);
+    }
+    return bitmap;
+  }
+
+  private void unpin(Iterable<Bitmap> bitmaps) {
+    synchronized (pinned) {
+      for (Bitmap bitmap : bitmaps) {
+        Integer count = pinned.get(bitmap);
+        if (count == null || count <= 1) {
+          pinned.remove(bitmap);
+        } else {
+          pinned.put(bitmap, count - 1);
+        }
+      }
+    }
+  }
+
+  /**
+   * Looks up and pins a cached icon in one step, so it can't be moved to the pool in between.
+   */
+  private Bitmap getPinned(String contentKey) {
+    synchronized (pinned) {
+      Bitmap bitmap = cache.get(contentKey);
+      return bitmap != null ? pin(bitmap) : null;
+    }
+  }
+
+  private Rendered render(LayoutInflater inflater, IconRequest request, boolean draw) {
+    Rendered rendered = new Rendered();
+    if (draw) {
+      rendered.bitmap = getPinned(request.contentKey);
+    }
+    if (rendered.bitmap == null || request.keepView) {
+      View view = measure(request.viewFactory.createView(inflater.cloneInContext(inflater.getContext())));
+      if (draw && rendered.bitmap == null) {
+        rendered.bitmap = draw(request.contentKey, view);
+      }
+      rendered.view = request.keepView ? view : null;
+    }
+    return rendered;
+  }
+
+  private static View measure(View view) {
+    int measureSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+    view.measure(measureSpec, measureSpec);
+    view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+    return view;
+  }
+
+  private Bitmap draw(String contentKey, View view) {
+    Bitmap bitmap = pool.get(view.getMeasuredWidth(), view.getMeasuredHeight());
+    view.draw(new Canvas(bitmap));
+    // Pin before the Bitmap becomes visible in the cache so it can't be evicted into the pool
+    pin(bitmap);
+    cache.put(contentKey, bitmap);
+    return bitmap;
+  }
+
+  /**
+   * Keeps unused Bitmaps grouped by their size, up to a total number of bytes.
+   */
+  private static class BitmapPool {
+
+    private final Map<Long, ArrayDeque<Bitmap>> bitmaps = new HashMap<>();
+    private final long maxBytes;
+    private long currentBytes;
+
+    BitmapPool(long maxBytes) {
+      this.maxBytes = maxBytes;
+    }
+
+    synchronized Bitmap get(int width, int height) {
+      ArrayDeque<Bitmap> sameSize = bitmaps.get(key(width, height));
+      Bitmap bitmap = sameSize != null ? sameSize.poll() : null;
+      if (bitmap == null) {
+        // Bitmaps can't have a size of 0
+        return Bitmap.createBitmap(Math.max(1, width), Math.max(1, height), Bitmap.Config.ARGB_8888);
+      }
+      currentBytes -= bitmap.getByteCount();
+      bitmap.eraseColor(Color.TRANSPARENT);
+      return bitmap;
+    }
+
+    synchronized void put(Bitmap bitmap) {
+      if (bitmap.isRecycled() || !bitmap.isMutable()
+        || currentBytes + bitmap.getByteCount() > maxBytes) {
+        return;
+      }
+      long key = key(bitmap.getWidth(), bitmap.getHeight());
+      ArrayDeque<Bitmap> sameSize = bitmaps.get(key);
+      if (sameSize == null) {
+        sameSize = new ArrayDeque<>();
+        bitmaps.put(key, sameSize);
+      }
+      sameSize.add(bitmap);
+      currentBytes += bitmap.getByteCount();
+    }
+
+    private static long key(int width, int height) {
+      return ((long) width << 32) | (height & 0xffffffffL);
+    }
+  }
+
+  private static class Rendered {
+    Bitmap bitmap;
+    View view;
+  }
+}
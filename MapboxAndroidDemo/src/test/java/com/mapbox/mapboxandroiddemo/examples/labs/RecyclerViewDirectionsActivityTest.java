@@ -0,0 +1,77 @@
+package com.mapbox.mapboxandroiddemo.examples.labs;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.mapbox.core.constants.Constants.PRECISION_6;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RecyclerViewDirectionsActivityTest {
+
+  @Test
+  public void decodeRoute_publishesOneFeatureWithEveryPoint() {
+    List<Point> points = createRoutePoints(2000);
+    Feature feature = RecyclerViewDirectionsActivity.decodeRoute(createRoute(points));
+
+    List<Point> decoded = ((LineString) feature.geometry()).coordinates();
+    assertEquals(points.size(), decoded.size());
+    for (int i = 0; i < points.size(); i++) {
+      assertEquals(points.get(i).longitude(), decoded.get(i).longitude(), 1e-6);
+      assertEquals(points.get(i).latitude(), decoded.get(i).latitude(), 1e-6);
+    }
+  }
+
+  @Test
+  public void decodeRoute_featureCountAndSizeAreLinearInTheRouteLength() {
+    int previousSize = 0;
+    for (int length = 250; length <= 4000; length *= 2) {
+      Feature feature = RecyclerViewDirectionsActivity.decodeRoute(createRoute(createRoutePoints(length)));
+      // What the line source gets, one feature no matter how long the route is
+      FeatureCollection published = FeatureCollection.fromFeature(feature);
+      assertEquals(1, published.features().size());
+
+      int size = published.toJson().length();
+      // A coordinate pair takes a few dozen characters at most
+      assertTrue(size < length * 50);
+      if (previousSize > 0) {
+        // Doubling the route doubles the data, a feature per point would quadruple it
+        assertTrue("size " + size + " after " + previousSize, size < previousSize * 2.2);
+      }
+      previousSize = size;
+    }
+  }
+
+  private static DirectionsRoute createRoute(List<Point> points) {
+    return DirectionsRoute.builder()
+      .distance(1000d)
+      .duration(100d)
+      .geometry(LineString.fromLngLats(points).toPolyline(PRECISION_6))
+      .build();
+  }
+
+  /**
+   * A random walk through Bangkok, where the example's destinations are.
+   */
+  private static List<Point> createRoutePoints(int count) {
+    Random random = new Random(4);
+    List<Point> points = new ArrayList<>();
+    double longitude = 100.4873;
+    double latitude = 13.7524;
+    for (int i = 0; i < count; i++) {
+      longitude += (random.nextDouble() - 0.5) * 2e-4;
+      latitude += (random.nextDouble() - 0.5) * 2e-4;
+      points.add(Point.fromLngLat(Math.round(longitude * 1e6) / 1e6, Math.round(latitude * 1e6) / 1e6));
+    }
+    return points;
+  }
+}
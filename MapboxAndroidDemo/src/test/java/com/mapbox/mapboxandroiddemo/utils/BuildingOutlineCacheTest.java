@@ -0,0 +1,224 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+import com.mapbox.turf.TurfJoins;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Uses the rooms of the indoor map asset as recorded building geometry.
+ */
+public class BuildingOutlineCacheTest {
+
+  private static List<Feature> rooms;
+  private static double west;
+  private static double south;
+  private static double east;
+  private static double north;
+
+  @BeforeClass
+  public static void loadRooms() throws IOException {
+    InputStream inputStream = new FileInputStream(new File("src/main/assets/indoor-3d-map.geojson"));
+    FeatureCollection featureCollection;
+    try {
+      featureCollection = GeoJsonAssetLoader.readFeatureCollection(inputStream);
+    } finally {
+      inputStream.close();
+    }
+    rooms = new ArrayList<>();
+    west = Double.POSITIVE_INFINITY;
+    south = Double.POSITIVE_INFINITY;
+    east = Double.NEGATIVE_INFINITY;
+    north = Double.NEGATIVE_INFINITY;
+    for (Feature feature : featureCollection.features()) {
+      rooms.add(feature);
+      for (Point point : ((Polygon) feature.geometry()).coordinates().get(0)) {
+        west = Math.min(west, point.longitude());
+        south = Math.min(south, point.latitude());
+        east = Math.max(east, point.longitude());
+        north = Math.max(north, point.latitude());
+      }
+    }
+  }
+
+  @Test
+  public void contains_matchesTurfForRooms() {
+    BuildingOutlineCache cache = new BuildingOutlineCache();
+    Random random = new Random(23);
+    for (Feature room : rooms) {
+      Point inside = ((Polygon) room.geometry()).coordinates().get(0).get(0);
+      BuildingOutlineCache.Outline outline = cache.getOutline(room, inside.longitude(), inside.latitude());
+      assertNotNull(outline);
+      assertContainsLikeTurf(outline, room.geometry(), random, 2000);
+    }
+  }
+
+  @Test
+  public void contains_matchesTurfForHolesAndMultiPolygons() {
+    Polygon atrium = (Polygon) getRoom("Atrium").geometry();
+    List<Point> atriumRing = atrium.coordinates().get(0);
+    Point center = getCenter(atriumRing.subList(1, atriumRing.size()));
+    List<Point> courtyardRing = new ArrayList<>();
+    for (Point point : atriumRing) {
+      courtyardRing.add(Point.fromLngLat((point.longitude() + center.longitude()) / 2,
+        (point.latitude() + center.latitude()) / 2));
+    }
+    // A courtyard building and a building in two parts
+    Polygon courtyard = Polygon.fromLngLats(Arrays.asList(atriumRing, courtyardRing));
+    MultiPolygon twoParts = MultiPolygon.fromPolygons(Arrays.asList(atrium,
+      (Polygon) getRoom("Kids Zone").geometry()));
+
+    BuildingOutlineCache cache = new BuildingOutlineCache();
+    Random random = new Random(23);
+    for (Geometry geometry : new Geometry[] {courtyard, twoParts}) {
+      BuildingOutlineCache.Outline outline = cache.getOutline(Feature.fromGeometry(geometry), 0, 0);
+      assertNotNull(outline);
+      assertContainsLikeTurf(outline, geometry, random, 20000);
+    }
+  }
+
+  @Test
+  public void getOutline_rebuildsClippedOutlineThatDoesntContainTheCoordinate() {
+    Feature room = getRoom("Atrium");
+    List<Point> ring = ((Polygon) room.geometry()).coordinates().get(0);
+    Point center = getCenter(ring);
+    // The part of the building on one tile, cut off west of its center
+    List<Point> clippedRing = new ArrayList<>();
+    for (Point point : ring) {
+      clippedRing.add(Point.fromLngLat(Math.max(point.longitude(), center.longitude() + 1e-6), point.latitude()));
+    }
+    Feature clipped = Feature.fromGeometry(Polygon.fromLngLats(Collections.singletonList(clippedRing)), null,
+      room.id());
+    Point westOfCenter = Point.fromLngLat(center.longitude() - 1e-6, center.latitude());
+    assertTrue(TurfJoins.inside(westOfCenter, (Polygon) room.geometry()));
+
+    BuildingOutlineCache cache = new BuildingOutlineCache();
+    BuildingOutlineCache.Outline clippedOutline = cache.getOutline(clipped, center.longitude() + 2e-6,
+      center.latitude());
+    assertSame(clippedOutline, cache.getOutline(clipped, center.longitude() + 2e-6, center.latitude()));
+    assertEquals(1, cache.getBuildCount());
+
+    BuildingOutlineCache.Outline outline = cache.getOutline(room, westOfCenter.longitude(), westOfCenter.latitude());
+    assertEquals(2, cache.getBuildCount());
+    assertTrue(outline.contains(westOfCenter.longitude(), westOfCenter.latitude()));
+    assertSame(outline, cache.getOutline(room, westOfCenter.longitude(), westOfCenter.latitude()));
+  }
+
+  /**
+   * Pans the camera over the rooms in small steps, the way BuildingOutlineActivity handles a camera
+   * idle, and counts how often the map is queried and an outline is rebuilt. The map is stood in for
+   * by a search through the rooms, topmost first.
+   */
+  @Test
+  public void panPath_queriesOnlyWhenTheTargetLeavesTheLastBuilding() {
+    BuildingOutlineCache cache = new BuildingOutlineCache();
+    Random random = new Random(23);
+    double longitude = (west + east) / 2;
+    double latitude = (south + north) / 2;
+    double heading = 0;
+    int idles = 5000;
+    int queries = 0;
+    int idlesOnBuildings = 0;
+    for (int idle = 0; idle < idles; idle++) {
+      // A wandering pan of about a meter at a time that turns back at the edges of the map
+      heading += random.nextGaussian() * 0.5;
+      longitude += Math.cos(heading) * 1.2e-5;
+      latitude += Math.sin(heading) * 0.9e-5;
+      if (longitude < west || longitude > east || latitude < south || latitude > north) {
+        heading += Math.PI;
+        longitude = Math.max(west, Math.min(east, longitude));
+        latitude = Math.max(south, Math.min(north, latitude));
+      }
+
+      BuildingOutlineCache.Outline outline = cache.findLastOutline(longitude, latitude);
+      if (outline == null) {
+        queries++;
+        Feature feature = queryTopmostRoom(longitude, latitude);
+        if (feature != null) {
+          outline = cache.getOutline(feature, longitude, latitude);
+        } else {
+          cache.clearLastOutline();
+        }
+      }
+
+      Point target = Point.fromLngLat(longitude, latitude);
+      if (outline != null) {
+        idlesOnBuildings++;
+        // Rooms can overlap, any building under the target is the right one to show
+        assertTrue(TurfJoins.inside(target, (Polygon) outline.getFeature().geometry()));
+      } else {
+        assertNull(queryTopmostRoom(longitude, latitude));
+      }
+    }
+
+    // The path spends a good part of its time over the rooms
+    assertTrue(idlesOnBuildings > idles / 2);
+    // Without the cache every idle is a query, and every idle on a building an outline
+    assertTrue("queries " + queries, queries < idles - idlesOnBuildings / 2);
+    assertTrue(cache.getBuildCount() < idlesOnBuildings / 10);
+    assertTrue(cache.getBuildCount() <= rooms.size());
+  }
+
+  private static Feature queryTopmostRoom(double longitude, double latitude) {
+    Point point = Point.fromLngLat(longitude, latitude);
+    for (int i = rooms.size() - 1; i >= 0; i--) {
+      if (TurfJoins.inside(point, (Polygon) rooms.get(i).geometry())) {
+        return rooms.get(i);
+      }
+    }
+    return null;
+  }
+
+  private static Feature getRoom(String name) {
+    for (Feature room : rooms) {
+      if (name.equals(room.getStringProperty("name"))) {
+        return room;
+      }
+    }
+    throw new IllegalArgumentException(name);
+  }
+
+  private static Point getCenter(List<Point> ring) {
+    double longitude = 0;
+    double latitude = 0;
+    for (Point point : ring) {
+      longitude += point.longitude();
+      latitude += point.latitude();
+    }
+    return Point.fromLngLat(longitude / ring.size(), latitude / ring.size());
+  }
+
+  private static void assertContainsLikeTurf(BuildingOutlineCache.Outline outline, Geometry geometry,
+                                             Random random, int samples) {
+    for (int i = 0; i < samples; i++) {
+      double longitude = west + (east - west) * random.nextDouble();
+      double latitude = south + (north - south) * random.nextDouble();
+      Point point = Point.fromLngLat(longitude, latitude);
+      boolean expected = geometry instanceof Polygon ? TurfJoins.inside(point, (Polygon) geometry)
+        : TurfJoins.inside(point, (MultiPolygon) geometry);
+      assertEquals(point.toJson(), expected, outline.contains(longitude, latitude));
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.api.geocoding.v5.GeocodingCriteria;
+import com.mapbox.geojson.Point;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the geocoder against a local stand-in for the geocoding endpoint that answers every
+ * request after {@link #RESPONSE_DELAY_MS}.
+ */
+public class CachedGeocoderTest {
+
+  private static final String ACCESS_TOKEN = "pk.test";
+  private static final long RESPONSE_DELAY_MS = 50;
+  private static final int MAX_CONCURRENT_REQUESTS = 4;
+
+  private MockWebServer server;
+  private GeocodingDispatcher dispatcher;
+  private MemoryCache cache;
+  private CachedGeocoder geocoder;
+
+  @Before
+  public void setUp() throws IOException {
+    dispatcher = new GeocodingDispatcher();
+    server = new MockWebServer();
+    server.setDispatcher(dispatcher);
+    server.start();
+    cache = new MemoryCache();
+    geocoder = new CachedGeocoder(ACCESS_TOKEN, GeocodingCriteria.TYPE_ADDRESS, cache, server.url("/").toString());
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void geocode_requestsEveryNormalizedQueryOnce() throws InterruptedException {
+    // 80 calendar events at 10 locations, spelled a little differently from event to event
+    List<String> queries = new ArrayList<>();
+    for (int i = 0; i < 80; i++) {
+      String location = "Room " + (i % 10) + " Main Street";
+      queries.add(i % 3 == 0 ? location.toUpperCase(Locale.US) : i % 3 == 1 ? "  " + location : location);
+    }
+
+    Map<String, Point> results = geocoder.geocode(queries);
+
+    assertEquals(10, dispatcher.requestCount.get());
+    // The requests overlap, but never more of them than allowed
+    assertTrue(dispatcher.maxConcurrentRequests.get() > 1);
+    assertTrue(dispatcher.maxConcurrentRequests.get() <= MAX_CONCURRENT_REQUESTS);
+    assertEquals(new HashSet<>(queries).size(), results.size());
+    for (String query : queries) {
+      int room = Integer.parseInt(query.trim().split(" ")[1]);
+      assertEquals(room, results.get(query).longitude(), 0);
+    }
+  }
+
+  @Test
+  public void geocode_answersRepeatedBatchFromTheCache() throws InterruptedException {
+    List<String> queries = new ArrayList<>();
+    queries.add("Room 1 Main Street");
+    queries.add("nowhere");
+    geocoder.geocode(queries);
+    assertEquals(2, dispatcher.requestCount.get());
+
+    Map<String, Point> results = geocoder.geocode(queries);
+    assertEquals(2, dispatcher.requestCount.get());
+    assertEquals(1, results.get("Room 1 Main Street").longitude(), 0);
+    assertFalse(results.containsKey("nowhere"));
+  }
+
+  @Test
+  public void geocode_retriesFailedRequestsNextTime() throws InterruptedException {
+    List<String> queries = new ArrayList<>();
+    queries.add("server error");
+    geocoder.geocode(queries);
+    geocoder.geocode(queries);
+
+    assertEquals(2, dispatcher.requestCount.get());
+    assertTrue(cache.entries.isEmpty());
+  }
+
+  @Test
+  public void geocode_doesNotCacheInvalidRequests() throws InterruptedException {
+    CachedGeocoder withoutToken = new CachedGeocoder("", GeocodingCriteria.TYPE_ADDRESS, cache,
+      server.url("/").toString());
+    List<String> queries = new ArrayList<>();
+    queries.add("Room 1 Main Street");
+    assertTrue(withoutToken.geocode(queries).isEmpty());
+    assertTrue(cache.entries.isEmpty());
+
+    // Once the request can be made, the location is found
+    assertEquals(1, geocoder.geocode(queries).get("Room 1 Main Street").longitude(), 0);
+  }
+
+  /**
+   * Finds "room n" at longitude n, answers "server error" with HTTP 500 and everything else with no features.
+   */
+  private static class GeocodingDispatcher extends Dispatcher {
+
+    final AtomicInteger requestCount = new AtomicInteger();
+    final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+      requestCount.incrementAndGet();
+      int concurrent = concurrentRequests.incrementAndGet();
+      try {
+        int max;
+        do {
+          max = maxConcurrentRequests.get();
+        } while (concurrent > max && !maxConcurrentRequests.compareAndSet(max, concurrent));
+        Thread.sleep(RESPONSE_DELAY_MS);
+
+        List<String> segments = request.getRequestUrl().pathSegments();
+        String query = segments.get(segments.size() - 1).replace(".json", "");
+        if (query.equals("server error")) {
+          return new MockResponse().setResponseCode(500);
+        }
+        String features = "";
+        if (query.startsWith("room ")) {
+          int room = Integer.parseInt(query.split(" ")[1]);
+          features = "{\"type\":\"Feature\",\"id\":\"address." + room + "\",\"text\":\"" + query + "\","
+            + "\"place_name\":\"" + query + "\",\"center\":[" + room + ",0],"
+            + "\"geometry\":{\"type\":\"Point\",\"coordinates\":[" + room + ",0]}}";
+        }
+        return new MockResponse().setBody("{\"type\":\"FeatureCollection\",\"query\":[\"" + query + "\"],"
+          + "\"features\":[" + features + "],\"attribution\":\"test\"}");
+      } finally {
+        concurrentRequests.decrementAndGet();
+      }
+    }
+  }
+
+  private static class MemoryCache implements CachedGeocoder.Cache {
+
+    final Map<String, CachedGeocoder.CacheEntry> entries = new HashMap<>();
+    private final Map<String, Long> timestamps = new HashMap<>();
+
+    @Override
+    public Map<String, CachedGeocoder.CacheEntry> read(String types, Collection<String> keys,
+                                                       long oldestTimestamp) {
+      Map<String, CachedGeocoder.CacheEntry> found = new HashMap<>();
+      for (String key : keys) {
+        String cacheKey = types + "\n" + key;
+        Long timestamp = timestamps.get(cacheKey);
+        if (timestamp != null && timestamp >= oldestTimestamp) {
+          found.put(key, entries.get(cacheKey));
+        }
+      }
+      return found;
+    }
+
+    @Override
+    public void write(String types, Map<String, CachedGeocoder.CacheEntry> newEntries, long timestamp) {
+      for (Map.Entry<String, CachedGeocoder.CacheEntry> entry : newEntries.entrySet()) {
+        entries.put(types + "\n" + entry.getKey(), entry.getValue());
+        timestamps.put(types + "\n" + entry.getKey(), timestamp);
+      }
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.google.gson.JsonObject;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CachedTilequeryTest {
+
+  private static final CachedTilequery.Options POINT_QUERY = new CachedTilequery.Options(
+    "tileset", "layer", "point", 100, 3, true);
+  private static final Point CLICK = Point.fromLngLat(-73.985, 40.758);
+
+  @Test
+  public void options_onlyPointQueriesUseTheTileCache() {
+    assertTrue(POINT_QUERY.isTileCacheable());
+    assertFalse(new CachedTilequery.Options("tileset", null, "polygon", 0, 5, true).isTileCacheable());
+    assertFalse(new CachedTilequery.Options("tileset", null, "linestring", 0, 5, true).isTileCacheable());
+    assertFalse(new CachedTilequery.Options("tileset", null, null, 0, 5, true).isTileCacheable());
+  }
+
+  @Test
+  public void getClickKey_sameForClicksWithinAMeter() {
+    String key = CachedTilequery.getClickKey(POINT_QUERY, CLICK);
+
+    assertEquals(key, CachedTilequery.getClickKey(POINT_QUERY, destination(CLICK, 0.3, 45)));
+    assertNotEquals(key, CachedTilequery.getClickKey(POINT_QUERY, destination(CLICK, 5, 45)));
+    assertNotEquals(key, CachedTilequery.getClickKey(new CachedTilequery.Options(
+      "tileset", "layer", "point", 100, 4, true), CLICK));
+  }
+
+  @Test
+  public void tile_halfDiagonalCoversEveryCorner() {
+    Point[] clicks = {CLICK, Point.fromLngLat(0.001, 0.001), Point.fromLngLat(18.07, 59.33),
+      Point.fromLngLat(-122.42, -37.77), Point.fromLngLat(179.999, 70)};
+    for (int zoom : new int[] {14, 18, 20}) {
+      int count = 1 << zoom;
+      for (Point click : clicks) {
+        CachedTilequery.Tile tile = new CachedTilequery.Tile(click, zoom);
+        Point center = tile.getCenter();
+        assertTrue(click.toJson(), meters(center, click) <= tile.getHalfDiagonalMeters());
+        for (int dx = 0; dx <= 1; dx++) {
+          for (int dy = 0; dy <= 1; dy++) {
+            Point corner = Point.fromLngLat((tile.x + dx) * 360.0 / count - 180,
+              Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2.0 * (tile.y + dy) / count)))));
+            // The tile's radius is rounded up to whole meters when it's requested
+            assertTrue(click.toJson(), meters(center, corner) <= Math.ceil(tile.getHalfDiagonalMeters()));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void getBucketZoom_tileIsFetchedWithAtMostTwiceTheQueryRadius() {
+    Point[] clicks = {CLICK, Point.fromLngLat(0.001, 0.001), Point.fromLngLat(18.07, 59.33),
+      Point.fromLngLat(-122.42, -37.77), Point.fromLngLat(179.999, 70)};
+    for (Point click : clicks) {
+      // From the radius where tiles at the highest bucket zoom are already small enough
+      for (int radius = 30; radius <= 1000; radius += 7) {
+        CachedTilequery.Tile tile = new CachedTilequery.Tile(click,
+          CachedTilequery.getBucketZoom(radius, click.latitude()));
+        double halfDiagonal = tile.getHalfDiagonalMeters();
+        // Within the latitude span of one tile the half diagonal may grow by a fraction of a percent
+        assertTrue(click.toJson() + " " + radius, halfDiagonal <= radius * 1.01);
+        if (tile.zoom > 14) {
+          CachedTilequery.Tile parent = new CachedTilequery.Tile(click, tile.zoom - 1);
+          assertTrue(click.toJson() + " " + radius, parent.getHalfDiagonalMeters() > radius * 0.99);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void getBucketZoom_wifiHotspotQuery() {
+    // StaticImageNotificationActivity asks for hotspots within a third of 0 to 500 feet in meters
+    assertEquals(18, CachedTilequery.getBucketZoom(250 / 3, CLICK.latitude()));
+    assertEquals(17, CachedTilequery.getBucketZoom(500 / 3, CLICK.latitude()));
+    assertEquals(20, CachedTilequery.getBucketZoom(0, CLICK.latitude()));
+    assertEquals(14, CachedTilequery.getBucketZoom(5000, CLICK.latitude()));
+  }
+
+  @Test
+  public void filter_keepsNearestPointsWithinRadius() {
+    JsonObject properties = new JsonObject();
+    properties.addProperty("name", "far");
+    Feature original = Feature.fromGeometry(destination(CLICK, 80, 90), properties);
+    List<Feature> tileFeatures = new ArrayList<>(Arrays.asList(
+      original,
+      Feature.fromGeometry(destination(CLICK, 150, 0)),
+      Feature.fromGeometry(destination(CLICK, 10, 180)),
+      Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(CLICK, destination(CLICK, 5, 0)))),
+      Feature.fromGeometry(destination(CLICK, 40, 270)),
+      Feature.fromGeometry(destination(CLICK, 95, 10))));
+
+    List<Feature> result = CachedTilequery.filter(FeatureCollection.fromFeatures(tileFeatures), CLICK,
+      POINT_QUERY).features();
+
+    // Within 100 m, sorted by distance and limited to 3, without the line
+    assertEquals(3, result.size());
+    double[] expectedDistances = {10, 40, 80};
+    for (int i = 0; i < result.size(); i++) {
+      double distance = result.get(i).getProperty("tilequery").getAsJsonObject().get("distance").getAsDouble();
+      assertEquals(expectedDistances[i], distance, 0.5);
+    }
+    assertEquals("far", result.get(2).getStringProperty("name"));
+    assertFalse(original.properties().has("tilequery"));
+  }
+
+  @Test
+  public void isComplete_falseWhenTheResponseHitsTheLimit() {
+    List<Feature> features = new ArrayList<>();
+    for (int i = 0; i < 49; i++) {
+      features.add(Feature.fromGeometry(CLICK));
+    }
+    assertTrue(CachedTilequery.isComplete(FeatureCollection.fromFeatures(features)));
+    features.add(Feature.fromGeometry(CLICK));
+    assertFalse(CachedTilequery.isComplete(FeatureCollection.fromFeatures(features)));
+  }
+
+  private static Point destination(Point point, double meters, double bearing) {
+    return TurfMeasurement.destination(point, meters, bearing, TurfConstants.UNIT_METERS);
+  }
+
+  private static double meters(Point from, Point to) {
+    return TurfMeasurement.distance(from, to, TurfConstants.UNIT_METERS);
+  }
+}
@@ -0,0 +1,368 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.geojson.Point;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Random;
+
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs the manager on a simulated main thread against a stand-in for the Directions API that answers
+ * after a random latency. Routes are named after the spot they lead to, so a route that arrives for
+ * any other spot than the one the camera stopped at last is caught.
+ */
+public class DirectionsRequestManagerTest {
+
+  private static final Point ORIGIN = Point.fromLngLat(-74.0, 40.7);
+  // Spots on an 8 by 8 grid
+  private static final int GRID_SIZE = 8;
+  // Five destination cells apart, a spot and its jitter stay in the middle of one cell
+  private static final double SPOT_SPACING = 1e-3;
+  private static final double SPOT_OFFSET = 1e-4;
+  private static final long FRAME_MS = 16;
+  private static final int FLING_FRAMES = 40;
+  private static final long MIN_LATENCY_MS = 20;
+  private static final long MAX_LATENCY_MS = 2000;
+
+  private final Random random = new Random(21);
+  private MainThread mainThread;
+  private FakeDirections directions;
+  private RecordingListener listener;
+  private DirectionsRequestManager manager;
+  private Point origin = ORIGIN;
+
+  @Before
+  public void setUp() {
+    mainThread = new MainThread();
+    directions = new FakeDirections();
+    listener = new RecordingListener();
+    manager = new DirectionsRequestManager(directions, listener, mainThread);
+  }
+
+  @Test
+  public void request_cancelsTheCallItSupersedes() {
+    directions.latencies.add(1000L);
+    directions.latencies.add(100L);
+    request(0);
+    mainThread.runFor(10);
+    request(1);
+    mainThread.runFor(MAX_LATENCY_MS);
+
+    assertEquals(2, directions.calls.size());
+    assertTrue(directions.calls.get(0).isCanceled());
+    assertEquals(Collections.singletonList(1), listener.routes);
+  }
+
+  @Test
+  public void request_dropsResponsesPostedBeforeTheCallWasCancelled() {
+    directions.latencies.add(1000L);
+    directions.latencies.add(100L);
+    directions.deliverAfterCancel = true;
+    request(0);
+    mainThread.runFor(10);
+    request(1);
+    mainThread.runFor(MAX_LATENCY_MS);
+
+    assertEquals(Collections.singletonList(1), listener.routes);
+  }
+
+  @Test
+  public void request_answersRevisitsFromTheCache() {
+    request(0);
+    mainThread.runFor(MAX_LATENCY_MS);
+    request(1);
+    mainThread.runFor(MAX_LATENCY_MS);
+    request(0);
+
+    assertEquals(2, directions.calls.size());
+    assertEquals(2, manager.getRequestCount());
+    assertEquals(3, listener.routes.size());
+    assertEquals(0, (int) listener.routes.get(2));
+  }
+
+  @Test
+  public void prefetch_callIsReusedWhenTheCameraStopsInThatCell() {
+    // Five frames of at most one cell per second
+    for (int frame = 0; frame < 5; frame++) {
+      manager.prefetch(ORIGIN, Point.fromLngLat(getSpot(2).longitude() + frame * 1e-6, getSpot(2).latitude()));
+      mainThread.runFor(FRAME_MS);
+    }
+    assertEquals(1, directions.calls.size());
+    assertTrue(listener.routes.isEmpty());
+
+    request(2);
+    mainThread.runFor(MAX_LATENCY_MS);
+
+    assertEquals(1, directions.calls.size());
+    assertEquals(Collections.singletonList(2), listener.routes);
+  }
+
+  @Test
+  public void prefetch_skippedWhileTheCameraMovesFast() {
+    for (int frame = 0; frame < 5; frame++) {
+      manager.prefetch(ORIGIN, Point.fromLngLat(getSpot(0).longitude() + frame * SPOT_SPACING,
+        getSpot(0).latitude()));
+      mainThread.runFor(FRAME_MS);
+    }
+    assertTrue(directions.calls.isEmpty());
+  }
+
+  /**
+   * Flings the camera from spot to spot, sometimes stopping only briefly before the next fling, and
+   * checks that every route delivered is for the spot the camera stopped at last.
+   */
+  @Test
+  public void panSession_newestRouteAlwaysWins() {
+    int pans = 500;
+    int spot = 0;
+    directions.deliverAfterCancel = true;
+    request(spot);
+    for (int pan = 0; pan < pans; pan++) {
+      if (pan % 100 == 99) {
+        // The user walked on, all routes start somewhere else now
+        origin = Point.fromLngLat(origin.longitude() + 1e-3, origin.latitude());
+      }
+      int next = random.nextInt(GRID_SIZE * GRID_SIZE);
+      fling(getSpot(spot), getSpot(next));
+      spot = next;
+      request(spot);
+
+      boolean settles = random.nextBoolean();
+      mainThread.runFor(settles ? MAX_LATENCY_MS + FRAME_MS : random.nextInt(300));
+      if (settles) {
+        assertEquals(spot, (int) listener.routes.get(listener.routes.size() - 1));
+      }
+    }
+    mainThread.runFor(MAX_LATENCY_MS + FRAME_MS);
+
+    assertNull(listener.error);
+    assertEquals(directions.calls.size(), manager.getRequestCount());
+    assertEquals(spot, (int) listener.routes.get(listener.routes.size() - 1));
+    // Without the cache and the cancelled prefetches every stop would be a call of its own
+    assertTrue(directions.calls.size() < pans);
+    // Flings that end before the route arrives leave superseded calls behind
+    assertTrue(directions.getCancelledCount() > 0);
+  }
+
+  private void request(int spot) {
+    listener.latestSpot = spot;
+    manager.request(origin, jitter(getSpot(spot)));
+  }
+
+  /**
+   * Moves the camera target one frame at a time, slowing down towards the end like a fling does.
+   */
+  private void fling(Point from, Point to) {
+    for (int frame = 1; frame <= FLING_FRAMES; frame++) {
+      double progress = 1 - Math.pow(1 - (double) frame / FLING_FRAMES, 3);
+      manager.prefetch(origin, Point.fromLngLat(
+        from.longitude() + (to.longitude() - from.longitude()) * progress,
+        from.latitude() + (to.latitude() - from.latitude()) * progress));
+      mainThread.runFor(FRAME_MS);
+    }
+  }
+
+  private Point jitter(Point point) {
+    return Point.fromLngLat(point.longitude() + (random.nextDouble() - 0.5) * SPOT_OFFSET / 2,
+      point.latitude() + (random.nextDouble() - 0.5) * SPOT_OFFSET / 2);
+  }
+
+  private static Point getSpot(int index) {
+    return Point.fromLngLat(-74.0 + index % GRID_SIZE * SPOT_SPACING + SPOT_OFFSET,
+      40.75 + index / GRID_SIZE * SPOT_SPACING + SPOT_OFFSET);
+  }
+
+  private static int getSpotIndex(Point destination) {
+    return (int) Math.round((destination.latitude() - 40.75 - SPOT_OFFSET) / SPOT_SPACING) * GRID_SIZE
+      + (int) Math.round((destination.longitude() + 74.0 - SPOT_OFFSET) / SPOT_SPACING);
+  }
+
+  /**
+   * Runs posted tasks in order of their due time, on a clock that only moves when told to.
+   */
+  private static class MainThread implements DirectionsRequestManager.Clock {
+
+    private final PriorityQueue<Task> tasks = new PriorityQueue<>();
+    private long now;
+    private long sequence;
+
+    @Override
+    public long uptimeMillis() {
+      return now;
+    }
+
+    void post(long delayMs, Runnable runnable) {
+      tasks.add(new Task(now + delayMs, sequence++, runnable));
+    }
+
+    void runFor(long millis) {
+      long end = now + millis;
+      while (!tasks.isEmpty() && tasks.peek().dueMillis <= end) {
+        Task task = tasks.poll();
+        now = task.dueMillis;
+        task.runnable.run();
+      }
+      now = end;
+    }
+
+    private static class Task implements Comparable<Task> {
+
+      final long dueMillis;
+      final long sequence;
+      final Runnable runnable;
+
+      Task(long dueMillis, long sequence, Runnable runnable) {
+        this.dueMillis = dueMillis;
+        this.sequence = sequence;
+        this.runnable = runnable;
+      }
+
+      @Override
+      public int compareTo(Task other) {
+        int byTime = Long.compare(dueMillis, other.dueMillis);
+        return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+      }
+    }
+  }
+
+  /**
+   * Answers every call with a route named after its destination spot. Latencies are taken from
+   * {@link #latencies} while there are any, then picked at random.
+   */
+  private class FakeDirections implements DirectionsRequestManager.RequestFactory {
+
+    final List<FakeCall> calls = new ArrayList<>();
+    final Queue<Long> latencies = new LinkedList<>();
+    // The response can already be waiting on the main thread when the call is cancelled
+    boolean deliverAfterCancel;
+
+    @NonNull
+    @Override
+    public Call<DirectionsResponse> createCall(@NonNull Point origin, @NonNull Point destination) {
+      Long latency = latencies.poll();
+      FakeCall call = new FakeCall(getSpotIndex(destination), latency != null ? latency
+        : MIN_LATENCY_MS + random.nextInt((int) (MAX_LATENCY_MS - MIN_LATENCY_MS)));
+      calls.add(call);
+      return call;
+    }
+
+    int getCancelledCount() {
+      int cancelled = 0;
+      for (FakeCall call : calls) {
+        if (call.isCanceled()) {
+          cancelled++;
+        }
+      }
+      return cancelled;
+    }
+  }
+
+  private class FakeCall implements Call<DirectionsResponse> {
+
+    private final int spot;
+    private final long latencyMs;
+    private boolean executed;
+    private boolean canceled;
+
+    FakeCall(int spot, long latencyMs) {
+      this.spot = spot;
+      this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public Response<DirectionsResponse> execute() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void enqueue(final Callback<DirectionsResponse> callback) {
+      executed = true;
+      mainThread.post(latencyMs, new Runnable() {
+        @Override
+        public void run() {
+          if (canceled && !directions.deliverAfterCancel) {
+            callback.onFailure(FakeCall.this, new IOException("Canceled"));
+            return;
+          }
+          DirectionsRoute route = DirectionsRoute.builder()
+            .distance(1000d)
+            .duration(100d)
+            .geometry(String.valueOf(spot))
+            .build();
+          callback.onResponse(FakeCall.this, Response.success(DirectionsResponse.builder()
+            .code("Ok")
+            .routes(Collections.singletonList(route))
+            .build()));
+        }
+      });
+    }
+
+    @Override
+    public boolean isExecuted() {
+      return executed;
+    }
+
+    @Override
+    public void cancel() {
+      canceled = true;
+    }
+
+    @Override
+    public boolean isCanceled() {
+      return canceled;
+    }
+
+    @Override
+    public Call<DirectionsResponse> clone() {
+      return new FakeCall(spot, latencyMs);
+    }
+
+    @Override
+    public Request request() {
+      return new Request.Builder().url("https://api.mapbox.com/directions/v5/").build();
+    }
+  }
+
+  private static class RecordingListener implements DirectionsRequestManager.OnRouteListener {
+
+    final List<Integer> routes = new ArrayList<>();
+    int latestSpot;
+    String error;
+
+    @Override
+    public void onRoute(@NonNull DirectionsRoute route) {
+      int spot = Integer.parseInt(route.geometry());
+      if (spot != latestSpot) {
+        fail("Route to spot " + spot + " delivered after the camera stopped at spot " + latestSpot);
+      }
+      routes.add(spot);
+    }
+
+    @Override
+    public void onError(@NonNull String message) {
+      error = message;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.geojson.Point;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import okhttp3.mockwebserver.MockWebServer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures the end-to-end time of loading distances between 500 synthetic stations from the local
+ * Matrix API stand-in of {@link DistanceMatrixTest}, which answers after a fixed latency: one
+ * clicked station, the same station again, 25 clicked stations and the whole matrix. Run with
+ * ./gradlew test -Pbenchmark.
+ */
+public class DistanceMatrixBenchmark {
+
+  private static final long LATENCY_MS = 20;
+
+  @BeforeClass
+  public static void onlyWhenAsked() {
+    assumeTrue(Boolean.getBoolean("benchmark"));
+  }
+
+  @Test
+  public void requestRows_endToEnd() throws IOException, InterruptedException {
+    DistanceMatrixTest.MatrixDispatcher dispatcher = new DistanceMatrixTest.MatrixDispatcher(LATENCY_MS);
+    MockWebServer server = new MockWebServer();
+    server.setDispatcher(dispatcher);
+    server.start();
+    try {
+      List<Point> stations = DistanceMatrixTest.createStations(new Random(14), DistanceMatrixTest.STATIONS);
+      DistanceMatrixTest.MainThread mainThread = new DistanceMatrixTest.MainThread();
+      DistanceMatrix matrix = DistanceMatrixTest.createMatrix(server, stations, mainThread);
+      DistanceMatrixTest.RecordingCallback callback = new DistanceMatrixTest.RecordingCallback();
+
+      System.out.printf("%d stations, %d ms latency%n", stations.size(), LATENCY_MS);
+      System.out.printf("%-22s %9s %9s %12s%n", "", "rows", "requests", "ms");
+
+      int requestsBefore = dispatcher.requestCount.get();
+      long start = System.nanoTime();
+      matrix.requestRow(0, callback);
+      mainThread.runUntilIdle();
+      print("one station", 1, dispatcher.requestCount.get() - requestsBefore, start);
+
+      requestsBefore = dispatcher.requestCount.get();
+      start = System.nanoTime();
+      matrix.requestRow(0, callback);
+      print("same station again", 1, dispatcher.requestCount.get() - requestsBefore, start);
+
+      requestsBefore = dispatcher.requestCount.get();
+      start = System.nanoTime();
+      for (int click = 1; click <= 25; click++) {
+        matrix.requestRow(click * 19, callback);
+        mainThread.runUntilIdle();
+      }
+      print("25 stations, clicked", 25, dispatcher.requestCount.get() - requestsBefore, start);
+
+      int[] origins = new int[stations.size()];
+      for (int i = 0; i < origins.length; i++) {
+        origins[i] = i;
+      }
+      requestsBefore = dispatcher.requestCount.get();
+      start = System.nanoTime();
+      matrix.requestRows(origins, callback);
+      mainThread.runUntilIdle();
+      print("all stations", origins.length, dispatcher.requestCount.get() - requestsBefore, start);
+
+      assertEquals(1 + 1 + 25 + origins.length, callback.rows.size());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  private static void print(String label, int rows, int requests, long startNanos) {
+    System.out.printf("%-22s %9d %9d %12.1f%n", label, rows, requests, (System.nanoTime() - startNanos) / 1e6);
+  }
+}
@@ -0,0 +1,384 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.mapbox.api.directions.v5.DirectionsCriteria;
+import com.mapbox.api.matrix.v1.MapboxMatrix;
+import com.mapbox.api.matrix.v1.models.MatrixResponse;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.Request;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Loads rows of 500 synthetic charging stations from a local stand-in for the Matrix API. The
+ * stand-in answers with the straight-line distance times 1.3, and without a route between the
+ * mainland and the stations on an island. The matrix runs on the test's thread, which gets the
+ * responses in the order they arrive.
+ */
+public class DistanceMatrixTest {
+
+  static final int STATIONS = 500;
+  // Every 50th station is on an island east of this longitude
+  private static final double ISLAND_LONGITUDE = -70.8;
+
+  private MockWebServer server;
+  private MatrixDispatcher dispatcher;
+  private MainThread mainThread;
+  private List<Point> stations;
+  private DistanceMatrix matrix;
+
+  @Before
+  public void setUp() throws IOException {
+    dispatcher = new MatrixDispatcher(0);
+    server = new MockWebServer();
+    server.setDispatcher(dispatcher);
+    server.start();
+    mainThread = new MainThread();
+    stations = createStations(new Random(14), STATIONS);
+    matrix = createMatrix(server, stations, mainThread);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    matrix.cancel();
+    server.shutdown();
+  }
+
+  @Test
+  public void requestRow_matchesTheStandIn() throws InterruptedException {
+    RecordingCallback callback = new RecordingCallback();
+    matrix.requestRow(1, callback);
+    mainThread.runUntilIdle();
+
+    // One origin and 24 destinations per request
+    assertEquals(21, dispatcher.requestCount.get());
+    assertTrue(dispatcher.maxConcurrentRequests.get() <= 4);
+    assertEquals(1, callback.rows.size());
+    assertRow(1, callback.rows.get(0));
+    // No route to the island
+    assertTrue(Double.isNaN(callback.rows.get(0)[50]));
+  }
+
+  @Test
+  public void requestRow_loadedRowIsAnsweredWithoutRequests() throws InterruptedException {
+    matrix.requestRow(3, new RecordingCallback());
+    mainThread.runUntilIdle();
+    int requestCount = dispatcher.requestCount.get();
+
+    RecordingCallback callback = new RecordingCallback();
+    matrix.requestRow(3, callback);
+
+    // Answered right away
+    assertEquals(1, callback.rows.size());
+    assertRow(3, callback.rows.get(0));
+    assertEquals(requestCount, dispatcher.requestCount.get());
+    assertEquals(distance(stations.get(3), stations.get(7)), matrix.getMeters(3, 7), 0.1);
+  }
+
+  @Test
+  public void requestRow_rowThatIsLoadingIsNotRequestedAgain() throws InterruptedException {
+    RecordingCallback first = new RecordingCallback();
+    RecordingCallback second = new RecordingCallback();
+    matrix.requestRow(5, first);
+    matrix.requestRow(5, second);
+    mainThread.runUntilIdle();
+
+    assertEquals(21, dispatcher.requestCount.get());
+    assertRow(5, first.rows.get(0));
+    assertRow(5, second.rows.get(0));
+  }
+
+  @Test
+  public void requestRows_everyDistanceMatchesTheStandIn() throws InterruptedException {
+    int[] origins = new int[50];
+    for (int i = 0; i < origins.length; i++) {
+      origins[i] = i * 7;
+    }
+    RecordingCallback callback = new RecordingCallback();
+    matrix.requestRows(origins, callback);
+    mainThread.runUntilIdle();
+
+    // Five origins and 20 destinations per request
+    assertEquals(10 * 25, dispatcher.requestCount.get());
+    assertTrue(dispatcher.maxConcurrentRequests.get() <= 4);
+    assertEquals(origins.length, callback.rows.size());
+    for (int origin : origins) {
+      for (int destination = 0; destination < STATIONS; destination++) {
+        assertEquals(expectedMeters(origin, destination), matrix.getMeters(origin, destination), 0.1);
+      }
+    }
+  }
+
+  @Test
+  public void requestRow_failedTileReportsTheRowOnceAndItCanBeRequestedAgain() throws InterruptedException {
+    dispatcher.failingCoordinate = stations.get(100);
+    RecordingCallback callback = new RecordingCallback();
+    matrix.requestRow(9, callback);
+    mainThread.runUntilIdle();
+
+    assertEquals(1, callback.failures.size());
+    assertTrue(callback.rows.isEmpty());
+    assertTrue(Double.isNaN(matrix.getMeters(9, 0)));
+
+    dispatcher.failingCoordinate = null;
+    matrix.requestRow(9, callback);
+    mainThread.runUntilIdle();
+    assertEquals(1, callback.rows.size());
+    assertRow(9, callback.rows.get(0));
+  }
+
+  @Test
+  public void cancel_noCallbacksAfterwards() throws InterruptedException {
+    RecordingCallback callback = new RecordingCallback();
+    matrix.requestRow(1, callback);
+    matrix.cancel();
+    mainThread.runUntilIdle();
+
+    assertTrue(callback.rows.isEmpty());
+    assertTrue(callback.failures.isEmpty());
+    assertTrue(dispatcher.requestCount.get() <= 4);
+  }
+
+  private void assertRow(int origin, double[] meters) {
+    assertEquals(STATIONS, meters.length);
+    for (int destination = 0; destination < STATIONS; destination++) {
+      assertEquals(expectedMeters(origin, destination), meters[destination], 0.1);
+    }
+  }
+
+  private double expectedMeters(int origin, int destination) {
+    Double meters = distance(stations.get(origin), stations.get(destination));
+    return meters != null ? meters : Double.NaN;
+  }
+
+  static DistanceMatrix createMatrix(MockWebServer server, List<Point> stations, final MainThread mainThread) {
+    return new DistanceMatrix("pk.test", DirectionsCriteria.PROFILE_DRIVING, stations, server.url("/").toString(),
+      new DistanceMatrix.CallFactory() {
+        @NonNull
+        @Override
+        public Call<MatrixResponse> createCall(@NonNull MapboxMatrix request) {
+          return mainThread.deliverOnMainThread(request.cloneCall());
+        }
+      });
+  }
+
+  /**
+   * Stations around Boston, rounded to the six decimals the requests carry.
+   */
+  static List<Point> createStations(Random random, int count) {
+    List<Point> stations = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      double longitude = i % 50 == 0 ? -70.1 + random.nextDouble() * 0.1 : -71.2 + random.nextDouble() * 0.3;
+      double latitude = 42.2 + random.nextDouble() * 0.3;
+      stations.add(Point.fromLngLat(Math.round(longitude * 1e6) / 1e6, Math.round(latitude * 1e6) / 1e6));
+    }
+    return stations;
+  }
+
+  /**
+   * Road distance of the stand-in in meters, null if there's no route.
+   */
+  static Double distance(Point origin, Point destination) {
+    if ((origin.longitude() > ISLAND_LONGITUDE) != (destination.longitude() > ISLAND_LONGITUDE)) {
+      return null;
+    }
+    return Math.round(TurfMeasurement.distance(origin, destination, TurfConstants.UNIT_METERS) * 13) / 10.0;
+  }
+
+  /**
+   * Answers Matrix requests after a fixed latency and keeps track of how many run at the same time.
+   */
+  static class MatrixDispatcher extends Dispatcher {
+
+    final AtomicInteger requestCount = new AtomicInteger();
+    final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final long latencyMs;
+    // Requests that contain this station fail
+    volatile Point failingCoordinate;
+
+    MatrixDispatcher(long latencyMs) {
+      this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+      requestCount.incrementAndGet();
+      int concurrent = concurrentRequests.incrementAndGet();
+      try {
+        int max = maxConcurrentRequests.get();
+        while (concurrent > max && !maxConcurrentRequests.compareAndSet(max, concurrent)) {
+          max = maxConcurrentRequests.get();
+        }
+        Thread.sleep(latencyMs);
+        return answer(request);
+      } finally {
+        concurrentRequests.decrementAndGet();
+      }
+    }
+
+    private MockResponse answer(RecordedRequest request) {
+      List<String> segments = request.getRequestUrl().pathSegments();
+      String[] coordinates = segments.get(segments.size() - 1).split(";");
+      List<Point> points = new ArrayList<>();
+      for (String coordinate : coordinates) {
+        String[] lngLat = coordinate.split(",");
+        Point point = Point.fromLngLat(Double.parseDouble(lngLat[0]), Double.parseDouble(lngLat[1]));
+        if (point.equals(failingCoordinate)) {
+          return new MockResponse().setResponseCode(422).setBody("{\"code\":\"InvalidInput\"}");
+        }
+        points.add(point);
+      }
+      List<Double[]> distances = new ArrayList<>();
+      for (String source : request.getRequestUrl().queryParameter("sources").split(";")) {
+        String[] destinations = request.getRequestUrl().queryParameter("destinations").split(";");
+        Double[] row = new Double[destinations.length];
+        for (int i = 0; i < destinations.length; i++) {
+          row[i] = distance(points.get(Integer.parseInt(source)), points.get(Integer.parseInt(destinations[i])));
+        }
+        distances.add(row);
+      }
+      Map<String, Object> body = new HashMap<>();
+      body.put("code", "Ok");
+      body.put("distances", distances);
+      return new MockResponse().setBody(new Gson().toJson(body));
+    }
+  }
+
+  /**
+   * Runs the callbacks of the calls on the test's thread, in the order the responses arrive,
+   * instead of on OkHttp's threads.
+   */
+  static class MainThread {
+
+    private final BlockingQueue<Runnable> responses = new LinkedBlockingQueue<>();
+    private int awaiting;
+
+    /**
+     * Blocks until the callbacks of all calls that were sent have run, including the calls that
+     * were sent by those callbacks.
+     */
+    void runUntilIdle() throws InterruptedException {
+      while (awaiting > 0) {
+        Runnable response = responses.poll(5, TimeUnit.SECONDS);
+        assertNotNull("No response from the stand-in", response);
+        awaiting--;
+        response.run();
+      }
+    }
+
+    <T> Call<T> deliverOnMainThread(Call<T> call) {
+      return new MainThreadCall<>(call);
+    }
+
+    private class MainThreadCall<T> implements Call<T> {
+
+      private final Call<T> delegate;
+
+      MainThreadCall(Call<T> delegate) {
+        this.delegate = delegate;
+      }
+
+      @Override
+      public Response<T> execute() {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public void enqueue(final Callback<T> callback) {
+        awaiting++;
+        delegate.enqueue(new Callback<T>() {
+          @Override
+          public void onResponse(Call<T> call, final Response<T> response) {
+            responses.add(new Runnable() {
+              @Override
+              public void run() {
+                callback.onResponse(MainThreadCall.this, response);
+              }
+            });
+          }
+
+          @Override
+          public void onFailure(Call<T> call, final Throwable throwable) {
+            responses.add(new Runnable() {
+              @Override
+              public void run() {
+                callback.onFailure(MainThreadCall.this, throwable);
+              }
+            });
+          }
+        });
+      }
+
+      @Override
+      public boolean isExecuted() {
+        return delegate.isExecuted();
+      }
+
+      @Override
+      public void cancel() {
+        delegate.cancel();
+      }
+
+      @Override
+      public boolean isCanceled() {
+        return delegate.isCanceled();
+      }
+
+      @Override
+      public Call<T> clone() {
+        return new MainThreadCall<>(delegate.clone());
+      }
+
+      @Override
+      public Request request() {
+        return delegate.request();
+      }
+    }
+  }
+
+  static class RecordingCallback implements DistanceMatrix.RowCallback {
+
+    final List<double[]> rows = new ArrayList<>();
+    final List<Throwable> failures = new ArrayList<>();
+
+    @Override
+    public void onRow(int origin, @NonNull double[] meters) {
+      rows.add(meters);
+    }
+
+    @Override
+    public void onFailure(int origin, @NonNull Throwable throwable) {
+      failures.add(throwable);
+    }
+  }
+}
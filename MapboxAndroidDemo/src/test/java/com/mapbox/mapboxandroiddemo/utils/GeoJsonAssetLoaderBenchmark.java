@@ -0,0 +1,146 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.geojson.FeatureCollection;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.Scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Compares the readers the examples used to load their GeoJSON assets with, a Scanner and a single
+ * read of available() bytes, both followed by {@link FeatureCollection#fromJson(String)}, against
+ * {@link GeoJsonAssetLoader#readFeatureCollection(InputStream)} on every asset. Run with
+ * ./gradlew test -Pbenchmark.
+ */
+public class GeoJsonAssetLoaderBenchmark {
+
+  private static final int WARM_UP_RUNS = 2;
+  private static final int RUNS = 5;
+
+  private interface Reader {
+    FeatureCollection read(InputStream inputStream) throws IOException;
+  }
+
+  private static final String[] READER_NAMES = {"Scanner", "available()", "GeoJsonAssetLoader"};
+  private static final Reader[] READERS = {
+    new Reader() {
+      @Override
+      public FeatureCollection read(InputStream inputStream) {
+        Scanner scanner = new Scanner(inputStream, "UTF-8").useDelimiter("\\A");
+        return FeatureCollection.fromJson(scanner.next());
+      }
+    },
+    new Reader() {
+      @Override
+      public FeatureCollection read(InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[inputStream.available()];
+        inputStream.read(buffer);
+        return FeatureCollection.fromJson(new String(buffer, "UTF-8"));
+      }
+    },
+    new Reader() {
+      @Override
+      public FeatureCollection read(InputStream inputStream) throws IOException {
+        return GeoJsonAssetLoader.readFeatureCollection(inputStream);
+      }
+    }
+  };
+
+  @BeforeClass
+  public static void onlyWhenAsked() {
+    assumeTrue(Boolean.getBoolean("benchmark"));
+  }
+
+  @Test
+  public void readFeatureCollection_allAssets() throws IOException {
+    File[] assets = new File("src/main/assets").listFiles(new FilenameFilter() {
+      @Override
+      public boolean accept(File dir, String name) {
+        return name.endsWith(".geojson");
+      }
+    });
+    Arrays.sort(assets);
+
+    System.out.printf("%-42s %9s %-20s %9s %12s %12s%n", "asset", "bytes", "reader", "ms", "allocated", "peak heap");
+    for (File asset : assets) {
+      FeatureCollection expected = read(READERS[0], asset);
+      if (expected.features() == null) {
+        // A single Feature, loaded with GeoJsonAssetLoader#loadFeature
+        continue;
+      }
+      for (int reader = 0; reader < READERS.length; reader++) {
+        assertEquals(asset.getName(), expected.features(), read(READERS[reader], asset).features());
+        for (int run = 0; run < WARM_UP_RUNS; run++) {
+          read(READERS[reader], asset);
+        }
+        long[] times = new long[RUNS];
+        long allocated = 0;
+        long peakHeap = 0;
+        for (int run = 0; run < RUNS; run++) {
+          System.gc();
+          long heapBefore = resetPeakHeap();
+          long allocatedBefore = getAllocatedBytes();
+          long start = System.nanoTime();
+          read(READERS[reader], asset);
+          times[run] = System.nanoTime() - start;
+          allocated = Math.max(allocated, getAllocatedBytes() - allocatedBefore);
+          peakHeap = Math.max(peakHeap, getPeakHeap() - heapBefore);
+        }
+        Arrays.sort(times);
+        System.out.printf("%-42s %9d %-20s %9.1f %12d %12d%n", asset.getName(), asset.length(),
+          READER_NAMES[reader], times[RUNS / 2] / 1e6, allocated, peakHeap);
+      }
+    }
+  }
+
+  private static FeatureCollection read(Reader reader, File asset) throws IOException {
+    InputStream inputStream = new FileInputStream(asset);
+    try {
+      return reader.read(inputStream);
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  private static long getAllocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+      .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Resets the peak usage of every heap pool and returns the heap in use.
+   */
+  private static long resetPeakHeap() {
+    long used = 0;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        pool.resetPeakUsage();
+        used += pool.getUsage().getUsed();
+      }
+    }
+    return used;
+  }
+
+  private static long getPeakHeap() {
+    long peak = 0;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        peak += pool.getPeakUsage().getUsed();
+      }
+    }
+    return peak;
+  }
+}
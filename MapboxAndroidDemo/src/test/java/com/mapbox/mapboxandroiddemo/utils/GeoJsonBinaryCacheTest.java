@@ -0,0 +1,160 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.GeometryCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.MultiPoint;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class GeoJsonBinaryCacheTest {
+
+  // Assets that are loaded through the cache
+  private static final String[] ASSETS = {
+    "fake_norway_campsites.geojson",
+    "new-orleans-neighborhoods.geojson",
+    "marathon_route.geojson",
+    "white_house_lvl_0.geojson",
+    "white_house_lvl_1.geojson"
+  };
+  private static final File ASSET_DIRECTORY = new File("src/main/assets");
+
+  // Coordinates are stored with 1e-7 degree precision
+  private static final double COORDINATE_DELTA = 0.5e-7;
+  private static final long SOURCE_STAMP = 42;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void roundTrip_matchesFromJsonForEveryAsset() throws IOException {
+    for (String asset : ASSETS) {
+      FeatureCollection expected = FeatureCollection.fromJson(readAsset(asset));
+      File cacheFile = new File(temporaryFolder.getRoot(), asset + ".bin");
+      GeoJsonBinaryCache.write(expected, cacheFile, SOURCE_STAMP);
+
+      FeatureCollection actual = GeoJsonBinaryCache.read(cacheFile, SOURCE_STAMP);
+      assertNotNull(asset, actual);
+      assertFeaturesEqual(asset, expected.features(), actual.features());
+    }
+  }
+
+  @Test
+  public void read_returnsNullForOtherSourceStamp() throws IOException {
+    FeatureCollection featureCollection = FeatureCollection.fromJson(readAsset(ASSETS[0]));
+    File cacheFile = temporaryFolder.newFile();
+    GeoJsonBinaryCache.write(featureCollection, cacheFile, SOURCE_STAMP);
+
+    assertNull(GeoJsonBinaryCache.read(cacheFile, SOURCE_STAMP + 1));
+  }
+
+  private static void assertFeaturesEqual(String asset, List<Feature> expected, List<Feature> actual) {
+    assertEquals(asset, expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      String message = asset + " feature " + i;
+      Feature expectedFeature = expected.get(i);
+      Feature actualFeature = actual.get(i);
+      assertEquals(message, expectedFeature.id(), actualFeature.id());
+      assertEquals(message, expectedFeature.bbox(), actualFeature.bbox());
+      assertEquals(message, expectedFeature.properties(), actualFeature.properties());
+      assertGeometriesEqual(message, expectedFeature.geometry(), actualFeature.geometry());
+    }
+  }
+
+  private static void assertGeometriesEqual(String message, Geometry expected, Geometry actual) {
+    if (expected == null) {
+      assertNull(message, actual);
+      return;
+    }
+    assertNotNull(message, actual);
+    assertEquals(message, expected.type(), actual.type());
+    if (expected instanceof GeometryCollection) {
+      List<Geometry> expectedGeometries = ((GeometryCollection) expected).geometries();
+      List<Geometry> actualGeometries = ((GeometryCollection) actual).geometries();
+      assertEquals(message, expectedGeometries.size(), actualGeometries.size());
+      for (int i = 0; i < expectedGeometries.size(); i++) {
+        assertGeometriesEqual(message, expectedGeometries.get(i), actualGeometries.get(i));
+      }
+      return;
+    }
+
+    if (expected instanceof MultiPolygon) {
+      assertEquals(message, ((MultiPolygon) expected).coordinates().size(),
+        ((MultiPolygon) actual).coordinates().size());
+    }
+    List<List<Point>> expectedLines = getLines(expected);
+    List<List<Point>> actualLines = getLines(actual);
+    assertEquals(message, expectedLines.size(), actualLines.size());
+    for (int i = 0; i < expectedLines.size(); i++) {
+      assertPointsEqual(message, expectedLines.get(i), actualLines.get(i));
+    }
+  }
+
+  private static void assertPointsEqual(String message, List<Point> expected, List<Point> actual) {
+    assertEquals(message, expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      Point expectedPoint = expected.get(i);
+      Point actualPoint = actual.get(i);
+      assertEquals(message, expectedPoint.longitude(), actualPoint.longitude(), COORDINATE_DELTA);
+      assertEquals(message, expectedPoint.latitude(), actualPoint.latitude(), COORDINATE_DELTA);
+      assertEquals(message, expectedPoint.hasAltitude(), actualPoint.hasAltitude());
+      if (expectedPoint.hasAltitude()) {
+        assertEquals(message, expectedPoint.altitude(), actualPoint.altitude(), 0);
+      }
+    }
+  }
+
+  /**
+   * Lists the positions of a geometry per line or ring, the rings of all polygons one after the other.
+   */
+  private static List<List<Point>> getLines(Geometry geometry) {
+    List<List<Point>> lines = new ArrayList<>();
+    if (geometry instanceof Point) {
+      lines.add(Collections.singletonList((Point) geometry));
+    } else if (geometry instanceof MultiPoint) {
+      lines.add(((MultiPoint) geometry).coordinates());
+    } else if (geometry instanceof LineString) {
+      lines.add(((LineString) geometry).coordinates());
+    } else if (geometry instanceof MultiLineString) {
+      lines.addAll(((MultiLineString) geometry).coordinates());
+    } else if (geometry instanceof Polygon) {
+      lines.addAll(((Polygon) geometry).coordinates());
+    } else if (geometry instanceof MultiPolygon) {
+      for (List<List<Point>> polygon : ((MultiPolygon) geometry).coordinates()) {
+        lines.addAll(polygon);
+      }
+    }
+    return lines;
+  }
+
+  private static String readAsset(String asset) throws IOException {
+    InputStream inputStream = new FileInputStream(new File(ASSET_DIRECTORY, asset));
+    try {
+      Scanner scanner = new Scanner(inputStream, "UTF-8").useDelimiter("\\A");
+      return scanner.hasNext() ? scanner.next() : "";
+    } finally {
+      inputStream.close();
+    }
+  }
+}
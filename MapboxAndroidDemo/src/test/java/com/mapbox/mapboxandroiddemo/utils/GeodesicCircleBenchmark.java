@@ -0,0 +1,51 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfTransformation;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Compares {@link GeodesicCircle} with Turf. Run with ./gradlew test -Pbenchmark.
+ */
+public class GeodesicCircleBenchmark {
+
+  private static final int[] STEPS = {16, 24, 64, 100, 256, 500, 1024};
+
+  @BeforeClass
+  public static void onlyWhenAsked() {
+    assumeTrue(Boolean.getBoolean("benchmark"));
+  }
+
+  /**
+   * Times a seekbar drag, one circle per tick, against Turf.
+   */
+  @Test
+  public void circle_timingComparedToTurf() {
+    Point center = Point.fromLngLat(-77.036, 38.895);
+    for (int steps : STEPS) {
+      long turfNanos = 0;
+      long geodesicNanos = 0;
+      for (int run = 0; run < 2; run++) {
+        // The first run warms up the JIT, only the second one is measured
+        long start = System.nanoTime();
+        for (int tick = 0; tick < 200; tick++) {
+          TurfTransformation.circle(center, 1 + tick * 0.01, steps, TurfConstants.UNIT_MILES);
+        }
+        turfNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int tick = 0; tick < 200; tick++) {
+          GeodesicCircle.circle(center, 1 + tick * 0.01, steps, TurfConstants.UNIT_MILES);
+        }
+        geodesicNanos = System.nanoTime() - start;
+      }
+      System.out.printf("%4d steps: Turf %6d us, GeodesicCircle %6d us per 200 circles%n",
+        steps, turfNanos / 1000, geodesicNanos / 1000);
+    }
+  }
+}
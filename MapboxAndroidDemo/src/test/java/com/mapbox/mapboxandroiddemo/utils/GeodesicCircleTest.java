@@ -0,0 +1,72 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfTransformation;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class GeodesicCircleTest {
+
+  private static final double DELTA_DEGREES = 1e-9;
+  private static final int[] STEPS = {16, 24, 64, 100, 256, 500, 1024};
+  private static final Point[] CENTERS = {
+    Point.fromLngLat(-77.036, 38.895),
+    Point.fromLngLat(151.209, -33.868),
+    Point.fromLngLat(179.9, 65.1),
+    Point.fromLngLat(0, 0)
+  };
+
+  @Test
+  public void circle_matchesTurfFrom16To1024Steps() {
+    for (int steps : STEPS) {
+      for (Point center : CENTERS) {
+        for (double radius : new double[] {0.1, 1, 25, 400}) {
+          String message = steps + " steps, " + radius + " miles around " + center.toJson();
+          assertRingEquals(message, getOuterRing(TurfTransformation.circle(center, radius, steps,
+            TurfConstants.UNIT_MILES)), getOuterRing(GeodesicCircle.circle(center, radius, steps,
+            TurfConstants.UNIT_MILES)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void circle_matchesTurfInOtherUnits() {
+    Point center = CENTERS[0];
+    for (String units : new String[] {TurfConstants.UNIT_KILOMETERS, TurfConstants.UNIT_METERS,
+      TurfConstants.UNIT_DEGREES}) {
+      assertRingEquals(units, getOuterRing(TurfTransformation.circle(center, 2, 64, units)),
+        getOuterRing(GeodesicCircle.circle(center, 2, 64, units)));
+    }
+  }
+
+  @Test
+  public void ring_matchesTwoTurfCircles() {
+    Point center = CENTERS[0];
+    Polygon ring = GeodesicCircle.ring(center, 1, 0.5, 180, TurfConstants.UNIT_MILES);
+
+    assertEquals(2, ring.coordinates().size());
+    assertRingEquals("outer", getOuterRing(TurfTransformation.circle(center, 1, 180, TurfConstants.UNIT_MILES)),
+      ring.coordinates().get(0));
+    assertRingEquals("inner", getOuterRing(TurfTransformation.circle(center, 0.5, 180, TurfConstants.UNIT_MILES)),
+      ring.coordinates().get(1));
+  }
+
+  private static List<Point> getOuterRing(Polygon polygon) {
+    return polygon.coordinates().get(0);
+  }
+
+  private static void assertRingEquals(String message, List<Point> expected, List<Point> actual) {
+    assertEquals(message, expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(message, expected.get(i).longitude(), actual.get(i).longitude(), DELTA_DEGREES);
+      assertEquals(message, expected.get(i).latitude(), actual.get(i).latitude(), DELTA_DEGREES);
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.graphics.Bitmap;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures the time-lapse frames of ImageSourceTimeLapseActivity: the time to decode them once at
+ * the sample size the player picks, and the allocation per second of playing them at one frame per
+ * second, against decoding a drawable on every swap like the example used to. ImageIO stands in for
+ * BitmapFactory. Run with ./gradlew test -Pbenchmark.
+ */
+public class ImageSourceFramePlayerBenchmark {
+
+  private static final String[] DENSITIES = {"mdpi", "hdpi", "xhdpi", "xxhdpi", "xxxhdpi"};
+  private static final int FRAMES = 4;
+  private static final long MAX_BYTES = 128L * 1024 * 1024 / 8;
+  private static final int TICKS_PER_SECOND = 1;
+  private static final int SECONDS = 20;
+
+  @BeforeClass
+  public static void onlyWhenAsked() {
+    assumeTrue(Boolean.getBoolean("benchmark"));
+  }
+
+  @Test
+  public void decodeAndPlay_radarTimeLapse() throws IOException {
+    System.out.printf("%-8s %11s %6s %10s %14s %14s%n", "density", "size", "sample", "decode ms",
+      "player B/s", "per swap B/s");
+    for (String density : DENSITIES) {
+      File[] files = new File[FRAMES];
+      long totalBytes = 0;
+      int width = 0;
+      int height = 0;
+      for (int i = 0; i < FRAMES; i++) {
+        files[i] = new File("src/main/res/drawable-" + density + "/southeast_radar_" + i + ".png");
+        BufferedImage image = ImageIO.read(files[i]);
+        width = image.getWidth();
+        height = image.getHeight();
+        totalBytes += (long) width * height * 4;
+      }
+      int sampleSize = ImageSourceFramePlayer.getSampleSize(totalBytes, MAX_BYTES);
+
+      // Decoding all frames once, as the player does on a background thread
+      long start = System.nanoTime();
+      for (File file : files) {
+        decode(file, sampleSize);
+      }
+      long decodeMillis = (System.nanoTime() - start) / 1000000;
+
+      // Steady state of the player, which only hands the decoded frames to the source
+      ImageSourceFramePlayer player = new ImageSourceFramePlayer(new Bitmap[FRAMES],
+        new ImageSourceFramePlayer.FrameTarget() {
+          @Override
+          public void showFrame(int index) {
+          }
+        });
+      for (int tick = 0; tick < 10000; tick++) {
+        player.onTick(tick);
+      }
+      long allocatedBefore = getAllocatedBytes();
+      for (int tick = 0; tick < SECONDS * TICKS_PER_SECOND; tick++) {
+        player.onTick(tick);
+      }
+      long playerBytesPerSecond = (getAllocatedBytes() - allocatedBefore) / SECONDS;
+
+      // Decoding the next drawable on every swap
+      allocatedBefore = getAllocatedBytes();
+      for (int tick = 0; tick < SECONDS * TICKS_PER_SECOND; tick++) {
+        decode(files[tick % FRAMES], 1);
+      }
+      long perSwapBytesPerSecond = (getAllocatedBytes() - allocatedBefore) / SECONDS;
+
+      System.out.printf("%-8s %5dx%-5d %6d %10d %14d %14d%n", density, width, height, sampleSize,
+        decodeMillis, playerBytesPerSecond, perSwapBytesPerSecond);
+      assertTrue(playerBytesPerSecond < 1024);
+    }
+  }
+
+  private static BufferedImage decode(File file, int sampleSize) throws IOException {
+    ImageInputStream input = ImageIO.createImageInputStream(file);
+    try {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input);
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(sampleSize, sampleSize, 0, 0);
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    } finally {
+      input.close();
+    }
+  }
+
+  private static long getAllocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+      .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+}
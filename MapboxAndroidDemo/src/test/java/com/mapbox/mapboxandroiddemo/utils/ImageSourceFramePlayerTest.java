@@ -0,0 +1,78 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import android.graphics.Bitmap;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ImageSourceFramePlayerTest {
+
+  private static final long MB = 1024 * 1024;
+
+  @Test
+  public void onTick_firstTickStartsTheCadenceThenFramesCycle() {
+    RecordingTarget target = new RecordingTarget();
+    ImageSourceFramePlayer player = new ImageSourceFramePlayer(new Bitmap[4], target);
+
+    for (int tick = 0; tick < 10; tick++) {
+      player.onTick(tick * 50);
+    }
+
+    // The first frame is already showing when playback starts
+    assertEquals(Arrays.asList(1, 2, 3, 0, 1, 2, 3, 0, 1), target.frames);
+  }
+
+  @Test
+  public void onTick_singleFrameIsNeverSetAgain() {
+    RecordingTarget target = new RecordingTarget();
+    ImageSourceFramePlayer player = new ImageSourceFramePlayer(new Bitmap[1], target);
+
+    for (int tick = 0; tick < 10; tick++) {
+      player.onTick(tick * 50);
+    }
+
+    assertTrue(target.frames.isEmpty());
+  }
+
+  @Test
+  public void getSampleSize_smallestPowerOfTwoThatFits() {
+    assertEquals(1, ImageSourceFramePlayer.getSampleSize(32 * MB, 32 * MB));
+    assertEquals(2, ImageSourceFramePlayer.getSampleSize(32 * MB + 1, 32 * MB));
+    assertEquals(2, ImageSourceFramePlayer.getSampleSize(128 * MB, 32 * MB));
+    assertEquals(4, ImageSourceFramePlayer.getSampleSize(129 * MB, 32 * MB));
+    // The four xxxhdpi radar images of the time-lapse with the default budget of a 128 MB heap
+    assertEquals(2, ImageSourceFramePlayer.getSampleSize(4L * 1680 * 1600 * 4, 128 * MB / 8));
+  }
+
+  @Test
+  public void getScale_framesFitIntoTheBudget() {
+    assertEquals(1f, ImageSourceFramePlayer.getScale(500, 500, 20, 20 * MB), 0);
+
+    int[][] movies = {{500, 500, 20}, {1920, 1080, 60}, {64, 48, 400}};
+    for (int[] movie : movies) {
+      long maxBytes = 4 * MB;
+      float scale = ImageSourceFramePlayer.getScale(movie[0], movie[1], movie[2], maxBytes);
+      long width = Math.max(1, Math.round(movie[0] * scale));
+      long height = Math.max(1, Math.round(movie[1] * scale));
+      long bytes = width * height * 4 * movie[2];
+      // Within rounding of the frame size, and not downsampled more than needed
+      assertTrue(bytes + " bytes", bytes <= maxBytes * 1.01);
+      assertTrue(bytes + " bytes", bytes >= maxBytes * 0.95);
+    }
+  }
+
+  private static class RecordingTarget implements ImageSourceFramePlayer.FrameTarget {
+    final List<Integer> frames = new ArrayList<>();
+
+    @Override
+    public void showFrame(int index) {
+      frames.add(index);
+    }
+  }
+}
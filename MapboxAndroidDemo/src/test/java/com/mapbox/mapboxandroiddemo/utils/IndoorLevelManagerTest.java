@@ -0,0 +1,72 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+import com.mapbox.turf.TurfJoins;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndoorLevelManagerTest {
+
+  // The outline IndoorMapActivity sets, not closed
+  private static final List<Point> BUILDING = Arrays.asList(
+    Point.fromLngLat(-77.03791, 38.89715),
+    Point.fromLngLat(-77.03791, 38.89811),
+    Point.fromLngLat(-77.03532, 38.89811),
+    Point.fromLngLat(-77.03532, 38.89708));
+
+  // An L-shaped outline, closed
+  private static final List<Point> L_SHAPE = Arrays.asList(
+    Point.fromLngLat(-77.03791, 38.89715),
+    Point.fromLngLat(-77.03791, 38.89811),
+    Point.fromLngLat(-77.03700, 38.89811),
+    Point.fromLngLat(-77.03700, 38.89750),
+    Point.fromLngLat(-77.03532, 38.89750),
+    Point.fromLngLat(-77.03532, 38.89708),
+    Point.fromLngLat(-77.03791, 38.89715));
+
+  @Test
+  public void isInsideFootprint_falseWithoutFootprint() {
+    IndoorLevelManager manager = new IndoorLevelManager("level_1.geojson");
+    assertFalse(manager.isInsideFootprint(-77.0366, 38.8976));
+  }
+
+  @Test
+  public void isInsideFootprint_matchesTurf() {
+    Random random = new Random(24);
+    for (List<Point> outline : Arrays.asList(BUILDING, L_SHAPE)) {
+      IndoorLevelManager manager = new IndoorLevelManager("level_1.geojson");
+      manager.setFootprint(outline);
+      Polygon polygon = Polygon.fromLngLats(Collections.singletonList(outline));
+      int inside = 0;
+      // Coordinates in and around the building, where the bounding box alone doesn't decide
+      for (int i = 0; i < 20000; i++) {
+        double longitude = -77.0385 + random.nextDouble() * 0.0038;
+        double latitude = 38.8970 + random.nextDouble() * 0.0012;
+        boolean expected = TurfJoins.inside(Point.fromLngLat(longitude, latitude), polygon);
+        assertEquals(longitude + "," + latitude, expected, manager.isInsideFootprint(longitude, latitude));
+        inside += expected ? 1 : 0;
+      }
+      assertTrue(inside > 1000);
+    }
+  }
+
+  @Test
+  public void isInsideFootprint_coordinatesFarAway() {
+    IndoorLevelManager manager = new IndoorLevelManager("level_1.geojson");
+    manager.setFootprint(BUILDING);
+    assertFalse(manager.isInsideFootprint(0, 0));
+    assertFalse(manager.isInsideFootprint(-77.0366, 39));
+    assertFalse(manager.isInsideFootprint(-77.1, 38.8976));
+    assertTrue(manager.isInsideFootprint(-77.0366, 38.8976));
+  }
+}
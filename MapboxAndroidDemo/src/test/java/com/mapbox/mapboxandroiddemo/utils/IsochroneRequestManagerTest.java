@@ -0,0 +1,401 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+
+import com.mapbox.api.isochrone.IsochroneCriteria;
+import com.mapbox.api.isochrone.MapboxIsochrone;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.Request;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Drags a scripted seekbar like the one of IsochroneSeekbarActivity over a local stand-in for the
+ * Isochrone API. The manager runs on a simulated main thread, and the responses of the stand-in are
+ * handed to it in the order they arrive. Isochrones are tagged with their minutes, so one that's
+ * delivered for any other value than the one the slider rests on is caught.
+ */
+public class IsochroneRequestManagerTest {
+
+  private static final Point DOWNTOWN_VIENNA = Point.fromLngLat(16.37208, 48.20849);
+  private static final String PROFILE = IsochroneCriteria.PROFILE_DRIVING;
+  private static final long FRAME_MS = 16;
+  // Longer than the debounce delay of the manager
+  private static final long REST_MS = 1000;
+
+  private MockWebServer server;
+  private IsochroneDispatcher dispatcher;
+  private FakeMainThread mainThread;
+  private RecordingListener listener;
+  private IsochroneRequestManager manager;
+  private int sliderMinutes;
+
+  @Before
+  public void setUp() throws IOException {
+    dispatcher = new IsochroneDispatcher();
+    server = new MockWebServer();
+    server.setDispatcher(dispatcher);
+    server.start();
+    mainThread = new FakeMainThread();
+    listener = new RecordingListener();
+    manager = new IsochroneRequestManager(new IsochroneRequestManager.RequestFactory() {
+      @NonNull
+      @Override
+      public Call<FeatureCollection> createCall(@NonNull Point center, @NonNull String profile, int minutes) {
+        return mainThread.deliverOnMainThread(MapboxIsochrone.builder()
+          .baseUrl(server.url("/").toString())
+          .accessToken("pk.test")
+          .profile(profile)
+          .addContoursMinutes(minutes)
+          .polygons(true)
+          .coordinates(center)
+          .build()
+          .cloneCall());
+      }
+    }, listener, mainThread);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    manager.cancel();
+    server.shutdown();
+  }
+
+  @Test
+  public void drag_onlyTheValueTheSliderRestsOnIsRequested() throws InterruptedException {
+    slideTo(30);
+    rest();
+    drag(60);
+    rest();
+
+    assertEquals(2, manager.getRequestCount());
+    assertEquals(Arrays.asList(30, 60), dispatcher.minutes);
+    assertEquals(Arrays.asList(30, 60), listener.minutes);
+  }
+
+  @Test
+  public void drag_backToAnEarlierValueIsAnsweredFromTheCache() throws InterruptedException {
+    slideTo(30);
+    rest();
+    drag(60);
+    rest();
+    drag(30);
+
+    // Delivered as soon as the slider gets there, without waiting for the debounce delay
+    assertEquals(Arrays.asList(30, 60, 30), listener.minutes);
+    rest();
+    assertEquals(2, manager.getRequestCount());
+    assertEquals(2, dispatcher.requestCount.get());
+  }
+
+  @Test
+  public void request_valueAlreadyOnItsWayIsNotSentAgain() throws InterruptedException {
+    slideTo(10);
+    mainThread.runFor(REST_MS);
+    slideTo(15);
+    mainThread.runFor(FRAME_MS);
+    slideTo(10);
+    rest();
+
+    assertEquals(1, manager.getRequestCount());
+    assertEquals(Collections.singletonList(10), listener.minutes);
+  }
+
+  @Test
+  public void request_olderResponseIsCachedButNotDelivered() throws InterruptedException {
+    slideTo(10);
+    mainThread.runFor(REST_MS);
+    slideTo(20);
+    rest();
+
+    assertEquals(2, manager.getRequestCount());
+    assertEquals(Collections.singletonList(20), listener.minutes);
+
+    slideTo(10);
+    assertEquals(Arrays.asList(20, 10), listener.minutes);
+    assertEquals(2, manager.getRequestCount());
+  }
+
+  @Test
+  public void cancel_dropsThePendingRequest() throws InterruptedException {
+    slideTo(10);
+    manager.cancel();
+    rest();
+
+    assertEquals(0, manager.getRequestCount());
+    assertEquals(0, dispatcher.requestCount.get());
+    assertTrue(listener.minutes.isEmpty());
+  }
+
+  /**
+   * Drags the slider around for a while, sometimes letting go long enough for a request, sometimes
+   * only pausing briefly. Every request that reaches the stand-in is for a value the slider rested
+   * on, and no value is requested twice.
+   */
+  @Test
+  public void dragSession_everyValueIsRequestedAtMostOnce() throws InterruptedException {
+    Random random = new Random(12);
+    slideTo(30);
+    rest();
+    for (int i = 0; i < 200; i++) {
+      drag(random.nextInt(61));
+      if (random.nextInt(3) == 0) {
+        rest();
+      } else {
+        mainThread.runFor(random.nextInt(200));
+      }
+    }
+    rest();
+
+    assertEquals(dispatcher.requestCount.get(), manager.getRequestCount());
+    assertEquals(sliderMinutes, (int) listener.minutes.get(listener.minutes.size() - 1));
+    // 13 values from 0 to 60 minutes, each sent once at most
+    assertTrue(manager.getRequestCount() <= 13);
+    assertEquals(manager.getRequestCount(), dispatcher.getDistinctMinutes());
+  }
+
+  /**
+   * Moves the slider one step per frame, reporting every change like onProgressChanged does.
+   */
+  private void drag(int toProgress) {
+    int progress = sliderMinutes;
+    while (progress != toProgress) {
+      progress += progress < toProgress ? 1 : -1;
+      slideTo(progress);
+      mainThread.runFor(FRAME_MS);
+    }
+  }
+
+  /**
+   * Snaps the progress to five minute steps like the activity does and asks for the isochrone.
+   */
+  private void slideTo(int progress) {
+    sliderMinutes = progress / 5 * 5;
+    listener.sliderMinutes = sliderMinutes;
+    manager.request(DOWNTOWN_VIENNA, PROFILE, sliderMinutes);
+  }
+
+  /**
+   * Leaves the slider alone until the debounced request went out and its response is delivered.
+   */
+  private void rest() throws InterruptedException {
+    mainThread.runFor(REST_MS);
+    mainThread.awaitResponses();
+  }
+
+  /**
+   * Runs posted tasks in order of their due time, on a clock that only moves when told to. Calls
+   * hand their callbacks to it, instead of running them on OkHttp's threads.
+   */
+  private static class FakeMainThread implements IsochroneRequestManager.MainThread {
+
+    private final PriorityQueue<Task> tasks = new PriorityQueue<>();
+    private final BlockingQueue<Runnable> responses = new LinkedBlockingQueue<>();
+    private long now;
+    private long sequence;
+    private int awaiting;
+
+    @Override
+    public void postDelayed(@NonNull Runnable runnable, long delayMillis) {
+      tasks.add(new Task(now + delayMillis, sequence++, runnable));
+    }
+
+    @Override
+    public void removeCallbacks(@NonNull Runnable runnable) {
+      Iterator<Task> iterator = tasks.iterator();
+      while (iterator.hasNext()) {
+        if (iterator.next().runnable == runnable) {
+          iterator.remove();
+        }
+      }
+    }
+
+    void runFor(long millis) {
+      long end = now + millis;
+      while (!tasks.isEmpty() && tasks.peek().dueMillis <= end) {
+        Task task = tasks.poll();
+        now = task.dueMillis;
+        task.runnable.run();
+      }
+      now = end;
+    }
+
+    /**
+     * Blocks until the callbacks of all calls that were sent have run.
+     */
+    void awaitResponses() throws InterruptedException {
+      while (awaiting > 0) {
+        Runnable response = responses.poll(5, TimeUnit.SECONDS);
+        assertNotNull("No response from the stand-in", response);
+        awaiting--;
+        response.run();
+      }
+    }
+
+    Call<FeatureCollection> deliverOnMainThread(Call<FeatureCollection> call) {
+      return new MainThreadCall(call);
+    }
+
+    private class MainThreadCall implements Call<FeatureCollection> {
+
+      private final Call<FeatureCollection> delegate;
+
+      MainThreadCall(Call<FeatureCollection> delegate) {
+        this.delegate = delegate;
+      }
+
+      @Override
+      public Response<FeatureCollection> execute() {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public void enqueue(final Callback<FeatureCollection> callback) {
+        awaiting++;
+        delegate.enqueue(new Callback<FeatureCollection>() {
+          @Override
+          public void onResponse(Call<FeatureCollection> call, final Response<FeatureCollection> response) {
+            responses.add(new Runnable() {
+              @Override
+              public void run() {
+                callback.onResponse(MainThreadCall.this, response);
+              }
+            });
+          }
+
+          @Override
+          public void onFailure(Call<FeatureCollection> call, final Throwable throwable) {
+            responses.add(new Runnable() {
+              @Override
+              public void run() {
+                callback.onFailure(MainThreadCall.this, throwable);
+              }
+            });
+          }
+        });
+      }
+
+      @Override
+      public boolean isExecuted() {
+        return delegate.isExecuted();
+      }
+
+      @Override
+      public void cancel() {
+        delegate.cancel();
+      }
+
+      @Override
+      public boolean isCanceled() {
+        return delegate.isCanceled();
+      }
+
+      @Override
+      public Call<FeatureCollection> clone() {
+        return new MainThreadCall(delegate.clone());
+      }
+
+      @Override
+      public Request request() {
+        return delegate.request();
+      }
+    }
+
+    private static class Task implements Comparable<Task> {
+
+      final long dueMillis;
+      final long sequence;
+      final Runnable runnable;
+
+      Task(long dueMillis, long sequence, Runnable runnable) {
+        this.dueMillis = dueMillis;
+        this.sequence = sequence;
+        this.runnable = runnable;
+      }
+
+      @Override
+      public int compareTo(Task other) {
+        int byTime = Long.compare(dueMillis, other.dueMillis);
+        return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+      }
+    }
+  }
+
+  /**
+   * Answers every request with a square polygon that carries the requested minutes.
+   */
+  private static class IsochroneDispatcher extends Dispatcher {
+
+    final AtomicInteger requestCount = new AtomicInteger();
+    final List<Integer> minutes = Collections.synchronizedList(new ArrayList<Integer>());
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+      requestCount.incrementAndGet();
+      int contour = Integer.parseInt(request.getRequestUrl().queryParameter("contours_minutes"));
+      minutes.add(contour);
+      double size = 0.001 * (contour + 1);
+      Feature feature = Feature.fromGeometry(Polygon.fromLngLats(Collections.singletonList(Arrays.asList(
+        Point.fromLngLat(DOWNTOWN_VIENNA.longitude() - size, DOWNTOWN_VIENNA.latitude() - size),
+        Point.fromLngLat(DOWNTOWN_VIENNA.longitude() + size, DOWNTOWN_VIENNA.latitude() - size),
+        Point.fromLngLat(DOWNTOWN_VIENNA.longitude() + size, DOWNTOWN_VIENNA.latitude() + size),
+        Point.fromLngLat(DOWNTOWN_VIENNA.longitude() - size, DOWNTOWN_VIENNA.latitude() + size),
+        Point.fromLngLat(DOWNTOWN_VIENNA.longitude() - size, DOWNTOWN_VIENNA.latitude() - size)))));
+      feature.addNumberProperty("contour", contour);
+      return new MockResponse().setBody(FeatureCollection.fromFeature(feature).toJson());
+    }
+
+    int getDistinctMinutes() {
+      synchronized (minutes) {
+        return new HashSet<>(minutes).size();
+      }
+    }
+  }
+
+  private static class RecordingListener implements IsochroneRequestManager.OnIsochroneListener {
+
+    final List<Integer> minutes = new ArrayList<>();
+    int sliderMinutes;
+
+    @Override
+    public void onIsochrone(@NonNull FeatureCollection isochrone) {
+      int contour = isochrone.features().get(0).getNumberProperty("contour").intValue();
+      if (contour != sliderMinutes) {
+        fail("Isochrone for " + contour + " minutes delivered while the slider rests on " + sliderMinutes);
+      }
+      minutes.add(contour);
+    }
+  }
+}
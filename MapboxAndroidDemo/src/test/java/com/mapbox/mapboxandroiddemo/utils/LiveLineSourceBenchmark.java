@@ -0,0 +1,161 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfMeasurement;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static com.mapbox.turf.TurfConstants.UNIT_METERS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures the allocations per display frame of the line to the camera target of
+ * StraightLineDistanceMapMovementActivity during a scripted fling: two seconds at 60 frames per
+ * second, three camera move callbacks per frame, slowing down until the camera stops. Before is a
+ * new line and a new NumberFormat for every camera move, like the activity used to do. After is
+ * {@link LiveLineSource} with a cached NumberFormat. The source is a stand-in that only counts the
+ * lines, so the work of GeoJsonSource.setGeoJson itself isn't part of the numbers. Run with
+ * ./gradlew test -Pbenchmark.
+ */
+public class LiveLineSourceBenchmark {
+
+  private static final int FRAMES = 120;
+  private static final int MOVES_PER_FRAME = 3;
+  private static final int FLINGS = 50;
+  private static final Point DEVICE_LOCATION = Point.fromLngLat(-122.4194, 37.7749);
+
+  @BeforeClass
+  public static void onlyWhenAsked() {
+    assumeTrue(Boolean.getBoolean("benchmark"));
+  }
+
+  @Test
+  public void fling_allocationsPerFrame() {
+    // Warm up both
+    for (int i = 0; i < FLINGS; i++) {
+      flingBefore();
+      flingAfter();
+    }
+
+    long allocatedBefore = getAllocatedBytes();
+    int beforePublishes = 0;
+    for (int i = 0; i < FLINGS; i++) {
+      beforePublishes += flingBefore();
+    }
+    long beforeBytes = (getAllocatedBytes() - allocatedBefore) / (FLINGS * FRAMES);
+
+    allocatedBefore = getAllocatedBytes();
+    int afterPublishes = 0;
+    for (int i = 0; i < FLINGS; i++) {
+      afterPublishes += flingAfter();
+    }
+    long afterBytes = (getAllocatedBytes() - allocatedBefore) / (FLINGS * FRAMES);
+
+    System.out.printf("%-8s %16s %12s%n", "", "setGeoJson/frame", "bytes/frame");
+    System.out.printf("%-8s %16.2f %12d%n", "before", (double) beforePublishes / (FLINGS * FRAMES), beforeBytes);
+    System.out.printf("%-8s %16.2f %12d%n", "after", (double) afterPublishes / (FLINGS * FRAMES), afterBytes);
+
+    assertEquals(FLINGS * FRAMES * MOVES_PER_FRAME, beforePublishes);
+    // The last frames of the fling don't move the camera far enough to change the line
+    assertTrue(afterPublishes <= FLINGS * FRAMES);
+  }
+
+  /**
+   * @return how often the line was sent to the source
+   */
+  private static int flingBefore() {
+    CountingTarget target = new CountingTarget();
+    for (int frame = 0; frame < FRAMES; frame++) {
+      for (int move = 0; move < MOVES_PER_FRAME; move++) {
+        double progress = getFlingProgress(frame, move);
+        List<Point> pointList = new ArrayList<>();
+        Point targetPoint = Point.fromLngLat(getCameraLongitude(progress), getCameraLatitude(progress));
+        Point deviceLocationPoint = Point.fromLngLat(DEVICE_LOCATION.longitude(), DEVICE_LOCATION.latitude());
+        pointList.add(targetPoint);
+        pointList.add(deviceLocationPoint);
+        target.setGeoJson(LineString.fromLngLats(pointList));
+
+        double distance = TurfMeasurement.distance(deviceLocationPoint, targetPoint, UNIT_METERS);
+        target.label = String.format("%s meters", String.valueOf(
+          NumberFormat.getNumberInstance(Locale.US).format(distance)));
+      }
+    }
+    return target.count;
+  }
+
+  /**
+   * @return how often the line was sent to the source
+   */
+  private static int flingAfter() {
+    LiveLineSourceTest.FakeFrameClock clock = new LiveLineSourceTest.FakeFrameClock();
+    final CountingTarget target = new CountingTarget();
+    final NumberFormat distanceFormat = NumberFormat.getNumberInstance(Locale.US);
+    final double[] progress = new double[1];
+    LiveLineSource line = new LiveLineSource(2, clock);
+    line.setTarget(target);
+    line.setOnFrameListener(new LiveLineSource.OnFrameListener() {
+      @Override
+      public void onFrame(@NonNull LiveLineSource line) {
+        line.setCoordinate(0, getCameraLongitude(progress[0]), getCameraLatitude(progress[0]));
+        line.setCoordinate(1, DEVICE_LOCATION.longitude(), DEVICE_LOCATION.latitude());
+        double distance = TurfMeasurement.distance(line.getPoint(1), line.getPoint(0), UNIT_METERS);
+        target.label = String.format("%s meters", distanceFormat.format(distance));
+      }
+    });
+
+    for (int frame = 0; frame < FRAMES; frame++) {
+      for (int move = 0; move < MOVES_PER_FRAME; move++) {
+        progress[0] = getFlingProgress(frame, move);
+        line.invalidate();
+      }
+      clock.frame();
+    }
+    line.onDestroy();
+    return line.getPublishCount();
+  }
+
+  /**
+   * How far the camera got at a move callback, from 0 to 1. It decelerates like a fling and stops
+   * before the last frames.
+   */
+  private static double getFlingProgress(int frame, int move) {
+    double time = Math.min(1, (frame + (move + 1.0) / MOVES_PER_FRAME) / (FRAMES * 0.9));
+    return 1 - Math.pow(1 - time, 3);
+  }
+
+  private static double getCameraLongitude(double progress) {
+    return -122.45 + 0.05 * progress;
+  }
+
+  private static double getCameraLatitude(double progress) {
+    return 37.76 + 0.03 * progress;
+  }
+
+  private static long getAllocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+      .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  private static class CountingTarget implements LiveLineSource.LineTarget {
+
+    int count;
+    String label;
+
+    @Override
+    public void setGeoJson(@NonNull LineString line) {
+      count++;
+    }
+  }
+}
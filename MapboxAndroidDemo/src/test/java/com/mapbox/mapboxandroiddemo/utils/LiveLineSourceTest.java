@@ -0,0 +1,179 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Moves a camera several times per frame of a fake display, like a fling does, and counts how often
+ * the line is published.
+ */
+public class LiveLineSourceTest {
+
+  private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+  private static final Point DEVICE_LOCATION = Point.fromLngLat(-122.4194, 37.7749);
+
+  private FakeFrameClock clock;
+  private RecordingTarget target;
+  private LiveLineSource line;
+  private double cameraLongitude = -122.41;
+  private double cameraLatitude = 37.78;
+  private int frameCount;
+
+  @Before
+  public void setUp() {
+    clock = new FakeFrameClock();
+    target = new RecordingTarget();
+    line = new LiveLineSource(2, clock);
+    line.setOnFrameListener(new LiveLineSource.OnFrameListener() {
+      @Override
+      public void onFrame(@NonNull LiveLineSource line) {
+        frameCount++;
+        line.setCoordinate(0, cameraLongitude, cameraLatitude);
+        line.setCoordinate(1, DEVICE_LOCATION.longitude(), DEVICE_LOCATION.latitude());
+      }
+    });
+    line.setTarget(target);
+  }
+
+  @Test
+  public void invalidate_everyFrameIsPublishedOnce() {
+    clock.frame();
+    for (int frame = 0; frame < 10; frame++) {
+      for (int move = 0; move < 3; move++) {
+        cameraLongitude += 1e-4;
+        line.invalidate();
+      }
+      clock.frame();
+    }
+
+    assertEquals(11, frameCount);
+    assertEquals(11, line.getPublishCount());
+    assertEquals(11, target.lines.size());
+    assertEquals(Arrays.asList(Point.fromLngLat(cameraLongitude, cameraLatitude), DEVICE_LOCATION),
+      target.lines.get(10).coordinates());
+    // Nothing is pending once the camera stopped
+    assertFalse(clock.hasFrameCallback());
+  }
+
+  @Test
+  public void invalidate_frameWithoutMovementIsntPublished() {
+    clock.frame();
+    Point cameraTarget = line.getPoint(0);
+    line.invalidate();
+    clock.frame();
+
+    assertEquals(2, frameCount);
+    assertEquals(1, line.getPublishCount());
+    // The points of coordinates that didn't change are kept
+    assertSame(cameraTarget, line.getPoint(0));
+  }
+
+  @Test
+  public void setTarget_coordinatesSetBeforeArePublishedInTheNextFrame() {
+    LiveLineSource outline = new LiveLineSource(2, clock);
+    outline.setCoordinate(0, 1, 2);
+    outline.setCoordinate(1, 3, 4);
+    clock.frame();
+    assertEquals(0, outline.getPublishCount());
+
+    RecordingTarget outlineTarget = new RecordingTarget();
+    outline.setTarget(outlineTarget);
+    clock.frame();
+
+    assertEquals(1, outline.getPublishCount());
+    assertEquals(Arrays.asList(Point.fromLngLat(1, 2), Point.fromLngLat(3, 4)),
+      outlineTarget.lines.get(0).coordinates());
+  }
+
+  @Test
+  public void setCoordinate_lineIsntPublishedUntilEveryPointIsSet() {
+    LiveLineSource outline = new LiveLineSource(5, clock);
+    RecordingTarget outlineTarget = new RecordingTarget();
+    outline.setTarget(outlineTarget);
+    for (int i = 0; i < 4; i++) {
+      outline.setCoordinate(i, i, i);
+    }
+    clock.frame();
+    assertEquals(0, outline.getPublishCount());
+    assertNull(outline.getPoint(4));
+
+    outline.setCoordinate(4, 0, 0);
+    clock.frame();
+    assertEquals(1, outline.getPublishCount());
+    assertEquals(5, outlineTarget.lines.get(0).coordinates().size());
+  }
+
+  @Test
+  public void onDestroy_nothingRunsAfterwards() {
+    line.invalidate();
+    line.onDestroy();
+    clock.frame();
+
+    assertEquals(0, frameCount);
+    assertEquals(0, line.getPublishCount());
+    assertTrue(target.lines.isEmpty());
+  }
+
+  /**
+   * Delivers a frame when the test asks for one.
+   */
+  static class FakeFrameClock implements MapAnimationScheduler.FrameClock {
+
+    private long now;
+    private Callback callback;
+
+    @Override
+    public void postFrameCallback(@NonNull Callback callback, long delayMillis) {
+      this.callback = callback;
+    }
+
+    @Override
+    public void removeFrameCallback(@NonNull Callback callback) {
+      this.callback = null;
+    }
+
+    @Override
+    public long nanoTime() {
+      return now;
+    }
+
+    boolean hasFrameCallback() {
+      return callback != null;
+    }
+
+    void frame() {
+      now += FRAME_NANOS;
+      Callback current = callback;
+      callback = null;
+      if (current != null) {
+        current.doFrame(now);
+      }
+    }
+  }
+
+  private static class RecordingTarget implements LiveLineSource.LineTarget {
+
+    final List<LineString> lines = new ArrayList<>();
+
+    @Override
+    public void setGeoJson(@NonNull LineString line) {
+      lines.add(line);
+    }
+  }
+}
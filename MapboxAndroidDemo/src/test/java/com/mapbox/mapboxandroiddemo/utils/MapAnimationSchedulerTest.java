@@ -0,0 +1,229 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Drives the scheduler with a fake 60 Hz display whose time only moves when the test says so.
+ */
+public class MapAnimationSchedulerTest {
+
+  private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+  private static final long FRAME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+  private FakeFrameClock clock;
+  private MapAnimationScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    clock = new FakeFrameClock();
+    scheduler = new MapAnimationScheduler(clock, FRAME_BUDGET_NANOS);
+  }
+
+  @Test
+  public void schedule_ticksOnDisplayFramesAtTheInterval() {
+    RecordingTicker ticker = new RecordingTicker(0);
+    scheduler.schedule(ticker, 50);
+    clock.advance(1000);
+
+    // The first tick comes with the next frame, the others with the first frame after they're due
+    assertEquals(20, ticker.tickMillis.size());
+    assertOnCadence(ticker.tickMillis, 0, 50);
+    assertEquals(0, scheduler.getDroppedTickCount());
+  }
+
+  @Test
+  public void schedule_longIntervalsDontWakeUpOnEveryFrame() {
+    RecordingTicker ticker = new RecordingTicker(0);
+    scheduler.schedule(ticker, 1000);
+    clock.advance(10000);
+
+    assertEquals(10, ticker.tickMillis.size());
+    // A frame to wait for the tick and one for the tick itself, instead of 60
+    assertTrue("frames " + clock.frames, clock.frames <= 2 * ticker.tickMillis.size() + 1);
+  }
+
+  @Test
+  public void runFrame_dropsStaleTicksInsteadOfCatchingUp() {
+    RecordingTicker ticker = new RecordingTicker(0);
+    scheduler.schedule(ticker, 50);
+    clock.advance(100);
+    int ticksBeforeStall = ticker.tickMillis.size();
+
+    // The main thread is blocked for 300 ms
+    clock.stall(300);
+    clock.advance(17);
+
+    assertEquals(ticksBeforeStall + 1, ticker.tickMillis.size());
+    assertTrue(scheduler.getDroppedTickCount() >= 5);
+
+    // Back to the normal cadence right after
+    clock.advance(200);
+    assertTrue(ticker.tickMillis.size() >= ticksBeforeStall + 4);
+    assertOnCadence(ticker.tickMillis, ticksBeforeStall, 50);
+  }
+
+  @Test
+  public void onPause_nothingRunsUntilResumed() {
+    RecordingTicker ticker = new RecordingTicker(0);
+    scheduler.schedule(ticker, 50);
+    clock.advance(200);
+    int ticks = ticker.tickMillis.size();
+
+    scheduler.onPause();
+    assertFalse(clock.hasFrameCallback());
+    clock.advance(5000);
+    assertEquals(ticks, ticker.tickMillis.size());
+
+    // No burst for the ticks missed while paused
+    scheduler.onResume();
+    clock.advance(17);
+    assertEquals(ticks + 1, ticker.tickMillis.size());
+    clock.advance(500);
+    assertEquals(ticks + 11, ticker.tickMillis.size(), 1);
+    assertEquals(0, scheduler.getDroppedTickCount());
+  }
+
+  @Test
+  public void runFrame_defersTickersOverTheFrameBudgetToTheNextFrame() {
+    // Three tickers due in every frame, each taking 5 ms, only two fit in the 8 ms budget
+    RecordingTicker first = new RecordingTicker(5);
+    RecordingTicker second = new RecordingTicker(5);
+    RecordingTicker third = new RecordingTicker(5);
+    scheduler.schedule(first, 1);
+    scheduler.schedule(second, 1);
+    scheduler.schedule(third, 1);
+    clock.advance(1000);
+
+    assertTrue(scheduler.getOverBudgetFrameCount() > 0);
+    // Every ticker gets its turn, the one that was deferred goes first in the next frame
+    int min = Math.min(first.tickMillis.size(), Math.min(second.tickMillis.size(), third.tickMillis.size()));
+    int max = Math.max(first.tickMillis.size(), Math.max(second.tickMillis.size(), third.tickMillis.size()));
+    assertTrue(min > 0);
+    assertTrue(max - min <= 1);
+  }
+
+  @Test
+  public void cancel_fromWithinTheTicker() {
+    final List<Long> ticks = new ArrayList<>();
+    scheduler.schedule(new MapAnimationScheduler.Ticker() {
+      @Override
+      public void onTick(long frameTimeMillis) {
+        ticks.add(frameTimeMillis);
+        if (ticks.size() == 3) {
+          scheduler.cancel(this);
+        }
+      }
+    }, 50);
+    clock.advance(1000);
+
+    assertEquals(3, ticks.size());
+    assertFalse(clock.hasFrameCallback());
+  }
+
+  @Test
+  public void onDestroy_stopsAllTickers() {
+    RecordingTicker ticker = new RecordingTicker(0);
+    scheduler.schedule(ticker, 50);
+    clock.advance(100);
+    int ticks = ticker.tickMillis.size();
+
+    scheduler.onDestroy();
+    scheduler.onResume();
+    clock.advance(1000);
+
+    assertEquals(ticks, ticker.tickMillis.size());
+    assertFalse(clock.hasFrameCallback());
+  }
+
+  /**
+   * Checks that the ticks from the first one on don't drift away from their due times.
+   */
+  private static void assertOnCadence(List<Long> tickMillis, int first, long intervalMillis) {
+    long start = tickMillis.get(first);
+    for (int i = first; i < tickMillis.size(); i++) {
+      long late = tickMillis.get(i) - (start + (i - first) * intervalMillis);
+      assertTrue("tick " + i + " late by " + late, late >= 0 && late <= TimeUnit.NANOSECONDS.toMillis(FRAME_NANOS));
+    }
+  }
+
+  private class RecordingTicker implements MapAnimationScheduler.Ticker {
+    final List<Long> tickMillis = new ArrayList<>();
+    private final long workMillis;
+
+    RecordingTicker(long workMillis) {
+      this.workMillis = workMillis;
+    }
+
+    @Override
+    public void onTick(long frameTimeMillis) {
+      tickMillis.add(frameTimeMillis);
+      clock.now += TimeUnit.MILLISECONDS.toNanos(workMillis);
+    }
+  }
+
+  /**
+   * Delivers a posted callback with the first vsync after its delay, like the Choreographer.
+   */
+  private static class FakeFrameClock implements MapAnimationScheduler.FrameClock {
+    long now = FRAME_NANOS * 1000;
+    int frames;
+    private Callback callback;
+    private long dueNanos;
+
+    @Override
+    public void postFrameCallback(@NonNull Callback callback, long delayMillis) {
+      this.callback = callback;
+      dueNanos = nextFrame(now + TimeUnit.MILLISECONDS.toNanos(delayMillis));
+    }
+
+    @Override
+    public void removeFrameCallback(@NonNull Callback callback) {
+      this.callback = null;
+    }
+
+    @Override
+    public long nanoTime() {
+      return now;
+    }
+
+    boolean hasFrameCallback() {
+      return callback != null;
+    }
+
+    void advance(long millis) {
+      long end = now + TimeUnit.MILLISECONDS.toNanos(millis);
+      while (callback != null && Math.max(dueNanos, nextFrame(now - 1)) <= end) {
+        // Tickers that ran past a vsync make the next callback wait for the following one
+        long frameTime = Math.max(dueNanos, nextFrame(now - 1));
+        now = frameTime;
+        Callback current = callback;
+        callback = null;
+        frames++;
+        current.doFrame(frameTime);
+      }
+      now = Math.max(now, end);
+    }
+
+    /**
+     * Blocks the main thread, no frames are delivered in the meantime.
+     */
+    void stall(long millis) {
+      now += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private static long nextFrame(long nanos) {
+      return (nanos / FRAME_NANOS + 1) * FRAME_NANOS;
+    }
+  }
+}
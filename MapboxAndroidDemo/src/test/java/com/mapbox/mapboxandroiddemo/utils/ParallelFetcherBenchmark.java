@@ -0,0 +1,52 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import okhttp3.mockwebserver.MockWebServer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Compares the wall-clock time of loading a POI's worth of images one after the other, the way
+ * LoadMapillaryDataTask used to, against the parallel fetcher. The stand-in image host answers
+ * after a fixed latency. Run with ./gradlew test -Pbenchmark.
+ */
+public class ParallelFetcherBenchmark {
+
+  private static final int IMAGES = 24;
+  private static final long LATENCY_MS = 80;
+
+  @BeforeClass
+  public static void onlyWhenAsked() {
+    assumeTrue(Boolean.getBoolean("benchmark"));
+  }
+
+  @Test
+  public void fetchAll_serialAgainstParallel() throws IOException, InterruptedException {
+    System.out.printf("%d images, %d ms latency%n", IMAGES, LATENCY_MS);
+    for (int parallelism : new int[] {1, 2, 4, 8}) {
+      MockWebServer server = new MockWebServer();
+      server.setDispatcher(new ParallelFetcherTest.ImageDispatcher(LATENCY_MS));
+      server.start();
+      ParallelFetcher<String> fetcher = new ParallelFetcher<>(new ParallelFetcherTest.HttpLoader(), parallelism);
+      try {
+        // Warm up the connections
+        fetcher.fetchAll(ParallelFetcherTest.createUrls(server, IMAGES, parallelism));
+
+        long start = System.nanoTime();
+        Map<String, String> results = fetcher.fetchAll(ParallelFetcherTest.createUrls(server, 0, IMAGES));
+        long elapsedMs = (System.nanoTime() - start) / 1000000;
+        assertEquals(IMAGES, results.size());
+        System.out.printf("parallelism %d: %5d ms%n", parallelism, elapsedMs);
+      } finally {
+        fetcher.shutdown();
+        server.shutdown();
+      }
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Loads images from a local stand-in for the Mapillary image host that answers every request after
+ * {@link #RESPONSE_DELAY_MS}.
+ */
+public class ParallelFetcherTest {
+
+  private static final long RESPONSE_DELAY_MS = 50;
+  private static final int PARALLELISM = 4;
+
+  private MockWebServer server;
+  private ImageDispatcher dispatcher;
+  private HttpLoader loader;
+
+  @Before
+  public void setUp() throws IOException {
+    dispatcher = new ImageDispatcher(RESPONSE_DELAY_MS);
+    server = new MockWebServer();
+    server.setDispatcher(dispatcher);
+    server.start();
+    loader = new HttpLoader();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void fetchAll_loadsEveryImageWithBoundedParallelism() throws InterruptedException {
+    ParallelFetcher<String> fetcher = new ParallelFetcher<>(loader, PARALLELISM);
+    Map<String, String> results = fetcher.fetchAll(createUrls(server, 0, 16));
+    fetcher.shutdown();
+
+    assertEquals(16, results.size());
+    assertEquals("image 7", results.get("key7"));
+    assertEquals(16, dispatcher.requestCount.get());
+    assertEquals(PARALLELISM, dispatcher.maxConcurrentRequests.get());
+  }
+
+  @Test
+  public void fetchAll_serialFetcherRequestsOneImageAtATime() throws InterruptedException {
+    ParallelFetcher<String> fetcher = new ParallelFetcher<>(loader, 1);
+    assertEquals(8, fetcher.fetchAll(createUrls(server, 0, 8)).size());
+    fetcher.shutdown();
+
+    assertEquals(1, dispatcher.maxConcurrentRequests.get());
+  }
+
+  @Test
+  public void fetchAll_sharesRequestsThatAreInFlight() throws InterruptedException {
+    final ParallelFetcher<String> fetcher = new ParallelFetcher<>(loader, PARALLELISM);
+    final AtomicReference<Map<String, String>> firstResults = new AtomicReference<>();
+    Thread first = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          firstResults.set(fetcher.fetchAll(createUrls(server, 0, 2)));
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    first.start();
+    while (dispatcher.requestCount.get() < 2) {
+      Thread.sleep(1);
+    }
+
+    // Both images of the first call are still on their way
+    Map<String, String> results = fetcher.fetchAll(createUrls(server, 0, 3));
+    first.join();
+    fetcher.shutdown();
+
+    assertEquals(3, results.size());
+    assertEquals(2, firstResults.get().size());
+    assertEquals(3, dispatcher.requestCount.get());
+  }
+
+  @Test
+  public void fetchAll_leavesOutImagesThatFailed() throws InterruptedException {
+    ParallelFetcher<String> fetcher = new ParallelFetcher<>(loader, PARALLELISM);
+    Map<String, String> urls = createUrls(server, 0, 3);
+    urls.put("missing", server.url("/missing.jpg").toString());
+    Map<String, String> results = fetcher.fetchAll(urls);
+    fetcher.shutdown();
+
+    assertEquals(3, results.size());
+    assertTrue(!results.containsKey("missing"));
+  }
+
+  @Test
+  public void shutdown_waitingCallReturnsAndLaterCallsLoadNothing() throws InterruptedException {
+    final ParallelFetcher<String> fetcher = new ParallelFetcher<>(loader, 1);
+    final AtomicReference<Map<String, String>> results = new AtomicReference<>();
+    Thread waiting = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          results.set(fetcher.fetchAll(createUrls(server, 0, 20)));
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    waiting.start();
+    while (dispatcher.requestCount.get() < 2) {
+      Thread.sleep(1);
+    }
+
+    fetcher.shutdown();
+    waiting.join(5000);
+
+    assertTrue(!waiting.isAlive());
+    assertTrue(results.get().size() < 20);
+    int requests = dispatcher.requestCount.get();
+    assertTrue(fetcher.fetchAll(createUrls(server, 20, 5)).isEmpty());
+    assertEquals(requests, dispatcher.requestCount.get());
+  }
+
+  static Map<String, String> createUrls(MockWebServer server, int first, int count) {
+    Map<String, String> urls = new LinkedHashMap<>();
+    for (int i = first; i < first + count; i++) {
+      urls.put("key" + i, server.url("/" + i + ".jpg").toString());
+    }
+    return urls;
+  }
+
+  /**
+   * Answers /{index}.jpg with "image {index}" and counts the requests in progress at once.
+   */
+  static class ImageDispatcher extends Dispatcher {
+
+    final AtomicInteger requestCount = new AtomicInteger();
+    final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final long delayMs;
+
+    ImageDispatcher(long delayMs) {
+      this.delayMs = delayMs;
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+      requestCount.incrementAndGet();
+      int concurrent = concurrentRequests.incrementAndGet();
+      try {
+        int max;
+        do {
+          max = maxConcurrentRequests.get();
+        } while (concurrent > max && !maxConcurrentRequests.compareAndSet(max, concurrent));
+        Thread.sleep(delayMs);
+
+        String name = request.getRequestUrl().pathSegments().get(0).replace(".jpg", "");
+        if (!name.matches("\\d+")) {
+          return new MockResponse().setResponseCode(404);
+        }
+        return new MockResponse().setBody("image " + name);
+      } finally {
+        concurrentRequests.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Downloads the body as a string, where ThumbnailFetcher uses Picasso to get a Bitmap.
+   */
+  static class HttpLoader implements ParallelFetcher.Loader<String> {
+
+    private final OkHttpClient client = new OkHttpClient();
+
+    @Override
+    public String load(@NonNull String key, @NonNull String url) throws IOException {
+      Response response = client.newCall(new Request.Builder().url(url).build()).execute();
+      try {
+        if (!response.isSuccessful()) {
+          throw new IOException("HTTP " + response.code() + " for " + url);
+        }
+        return response.body().string();
+      } finally {
+        response.close();
+      }
+    }
+  }
+}
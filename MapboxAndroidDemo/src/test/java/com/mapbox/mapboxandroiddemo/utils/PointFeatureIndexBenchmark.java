@@ -0,0 +1,72 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Point;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Compares {@link PointFeatureIndex} with TurfJoins.pointsWithinPolygon, from the Albuquerque
+ * asset up to a million synthetic points in the same area. Run with ./gradlew test -Pbenchmark.
+ */
+public class PointFeatureIndexBenchmark {
+
+  private static final int[] SYNTHETIC_SIZES = {10000, 100000, 1000000};
+  private static final int QUERIES = 21;
+
+  @BeforeClass
+  public static void onlyWhenAsked() {
+    assumeTrue(Boolean.getBoolean("benchmark"));
+  }
+
+  @Test
+  public void countWithin_comparedToTurf() throws IOException {
+    FeatureCollection locations = PointFeatureIndexTest.readAsset("albuquerque_locations.geojson");
+    double[] bounds = PointFeatureIndexTest.getBounds(locations);
+    Random random = new Random(6);
+    List<List<Point>> rings = new ArrayList<>();
+    for (int i = 0; i < QUERIES; i++) {
+      rings.add(PointFeatureIndexTest.createFreehandRing(random, bounds, false));
+    }
+
+    System.out.printf("%9s %10s %12s %12s%n", "points", "build ms", "Turf us", "index us");
+    run(locations, rings);
+    for (int size : SYNTHETIC_SIZES) {
+      run(PointFeatureIndexTest.createPoints(random, bounds, size), rings);
+    }
+  }
+
+  private static void run(FeatureCollection points, List<List<Point>> rings) {
+    long start = System.nanoTime();
+    PointFeatureIndex index = new PointFeatureIndex(points);
+    long buildNanos = System.nanoTime() - start;
+
+    long[] turfNanos = new long[rings.size()];
+    long[] indexNanos = new long[rings.size()];
+    for (int i = 0; i < rings.size(); i++) {
+      start = System.nanoTime();
+      int expected = PointFeatureIndexTest.pointsWithinPolygon(points, rings.get(i)).size();
+      turfNanos[i] = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      int count = index.countWithin(rings.get(i));
+      indexNanos[i] = System.nanoTime() - start;
+      assertEquals(expected, count);
+    }
+    // Medians, the first queries also warm up the JIT
+    Arrays.sort(turfNanos);
+    Arrays.sort(indexNanos);
+    System.out.printf("%9d %10d %12d %12d%n", index.size(), buildNanos / 1000000,
+      turfNanos[rings.size() / 2] / 1000, indexNanos[rings.size() / 2] / 1000);
+  }
+}
@@ -0,0 +1,173 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+import com.mapbox.turf.TurfJoins;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PointFeatureIndexTest {
+
+  private static FeatureCollection locations;
+
+  @BeforeClass
+  public static void loadLocations() throws IOException {
+    locations = readAsset("albuquerque_locations.geojson");
+  }
+
+  @Test
+  public void featuresWithin_matchesTurfForTheAsset() {
+    PointFeatureIndex index = new PointFeatureIndex(locations);
+    assertEquals(locations.features().size(), index.size());
+
+    double[] bounds = getBounds(locations);
+    Random random = new Random(6);
+    int found = 0;
+    for (int i = 0; i < 200; i++) {
+      List<Point> ring = createFreehandRing(random, bounds, random.nextBoolean());
+      List<Feature> expected = pointsWithinPolygon(locations, ring);
+      assertSameFeatures(expected, index.featuresWithin(ring));
+      assertEquals(expected.size(), index.countWithin(ring));
+      found += expected.size();
+    }
+    // The drawn areas aren't all empty
+    assertTrue(found > 200);
+  }
+
+  @Test
+  public void countWithin_matchesTurfForManyPoints() {
+    Random random = new Random(6);
+    double[] bounds = getBounds(locations);
+    FeatureCollection points = createPoints(random, bounds, 100000);
+    PointFeatureIndex index = new PointFeatureIndex(points);
+
+    for (int i = 0; i < 20; i++) {
+      List<Point> ring = createFreehandRing(random, bounds, false);
+      assertEquals(pointsWithinPolygon(points, ring).size(), index.countWithin(ring));
+    }
+  }
+
+  @Test
+  public void index_skipsFeaturesWithoutPointGeometry() {
+    List<Feature> features = new ArrayList<>();
+    features.add(Feature.fromGeometry(Point.fromLngLat(0.5, 0.5)));
+    features.add(Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0.2, 0.2), Point.fromLngLat(0.8, 0.8)))));
+    features.add(Feature.fromGeometry(null));
+    PointFeatureIndex index = new PointFeatureIndex(FeatureCollection.fromFeatures(features));
+
+    assertEquals(1, index.size());
+    List<Point> square = Arrays.asList(Point.fromLngLat(0, 0), Point.fromLngLat(1, 0),
+      Point.fromLngLat(1, 1), Point.fromLngLat(0, 1));
+    assertEquals(Collections.singletonList(features.get(0)), index.featuresWithin(square));
+  }
+
+  @Test
+  public void countWithin_nothingForRingsWithoutArea() {
+    PointFeatureIndex index = new PointFeatureIndex(locations);
+    Point point = ((Point) locations.features().get(0).geometry());
+
+    assertEquals(0, index.countWithin(Collections.<Point>emptyList()));
+    assertEquals(0, index.countWithin(Arrays.asList(point, point)));
+    assertEquals(0, new PointFeatureIndex(FeatureCollection.fromFeatures(new ArrayList<Feature>()))
+      .countWithin(createFreehandRing(new Random(6), getBounds(locations), false)));
+  }
+
+  static FeatureCollection readAsset(String name) throws IOException {
+    InputStream inputStream = new FileInputStream(new File("src/main/assets/" + name));
+    try {
+      return GeoJsonAssetLoader.readFeatureCollection(inputStream);
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  /**
+   * West, south, east and north of the points.
+   */
+  static double[] getBounds(FeatureCollection featureCollection) {
+    double[] bounds = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+      Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+    for (Feature feature : featureCollection.features()) {
+      Point point = (Point) feature.geometry();
+      bounds[0] = Math.min(bounds[0], point.longitude());
+      bounds[1] = Math.min(bounds[1], point.latitude());
+      bounds[2] = Math.max(bounds[2], point.longitude());
+      bounds[3] = Math.max(bounds[3], point.latitude());
+    }
+    return bounds;
+  }
+
+  static FeatureCollection createPoints(Random random, double[] bounds, int count) {
+    List<Feature> features = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      features.add(Feature.fromGeometry(Point.fromLngLat(
+        bounds[0] + random.nextDouble() * (bounds[2] - bounds[0]),
+        bounds[1] + random.nextDouble() * (bounds[3] - bounds[1]))));
+    }
+    return FeatureCollection.fromFeatures(features);
+  }
+
+  /**
+   * A wobbly loop like a finger draws it, around a random spot within the bounds. The loop isn't
+   * closed, like the touch points in FingerDrawQueryActivity, unless asked for.
+   */
+  static List<Point> createFreehandRing(Random random, double[] bounds, boolean closed) {
+    double centerX = bounds[0] + random.nextDouble() * (bounds[2] - bounds[0]);
+    double centerY = bounds[1] + random.nextDouble() * (bounds[3] - bounds[1]);
+    double radius = (0.05 + random.nextDouble() * 0.3) * Math.min(bounds[2] - bounds[0], bounds[3] - bounds[1]);
+    int count = 30 + random.nextInt(120);
+    List<Point> ring = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      double angle = 2 * Math.PI * i / count;
+      double wobble = radius * (0.6 + 0.4 * random.nextDouble());
+      ring.add(Point.fromLngLat(centerX + Math.cos(angle) * wobble, centerY + Math.sin(angle) * wobble));
+    }
+    if (closed) {
+      ring.add(ring.get(0));
+    }
+    return ring;
+  }
+
+  static List<Feature> pointsWithinPolygon(FeatureCollection points, List<Point> ring) {
+    Polygon polygon = Polygon.fromLngLats(Collections.singletonList(ring));
+    return TurfJoins.pointsWithinPolygon(points, FeatureCollection.fromFeature(Feature.fromGeometry(polygon)))
+      .features();
+  }
+
+  /**
+   * Compares the points, Turf returns copies of the features without their ids.
+   */
+  private static void assertSameFeatures(List<Feature> expected, List<Feature> actual) {
+    assertEquals(expected.size(), actual.size());
+    assertEquals(getGeometries(expected), getGeometries(actual));
+  }
+
+  private static Set<Geometry> getGeometries(List<Feature> features) {
+    Set<Geometry> geometries = new HashSet<>();
+    for (Feature feature : features) {
+      geometries.add(feature.geometry());
+    }
+    return geometries;
+  }
+}
@@ -0,0 +1,199 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Times {@link StateWeatherAggregator} on synthetic weather records. Run with ./gradlew test -Pbenchmark.
+ */
+public class StateWeatherAggregatorBenchmark {
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final int STATES = 50;
+
+  @BeforeClass
+  public static void onlyWhenAsked() {
+    assumeTrue(Boolean.getBoolean("benchmark"));
+  }
+
+  /**
+   * Compares the aggregator with the loop ExpressionIntegrationActivity used before, which searched
+   * the list of states for every record and rebuilt the state's bounds from all of its points. That
+   * loop grows with the square of the records per state, so it's only timed on smaller inputs; the
+   * aggregator also runs on a million records. Parsing alone is timed too, as both of them stream
+   * the same parser.
+   */
+  @Test
+  public void aggregate_timingComparedToTheLinearScan() throws IOException {
+    for (int count : new int[] {10000, 20000, 40000}) {
+      long parseNanos = 0;
+      long scanNanos = 0;
+      long aggregateNanos = 0;
+      for (int run = 0; run < 2; run++) {
+        // The first run warms up the JIT, only the second one is measured
+        long start = System.nanoTime();
+        parse(new SyntheticWeatherStream(count));
+        parseNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<LinearScanState> states = linearScan(new SyntheticWeatherStream(count));
+        scanNanos = System.nanoTime() - start;
+        assertEquals(STATES, states.size());
+
+        start = System.nanoTime();
+        StateWeatherAggregator.StateAggregates aggregates = StateWeatherAggregator.aggregate(
+          new SyntheticWeatherStream(count), null);
+        aggregateNanos = System.nanoTime() - start;
+        assertEquals(STATES, aggregates.getStateCount());
+      }
+      System.out.printf("%7d records: parsing %5d ms, linear scan %5d ms, aggregator %5d ms%n",
+        count, parseNanos / 1000000, scanNanos / 1000000, aggregateNanos / 1000000);
+    }
+
+    int count = 1000000;
+    long start = System.nanoTime();
+    parse(new SyntheticWeatherStream(count));
+    long parseNanos = System.nanoTime() - start;
+    start = System.nanoTime();
+    StateWeatherAggregator.StateAggregates aggregates = StateWeatherAggregator.aggregate(
+      new SyntheticWeatherStream(count), null);
+    System.out.printf("%7d records: parsing %5d ms, aggregator %5d ms%n",
+      count, parseNanos / 1000000, (System.nanoTime() - start) / 1000000);
+    assertEquals(STATES, aggregates.getStateCount());
+  }
+
+  private static void parse(InputStream inputStream) throws IOException {
+    GeoJsonAssetLoader.streamFeatures(inputStream, new GeoJsonAssetLoader.FeatureVisitor() {
+      @Override
+      public void onFeature(@NonNull Feature feature) {
+      }
+    });
+  }
+
+  /**
+   * The state list ExpressionIntegrationActivity built before the aggregator.
+   */
+  private static List<LinearScanState> linearScan(InputStream inputStream) throws IOException {
+    final List<LinearScanState> states = new ArrayList<>();
+    GeoJsonAssetLoader.streamFeatures(inputStream, new GeoJsonAssetLoader.FeatureVisitor() {
+      @Override
+      public void onFeature(@NonNull Feature feature) {
+        String stateName = feature.getStringProperty("state");
+        LatLng latLng = new LatLng(Double.parseDouble(feature.getStringProperty("latitude")),
+          Double.parseDouble(feature.getStringProperty("longitude")));
+        LinearScanState state = null;
+        for (LinearScanState curState : states) {
+          if (curState.name.equals(stateName)) {
+            state = curState;
+            break;
+          }
+        }
+        if (state == null) {
+          states.add(new LinearScanState(stateName, latLng));
+        } else {
+          state.add(latLng);
+        }
+      }
+    });
+    return states;
+  }
+
+  private static class LinearScanState {
+
+    final String name;
+    final List<LatLng> latLngs = new ArrayList<>();
+    LatLngBounds bounds;
+
+    LinearScanState(String name, LatLng latLng) {
+      this.name = name;
+      latLngs.add(latLng);
+      bounds = LatLngBounds.from(latLng.getLatitude(), latLng.getLongitude(), latLng.getLatitude(),
+        latLng.getLongitude());
+    }
+
+    void add(LatLng latLng) {
+      latLngs.add(latLng);
+      bounds = new LatLngBounds.Builder().includes(latLngs).build();
+    }
+  }
+
+  /**
+   * Writes a FeatureCollection of weather records while it's read, so a million of them don't have
+   * to be held in memory.
+   */
+  private static class SyntheticWeatherStream extends InputStream {
+
+    private final int count;
+    private final Random random = new Random(25);
+    private byte[] buffer = "{\"type\":\"FeatureCollection\",\"features\":[".getBytes(UTF_8);
+    private int position;
+    private int written;
+
+    SyntheticWeatherStream(int count) {
+      this.count = count;
+    }
+
+    @Override
+    public int read() {
+      if (!fill()) {
+        return -1;
+      }
+      return buffer[position++] & 0xff;
+    }
+
+    @Override
+    public int read(@NonNull byte[] bytes, int offset, int length) {
+      if (!fill()) {
+        return -1;
+      }
+      int read = Math.min(length, buffer.length - position);
+      System.arraycopy(buffer, position, bytes, offset, read);
+      position += read;
+      return read;
+    }
+
+    private boolean fill() {
+      if (position < buffer.length) {
+        return true;
+      }
+      if (written > count) {
+        return false;
+      }
+      position = 0;
+      if (written == count) {
+        buffer = "]}".getBytes(UTF_8);
+      } else {
+        double longitude = -125 + random.nextDouble() * 58;
+        double latitude = 25 + random.nextDouble() * 24;
+        buffer = new StringBuilder(256)
+          .append(written > 0 ? "," : "")
+          .append("{\"type\":\"Feature\",\"properties\":{\"state\":\"State ").append(written % STATES)
+          .append("\",\"element\":\"All-Time ").append(random.nextBoolean() ? "Maximum" : "Minimum")
+          .append(" Temperature\",\"value\":\"").append(random.nextInt(180) - 70)
+          .append("\",\"latitude\":\"").append(latitude)
+          .append("\",\"longitude\":\"").append(longitude)
+          .append("\"},\"geometry\":{\"type\":\"Point\",\"coordinates\":[").append(longitude)
+          .append(',').append(latitude).append("]}}")
+          .toString().getBytes(UTF_8);
+      }
+      written++;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.google.gson.JsonObject;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class StateWeatherAggregatorTest {
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final int STATES = 50;
+  private static final double DELTA = 1e-9;
+
+  @Test
+  public void add_skipsRecordsWithoutStateLocationOrTemperature() {
+    StateWeatherAggregator.StateAggregates aggregates = new StateWeatherAggregator.StateAggregates();
+    aggregates.add(record(null, "All-Time Maximum Temperature", "100", Point.fromLngLat(1, 1)));
+    aggregates.add(record("Alaska", "All-Time Greatest Snowfall", "78", null));
+    aggregates.add(record("Alaska", "All-Time Maximum Temperature", "N/A", null));
+
+    assertEquals(1, aggregates.getStateCount());
+    assertEquals(0, aggregates.indexOf("Alaska"));
+    assertEquals(-1, aggregates.indexOf("Alabama"));
+    assertEquals(-1, aggregates.indexOf(null));
+    assertNull(aggregates.getBounds(0));
+    assertTrue(Double.isNaN(aggregates.getMinTemperature(0)));
+    assertTrue(Double.isNaN(aggregates.getMaxTemperature(0)));
+    assertTrue(Double.isNaN(aggregates.getMeanTemperature(0)));
+  }
+
+  @Test
+  public void add_readsLocationFromPropertiesWithoutGeometry() {
+    StateWeatherAggregator.StateAggregates aggregates = new StateWeatherAggregator.StateAggregates();
+    Feature feature = record("Ohio", "All-Time Minimum Temperature", "-39", null);
+    feature.addStringProperty("latitude", "39.5");
+    feature.addStringProperty("longitude", "-82.25");
+    aggregates.add(feature);
+    aggregates.add(record("Ohio", "All-Time Maximum Temperature", "113", Point.fromLngLat(-84, 41)));
+
+    LatLngBounds bounds = aggregates.getBounds(aggregates.indexOf("Ohio"));
+    assertEquals(41, bounds.getLatNorth(), DELTA);
+    assertEquals(39.5, bounds.getLatSouth(), DELTA);
+    assertEquals(-82.25, bounds.getLonEast(), DELTA);
+    assertEquals(-84, bounds.getLonWest(), DELTA);
+    assertEquals(-39, aggregates.getMinTemperature(0), DELTA);
+    assertEquals(113, aggregates.getMaxTemperature(0), DELTA);
+    assertEquals(37, aggregates.getMeanTemperature(0), DELTA);
+  }
+
+  @Test
+  public void merge_sameAsAddingEveryRecordToOneAggregate() {
+    List<Feature> features = new ArrayList<>();
+    Random random = new Random(25);
+    for (int i = 0; i < 3000; i++) {
+      features.add(randomRecord(random));
+    }
+
+    StateWeatherAggregator.StateAggregates expected = new StateWeatherAggregator.StateAggregates();
+    for (Feature feature : features) {
+      expected.add(feature);
+    }
+    // Chunks of different sizes, states show up in a different order in every chunk
+    StateWeatherAggregator.StateAggregates merged = new StateWeatherAggregator.StateAggregates();
+    int start = 0;
+    for (int size : new int[] {1, 7, 500, 92, 2000, 400}) {
+      StateWeatherAggregator.StateAggregates chunk = new StateWeatherAggregator.StateAggregates();
+      for (Feature feature : features.subList(start, start + size)) {
+        chunk.add(feature);
+      }
+      merged.merge(chunk);
+      start += size;
+    }
+    assertEquals(features.size(), start);
+
+    assertAggregatesEqual(expected, merged);
+  }
+
+  @Test
+  public void aggregate_matchesPlainLoopOverTheParsedFile() throws IOException {
+    // Enough features for several chunks on the thread pool
+    Random random = new Random(25);
+    StringBuilder json = new StringBuilder("{\"type\":\"FeatureCollection\",\"features\":[");
+    int count = 20000;
+    for (int i = 0; i < count; i++) {
+      json.append(i > 0 ? "," : "").append(randomRecord(random).toJson());
+    }
+    json.append("]}");
+
+    List<Feature> features = new ArrayList<>();
+    StateWeatherAggregator.StateAggregates aggregates = StateWeatherAggregator.aggregate(
+      new ByteArrayInputStream(json.toString().getBytes(UTF_8)), features);
+    assertEquals(count, features.size());
+
+    Map<String, double[]> expected = sumUp(features);
+    assertEquals(expected.size(), aggregates.getStateCount());
+    int slot = 0;
+    for (Map.Entry<String, double[]> entry : expected.entrySet()) {
+      double[] state = entry.getValue();
+      assertEquals(entry.getKey(), aggregates.getName(slot));
+      assertEquals(slot, aggregates.indexOf(entry.getKey()));
+      LatLngBounds bounds = aggregates.getBounds(slot);
+      assertEquals(state[0], bounds.getLonWest(), DELTA);
+      assertEquals(state[1], bounds.getLatSouth(), DELTA);
+      assertEquals(state[2], bounds.getLonEast(), DELTA);
+      assertEquals(state[3], bounds.getLatNorth(), DELTA);
+      assertEquals(state[4], aggregates.getMinTemperature(slot), DELTA);
+      assertEquals(state[5], aggregates.getMaxTemperature(slot), DELTA);
+      assertEquals(state[6] / state[7], aggregates.getMeanTemperature(slot), DELTA);
+      slot++;
+    }
+  }
+
+  @Test
+  public void aggregate_weatherAsset() throws IOException {
+    InputStream inputStream = new FileInputStream(new File(
+      "src/main/assets/weather_data_per_state_before2006.geojson"));
+    StateWeatherAggregator.StateAggregates aggregates;
+    try {
+      aggregates = StateWeatherAggregator.aggregate(inputStream, null);
+    } finally {
+      inputStream.close();
+    }
+
+    assertEquals(52, aggregates.getStateCount());
+    assertEquals("Alabama", aggregates.getName(0));
+    // Seven records, four of them temperatures
+    int slot = aggregates.indexOf("Connecticut");
+    LatLngBounds bounds = aggregates.getBounds(slot);
+    assertEquals(-73.4167, bounds.getLonWest(), DELTA);
+    assertEquals(41.3491, bounds.getLatSouth(), DELTA);
+    assertEquals(-72.35, bounds.getLonEast(), DELTA);
+    assertEquals(41.9725, bounds.getLatNorth(), DELTA);
+    assertEquals(-32, aggregates.getMinTemperature(slot), DELTA);
+    assertEquals(106, aggregates.getMaxTemperature(slot), DELTA);
+    assertEquals(37, aggregates.getMeanTemperature(slot), DELTA);
+  }
+
+  private static Feature record(String state, String element, String value, Point point) {
+    JsonObject properties = new JsonObject();
+    if (state != null) {
+      properties.addProperty("state", state);
+    }
+    properties.addProperty("element", element);
+    properties.addProperty("value", value);
+    return Feature.fromGeometry(point, properties);
+  }
+
+  private static Feature randomRecord(Random random) {
+    String state = "State " + random.nextInt(STATES);
+    String element = random.nextInt(3) == 0 ? "All-Time Greatest Snowfall"
+      : random.nextBoolean() ? "All-Time Maximum Temperature" : "All-Time Minimum Temperature";
+    String value = random.nextInt(20) == 0 ? "N/A" : String.valueOf(random.nextInt(180) - 70);
+    double longitude = -125 + random.nextDouble() * 58;
+    double latitude = 25 + random.nextDouble() * 24;
+    switch (random.nextInt(4)) {
+      case 0:
+        // No location at all
+        return record(state, element, value, null);
+      case 1:
+        Feature feature = record(state, element, value, null);
+        feature.addStringProperty("latitude", String.valueOf(latitude));
+        feature.addStringProperty("longitude", String.valueOf(longitude));
+        return feature;
+      default:
+        return record(state, element, value, Point.fromLngLat(longitude, latitude));
+    }
+  }
+
+  /**
+   * West, south, east, north, min, max, sum and count of every state, in the order they first appear.
+   */
+  private static Map<String, double[]> sumUp(List<Feature> features) {
+    Map<String, double[]> states = new LinkedHashMap<>();
+    for (Feature feature : features) {
+      String name = feature.getStringProperty("state");
+      double[] state = states.get(name);
+      if (state == null) {
+        state = new double[] {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+          Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0, 0};
+        states.put(name, state);
+      }
+      Point point = (Point) feature.geometry();
+      if (point == null && feature.hasProperty("latitude")) {
+        point = Point.fromLngLat(Double.parseDouble(feature.getStringProperty("longitude")),
+          Double.parseDouble(feature.getStringProperty("latitude")));
+      }
+      if (point != null) {
+        state[0] = Math.min(state[0], point.longitude());
+        state[1] = Math.min(state[1], point.latitude());
+        state[2] = Math.max(state[2], point.longitude());
+        state[3] = Math.max(state[3], point.latitude());
+      }
+      String value = feature.getStringProperty("value");
+      if (feature.getStringProperty("element").contains("Temperature") && !value.equals("N/A")) {
+        double temperature = Double.parseDouble(value);
+        state[4] = Math.min(state[4], temperature);
+        state[5] = Math.max(state[5], temperature);
+        state[6] += temperature;
+        state[7]++;
+      }
+    }
+    return states;
+  }
+
+  private static void assertAggregatesEqual(StateWeatherAggregator.StateAggregates expected,
+                                            StateWeatherAggregator.StateAggregates actual) {
+    assertEquals(expected.getStateCount(), actual.getStateCount());
+    for (int slot = 0; slot < expected.getStateCount(); slot++) {
+      assertEquals(expected.getName(slot), actual.getName(slot));
+      assertEquals(expected.getBounds(slot), actual.getBounds(slot));
+      assertEquals(expected.getMinTemperature(slot), actual.getMinTemperature(slot), DELTA);
+      assertEquals(expected.getMaxTemperature(slot), actual.getMaxTemperature(slot), DELTA);
+      assertEquals(expected.getMeanTemperature(slot), actual.getMeanTemperature(slot), DELTA);
+    }
+  }
+}
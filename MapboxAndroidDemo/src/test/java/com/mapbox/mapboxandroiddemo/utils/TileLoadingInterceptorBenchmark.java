@@ -0,0 +1,175 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.google.gson.Gson;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures what {@link TileLoadingInterceptor} adds to every tile request, in time and allocated
+ * bytes, against the same client without it. For comparison it also measures the JSON work the
+ * interceptor used to do for every response. That doesn't include the Bundle, the connectivity
+ * lookup and the telemetry call, which need a device. The tiles are answered by an interceptor
+ * instead of a server, so only the client's own work is measured. Run with
+ * ./gradlew test -Pbenchmark.
+ */
+public class TileLoadingInterceptorBenchmark {
+
+  private static final int ROUNDS = 7;
+  private static final int REQUESTS_PER_ROUND = 100000;
+  private static final String[] SOURCES = {
+    "https://api.mapbox.com/v4/mapbox.satellite/%d/%d/%d@2x.webp",
+    "https://api.mapbox.com/v4/mapbox.mapbox-streets-v8,mapbox.mapbox-terrain-v2/%d/%d/%d.vector.pbf",
+    "https://api.mapbox.com/styles/v1/mapbox/streets-v11/tiles/%d/%d/%d",
+    "https://a.tiles.mapbox.com/v4/mapbox.mapbox-traffic-v1/%d/%d/%d.vector.pbf"
+  };
+
+  @BeforeClass
+  public static void onlyWhenAsked() {
+    assumeTrue(Boolean.getBoolean("benchmark"));
+  }
+
+  @Test
+  public void intercept_overheadPerRequest() throws IOException {
+    Request[] requests = new Request[1024];
+    for (int i = 0; i < requests.length; i++) {
+      requests[i] = new Request.Builder()
+        .url(String.format(SOURCES[i % SOURCES.length], 14, 4823 + i % 37, 6160 + i / 37))
+        .build();
+    }
+
+    OkHttpClient baseline = createClient(null);
+    OkHttpClient histograms = createClient(new TileLoadingInterceptor());
+    OkHttpClient perRequestEvents = createClient(new PerRequestEventInterceptor());
+
+    System.out.printf("%-22s %12s %14s%n", "", "ns/request", "bytes/request");
+    long[] base = measure(baseline, requests);
+    print("without interceptor", base, null);
+    print("histograms", measure(histograms, requests), base);
+    print("JSON per response", measure(perRequestEvents, requests), base);
+
+    assertTrue(TileLoadingInterceptor.getResponseCount("api.mapbox.com", 200) > 0);
+    System.out.printf("api.mapbox.com/v4/mapbox.satellite p50 %d us%n", TileLoadingInterceptor.getLatencyPercentile(
+      "api.mapbox.com/v4/mapbox.satellite", 50, TimeUnit.MICROSECONDS));
+  }
+
+  /**
+   * @return the median time and allocated bytes of a request over all rounds, after warming up
+   */
+  private static long[] measure(OkHttpClient client, Request[] requests) throws IOException {
+    run(client, requests, REQUESTS_PER_ROUND);
+    long[] nanos = new long[ROUNDS];
+    long[] bytes = new long[ROUNDS];
+    for (int round = 0; round < ROUNDS; round++) {
+      long allocatedBefore = getAllocatedBytes();
+      long start = System.nanoTime();
+      run(client, requests, REQUESTS_PER_ROUND);
+      nanos[round] = (System.nanoTime() - start) / REQUESTS_PER_ROUND;
+      bytes[round] = (getAllocatedBytes() - allocatedBefore) / REQUESTS_PER_ROUND;
+    }
+    Arrays.sort(nanos);
+    Arrays.sort(bytes);
+    return new long[] {nanos[ROUNDS / 2], bytes[ROUNDS / 2]};
+  }
+
+  private static void run(OkHttpClient client, Request[] requests, int count) throws IOException {
+    for (int i = 0; i < count; i++) {
+      client.newCall(requests[i % requests.length]).execute().close();
+    }
+  }
+
+  private static void print(String label, long[] result, long[] base) {
+    if (base == null) {
+      System.out.printf("%-22s %12d %14d%n", label, result[0], result[1]);
+    } else {
+      System.out.printf("%-22s %+12d %+14d%n", label, result[0] - base[0], result[1] - base[1]);
+    }
+  }
+
+  private static OkHttpClient createClient(Interceptor metrics) {
+    OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    if (metrics != null) {
+      builder.addInterceptor(metrics);
+    }
+    return builder.addInterceptor(new TileServer()).build();
+  }
+
+  private static long getAllocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+      .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Answers every request with the same small tile, without going to the network.
+   */
+  private static class TileServer implements Interceptor {
+
+    private static final MediaType WEBP = MediaType.parse("image/webp");
+    private static final byte[] TILE = new byte[64];
+
+    @Override
+    public Response intercept(Chain chain) {
+      return new Response.Builder()
+        .request(chain.request())
+        .protocol(Protocol.HTTP_2)
+        .code(200)
+        .message("OK")
+        .body(ResponseBody.create(WEBP, TILE))
+        .build();
+    }
+  }
+
+  /**
+   * The attribute and counter lists the interceptor used to turn into JSON for every response.
+   */
+  private static class PerRequestEventInterceptor implements Interceptor {
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+      Request request = chain.request();
+      long elapsed = System.nanoTime();
+      Response response = chain.proceed(request);
+      elapsed = System.nanoTime() - elapsed;
+
+      List<Attribute<String>> attributes = new ArrayList<>();
+      attributes.add(new Attribute<>("requestUrl", request.url().toString()));
+      attributes.add(new Attribute<>("responseCode", String.valueOf(response.code())));
+      attributes.add(new Attribute<>("connectionState", "wifi"));
+      List<Attribute<Long>> counters = new ArrayList<>();
+      counters.add(new Attribute<>("elapsedMS", elapsed / 1000000));
+      Gson gson = new Gson();
+      if (gson.toJson(attributes).isEmpty() || gson.toJson(counters).isEmpty()) {
+        throw new IllegalStateException();
+      }
+      return response;
+    }
+  }
+
+  private static class Attribute<T> {
+    private String name;
+    private T value;
+
+    Attribute(String name, T value) {
+      this.name = name;
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package com.mapbox.mapboxandroiddemo.utils;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TrailLineBuilderTest {
+
+  private static final double TOLERANCE = 0.00001;
+  private static final int THRESHOLD = 256;
+  private static final int RECENT_POINTS_KEPT = 32;
+
+  @Test
+  public void thinning_collapsesStraightLine() {
+    TrailLineBuilder builder = new TrailLineBuilder(TOLERANCE, THRESHOLD, 0);
+    for (int i = 0; i < 10000; i++) {
+      builder.add(i * 0.0001, i * 0.00005);
+    }
+
+    assertTrue("size " + builder.size(), builder.size() < THRESHOLD + 2);
+    List<Point> line = builder.toLineString().coordinates();
+    assertEquals(0, line.get(0).longitude(), 0);
+    assertEquals(9999 * 0.0001, line.get(line.size() - 1).longitude(), 0);
+  }
+
+  @Test
+  public void thinning_keepsRecentPointsAndStaysNearTheOriginalPath() {
+    TrailLineBuilder builder = new TrailLineBuilder(TOLERANCE, THRESHOLD, 0);
+    Random random = new Random(7);
+    List<Point> original = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      Point point = Point.fromLngLat(i * 0.00002 + random.nextGaussian() * TOLERANCE / 4,
+        Math.sin(i / 200.0) * 0.001 + random.nextGaussian() * TOLERANCE / 4);
+      original.add(point);
+      builder.add(point);
+    }
+
+    List<Point> line = builder.toLineString().coordinates();
+    assertTrue("size " + line.size(), line.size() < original.size() / 2);
+    for (int i = 1; i <= RECENT_POINTS_KEPT; i++) {
+      assertEquals(original.get(original.size() - i), line.get(line.size() - i));
+    }
+    assertWithinTolerance(original, line);
+  }
+
+  /**
+   * Adds a driving route the way SnakingDirectionsRouteActivity does, one step's points at a time,
+   * and checks the drawn line against every point of the route.
+   */
+  @Test
+  public void thinning_routeStaysWithinTheTolerance() throws IOException {
+    List<Point> route = loadMarathonRoute();
+    TrailLineBuilder builder = new TrailLineBuilder(TOLERANCE, THRESHOLD, 0);
+    for (int start = 0; start < route.size(); start += 40) {
+      builder.addAll(route.subList(start, Math.min(route.size(), start + 40)));
+    }
+    assertWithinTolerance(route, builder.toLineString().coordinates());
+    assertTrue("size " + builder.size(), builder.size() < route.size() / 2);
+  }
+
+  @Test
+  public void takeUpdate_clearPublishesAnEmptyCollectionOnce() {
+    TrailLineBuilder builder = new TrailLineBuilder(TOLERANCE, THRESHOLD, 0);
+    builder.clear();
+    assertNull(builder.takeUpdate());
+
+    builder.add(0, 0);
+    assertNull(builder.takeUpdate());
+    builder.add(1, 1);
+    assertSame(builder.toLineString(), builder.takeUpdate());
+    assertNull(builder.takeUpdate());
+
+    builder.clear();
+    FeatureCollection cleared = (FeatureCollection) builder.takeUpdate();
+    assertTrue(cleared.features().isEmpty());
+    assertNull(builder.takeUpdate());
+    builder.clear();
+    assertNull(builder.takeUpdate());
+  }
+
+  @Test
+  public void toLineString_reusesLineUntilItChanges() {
+    TrailLineBuilder builder = new TrailLineBuilder(TOLERANCE, THRESHOLD, 0);
+    builder.add(0, 0);
+    builder.add(1, 1);
+    LineString first = builder.toLineString();
+    assertSame(first, builder.toLineString());
+
+    builder.add(2, 0);
+    LineString second = builder.toLineString();
+    assertNotSame(first, second);
+    assertEquals(2, first.coordinates().size());
+    assertEquals(3, second.coordinates().size());
+  }
+
+  @Test
+  public void toLineString_handedOutLinesDontChange() {
+    TrailLineBuilder builder = new TrailLineBuilder(TOLERANCE, THRESHOLD, 0);
+    builder.add(0, 0);
+    builder.add(1, 0);
+    LineString beforeClear = builder.toLineString();
+    String beforeClearJson = beforeClear.toJson();
+
+    builder.clear();
+    builder.add(5, 5);
+    builder.add(6, 6);
+    assertEquals(beforeClearJson, beforeClear.toJson());
+
+    LineString beforeThinning = builder.toLineString();
+    String beforeThinningJson = beforeThinning.toJson();
+    for (int i = 0; i < THRESHOLD * 2; i++) {
+      builder.add(7 + i * 0.001, 7);
+    }
+    builder.toLineString();
+    assertEquals(beforeThinningJson, beforeThinning.toJson());
+  }
+
+  /**
+   * Replays the marathon route at 60 Hz, adding one point and building the line every frame, and
+   * checks that the allocations per frame don't grow with the length of the trail.
+   */
+  @Test
+  public void replayMarathonRoute_allocationsPerFrameDontGrowWithTheTrail() throws IOException {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    Assume.assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+    long threadId = Thread.currentThread().getId();
+
+    List<Point> route = loadMarathonRoute();
+    int frames = route.size();
+    long[] bytesPerQuarter = new long[4];
+    for (int run = 0; run < 2; run++) {
+      // The first run warms up the JIT, only the second one is measured
+      TrailLineBuilder builder = new TrailLineBuilder(TOLERANCE, THRESHOLD, 0);
+      for (int frame = 0; frame < frames; frame++) {
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        builder.add(route.get(frame));
+        builder.toLineString();
+        if (run == 1) {
+          bytesPerQuarter[frame * 4 / frames] += allocationBean.getThreadAllocatedBytes(threadId) - before;
+        }
+      }
+    }
+
+    long firstQuarter = bytesPerQuarter[0] / (frames / 4);
+    long lastQuarter = bytesPerQuarter[3] / (frames / 4);
+    assertTrue("last quarter " + lastQuarter + " bytes per frame", lastQuarter < firstQuarter * 2 + 512);
+  }
+
+  private static List<Point> loadMarathonRoute() throws IOException {
+    InputStream inputStream = new FileInputStream(new File("src/main/assets/marathon_route.geojson"));
+    FeatureCollection featureCollection;
+    try {
+      featureCollection = GeoJsonAssetLoader.readFeatureCollection(inputStream);
+    } finally {
+      inputStream.close();
+    }
+    // The route is made of small polygons, their first corners trace the course
+    List<Point> route = new ArrayList<>();
+    for (Feature feature : featureCollection.features()) {
+      route.add(((Polygon) feature.geometry()).coordinates().get(0).get(0));
+    }
+    return route;
+  }
+
+  private static void assertWithinTolerance(List<Point> original, List<Point> line) {
+    for (Point point : original) {
+      double distance = getDistance(point, line);
+      // Allow for the rounding in the distance itself
+      assertTrue(point.toJson() + " is " + distance + " away", distance <= TOLERANCE * (1 + 1e-9));
+    }
+  }
+
+  private static double getDistance(Point point, List<Point> line) {
+    double minDistance = Double.MAX_VALUE;
+    for (int i = 0; i < line.size() - 1; i++) {
+      Point start = line.get(i);
+      Point end = line.get(i + 1);
+      double dx = end.longitude() - start.longitude();
+      double dy = end.latitude() - start.latitude();
+      double t = 0;
+      if (dx != 0 || dy != 0) {
+        t = ((point.longitude() - start.longitude()) * dx + (point.latitude() - start.latitude()) * dy)
+          / (dx * dx + dy * dy);
+        t = Math.max(0, Math.min(1, t));
+      }
+      minDistance = Math.min(minDistance, Math.hypot(start.longitude() + dx * t - point.longitude(),
+        start.latitude() + dy * t - point.latitude()));
+    }
+    return minDistance;
+  }
+}
@@ -0,0 +1,93 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * An analytics call that's waiting to be handed to Segment. Properties are kept as a flat array of
+ * keys and values, the map that Segment wants is only built on the background thread.
+ */
+final class AnalyticsEvent {
+
+  static final int TYPE_TRACK = 0;
+  static final int TYPE_SCREEN = 1;
+  static final int TYPE_IDENTIFY = 2;
+
+  private static final String[] NO_PROPERTIES = new String[0];
+
+  final int type;
+  @Nullable
+  final String name;
+  @Nullable
+  final String userId;
+
+  // Alternating keys and values, properties for tracks and traits for identify calls
+  @NonNull
+  final String[] properties;
+
+  // Whether the device properties should be added to the properties
+  final boolean includeDeviceProperties;
+
+  // Low priority events are dropped first when the queue fills up
+  final boolean lowPriority;
+
+  // AnalyticsQueue.now() when the event was queued, only used to decide when to flush
+  final long queuedAtMillis;
+
+  AnalyticsEvent(int type, @Nullable String name, @Nullable String userId, @Nullable String[] properties,
+                 boolean includeDeviceProperties, boolean lowPriority, long queuedAtMillis) {
+    this.type = type;
+    this.name = name;
+    this.userId = userId;
+    this.properties = properties != null ? properties : NO_PROPERTIES;
+    this.includeDeviceProperties = includeDeviceProperties;
+    this.lowPriority = lowPriority;
+    this.queuedAtMillis = queuedAtMillis;
+  }
+
+  void writeTo(@NonNull DataOutputStream output) throws IOException {
+    output.writeByte(type);
+    writeNullableString(output, name);
+    writeNullableString(output, userId);
+    output.writeBoolean(includeDeviceProperties);
+    output.writeBoolean(lowPriority);
+    output.writeShort(properties.length);
+    for (String property : properties) {
+      output.writeUTF(property);
+    }
+  }
+
+  /**
+   * Reads an event written by {@link #writeTo(DataOutputStream)}. Events read back from disk count
+   * as queued at the given time.
+   */
+  @NonNull
+  static AnalyticsEvent readFrom(@NonNull DataInputStream input, long queuedAtMillis) throws IOException {
+    int type = input.readByte();
+    String name = readNullableString(input);
+    String userId = readNullableString(input);
+    boolean includeDeviceProperties = input.readBoolean();
+    boolean lowPriority = input.readBoolean();
+    String[] properties = new String[input.readShort()];
+    for (int i = 0; i < properties.length; i++) {
+      properties[i] = input.readUTF();
+    }
+    return new AnalyticsEvent(type, name, userId, properties, includeDeviceProperties, lowPriority,
+      queuedAtMillis);
+  }
+
+  private static void writeNullableString(DataOutputStream output, String value) throws IOException {
+    output.writeBoolean(value != null);
+    if (value != null) {
+      output.writeUTF(value);
+    }
+  }
+
+  private static String readNullableString(DataInputStream input) throws IOException {
+    return input.readBoolean() ? input.readUTF() : null;
+  }
+}
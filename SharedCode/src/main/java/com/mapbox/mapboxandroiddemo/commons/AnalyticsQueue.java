@@ -0,0 +1,301 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind queue between the UI and Segment.
+ * <p>
+ * Queueing an event only puts it into a lock-free ring buffer. A background thread moves the
+ * events into an append-only spill file, so that they survive the process being killed, and hands
+ * them to the sink in batches once there are {@value #BATCH_SIZE} of them or the oldest one waited
+ * for {@value #MAX_BATCH_AGE_MS} ms. The spill file is only emptied once the sink confirmed that a
+ * batch was delivered. When it fails, the batch is kept and tried again after a growing delay,
+ * together with the events queued in the meantime. Events left in the spill file are sent on the
+ * next start.
+ * </p>
+ * <p>
+ * When the buffer fills up, low priority events like screen views are dropped, while the last few
+ * slots are kept for the rare high priority ones. While the sink keeps failing, at most
+ * {@value #MAX_PENDING} events are kept, the oldest low priority ones are dropped first.
+ * </p>
+ */
+final class AnalyticsQueue {
+
+  private static final String TAG = "AnalyticsQueue";
+
+  static final int CAPACITY = 256;
+  private static final int HIGH_PRIORITY_RESERVE = 32;
+  static final int BATCH_SIZE = 20;
+  static final long MAX_BATCH_AGE_MS = 15000;
+  static final long INITIAL_RETRY_DELAY_MS = 1000;
+  private static final long MAX_RETRY_DELAY_MS = TimeUnit.MINUTES.toMillis(5);
+  static final int MAX_PENDING = 1000;
+  // Trimmed below the cap, so the spill file isn't rewritten for every event that's queued
+  private static final int TRIMMED_PENDING = MAX_PENDING * 3 / 4;
+
+  /**
+   * Receives the events on the background thread, in the order they were queued.
+   */
+  interface Sink {
+
+    /**
+     * Returns once the batch was delivered.
+     *
+     * @throws RuntimeException if the batch couldn't be delivered, it's then sent again later
+     */
+    void send(@NonNull List<AnalyticsEvent> batch);
+  }
+
+  private final EventRingBuffer buffer = new EventRingBuffer(CAPACITY);
+  private final AtomicInteger droppedCount = new AtomicInteger();
+  private final File spillFile;
+  private final Sink sink;
+  private final Thread flusher;
+  private volatile boolean closed;
+
+  AnalyticsQueue(@NonNull File spillFile, @NonNull Sink sink) {
+    this.spillFile = spillFile;
+    this.sink = sink;
+    flusher = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        runFlusher();
+      }
+    }, "AnalyticsFlusher");
+    flusher.setDaemon(true);
+    flusher.setPriority(Thread.MIN_PRIORITY);
+    flusher.start();
+  }
+
+  /**
+   * Queues an event without blocking. Can be called from any thread.
+   *
+   * @return false if the queue was full and the event was dropped
+   */
+  boolean offer(@NonNull AnalyticsEvent event) {
+    int limit = event.lowPriority ? CAPACITY - HIGH_PRIORITY_RESERVE : CAPACITY;
+    if (!buffer.offer(event, limit)) {
+      droppedCount.incrementAndGet();
+      return false;
+    }
+    // Wake the flusher for the first event so it's written to disk soon, and for full batches
+    int size = buffer.size();
+    if (size == 1 || size >= BATCH_SIZE) {
+      LockSupport.unpark(flusher);
+    }
+    return true;
+  }
+
+  /**
+   * Number of events dropped because the queue was full.
+   */
+  int getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  /**
+   * Number of events the background thread didn't take from the buffer yet.
+   */
+  int getBufferedCount() {
+    return buffer.size();
+  }
+
+  /**
+   * Stops the background thread. Events that weren't delivered stay in the spill file.
+   */
+  void close() throws InterruptedException {
+    closed = true;
+    flusher.interrupt();
+    flusher.join();
+  }
+
+  /**
+   * Monotonic milliseconds, the time base of {@link AnalyticsEvent#queuedAtMillis}.
+   */
+  static long now() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+  }
+
+  private void runFlusher() {
+    List<AnalyticsEvent> pending = readSpillFile();
+    DataOutputStream spill = openSpillFile(true);
+    long retryDelayMillis = 0;
+    long retryAtMillis = 0;
+    while (!closed) {
+      AnalyticsEvent event;
+      boolean spilled = false;
+      while ((event = buffer.poll()) != null) {
+        pending.add(event);
+        spill = writeToSpillFile(spill, event);
+        spilled = true;
+      }
+      if (pending.size() > MAX_PENDING) {
+        trimPending(pending);
+        closeQuietly(spill);
+        spill = rewriteSpillFile(pending);
+      } else if (spilled) {
+        spill = flushSpillFile(spill);
+      }
+
+      long now = now();
+      boolean batchReady = !pending.isEmpty()
+        && (pending.size() >= BATCH_SIZE || now - pending.get(0).queuedAtMillis >= MAX_BATCH_AGE_MS);
+      if (batchReady && now >= retryAtMillis) {
+        try {
+          sink.send(pending);
+        } catch (RuntimeException exception) {
+          if (closed) {
+            break;
+          }
+          // Keep the batch and the spill file, and try again with everything queued until then
+          retryDelayMillis = retryDelayMillis == 0
+            ? INITIAL_RETRY_DELAY_MS : Math.min(MAX_RETRY_DELAY_MS, retryDelayMillis * 2);
+          retryAtMillis = now() + retryDelayMillis;
+          Log.e(TAG, "Couldn't send analytics events, retrying in " + retryDelayMillis + " ms", exception);
+          continue;
+        }
+        retryDelayMillis = 0;
+        retryAtMillis = 0;
+        pending = new ArrayList<>();
+        closeQuietly(spill);
+        spill = openSpillFile(false);
+        continue;
+      }
+
+      long waitMillis;
+      if (batchReady) {
+        waitMillis = retryAtMillis - now;
+      } else if (pending.isEmpty()) {
+        waitMillis = MAX_BATCH_AGE_MS;
+      } else {
+        waitMillis = Math.max(retryAtMillis - now, MAX_BATCH_AGE_MS - (now - pending.get(0).queuedAtMillis));
+      }
+      LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(Math.max(1, waitMillis)));
+    }
+    closeQuietly(spill);
+  }
+
+  /**
+   * Drops the oldest events, low priority ones first, until {@link #TRIMMED_PENDING} are left.
+   */
+  private void trimPending(List<AnalyticsEvent> pending) {
+    int dropCount = pending.size() - TRIMMED_PENDING;
+    List<AnalyticsEvent> kept = new ArrayList<>(TRIMMED_PENDING);
+    for (AnalyticsEvent event : pending) {
+      if (dropCount > 0 && event.lowPriority) {
+        dropCount--;
+      } else {
+        kept.add(event);
+      }
+    }
+    if (dropCount > 0) {
+      kept.subList(0, dropCount).clear();
+    }
+    droppedCount.addAndGet(pending.size() - kept.size());
+    pending.clear();
+    pending.addAll(kept);
+  }
+
+  private List<AnalyticsEvent> readSpillFile() {
+    List<AnalyticsEvent> events = new ArrayList<>();
+    if (!spillFile.exists()) {
+      return events;
+    }
+    long now = now();
+    DataInputStream input = null;
+    try {
+      input = new DataInputStream(new BufferedInputStream(new FileInputStream(spillFile)));
+      while (true) {
+        // Replayed events count as old, so they go out with the first batch
+        events.add(AnalyticsEvent.readFrom(input, now - MAX_BATCH_AGE_MS));
+      }
+    } catch (EOFException endOfFile) {
+      // Done, or the last event was only written partially when the process died
+    } catch (IOException exception) {
+      Log.e(TAG, "Couldn't read all spilled analytics events", exception);
+    } finally {
+      closeQuietly(input);
+    }
+    return events;
+  }
+
+  /**
+   * @return the stream to keep writing to, null if the file can't be written
+   */
+  private DataOutputStream openSpillFile(boolean append) {
+    try {
+      return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile, append)));
+    } catch (IOException exception) {
+      Log.e(TAG, "Couldn't open the analytics spill file", exception);
+      return null;
+    }
+  }
+
+  /**
+   * Replaces the spill file with the given events.
+   */
+  private DataOutputStream rewriteSpillFile(List<AnalyticsEvent> events) {
+    DataOutputStream spill = openSpillFile(false);
+    for (int i = 0; i < events.size(); i++) {
+      spill = writeToSpillFile(spill, events.get(i));
+    }
+    return flushSpillFile(spill);
+  }
+
+  private DataOutputStream writeToSpillFile(DataOutputStream spill, AnalyticsEvent event) {
+    if (spill == null) {
+      return null;
+    }
+    try {
+      event.writeTo(spill);
+      return spill;
+    } catch (IOException exception) {
+      // Keep sending events, they just won't survive the process being killed
+      Log.e(TAG, "Couldn't write to the analytics spill file", exception);
+      closeQuietly(spill);
+      return null;
+    }
+  }
+
+  private DataOutputStream flushSpillFile(DataOutputStream spill) {
+    if (spill == null) {
+      return null;
+    }
+    try {
+      // Hands the bytes to the OS, which keeps them if the process dies
+      spill.flush();
+      return spill;
+    } catch (IOException exception) {
+      Log.e(TAG, "Couldn't write to the analytics spill file", exception);
+      closeQuietly(spill);
+      return null;
+    }
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    if (closeable != null) {
+      try {
+        closeable.close();
+      } catch (IOException ignored) {
+        // Nothing left to do
+      }
+    }
+  }
+}
@@ -7,17 +7,27 @@ import android.preference.PreferenceManager;
 import androidx.annotation.NonNull;
 
 import com.segment.analytics.Analytics;
+import com.segment.analytics.Callback;
 import com.segment.analytics.messages.IdentifyMessage;
+import com.segment.analytics.messages.Message;
 import com.segment.analytics.messages.ScreenMessage;
 import com.segment.analytics.messages.TrackMessage;
 
+import java.io.File;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class abstracts various analytics calls to Segment analytics' Java library.
+ * <p>
+ * Calls only put a small event into an {@link AnalyticsQueue}, the Segment messages are built and
+ * sent in batches on a background thread, which waits until Segment reports them delivered.
+ * </p>
  */
 
 public class AnalyticsTracker {
@@ -48,9 +58,12 @@ public class AnalyticsTracker {
   private static final String IS_WEARABLE_VALUE = "wearable";
   private static final String MAPBOX_SHARED_PREFERENCE_KEY_ANALYTICS_ENABLED = "mapboxAnalyticsEnabled";
   private static final String MAPBOX_SHARED_PREFERENCES_FILE = "MapboxSharedPreferences";
+  private static final String NOT_LOGGED_IN = "not logged in";
+  private static final String SPILL_FILE_NAME = "analytics_events";
   private static String MAPBOX_USERNAME;
   private Boolean analyticsEnabled;
   private Boolean deviceIsWearable;
+  private AnalyticsQueue queue;
 
   /**
    * Initializes instance of AnalyticsTracker class
@@ -59,14 +72,20 @@ public class AnalyticsTracker {
     if (analyticsInstance == null) {  // Single check
       synchronized (AnalyticsTracker.class) {
         if (analyticsInstance == null) {  // Double check
-          analyticsInstance = new AnalyticsTracker();
-          analyticsInstance.appContext = context;
-          analyticsInstance.deviceIsWearable = isWearable;
+          AnalyticsTracker tracker = new AnalyticsTracker();
+          tracker.appContext = context.getApplicationContext();
+          tracker.deviceIsWearable = isWearable;
+          SegmentSink sink = new SegmentSink();
           if (isWearable) {
-            analytics = Analytics.builder(context.getString(R.string.mapbox_segment_wearable_write_key)).build();
+            analytics = Analytics.builder(context.getString(R.string.mapbox_segment_wearable_write_key))
+              .callback(sink).build();
           } else {
-            analytics = Analytics.builder(context.getString(R.string.mapbox_segment_write_key)).build();
+            analytics = Analytics.builder(context.getString(R.string.mapbox_segment_write_key))
+              .callback(sink).build();
           }
+          sink.analytics = analytics;
+          tracker.queue = new AnalyticsQueue(new File(tracker.appContext.getFilesDir(), SPILL_FILE_NAME), sink);
+          analyticsInstance = tracker;
         }
       }
     }
@@ -84,35 +103,18 @@ public class AnalyticsTracker {
    **/
 
   public void openedAppForFirstTime(boolean isTablet, boolean loggedIn) {
-    Map<String, String> properties = new HashMap<>();
-    properties.put("email", getSharedPreferences(appContext)
-      .getString(StringConstants.EMAIL_KEY, "not logged in"));
-    properties.put("model", Build.MODEL);
-    properties.put("brand", Build.BRAND);
-    properties.put("product", Build.PRODUCT);
-    properties.put("manufacturer", Build.MANUFACTURER);
-    properties.put("device", Build.DEVICE);
-    properties.put("tags", Build.TAGS);
-    properties.put("iso3 language", Locale.getDefault().getISO3Language());
-    properties.put("language", Locale.getDefault().getLanguage());
-    try {
-      properties.put("iso3 country", Locale.getDefault().getISO3Country());
-    } catch (MissingResourceException exception) {
-      // Empty on purpose. No need to do anything.
-    }
-    properties.put("country", Locale.getDefault().getCountry());
-    properties.put("display country", Locale.getDefault().getDisplayCountry());
-    properties.put("display name", Locale.getDefault().getDisplayName());
-    properties.put("display language", Locale.getDefault().getDisplayLanguage());
+    String size;
     if (deviceIsWearable) {
-      properties.put("size", IS_WEARABLE_VALUE);
+      size = IS_WEARABLE_VALUE;
     } else {
-      properties.put("size", isTablet ? IS_TABLET_MAP_VALUE : IS_PHONE_MAP_VALUE);
+      size = isTablet ? IS_TABLET_MAP_VALUE : IS_PHONE_MAP_VALUE;
     }
-    analytics.enqueue(TrackMessage.builder("New install")
-      .userId(loggedIn ? MAPBOX_USERNAME : "not logged in")
-      .properties(properties)
-    );
+    String[] properties = {
+      "email", getSharedPreferences(appContext).getString(StringConstants.EMAIL_KEY, NOT_LOGGED_IN),
+      "size", size
+    };
+    queue.offer(new AnalyticsEvent(AnalyticsEvent.TYPE_TRACK, "New install", getUserId(loggedIn), properties,
+      true, false, AnalyticsQueue.now()));
   }
 
   /**
@@ -123,7 +125,7 @@ public class AnalyticsTracker {
   public void clickedOnNavDrawerSection(@NonNull String sectionName, boolean loggedIn) {
     if (isAnalyticsEnabled()) {
       trackEventWithProperties(CLICKED_ON_NAV_DRAWER_SECTION_EVENT_NAME, SECTION_NAME_MAP_KEY,
-        sectionName, loggedIn);
+        sectionName, loggedIn, true);
     }
   }
 
@@ -133,10 +135,9 @@ public class AnalyticsTracker {
    * @param exampleName Name of the selected example
    */
   public void clickedOnIndividualExample(@NonNull String exampleName, boolean loggedIn) {
-    if (deviceIsWearable) {
-      trackEventWithProperties(CLICKED_ON_INDIVIDUAL_EXAMPLE_EVENT_NAME, EXAMPLE_NAME_MAP_KEY, exampleName, loggedIn);
-    } else if (isAnalyticsEnabled()) {
-      trackEventWithProperties(CLICKED_ON_INDIVIDUAL_EXAMPLE_EVENT_NAME, EXAMPLE_NAME_MAP_KEY, exampleName, loggedIn);
+    if (deviceIsWearable || isAnalyticsEnabled()) {
+      trackEventWithProperties(CLICKED_ON_INDIVIDUAL_EXAMPLE_EVENT_NAME, EXAMPLE_NAME_MAP_KEY, exampleName,
+        loggedIn, true);
     }
   }
 
@@ -149,7 +150,7 @@ public class AnalyticsTracker {
    */
   public void trackEvent(@NonNull String eventName, boolean loggedIn) {
     if (isAnalyticsEnabled()) {
-      trackEventWithProperties(eventName, null, null, loggedIn);
+      trackEventWithProperties(eventName, null, null, loggedIn, false);
     }
   }
 
@@ -160,21 +161,15 @@ public class AnalyticsTracker {
    * @param eventName             Name of the event that's being recorded
    * @param keyForPropertiesMap   Key to the property being attached to the event that's being called
    * @param valueForPropertiesMap Value of the property being attached to the event that's being called
+   * @param lowPriority           True for frequent events that may be dropped when the queue is full
    */
   private void trackEventWithProperties(@NonNull String eventName, String keyForPropertiesMap,
-                                        String valueForPropertiesMap, boolean loggedIn) {
+                                        String valueForPropertiesMap, boolean loggedIn, boolean lowPriority) {
     if (isAnalyticsEnabled()) {
-
-      if (keyForPropertiesMap == null || valueForPropertiesMap == null) {
-        analytics.enqueue(TrackMessage.builder(eventName)
-          .userId(loggedIn ? MAPBOX_USERNAME : "not logged in"));
-      }
-      if (keyForPropertiesMap != null && valueForPropertiesMap != null) {
-        Map<String, String> properties = new HashMap<>();
-        properties.put(keyForPropertiesMap, valueForPropertiesMap);
-        analytics.enqueue(TrackMessage.builder(eventName).userId(loggedIn ? MAPBOX_USERNAME : "not logged in")
-          .properties(properties));
-      }
+      String[] properties = keyForPropertiesMap == null || valueForPropertiesMap == null
+        ? null : new String[] {keyForPropertiesMap, valueForPropertiesMap};
+      queue.offer(new AnalyticsEvent(AnalyticsEvent.TYPE_TRACK, eventName, getUserId(loggedIn), properties,
+        false, lowPriority, AnalyticsQueue.now()));
     }
   }
 
@@ -186,10 +181,9 @@ public class AnalyticsTracker {
    */
   public void viewedScreen(String nameOfScreen, boolean loggedIn) {
 
-    if (deviceIsWearable) {
-      analytics.enqueue(ScreenMessage.builder(nameOfScreen).userId(loggedIn ? MAPBOX_USERNAME : "not logged in"));
-    } else if (isAnalyticsEnabled()) {
-      analytics.enqueue(ScreenMessage.builder(nameOfScreen).userId(loggedIn ? MAPBOX_USERNAME : "not logged in"));
+    if (deviceIsWearable || isAnalyticsEnabled()) {
+      queue.offer(new AnalyticsEvent(AnalyticsEvent.TYPE_SCREEN, nameOfScreen, getUserId(loggedIn), null,
+        false, true, AnalyticsQueue.now()));
     }
   }
 
@@ -200,13 +194,8 @@ public class AnalyticsTracker {
    */
   public void identifyUser(@NonNull String userEmailAddress) {
     if (isAnalyticsEnabled()) {
-      Map<String, String> traits = new HashMap<>();
-      traits.put("email", userEmailAddress);
-
-      analytics.enqueue(IdentifyMessage.builder()
-        .userId(MAPBOX_USERNAME)
-        .traits(traits)
-      );
+      queue.offer(new AnalyticsEvent(AnalyticsEvent.TYPE_IDENTIFY, null, MAPBOX_USERNAME,
+        new String[] {"email", userEmailAddress}, false, false, AnalyticsQueue.now()));
     }
   }
 
@@ -242,4 +231,142 @@ public class AnalyticsTracker {
     return context.getSharedPreferences(
       AnalyticsTracker.MAPBOX_SHARED_PREFERENCES_FILE, Context.MODE_PRIVATE);
   }
+
+  private static String getUserId(boolean loggedIn) {
+    return loggedIn ? MAPBOX_USERNAME : NOT_LOGGED_IN;
+  }
+
+  /**
+   * Turns queued events into Segment messages on the queue's background thread, and waits until
+   * Segment's callback answered for every one of them.
+   * <p>
+   * Segment reports every message once, in the order they were queued. Only this sink queues
+   * messages, so a batch is delivered once as many messages were answered as were queued up to its
+   * last one, and none of them failed in the meantime. A failure of an earlier batch that's only
+   * reported late fails the current batch too, which is then sent again.
+   * </p>
+   */
+  private static class SegmentSink implements AnalyticsQueue.Sink, Callback {
+
+    private static final long DELIVERY_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(2);
+
+    volatile Analytics analytics;
+
+    // Built once, the first time an event needs them
+    private Map<String, String> deviceProperties;
+
+    private final Object lock = new Object();
+    private long queuedCount;
+    private long answeredCount;
+    private long failedCount;
+
+    @Override
+    public void send(@NonNull List<AnalyticsEvent> batch) {
+      long failedBefore;
+      synchronized (lock) {
+        failedBefore = failedCount;
+      }
+      int queued = 0;
+      try {
+        for (AnalyticsEvent event : batch) {
+          switch (event.type) {
+            case AnalyticsEvent.TYPE_SCREEN:
+              analytics.enqueue(ScreenMessage.builder(event.name).userId(event.userId));
+              break;
+            case AnalyticsEvent.TYPE_IDENTIFY:
+              analytics.enqueue(IdentifyMessage.builder().userId(event.userId).traits(getProperties(event)));
+              break;
+            default:
+              TrackMessage.Builder builder = TrackMessage.builder(event.name).userId(event.userId);
+              if (event.includeDeviceProperties || event.properties.length > 0) {
+                builder.properties(getProperties(event));
+              }
+              analytics.enqueue(builder);
+              break;
+          }
+          queued++;
+        }
+      } finally {
+        // Messages that made it into Segment's queue are answered even if the batch is sent again
+        synchronized (lock) {
+          queuedCount += queued;
+        }
+      }
+      analytics.flush();
+      awaitDelivery(failedBefore);
+    }
+
+    private void awaitDelivery(long failedBefore) {
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DELIVERY_TIMEOUT_MS);
+      synchronized (lock) {
+        while (answeredCount < queuedCount) {
+          long waitMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+          if (waitMillis <= 0) {
+            throw new IllegalStateException("Segment didn't answer within " + DELIVERY_TIMEOUT_MS + " ms");
+          }
+          try {
+            lock.wait(waitMillis);
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Segment", exception);
+          }
+        }
+        if (failedCount != failedBefore) {
+          throw new IllegalStateException("Segment couldn't deliver " + (failedCount - failedBefore) + " events");
+        }
+      }
+    }
+
+    @Override
+    public void success(Message message) {
+      synchronized (lock) {
+        answeredCount++;
+        lock.notifyAll();
+      }
+    }
+
+    @Override
+    public void failure(Message message, Throwable throwable) {
+      synchronized (lock) {
+        answeredCount++;
+        failedCount++;
+        lock.notifyAll();
+      }
+    }
+
+    private Map<String, String> getProperties(AnalyticsEvent event) {
+      Map<String, String> properties = event.includeDeviceProperties
+        ? new HashMap<>(getDeviceProperties()) : new HashMap<String, String>();
+      for (int i = 0; i + 1 < event.properties.length; i += 2) {
+        properties.put(event.properties[i], event.properties[i + 1]);
+      }
+      return properties;
+    }
+
+    private Map<String, String> getDeviceProperties() {
+      if (deviceProperties == null) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("model", Build.MODEL);
+        properties.put("brand", Build.BRAND);
+        properties.put("product", Build.PRODUCT);
+        properties.put("manufacturer", Build.MANUFACTURER);
+        properties.put("device", Build.DEVICE);
+        properties.put("tags", Build.TAGS);
+        Locale locale = Locale.getDefault();
+        properties.put("iso3 language", locale.getISO3Language());
+        properties.put("language", locale.getLanguage());
+        try {
+          properties.put("iso3 country", locale.getISO3Country());
+        } catch (MissingResourceException exception) {
+          // Empty on purpose. No need to do anything.
+        }
+        properties.put("country", locale.getCountry());
+        properties.put("display country", locale.getDisplayCountry());
+        properties.put("display name", locale.getDisplayName());
+        properties.put("display language", locale.getDisplayLanguage());
+        deviceProperties = Collections.unmodifiableMap(properties);
+      }
+      return deviceProperties;
+    }
+  }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded queue for many producer threads and a single consumer thread that never locks.
+ * <p>
+ * Every slot has a sequence number that tells whose turn it is: a producer may fill slot
+ * {@code i} when its sequence equals the producer's position, and the consumer may empty it when
+ * the sequence is one past the position.
+ * </p>
+ */
+final class EventRingBuffer {
+
+  private final AtomicReferenceArray<AnalyticsEvent> slots;
+  private final AtomicLongArray sequences;
+  private final int capacity;
+  private final int mask;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * @param capacity a power of two
+   */
+  EventRingBuffer(int capacity) {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+    }
+    this.capacity = capacity;
+    this.mask = capacity - 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds an event unless the buffer already holds {@code limit} events. Can be called from any
+   * thread.
+   *
+   * @return false if the event wasn't added
+   */
+  boolean offer(@NonNull AnalyticsEvent event, int limit) {
+    while (true) {
+      long position = tail.get();
+      if (position - head.get() >= Math.min(limit, capacity)) {
+        return false;
+      }
+      int index = (int) position & mask;
+      long sequence = sequences.get(index);
+      if (sequence == position) {
+        if (tail.compareAndSet(position, position + 1)) {
+          slots.set(index, event);
+          sequences.set(index, position + 1);
+          return true;
+        }
+      } else if (sequence < position) {
+        // The consumer hasn't emptied the slot yet
+        return false;
+      }
+      // Another producer took the position, try the next one
+    }
+  }
+
+  /**
+   * Removes the oldest event. Must only be called from the consumer thread.
+   *
+   * @return null if there's no event, or the next one is still being written
+   */
+  @Nullable
+  AnalyticsEvent poll() {
+    long position = head.get();
+    int index = (int) position & mask;
+    if (sequences.get(index) != position + 1) {
+      return null;
+    }
+    AnalyticsEvent event = slots.get(index);
+    slots.set(index, null);
+    sequences.set(index, position + capacity);
+    head.set(position + 1);
+    return event;
+  }
+
+  int size() {
+    return (int) Math.max(0, tail.get() - head.get());
+  }
+
+  int capacity() {
+    return capacity;
+  }
+}
@@ -0,0 +1,107 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+import com.mapbox.mapboxsdk.offline.OfflineRegion;
+import com.mapbox.mapboxsdk.offline.OfflineRegionError;
+import com.mapbox.mapboxsdk.offline.OfflineRegionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lets the {@link OfflineDownloadScheduler} download a Maps SDK {@link OfflineRegion}. Once the
+ * download is complete, its tile count and size are stored in the {@link OfflineRegionIndex}.
+ */
+public class MapboxOfflineRegion implements OfflineDownloadScheduler.Region {
+
+  private final OfflineRegion region;
+  @Nullable
+  private final OfflineRegionIndex index;
+  private final double north;
+  private final double south;
+  private final double east;
+  private final double west;
+
+  /**
+   * @param index updated with the status of the region when its download completes
+   */
+  public MapboxOfflineRegion(@NonNull OfflineRegion region, @Nullable OfflineRegionIndex index) {
+    this.region = region;
+    this.index = index;
+    LatLngBounds bounds = region.getDefinition().getBounds();
+    north = bounds.getLatNorth();
+    south = bounds.getLatSouth();
+    east = bounds.getLonEast();
+    west = bounds.getLonWest();
+  }
+
+  /**
+   * Wraps all regions from {@link com.mapbox.mapboxsdk.offline.OfflineManager#listOfflineRegions}.
+   */
+  @NonNull
+  public static List<MapboxOfflineRegion> wrap(@Nullable OfflineRegion[] regions, @Nullable OfflineRegionIndex index) {
+    List<MapboxOfflineRegion> wrapped = new ArrayList<>(regions != null ? regions.length : 0);
+    if (regions != null) {
+      for (OfflineRegion region : regions) {
+        wrapped.add(new MapboxOfflineRegion(region, index));
+      }
+    }
+    return wrapped;
+  }
+
+  @NonNull
+  public OfflineRegion getOfflineRegion() {
+    return region;
+  }
+
+  @Override
+  public long getId() {
+    return region.getID();
+  }
+
+  @Override
+  public boolean contains(double latitude, double longitude) {
+    if (latitude < south || latitude > north) {
+      return false;
+    }
+    // Bounds crossing the antimeridian have west > east
+    return west <= east ? longitude >= west && longitude <= east : longitude >= west || longitude <= east;
+  }
+
+  @Override
+  public void setObserver(@Nullable final OfflineDownloadScheduler.RegionObserver observer) {
+    if (observer == null) {
+      region.setObserver(null);
+      return;
+    }
+    region.setObserver(new OfflineRegion.OfflineRegionObserver() {
+      @Override
+      public void onStatusChanged(OfflineRegionStatus status) {
+        if (status.isComplete() && index != null) {
+          index.updateStatus(region.getID(), status);
+        }
+        observer.onStatusChanged(status.getCompletedResourceCount(), status.getRequiredResourceCount(),
+          status.isRequiredResourceCountPrecise(), status.isComplete());
+      }
+
+      @Override
+      public void onError(OfflineRegionError error) {
+        // The SDK keeps retrying after errors like a lost connection
+        observer.onError(error.getReason() + ": " + error.getMessage(), false);
+      }
+
+      @Override
+      public void mapboxTileCountLimitExceeded(long limit) {
+        observer.onError("Mapbox tile count limit exceeded: " + limit, true);
+      }
+    });
+  }
+
+  @Override
+  public void setDownloadActive(boolean active) {
+    region.setDownloadState(active ? OfflineRegion.STATE_ACTIVE : OfflineRegion.STATE_INACTIVE);
+  }
+}
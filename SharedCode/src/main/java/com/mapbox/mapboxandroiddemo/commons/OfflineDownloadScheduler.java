@@ -0,0 +1,391 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Downloads several offline regions, only a few of them at the same time.
+ * <p>
+ * Regions wait in a queue until one of the {@code maxActiveRegions} download slots is free. The
+ * region that contains the camera target goes first, and takes the slot of another region if
+ * they're all busy. The ids of the unfinished regions are saved, so that {@link #restore(List)}
+ * can continue the downloads after the process was restarted. Progress is passed on at most every
+ * {@value #PROGRESS_INTERVAL_MS} ms per region, and only when the percentage changed.
+ * </p>
+ * <p>
+ * The scheduler only talks to regions through the {@link Region} interface, see
+ * {@link MapboxOfflineRegion} for the one backed by the Maps SDK. All methods must be called on
+ * the main thread, and the listener is called there too.
+ * </p>
+ */
+public class OfflineDownloadScheduler {
+
+  static final long PROGRESS_INTERVAL_MS = 250;
+
+  private static final String PREFERENCES_FILE = "OfflineDownloadScheduler";
+  private static final String QUEUE_KEY = "queue";
+
+  private final int maxActiveRegions;
+  private final QueueStore store;
+  private final Listener listener;
+  private final Clock clock;
+
+  // Waiting regions in the order they were enqueued
+  private final List<Region> queued = new ArrayList<>();
+  // Downloading regions in the order they were started
+  private final List<Region> active = new ArrayList<>();
+  private final Map<Long, ProgressState> progress = new HashMap<>();
+
+  private boolean hasCameraTarget;
+  private double cameraLatitude;
+  private double cameraLongitude;
+
+  /**
+   * A downloadable offline region.
+   */
+  public interface Region {
+    long getId();
+
+    /**
+     * @return true if the point lies within the region's bounds
+     */
+    boolean contains(double latitude, double longitude);
+
+    void setObserver(@Nullable RegionObserver observer);
+
+    void setDownloadActive(boolean active);
+  }
+
+  public interface RegionObserver {
+    void onStatusChanged(long completedResources, long requiredResources, boolean isRequiredPrecise,
+                         boolean isComplete);
+
+    /**
+     * @param fatal true if the download can't continue, like when the tile count limit was hit
+     */
+    void onError(@NonNull String message, boolean fatal);
+  }
+
+  public interface Listener {
+    /**
+     * @param percentage between 0 and 100, or -1 while the required resource count is unknown
+     */
+    void onProgress(long regionId, int percentage);
+
+    void onComplete(long regionId);
+
+    void onError(long regionId, @NonNull String message);
+  }
+
+  /**
+   * Keeps the ids of the unfinished regions across process restarts.
+   */
+  public interface QueueStore {
+    @NonNull
+    long[] load();
+
+    void save(@NonNull long[] regionIds);
+  }
+
+  /**
+   * Times the progress updates, {@link SystemClock#uptimeMillis()} outside of tests.
+   */
+  interface Clock {
+    long uptimeMillis();
+  }
+
+  public OfflineDownloadScheduler(int maxActiveRegions, @NonNull QueueStore store, @NonNull Listener listener) {
+    this(maxActiveRegions, store, listener, new Clock() {
+      @Override
+      public long uptimeMillis() {
+        return SystemClock.uptimeMillis();
+      }
+    });
+  }
+
+  OfflineDownloadScheduler(int maxActiveRegions, @NonNull QueueStore store, @NonNull Listener listener,
+                           @NonNull Clock clock) {
+    this.maxActiveRegions = Math.max(1, maxActiveRegions);
+    this.store = store;
+    this.listener = listener;
+    this.clock = clock;
+  }
+
+  /**
+   * @return a store that keeps the queue in the app's shared preferences
+   */
+  @NonNull
+  public static QueueStore getPreferencesStore(@NonNull Context context) {
+    return new PreferencesQueueStore(context.getApplicationContext()
+      .getSharedPreferences(PREFERENCES_FILE, Context.MODE_PRIVATE));
+  }
+
+  /**
+   * Adds a region to the queue and starts it if there's a free slot.
+   */
+  public void enqueue(@NonNull Region region) {
+    if (indexOf(queued, region.getId()) >= 0 || indexOf(active, region.getId()) >= 0) {
+      return;
+    }
+    queued.add(region);
+    saveQueue();
+    schedule();
+  }
+
+  /**
+   * Continues the downloads that were unfinished when the queue was last saved, in their original
+   * order.
+   *
+   * @param regions all offline regions, usually from
+   *                {@link com.mapbox.mapboxsdk.offline.OfflineManager#listOfflineRegions}
+   */
+  public void restore(@NonNull List<? extends Region> regions) {
+    Map<Long, Region> regionsById = new HashMap<>(regions.size());
+    for (Region region : regions) {
+      regionsById.put(region.getId(), region);
+    }
+    for (long id : store.load()) {
+      Region region = regionsById.get(id);
+      if (region != null && indexOf(queued, id) < 0 && indexOf(active, id) < 0) {
+        queued.add(region);
+      }
+    }
+    // Forgets regions that were deleted in the meantime
+    saveQueue();
+    schedule();
+  }
+
+  /**
+   * Moves the region containing the camera target to the front, taking the download slot of
+   * another region if needed.
+   */
+  public void setCameraTarget(double latitude, double longitude) {
+    hasCameraTarget = true;
+    cameraLatitude = latitude;
+    cameraLongitude = longitude;
+    schedule();
+  }
+
+  /**
+   * Stops and forgets a region, for example before deleting it.
+   */
+  public void remove(long regionId) {
+    int index = indexOf(active, regionId);
+    if (index >= 0) {
+      stop(active.remove(index));
+    } else {
+      index = indexOf(queued, regionId);
+      if (index < 0) {
+        return;
+      }
+      queued.remove(index);
+    }
+    progress.remove(regionId);
+    saveQueue();
+    schedule();
+  }
+
+  /**
+   * Stops all downloads without forgetting them, so they continue with the next
+   * {@link #restore(List)}. Call it from onDestroy.
+   */
+  public void pause() {
+    for (Region region : active) {
+      stop(region);
+    }
+    active.clear();
+    queued.clear();
+    progress.clear();
+  }
+
+  /**
+   * @return the number of regions that are downloading or waiting
+   */
+  public int getPendingCount() {
+    return active.size() + queued.size();
+  }
+
+  public int getActiveCount() {
+    return active.size();
+  }
+
+  private void schedule() {
+    boolean preempted = false;
+    if (active.size() >= maxActiveRegions && findCameraRegion() != null && !containsCameraTarget(active)) {
+      // Give the most recently started slot to the region the user is looking at
+      Region region = active.remove(active.size() - 1);
+      stop(region);
+      queued.add(0, region);
+      preempted = true;
+    }
+    while (active.size() < maxActiveRegions && !queued.isEmpty()) {
+      Region next = findCameraRegion();
+      if (next != null) {
+        queued.remove(next);
+      } else {
+        next = queued.remove(0);
+      }
+      start(next);
+    }
+    if (preempted) {
+      saveQueue();
+    }
+  }
+
+  private void start(final Region region) {
+    active.add(region);
+    final long id = region.getId();
+    if (!progress.containsKey(id)) {
+      progress.put(id, new ProgressState());
+    }
+    region.setObserver(new RegionObserver() {
+      @Override
+      public void onStatusChanged(long completedResources, long requiredResources, boolean isRequiredPrecise,
+                                  boolean isComplete) {
+        if (isComplete) {
+          if (finish(region)) {
+            listener.onComplete(id);
+          }
+          return;
+        }
+        int percentage = isRequiredPrecise && requiredResources > 0
+          ? (int) Math.round(100.0 * completedResources / requiredResources) : -1;
+        ProgressState state = progress.get(id);
+        long now = clock.uptimeMillis();
+        if (state != null && percentage != state.percentage
+          && now - state.reportedAtMillis >= PROGRESS_INTERVAL_MS) {
+          state.percentage = percentage;
+          state.reportedAtMillis = now;
+          listener.onProgress(id, percentage);
+        }
+      }
+
+      @Override
+      public void onError(@NonNull String message, boolean fatal) {
+        if (!fatal || finish(region)) {
+          listener.onError(id, message);
+        }
+      }
+    });
+    region.setDownloadActive(true);
+  }
+
+  /**
+   * Removes a region that won't download any further and hands its slot to the next one.
+   *
+   * @return false if the region wasn't downloading anymore
+   */
+  private boolean finish(Region region) {
+    if (!active.remove(region)) {
+      return false;
+    }
+    stop(region);
+    progress.remove(region.getId());
+    saveQueue();
+    schedule();
+    return true;
+  }
+
+  private static void stop(Region region) {
+    region.setDownloadActive(false);
+    region.setObserver(null);
+  }
+
+  @Nullable
+  private Region findCameraRegion() {
+    if (!hasCameraTarget) {
+      return null;
+    }
+    for (Region region : queued) {
+      if (region.contains(cameraLatitude, cameraLongitude)) {
+        return region;
+      }
+    }
+    return null;
+  }
+
+  private boolean containsCameraTarget(List<Region> regions) {
+    for (Region region : regions) {
+      if (region.contains(cameraLatitude, cameraLongitude)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void saveQueue() {
+    long[] ids = new long[active.size() + queued.size()];
+    int index = 0;
+    for (Region region : active) {
+      ids[index++] = region.getId();
+    }
+    for (Region region : queued) {
+      ids[index++] = region.getId();
+    }
+    store.save(ids);
+  }
+
+  private static int indexOf(List<Region> regions, long id) {
+    for (int i = 0; i < regions.size(); i++) {
+      if (regions.get(i).getId() == id) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static class ProgressState {
+    int percentage = Integer.MIN_VALUE;
+    long reportedAtMillis = Long.MIN_VALUE / 2;
+  }
+
+  private static class PreferencesQueueStore implements QueueStore {
+    private final SharedPreferences preferences;
+
+    PreferencesQueueStore(SharedPreferences preferences) {
+      this.preferences = preferences;
+    }
+
+    @NonNull
+    @Override
+    public long[] load() {
+      String saved = preferences.getString(QUEUE_KEY, "");
+      if (saved.isEmpty()) {
+        return new long[0];
+      }
+      String[] parts = saved.split(",");
+      long[] ids = new long[parts.length];
+      int count = 0;
+      for (String part : parts) {
+        try {
+          ids[count++] = Long.parseLong(part);
+        } catch (NumberFormatException exception) {
+          count--;
+        }
+      }
+      long[] result = new long[count];
+      System.arraycopy(ids, 0, result, 0, count);
+      return result;
+    }
+
+    @Override
+    public void save(@NonNull long[] regionIds) {
+      StringBuilder builder = new StringBuilder();
+      for (long id : regionIds) {
+        if (builder.length() > 0) {
+          builder.append(',');
+        }
+        builder.append(id);
+      }
+      preferences.edit().putString(QUEUE_KEY, builder.toString()).apply();
+    }
+  }
+}
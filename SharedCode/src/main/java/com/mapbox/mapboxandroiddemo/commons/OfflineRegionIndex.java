@@ -0,0 +1,375 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+import com.mapbox.mapboxsdk.offline.OfflineRegion;
+import com.mapbox.mapboxsdk.offline.OfflineRegionDefinition;
+import com.mapbox.mapboxsdk.offline.OfflineRegionStatus;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the name, bounds, zoom range and size of every offline region in a SQLite database, so
+ * that region lists can be shown, sorted and matched against the viewport with an indexed query
+ * instead of listing the regions and decoding all of their metadata.
+ * <p>
+ * {@link #sync(OfflineRegion[])} brings the index up to date with the regions of the
+ * OfflineManager. It also moves regions with JSON metadata over to {@link OfflineRegionMetadata}.
+ * The queries are small and indexed, so they're fine on the main thread.
+ * </p>
+ */
+public class OfflineRegionIndex extends SQLiteOpenHelper {
+
+  private static final String TAG = "OfflineRegionIndex";
+
+  private static final String DATABASE_NAME = "offline_regions.db";
+  private static final int DATABASE_VERSION = 1;
+  private static final String TABLE = "regions";
+  private static final String COLUMN_ID = "id";
+  private static final String COLUMN_NAME = "name";
+  private static final String COLUMN_NORTH = "north";
+  private static final String COLUMN_SOUTH = "south";
+  private static final String COLUMN_EAST = "east";
+  private static final String COLUMN_WEST = "west";
+  private static final String COLUMN_MIN_ZOOM = "min_zoom";
+  private static final String COLUMN_MAX_ZOOM = "max_zoom";
+  private static final String COLUMN_TILE_COUNT = "tile_count";
+  private static final String COLUMN_BYTE_SIZE = "byte_size";
+
+  private static final String[] COLUMNS = {COLUMN_ID, COLUMN_NAME, COLUMN_NORTH, COLUMN_SOUTH, COLUMN_EAST,
+    COLUMN_WEST, COLUMN_MIN_ZOOM, COLUMN_MAX_ZOOM, COLUMN_TILE_COUNT, COLUMN_BYTE_SIZE};
+  private static final String ORDER_BY_NAME = COLUMN_NAME + ", " + COLUMN_ID;
+  private static final String INDEX_BOUNDS = TABLE + "_bounds";
+
+  private static final long UNKNOWN = -1;
+
+  public OfflineRegionIndex(@NonNull Context context) {
+    super(context.getApplicationContext(), DATABASE_NAME, null, DATABASE_VERSION);
+  }
+
+  @Override
+  public void onCreate(SQLiteDatabase db) {
+    db.execSQL("CREATE TABLE " + TABLE + " ("
+      + COLUMN_ID + " INTEGER PRIMARY KEY, "
+      + COLUMN_NAME + " TEXT COLLATE NOCASE, "
+      + COLUMN_NORTH + " REAL NOT NULL, "
+      + COLUMN_SOUTH + " REAL NOT NULL, "
+      + COLUMN_EAST + " REAL NOT NULL, "
+      + COLUMN_WEST + " REAL NOT NULL, "
+      + COLUMN_MIN_ZOOM + " REAL NOT NULL, "
+      + COLUMN_MAX_ZOOM + " REAL NOT NULL, "
+      + COLUMN_TILE_COUNT + " INTEGER NOT NULL, "
+      + COLUMN_BYTE_SIZE + " INTEGER NOT NULL)");
+    db.execSQL("CREATE INDEX " + TABLE + "_" + COLUMN_NAME + " ON " + TABLE + " (" + COLUMN_NAME + ")");
+    // Range scan on the south bound, the other bounds are checked in the index without reading the rows
+    db.execSQL("CREATE INDEX " + INDEX_BOUNDS + " ON " + TABLE + " ("
+      + COLUMN_SOUTH + ", " + COLUMN_NORTH + ", " + COLUMN_WEST + ", " + COLUMN_EAST + ")");
+  }
+
+  @Override
+  public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+    // There's only the first version of the schema so far
+  }
+
+  /**
+   * Adds a region that was just created.
+   */
+  public void put(@NonNull OfflineRegion region, @Nullable String name) {
+    try {
+      getWritableDatabase().insertWithOnConflict(TABLE, null, toValues(region, name),
+        SQLiteDatabase.CONFLICT_REPLACE);
+    } catch (SQLiteException exception) {
+      Log.w(TAG, "Unable to write the offline region index", exception);
+    }
+  }
+
+  /**
+   * Adds the regions that aren't indexed yet, removes the ones that don't exist anymore and asks
+   * for the size of regions that weren't completely downloaded the last time.
+   *
+   * @param regions all regions from {@link com.mapbox.mapboxsdk.offline.OfflineManager#listOfflineRegions}
+   */
+  public void sync(@Nullable OfflineRegion[] regions) {
+    if (regions == null) {
+      regions = new OfflineRegion[0];
+    }
+    List<OfflineRegion> withoutSize = new ArrayList<>();
+    try {
+      SQLiteDatabase db = getWritableDatabase();
+      Set<Long> indexed = new HashSet<>();
+      Set<Long> sized = new HashSet<>();
+      Cursor cursor = db.query(TABLE, new String[] {COLUMN_ID, COLUMN_TILE_COUNT}, null, null, null, null, null);
+      try {
+        while (cursor.moveToNext()) {
+          indexed.add(cursor.getLong(0));
+          if (cursor.getLong(1) != UNKNOWN) {
+            sized.add(cursor.getLong(0));
+          }
+        }
+      } finally {
+        cursor.close();
+      }
+
+      db.beginTransaction();
+      try {
+        for (OfflineRegion region : regions) {
+          long id = region.getID();
+          if (!indexed.remove(id)) {
+            byte[] metadata = region.getMetadata();
+            String name = OfflineRegionMetadata.decodeName(metadata);
+            db.insertWithOnConflict(TABLE, null, toValues(region, name), SQLiteDatabase.CONFLICT_REPLACE);
+            if (name != null && OfflineRegionMetadata.isLegacy(metadata)) {
+              migrateMetadata(region, name);
+            }
+          }
+          if (!sized.contains(id)) {
+            withoutSize.add(region);
+          }
+        }
+        // Whatever is left was deleted
+        for (long id : indexed) {
+          db.delete(TABLE, COLUMN_ID + " = ?", new String[] {String.valueOf(id)});
+        }
+        db.setTransactionSuccessful();
+      } finally {
+        db.endTransaction();
+      }
+    } catch (SQLiteException exception) {
+      Log.w(TAG, "Unable to sync the offline region index", exception);
+      return;
+    }
+
+    for (final OfflineRegion region : withoutSize) {
+      region.getStatus(new OfflineRegion.OfflineRegionStatusCallback() {
+        @Override
+        public void onStatus(OfflineRegionStatus status) {
+          updateStatus(region.getID(), status);
+        }
+
+        @Override
+        public void onError(String error) {
+          Log.w(TAG, "Unable to get the status of region " + region.getID() + ": " + error);
+        }
+      });
+    }
+  }
+
+  /**
+   * Stores the tile count and size of a region once it's completely downloaded.
+   */
+  public void updateStatus(long regionId, @NonNull OfflineRegionStatus status) {
+    if (!status.isComplete()) {
+      return;
+    }
+    ContentValues values = new ContentValues();
+    values.put(COLUMN_TILE_COUNT, status.getCompletedTileCount());
+    values.put(COLUMN_BYTE_SIZE, status.getCompletedResourceSize());
+    try {
+      getWritableDatabase().update(TABLE, values, COLUMN_ID + " = ?", new String[] {String.valueOf(regionId)});
+    } catch (SQLiteException exception) {
+      Log.w(TAG, "Unable to write the offline region index", exception);
+    }
+  }
+
+  public void remove(long regionId) {
+    try {
+      getWritableDatabase().delete(TABLE, COLUMN_ID + " = ?", new String[] {String.valueOf(regionId)});
+    } catch (SQLiteException exception) {
+      Log.w(TAG, "Unable to write the offline region index", exception);
+    }
+  }
+
+  /**
+   * @return all regions, sorted by name
+   */
+  @NonNull
+  public List<Entry> list() {
+    return query(null, null);
+  }
+
+  /**
+   * @param bounds for example the visible region, which may cross the antimeridian
+   * @return the regions whose bounds overlap the given bounds, sorted by name
+   */
+  @NonNull
+  public List<Entry> intersecting(@NonNull LatLngBounds bounds) {
+    List<String> selectionArgs = new ArrayList<>();
+    String selection = getIntersectingSelection(bounds.getLatNorth(), bounds.getLatSouth(), bounds.getLonEast(),
+      bounds.getLonWest(), selectionArgs);
+    return query(selection, selectionArgs.toArray(new String[0]));
+  }
+
+  /**
+   * Builds the selection for regions overlapping the given bounds. Bounds crossing the
+   * antimeridian have west &gt; east, like in {@link MapboxOfflineRegion#contains(double, double)},
+   * and cover the two longitude ranges on either side of it. That goes for the stored bounds as
+   * well as the given ones, which may also be unwrapped past &plusmn;180.
+   */
+  static String getIntersectingSelection(double north, double south, double east, double west,
+                                         List<String> selectionArgs) {
+    selectionArgs.add(String.valueOf(north));
+    selectionArgs.add(String.valueOf(south));
+    String selection = COLUMN_SOUTH + " <= ? AND " + COLUMN_NORTH + " >= ?";
+    if (east - west >= 360) {
+      return selection;
+    }
+    west = wrapLongitude(west);
+    east = wrapLongitude(east);
+    if (west <= east) {
+      return selection + " AND " + getLongitudeSelection(west, east, selectionArgs);
+    }
+    return selection + " AND (" + getLongitudeSelection(west, 180, selectionArgs)
+      + " OR " + getLongitudeSelection(-180, east, selectionArgs) + ")";
+  }
+
+  /**
+   * Matches the regions overlapping a longitude range that doesn't cross the antimeridian.
+   */
+  private static String getLongitudeSelection(double west, double east, List<String> selectionArgs) {
+    selectionArgs.add(String.valueOf(east));
+    selectionArgs.add(String.valueOf(west));
+    selectionArgs.add(String.valueOf(east));
+    selectionArgs.add(String.valueOf(west));
+    return "((" + COLUMN_WEST + " <= " + COLUMN_EAST + " AND " + COLUMN_WEST + " <= ? AND " + COLUMN_EAST + " >= ?)"
+      + " OR (" + COLUMN_WEST + " > " + COLUMN_EAST + " AND (" + COLUMN_WEST + " <= ? OR " + COLUMN_EAST + " >= ?)))";
+  }
+
+  private static double wrapLongitude(double longitude) {
+    if (longitude >= -180 && longitude <= 180) {
+      return longitude;
+    }
+    double wrapped = ((longitude + 180) % 360 + 360) % 360 - 180;
+    // Keeps the east edge of a range ending on the antimeridian at 180
+    return wrapped == -180 && longitude > 0 ? 180 : wrapped;
+  }
+
+  private List<Entry> query(String selection, String[] selectionArgs) {
+    List<Entry> entries = new ArrayList<>();
+    try {
+      Cursor cursor = getReadableDatabase().query(TABLE, COLUMNS, selection, selectionArgs, null, null,
+        ORDER_BY_NAME);
+      try {
+        while (cursor.moveToNext()) {
+          entries.add(new Entry(cursor.getLong(0), cursor.isNull(1) ? null : cursor.getString(1),
+            LatLngBounds.from(cursor.getDouble(2), cursor.getDouble(4), cursor.getDouble(3), cursor.getDouble(5)),
+            cursor.getDouble(6), cursor.getDouble(7), cursor.getLong(8), cursor.getLong(9)));
+        }
+      } finally {
+        cursor.close();
+      }
+    } catch (SQLiteException exception) {
+      Log.w(TAG, "Unable to read the offline region index", exception);
+    }
+    return entries;
+  }
+
+  private static ContentValues toValues(OfflineRegion region, String name) {
+    OfflineRegionDefinition definition = region.getDefinition();
+    LatLngBounds bounds = definition.getBounds();
+    ContentValues values = new ContentValues();
+    values.put(COLUMN_ID, region.getID());
+    values.put(COLUMN_NAME, name);
+    values.put(COLUMN_NORTH, bounds.getLatNorth());
+    values.put(COLUMN_SOUTH, bounds.getLatSouth());
+    values.put(COLUMN_EAST, bounds.getLonEast());
+    values.put(COLUMN_WEST, bounds.getLonWest());
+    values.put(COLUMN_MIN_ZOOM, definition.getMinZoom());
+    values.put(COLUMN_MAX_ZOOM, definition.getMaxZoom());
+    values.put(COLUMN_TILE_COUNT, UNKNOWN);
+    values.put(COLUMN_BYTE_SIZE, UNKNOWN);
+    return values;
+  }
+
+  /**
+   * Rewrites JSON metadata in the compact format, so it's never parsed as JSON again.
+   */
+  private static void migrateMetadata(final OfflineRegion region, String name) {
+    region.updateMetadata(OfflineRegionMetadata.encode(name), new OfflineRegion.OfflineRegionUpdateMetadataCallback() {
+      @Override
+      public void onUpdate(byte[] metadata) {
+        Log.d(TAG, "Migrated the metadata of region " + region.getID());
+      }
+
+      @Override
+      public void onError(String error) {
+        Log.w(TAG, "Unable to migrate the metadata of region " + region.getID() + ": " + error);
+      }
+    });
+  }
+
+  /**
+   * One indexed offline region.
+   */
+  public static class Entry {
+    private final long id;
+    @Nullable
+    private final String name;
+    private final LatLngBounds bounds;
+    private final double minZoom;
+    private final double maxZoom;
+    private final long tileCount;
+    private final long byteSize;
+
+    Entry(long id, @Nullable String name, LatLngBounds bounds, double minZoom, double maxZoom, long tileCount,
+          long byteSize) {
+      this.id = id;
+      this.name = name;
+      this.bounds = bounds;
+      this.minZoom = minZoom;
+      this.maxZoom = maxZoom;
+      this.tileCount = tileCount;
+      this.byteSize = byteSize;
+    }
+
+    public long getId() {
+      return id;
+    }
+
+    /**
+     * @return the name from the region's metadata, or null if it had none
+     */
+    @Nullable
+    public String getName() {
+      return name;
+    }
+
+    @NonNull
+    public LatLngBounds getBounds() {
+      return bounds;
+    }
+
+    public double getMinZoom() {
+      return minZoom;
+    }
+
+    public double getMaxZoom() {
+      return maxZoom;
+    }
+
+    /**
+     * @return the number of tiles, or -1 until the region is completely downloaded
+     */
+    public long getTileCount() {
+      return tileCount;
+    }
+
+    /**
+     * @return the size of all resources in bytes, or -1 until the region is completely downloaded
+     */
+    public long getByteSize() {
+      return byteSize;
+    }
+  }
+}
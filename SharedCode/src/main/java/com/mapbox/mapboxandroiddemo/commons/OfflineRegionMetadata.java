@@ -0,0 +1,103 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Encodes the metadata that's stored with an offline region.
+ * <p>
+ * The metadata is a few magic bytes, a version and the region name in modified UTF-8, which is
+ * much cheaper to read back than a JSON object. Metadata written by older versions of the
+ * examples, a JSON object with the name in {@value #LEGACY_JSON_FIELD_REGION_NAME}, can still be
+ * decoded.
+ * </p>
+ */
+public final class OfflineRegionMetadata {
+
+  private static final String TAG = "OfflineRegionMetadata";
+
+  private static final byte MAGIC_0 = 'M';
+  private static final byte MAGIC_1 = 'B';
+  private static final byte VERSION = 1;
+
+  private static final String LEGACY_JSON_CHARSET = "UTF-8";
+  private static final String LEGACY_JSON_FIELD_REGION_NAME = "FIELD_REGION_NAME";
+
+  private OfflineRegionMetadata() {
+    // Utility class
+  }
+
+  /**
+   * @return the metadata to pass to
+   * {@link com.mapbox.mapboxsdk.offline.OfflineManager#createOfflineRegion}
+   */
+  @NonNull
+  public static byte[] encode(@NonNull String regionName) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(3 + 2 + regionName.length());
+    DataOutputStream output = new DataOutputStream(bytes);
+    try {
+      output.writeByte(MAGIC_0);
+      output.writeByte(MAGIC_1);
+      output.writeByte(VERSION);
+      output.writeUTF(regionName);
+    } catch (IOException exception) {
+      // Only happens for names longer than 64 KB
+      throw new IllegalArgumentException("Region name is too long", exception);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * @param metadata the metadata of an offline region, in the current or the legacy JSON format
+   * @return the region name, or null if there's none
+   */
+  @Nullable
+  public static String decodeName(@Nullable byte[] metadata) {
+    if (metadata == null || metadata.length == 0) {
+      return null;
+    }
+    if (metadata.length >= 3 && metadata[0] == MAGIC_0 && metadata[1] == MAGIC_1) {
+      if (metadata[2] != VERSION) {
+        Log.w(TAG, "Unknown metadata version " + metadata[2]);
+        return null;
+      }
+      try {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(metadata, 3, metadata.length - 3));
+        return input.readUTF();
+      } catch (IOException exception) {
+        Log.w(TAG, "Failed to decode metadata: " + exception.getMessage());
+        return null;
+      }
+    }
+    return decodeLegacyName(metadata);
+  }
+
+  /**
+   * @return true if the metadata is still in the legacy JSON format
+   */
+  public static boolean isLegacy(@Nullable byte[] metadata) {
+    return metadata != null && metadata.length > 0 && metadata[0] == '{';
+  }
+
+  @Nullable
+  private static String decodeLegacyName(byte[] metadata) {
+    try {
+      JSONObject jsonObject = new JSONObject(new String(metadata, LEGACY_JSON_CHARSET));
+      return jsonObject.getString(LEGACY_JSON_FIELD_REGION_NAME);
+    } catch (JSONException | UnsupportedEncodingException exception) {
+      Log.w(TAG, "Failed to decode metadata: " + exception.getMessage());
+      return null;
+    }
+  }
+}
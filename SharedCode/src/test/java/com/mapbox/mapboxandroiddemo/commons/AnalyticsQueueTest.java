@@ -0,0 +1,233 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import androidx.annotation.NonNull;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AnalyticsQueueTest {
+
+  private static final long TIMEOUT_MS = 10000;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final List<AnalyticsQueue> queues = new ArrayList<>();
+
+  @After
+  public void tearDown() throws InterruptedException {
+    for (AnalyticsQueue queue : queues) {
+      queue.close();
+    }
+  }
+
+  @Test
+  public void offer_sendsFullBatchInOrderAndEmptiesTheSpillFile() throws Exception {
+    File spillFile = temporaryFolder.newFile();
+    RecordingSink sink = new RecordingSink(0, 1);
+    AnalyticsQueue queue = open(spillFile, sink);
+    offerTracks(queue, 0, AnalyticsQueue.BATCH_SIZE);
+
+    sink.awaitBatches();
+    assertNames(sink.getBatch(0), 0, AnalyticsQueue.BATCH_SIZE);
+    waitForLength(spillFile, 0);
+  }
+
+  @Test
+  public void send_failureKeepsTheBatchAndRetriesWithLaterEvents() throws Exception {
+    File spillFile = temporaryFolder.newFile();
+    RecordingSink sink = new RecordingSink(1, 2);
+    AnalyticsQueue queue = open(spillFile, sink);
+    offerTracks(queue, 0, AnalyticsQueue.BATCH_SIZE);
+
+    sink.awaitFirstAttempt();
+    long failedAt = System.nanoTime();
+    assertTrue(spillFile.length() > 0);
+    offerTracks(queue, AnalyticsQueue.BATCH_SIZE, 5);
+
+    sink.awaitBatches();
+    long retryDelayMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - failedAt);
+    assertTrue("retried after " + retryDelayMs + " ms", retryDelayMs >= AnalyticsQueue.INITIAL_RETRY_DELAY_MS / 2);
+    assertNames(sink.getBatch(0), 0, AnalyticsQueue.BATCH_SIZE);
+    assertNames(sink.getBatch(1), 0, AnalyticsQueue.BATCH_SIZE + 5);
+    waitForLength(spillFile, 0);
+  }
+
+  @Test
+  public void restart_sendsEventsLeftInTheSpillFile() throws Exception {
+    File spillFile = temporaryFolder.newFile();
+    // Stands in for a process that dies before Segment ever takes the events
+    RecordingSink failingSink = new RecordingSink(Integer.MAX_VALUE, 1);
+    AnalyticsQueue firstQueue = new AnalyticsQueue(spillFile, failingSink);
+    offerTracks(firstQueue, 0, AnalyticsQueue.BATCH_SIZE);
+    failingSink.awaitFirstAttempt();
+    firstQueue.close();
+
+    RecordingSink sink = new RecordingSink(0, 1);
+    open(spillFile, sink);
+
+    // Replayed events count as old, so they're sent without waiting for a full batch
+    sink.awaitBatches();
+    assertNames(sink.getBatch(0), 0, AnalyticsQueue.BATCH_SIZE);
+  }
+
+  @Test
+  public void offer_dropsLowPriorityEventsFirstWithoutBlocking() throws InterruptedException {
+    // The sink doesn't return until the end of the test, so nothing leaves the buffer after the first batch
+    final CountDownLatch sending = new CountDownLatch(1);
+    final CountDownLatch blocked = new CountDownLatch(1);
+    AnalyticsQueue queue = open(new File(temporaryFolder.getRoot(), "spill"),
+      new AnalyticsQueue.Sink() {
+        @Override
+        public void send(@NonNull List<AnalyticsEvent> batch) {
+          sending.countDown();
+          try {
+            blocked.await();
+          } catch (InterruptedException ignored) {
+            // Done
+          }
+        }
+      });
+    offerTracks(queue, 0, AnalyticsQueue.BATCH_SIZE);
+    assertTrue(sending.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+    for (int i = 0; i < 100000; i++) {
+      queue.offer(new AnalyticsEvent(AnalyticsEvent.TYPE_SCREEN, "screen", "user", null, false, true,
+        AnalyticsQueue.now()));
+    }
+
+    assertTrue(queue.getDroppedCount() > 0);
+    int dropped = queue.getDroppedCount();
+    assertTrue(queue.offer(track(0)));
+    assertEquals(dropped, queue.getDroppedCount());
+    blocked.countDown();
+  }
+
+  @Test
+  public void send_keepsAtMostMaxPendingEventsWhileFailingAndDropsOldLowPriorityOnesFirst() throws Exception {
+    File spillFile = temporaryFolder.newFile();
+    RecordingSink failingSink = new RecordingSink(Integer.MAX_VALUE, 1);
+    AnalyticsQueue queue = new AnalyticsQueue(spillFile, failingSink);
+    // Three in four events are screen views, queued in small steps so the buffer never fills up
+    int events = AnalyticsQueue.MAX_PENDING * 2;
+    for (int i = 0; i < events; i += 10) {
+      for (int j = i; j < i + 10; j++) {
+        assertTrue(queue.offer(j % 4 == 0 ? track(j) : new AnalyticsEvent(AnalyticsEvent.TYPE_SCREEN,
+          "screen " + j, "user", null, false, true, AnalyticsQueue.now())));
+      }
+      waitUntilPolled(queue);
+    }
+    queue.close();
+    assertTrue(queue.getDroppedCount() >= events - AnalyticsQueue.MAX_PENDING);
+
+    RecordingSink sink = new RecordingSink(0, 1);
+    open(spillFile, sink);
+    sink.awaitBatches();
+    List<AnalyticsEvent> batch = sink.getBatch(0);
+    assertEquals(events - queue.getDroppedCount(), batch.size());
+    assertTrue(batch.size() <= AnalyticsQueue.MAX_PENDING);
+    // Every track is kept, only the most recent screen views are left
+    int tracks = 0;
+    for (AnalyticsEvent event : batch) {
+      if (event.type == AnalyticsEvent.TYPE_TRACK) {
+        assertEquals("event " + tracks * 4, event.name);
+        tracks++;
+      }
+    }
+    assertEquals(events / 4, tracks);
+    assertEquals("screen " + (events - 1), batch.get(batch.size() - 1).name);
+  }
+
+  private AnalyticsQueue open(File spillFile, AnalyticsQueue.Sink sink) {
+    AnalyticsQueue queue = new AnalyticsQueue(spillFile, sink);
+    queues.add(queue);
+    return queue;
+  }
+
+  private static void waitUntilPolled(AnalyticsQueue queue) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+    while (queue.getBufferedCount() > 0) {
+      assertTrue(System.currentTimeMillis() < deadline);
+      Thread.sleep(1);
+    }
+  }
+
+  private static void offerTracks(AnalyticsQueue queue, int first, int count) {
+    for (int i = first; i < first + count; i++) {
+      assertTrue(queue.offer(track(i)));
+    }
+  }
+
+  private static AnalyticsEvent track(int index) {
+    return new AnalyticsEvent(AnalyticsEvent.TYPE_TRACK, "event " + index, "user",
+      new String[] {"index", String.valueOf(index)}, false, false, AnalyticsQueue.now());
+  }
+
+  private static void assertNames(List<AnalyticsEvent> batch, int first, int count) {
+    assertEquals(count, batch.size());
+    for (int i = 0; i < count; i++) {
+      assertEquals("event " + (first + i), batch.get(i).name);
+    }
+  }
+
+  private static void waitForLength(File file, long length) throws InterruptedException, IOException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+    while (file.length() != length) {
+      if (System.currentTimeMillis() > deadline) {
+        throw new IOException(file + " is " + file.length() + " bytes long");
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  /**
+   * Fails the first few calls, then records copies of the batches it's given.
+   */
+  private static class RecordingSink implements AnalyticsQueue.Sink {
+
+    private final List<List<AnalyticsEvent>> batches = new ArrayList<>();
+    private final CountDownLatch firstAttempt = new CountDownLatch(1);
+    private final CountDownLatch expectedBatches;
+    private int failuresLeft;
+
+    RecordingSink(int failures, int expectedBatches) {
+      this.failuresLeft = failures;
+      this.expectedBatches = new CountDownLatch(expectedBatches);
+    }
+
+    @Override
+    public synchronized void send(@NonNull List<AnalyticsEvent> batch) {
+      firstAttempt.countDown();
+      batches.add(new ArrayList<>(batch));
+      expectedBatches.countDown();
+      if (failuresLeft > 0) {
+        failuresLeft--;
+        throw new IllegalStateException("Offline");
+      }
+    }
+
+    void awaitFirstAttempt() throws InterruptedException {
+      assertTrue(firstAttempt.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    void awaitBatches() throws InterruptedException {
+      assertTrue(expectedBatches.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    synchronized List<AnalyticsEvent> getBatch(int index) {
+      return batches.get(index);
+    }
+  }
+}
@@ -0,0 +1,275 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OfflineDownloadSchedulerTest {
+
+  private FakeClock clock;
+  private MemoryStore store;
+  private RecordingListener listener;
+  private OfflineDownloadScheduler scheduler;
+  private List<FakeRegion> regions;
+
+  @Before
+  public void setUp() {
+    clock = new FakeClock();
+    store = new MemoryStore();
+    listener = new RecordingListener();
+    scheduler = new OfflineDownloadScheduler(2, store, listener, clock);
+    regions = createRegions(5);
+  }
+
+  @Test
+  public void enqueue_startsAtMostMaxActiveRegionsInOrder() {
+    enqueueAll();
+
+    assertEquals(Arrays.asList(true, true, false, false, false), getActiveStates(regions));
+    assertNotNull(regions.get(0).observer);
+    assertNull(regions.get(2).observer);
+    assertEquals(5, scheduler.getPendingCount());
+    assertArrayEquals(new long[] {0, 1, 2, 3, 4}, store.ids);
+
+    scheduler.enqueue(regions.get(3));
+    assertEquals(5, scheduler.getPendingCount());
+  }
+
+  @Test
+  public void setCameraTarget_preemptsTheMostRecentlyStartedRegion() {
+    enqueueAll();
+    OfflineDownloadScheduler.RegionObserver preempted = regions.get(1).observer;
+
+    scheduler.setCameraTarget(42, 2);
+
+    assertEquals(Arrays.asList(true, false, false, false, true), getActiveStates(regions));
+    assertNull(regions.get(1).observer);
+    assertArrayEquals(new long[] {0, 4, 1, 2, 3}, store.ids);
+
+    // An update that was already on its way from the stopped download changes nothing
+    preempted.onStatusChanged(100, 100, true, true);
+    assertTrue(listener.completed.isEmpty());
+    assertEquals(2, scheduler.getActiveCount());
+
+    // The camera region keeps its slot, the next free one goes back to the preempted region
+    regions.get(0).observer.onStatusChanged(100, 100, true, true);
+    assertEquals(Arrays.asList(false, true, false, false, true), getActiveStates(regions));
+    assertEquals(Arrays.asList(0L), listener.completed);
+  }
+
+  @Test
+  public void setCameraTarget_keepsSlotsWhenTheCameraRegionIsAlreadyDownloading() {
+    enqueueAll();
+
+    scheduler.setCameraTarget(2, 2);
+    scheduler.setCameraTarget(100, 100);
+
+    assertEquals(Arrays.asList(true, true, false, false, false), getActiveStates(regions));
+    assertArrayEquals(new long[] {0, 1, 2, 3, 4}, store.ids);
+  }
+
+  @Test
+  public void onStatusChanged_completionHandsTheSlotToTheNextRegion() {
+    enqueueAll();
+
+    regions.get(1).observer.onStatusChanged(100, 100, true, true);
+
+    assertEquals(Arrays.asList(true, false, true, false, false), getActiveStates(regions));
+    assertEquals(Arrays.asList(1L), listener.completed);
+    assertArrayEquals(new long[] {0, 2, 3, 4}, store.ids);
+  }
+
+  @Test
+  public void onError_onlyFatalErrorsEndTheDownload() {
+    enqueueAll();
+
+    regions.get(0).observer.onError("Connection lost", false);
+    assertEquals(2, scheduler.getActiveCount());
+    assertTrue(regions.get(0).active);
+
+    regions.get(0).observer.onError("Tile count limit exceeded", true);
+    assertFalse(regions.get(0).active);
+    assertTrue(regions.get(2).active);
+    assertEquals(Arrays.asList(0L, 0L), listener.errors);
+    assertArrayEquals(new long[] {1, 2, 3, 4}, store.ids);
+  }
+
+  @Test
+  public void restore_continuesTheSavedQueueAndForgetsDeletedRegions() {
+    enqueueAll();
+    scheduler.setCameraTarget(42, 2);
+    regions.get(0).observer.onStatusChanged(100, 100, true, true);
+    scheduler.pause();
+    assertEquals(Arrays.asList(false, false, false, false, false), getActiveStates(regions));
+    assertArrayEquals(new long[] {4, 1, 2, 3}, store.ids);
+
+    // After a restart, with region 2 deleted in the meantime
+    List<FakeRegion> listed = createRegions(5);
+    listed.remove(2);
+    OfflineDownloadScheduler restarted = new OfflineDownloadScheduler(2, store, listener, clock);
+    restarted.restore(listed);
+
+    assertEquals(3, restarted.getPendingCount());
+    assertEquals(Arrays.asList(false, true, false, true), getActiveStates(listed));
+    assertArrayEquals(new long[] {4, 1, 3}, store.ids);
+  }
+
+  @Test
+  public void remove_stopsTheRegionAndStartsTheNextOne() {
+    enqueueAll();
+
+    scheduler.remove(0);
+    scheduler.remove(3);
+
+    assertEquals(Arrays.asList(false, true, true, false, false), getActiveStates(regions));
+    assertNull(regions.get(0).observer);
+    assertArrayEquals(new long[] {1, 2, 4}, store.ids);
+  }
+
+  @Test
+  public void onStatusChanged_progressIsThrottledAndOnlyReportedWhenItChanges() {
+    scheduler.enqueue(regions.get(0));
+    OfflineDownloadScheduler.RegionObserver observer = regions.get(0).observer;
+
+    observer.onStatusChanged(0, 0, false, false);
+    assertEquals(Arrays.asList(-1), listener.percentages);
+
+    // A status update every 10 ms while a thousand resources download
+    for (int completed = 1; completed <= 1000; completed++) {
+      clock.now += 10;
+      observer.onStatusChanged(completed, 1000, true, false);
+    }
+    // One update per interval at most, 10 s of updates
+    assertEquals(1 + 10000 / OfflineDownloadScheduler.PROGRESS_INTERVAL_MS, listener.percentages.size());
+    for (int i = 2; i < listener.percentages.size(); i++) {
+      assertTrue(listener.percentages.get(i) > listener.percentages.get(i - 1));
+    }
+    assertEquals(100, (int) listener.percentages.get(listener.percentages.size() - 1));
+
+    // Later updates without a new percentage are dropped
+    clock.now += OfflineDownloadScheduler.PROGRESS_INTERVAL_MS;
+    observer.onStatusChanged(1000, 1000, true, false);
+    assertEquals(1 + 10000 / OfflineDownloadScheduler.PROGRESS_INTERVAL_MS, listener.percentages.size());
+  }
+
+  private void enqueueAll() {
+    for (FakeRegion region : regions) {
+      scheduler.enqueue(region);
+    }
+  }
+
+  /**
+   * Regions stacked north of each other, region i spans latitudes 10 i to 10 i + 5.
+   */
+  private static List<FakeRegion> createRegions(int count) {
+    List<FakeRegion> regions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      regions.add(new FakeRegion(i, i * 10, 0, i * 10 + 5, 5));
+    }
+    return regions;
+  }
+
+  private static List<Boolean> getActiveStates(List<FakeRegion> regions) {
+    List<Boolean> states = new ArrayList<>();
+    for (FakeRegion region : regions) {
+      states.add(region.active);
+    }
+    return states;
+  }
+
+  private static class FakeRegion implements OfflineDownloadScheduler.Region {
+    private final long id;
+    private final double south;
+    private final double west;
+    private final double north;
+    private final double east;
+    OfflineDownloadScheduler.RegionObserver observer;
+    boolean active;
+
+    FakeRegion(long id, double south, double west, double north, double east) {
+      this.id = id;
+      this.south = south;
+      this.west = west;
+      this.north = north;
+      this.east = east;
+    }
+
+    @Override
+    public long getId() {
+      return id;
+    }
+
+    @Override
+    public boolean contains(double latitude, double longitude) {
+      return latitude >= south && latitude <= north && longitude >= west && longitude <= east;
+    }
+
+    @Override
+    public void setObserver(@Nullable OfflineDownloadScheduler.RegionObserver observer) {
+      this.observer = observer;
+    }
+
+    @Override
+    public void setDownloadActive(boolean active) {
+      this.active = active;
+    }
+  }
+
+  private static class FakeClock implements OfflineDownloadScheduler.Clock {
+    long now;
+
+    @Override
+    public long uptimeMillis() {
+      return now;
+    }
+  }
+
+  private static class MemoryStore implements OfflineDownloadScheduler.QueueStore {
+    long[] ids = new long[0];
+
+    @NonNull
+    @Override
+    public long[] load() {
+      return ids;
+    }
+
+    @Override
+    public void save(@NonNull long[] regionIds) {
+      ids = regionIds;
+    }
+  }
+
+  private static class RecordingListener implements OfflineDownloadScheduler.Listener {
+    final List<Integer> percentages = new ArrayList<>();
+    final List<Long> completed = new ArrayList<>();
+    final List<Long> errors = new ArrayList<>();
+
+    @Override
+    public void onProgress(long regionId, int percentage) {
+      percentages.add(percentage);
+    }
+
+    @Override
+    public void onComplete(long regionId) {
+      completed.add(regionId);
+    }
+
+    @Override
+    public void onError(long regionId, @NonNull String message) {
+      errors.add(regionId);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs the viewport selection against SQLite, binding the arguments as strings like
+ * {@link android.database.sqlite.SQLiteDatabase#query} does.
+ */
+public class OfflineRegionIndexTest {
+
+  private Connection connection;
+
+  @Before
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+    Statement statement = connection.createStatement();
+    statement.execute("CREATE TABLE regions (name TEXT, north REAL, south REAL, east REAL, west REAL)");
+    // Name, north, south, east, west
+    insert(statement, "Alps", 48, 45, 16, 6);
+    insert(statement, "Fiji", -15, -20, -178, 177);
+    insert(statement, "Chukotka", 70, 62, -170, 170);
+    insert(statement, "Hawaii", 23, 18, -154, -161);
+    insert(statement, "New Zealand", -34, -48, 179, 166);
+    statement.close();
+  }
+
+  @After
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  public void intersecting_findsRegionsOverlappingTheBounds() throws SQLException {
+    assertEquals(Arrays.asList("Alps"), query(50, 40, 10, 0));
+    assertEquals(Arrays.asList("Alps"), query(46, 45.5, 7, 6.5));
+    assertEquals(Collections.emptyList(), query(44, 40, 10, 0));
+    assertEquals(Arrays.asList("Hawaii"), query(30, 0, -150, -170));
+  }
+
+  @Test
+  public void intersecting_matchesRegionsCrossingTheAntimeridian() throws SQLException {
+    // West of the antimeridian, east of it, and only touching it
+    assertEquals(Arrays.asList("Fiji", "New Zealand"), query(-10, -50, 179.5, 170));
+    assertEquals(Arrays.asList("Fiji"), query(-10, -50, -177, -179));
+    assertEquals(Arrays.asList("Chukotka"), query(80, 60, 180, 175));
+  }
+
+  @Test
+  public void intersecting_matchesBoundsCrossingTheAntimeridian() throws SQLException {
+    assertEquals(Arrays.asList("Fiji", "New Zealand"), query(-10, -50, -170, 170));
+    assertEquals(Arrays.asList("Chukotka", "Fiji", "Hawaii", "New Zealand"), query(80, -50, -150, 160));
+    // Unwrapped past 180, like a visible region panned across the antimeridian
+    assertEquals(Arrays.asList("Fiji", "New Zealand"), query(-10, -50, 190, 170));
+    assertEquals(Arrays.asList("Fiji", "New Zealand"), query(-10, -50, -170, -190));
+  }
+
+  @Test
+  public void intersecting_matchesAllLongitudesForTheWholeWorld() throws SQLException {
+    assertEquals(Arrays.asList("Alps", "Chukotka", "Fiji", "Hawaii", "New Zealand"), query(90, -90, 180, -180));
+    assertEquals(Arrays.asList("Alps", "Chukotka", "Fiji", "Hawaii", "New Zealand"), query(90, -90, 400, -200));
+  }
+
+  private List<String> query(double north, double south, double east, double west) throws SQLException {
+    List<String> selectionArgs = new ArrayList<>();
+    String selection = OfflineRegionIndex.getIntersectingSelection(north, south, east, west, selectionArgs);
+    PreparedStatement statement = connection.prepareStatement(
+      "SELECT name FROM regions WHERE " + selection + " ORDER BY name");
+    for (int i = 0; i < selectionArgs.size(); i++) {
+      statement.setString(i + 1, selectionArgs.get(i));
+    }
+    List<String> names = new ArrayList<>();
+    ResultSet resultSet = statement.executeQuery();
+    while (resultSet.next()) {
+      names.add(resultSet.getString(1));
+    }
+    statement.close();
+    return names;
+  }
+
+  private static void insert(Statement statement, String name, double north, double south, double east, double west)
+    throws SQLException {
+    statement.execute("INSERT INTO regions VALUES ('" + name + "', " + north + ", " + south + ", " + east + ", "
+      + west + ")");
+  }
+}
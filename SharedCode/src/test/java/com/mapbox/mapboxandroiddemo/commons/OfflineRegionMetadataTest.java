@@ -0,0 +1,45 @@
+package com.mapbox.mapboxandroiddemo.commons;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OfflineRegionMetadataTest {
+
+  @Test
+  public void decodeName_readsEncodedName() {
+    for (String name : new String[] {"", "Yosemite", "Zürich – Altstadt", "東京", "\u0000 and 🗺"}) {
+      byte[] metadata = OfflineRegionMetadata.encode(name);
+      assertEquals(name, OfflineRegionMetadata.decodeName(metadata));
+      assertFalse(OfflineRegionMetadata.isLegacy(metadata));
+    }
+  }
+
+  @Test
+  public void decodeName_readsLegacyJson() {
+    byte[] metadata = "{\"FIELD_REGION_NAME\":\"Zürich\"}".getBytes(Charset.forName("UTF-8"));
+
+    assertTrue(OfflineRegionMetadata.isLegacy(metadata));
+    assertEquals("Zürich", OfflineRegionMetadata.decodeName(metadata));
+  }
+
+  @Test
+  public void decodeName_returnsNullForMissingOrUnknownMetadata() {
+    assertNull(OfflineRegionMetadata.decodeName(null));
+    assertNull(OfflineRegionMetadata.decodeName(new byte[0]));
+    assertNull(OfflineRegionMetadata.decodeName("{\"name\":\"Zürich\"}".getBytes(Charset.forName("UTF-8"))));
+
+    byte[] newerVersion = OfflineRegionMetadata.encode("Yosemite");
+    newerVersion[2]++;
+    assertNull(OfflineRegionMetadata.decodeName(newerVersion));
+
+    byte[] truncated = OfflineRegionMetadata.encode("Yosemite");
+    assertNull(OfflineRegionMetadata.decodeName(Arrays.copyOf(truncated, truncated.length - 1)));
+  }
+}
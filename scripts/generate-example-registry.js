@@ -0,0 +1,228 @@
+'use strict';
+
+// Writes the ExampleCatalog of each flavor from the @Example annotations of the example activities,
+// together with a search index over the example titles and descriptions in all languages.
+
+const fs = require('fs');
+const path = require('path');
+const ejs = require('ejs');
+
+const appPath = 'MapboxAndroidDemo/src';
+const examplesPackage = 'com.mapbox.mapboxandroiddemo.examples.';
+const flavors = ['global', 'china'];
+const ejsConversionTask = ejs.compile(fs.readFileSync(appPath + '/main/java/com/mapbox/mapboxandroiddemo/example.catalog.ejs', 'utf8'), {strict: true});
+
+function listSourceFiles(dir) {
+  let files = [];
+  if (!fs.existsSync(dir)) {
+    return files;
+  }
+  for (const entry of fs.readdirSync(dir)) {
+    const entryPath = dir + '/' + entry;
+    if (fs.statSync(entryPath).isDirectory()) {
+      files = files.concat(listSourceFiles(entryPath));
+    } else if (entry.endsWith('.java') || entry.endsWith('.kt')) {
+      files.push(entryPath);
+    }
+  }
+  return files;
+}
+
+// Splits at the commas that aren't nested in brackets
+function splitArguments(text) {
+  const args = [];
+  let depth = 0;
+  let current = '';
+  for (const ch of text) {
+    if ('([{'.includes(ch)) {
+      depth++;
+    } else if (')]}'.includes(ch)) {
+      depth--;
+    }
+    if (ch === ',' && depth === 0) {
+      args.push(current.trim());
+      current = '';
+    } else {
+      current += ch;
+    }
+  }
+  if (current.trim()) {
+    args.push(current.trim());
+  }
+  return args;
+}
+
+function resolveClass(simpleName, source, packageName) {
+  const imported = source.match(new RegExp('^import ([\\w.]+\\.' + simpleName + ');?$', 'm'));
+  return imported ? imported[1] : packageName + '.' + simpleName;
+}
+
+function parseExample(file) {
+  const source = fs.readFileSync(file, 'utf8');
+  const start = source.indexOf('@Example(');
+  if (start < 0) {
+    return null;
+  }
+  let end = start + '@Example('.length;
+  for (let depth = 1; depth > 0; end++) {
+    if (source[end] === '(') {
+      depth++;
+    } else if (source[end] === ')') {
+      depth--;
+    }
+  }
+  const values = {};
+  for (const arg of splitArguments(source.substring(start + '@Example('.length, end - 1))) {
+    const separator = arg.indexOf('=');
+    values[arg.substring(0, separator).trim()] = arg.substring(separator + 1).replace(/\s+/g, ' ').trim();
+  }
+  for (const required of ['category', 'title', 'description', 'imageUrl', 'order']) {
+    if (!values[required]) {
+      throw new Error(file + ': @Example is missing ' + required);
+    }
+  }
+
+  const packageName = source.match(/^package ([\w.]+)/m)[1];
+  const className = packageName + '.' + path.basename(file).replace(/\.(java|kt)$/, '');
+  const kotlinClass = values.kotlinActivity
+    ? resolveClass(values.kotlinActivity.replace(/(\.class|::class)$/, ''), source, packageName) : null;
+  const kotlinOnly = values.kotlinOnly === 'true';
+  const flavorList = values.flavors ? values.flavors.match(/GLOBAL|CHINA/g).map(f => f.toLowerCase()) : ['global'];
+  return {
+    category: values.category,
+    title: values.title,
+    description: values.description,
+    imageUrl: values.imageUrl,
+    order: parseInt(values.order, 10),
+    showNewIcon: values.showNewIcon === 'true',
+    minSdkVersion: values.minSdkVersion || '0',
+    javaActivity: kotlinOnly ? null : className,
+    kotlinActivity: kotlinOnly ? className : kotlinClass,
+    flavors: flavorList
+  };
+}
+
+function classNameExpression(className) {
+  if (className === null) {
+    return 'null';
+  }
+  if (!className.startsWith(examplesPackage)) {
+    throw new Error(className + ' is not in ' + examplesPackage);
+  }
+  return 'EXAMPLES + "' + className.substring(examplesPackage.length) + '"';
+}
+
+// Reads the example titles and descriptions of every language that the flavor is built with
+function readStrings(flavor) {
+  const strings = {};
+  for (const sourceSet of ['main', flavor]) {
+    const resPath = appPath + '/' + sourceSet + '/res';
+    if (!fs.existsSync(resPath)) {
+      continue;
+    }
+    for (const valuesDir of fs.readdirSync(resPath).filter(dir => dir.startsWith('values'))) {
+      for (const file of ['titles_strings.xml', 'descriptions_strings.xml']) {
+        const filePath = resPath + '/' + valuesDir + '/' + file;
+        if (!fs.existsSync(filePath)) {
+          continue;
+        }
+        const xml = fs.readFileSync(filePath, 'utf8').replace(/<!--[\s\S]*?-->/g, '');
+        const stringPattern = /<string name="(\w+)"[^>]*>([\s\S]*?)<\/string>/g;
+        let match;
+        while ((match = stringPattern.exec(xml)) !== null) {
+          (strings[match[1]] = strings[match[1]] || []).push(match[2]);
+        }
+      }
+    }
+  }
+  return strings;
+}
+
+// Must split the text the same way ExampleCatalog.search splits the query
+function tokenize(text) {
+  return text
+    .replace(/<[^>]+>/g, ' ')
+    .replace(/\\n/g, ' ')
+    .replace(/\\(.)/g, '$1')
+    .replace(/&amp;/g, '&').replace(/&lt;/g, '<').replace(/&gt;/g, '>').replace(/&quot;/g, '"').replace(/&apos;/g, '\'')
+    .toLowerCase()
+    .split(/[^\p{L}\p{N}]+/u)
+    .filter(token => token.length > 0);
+}
+
+function buildSearchIndex(examples, strings) {
+  const postings = {};
+  examples.forEach((example, row) => {
+    for (const resource of [example.title, example.description]) {
+      const name = resource.replace(/^R\.string\./, '');
+      if (!strings[name]) {
+        throw new Error('Missing string resource ' + name);
+      }
+      for (const text of strings[name]) {
+        for (const token of tokenize(text)) {
+          const rows = postings[token] = postings[token] || [];
+          if (rows[rows.length - 1] !== row) {
+            rows.push(row);
+          }
+        }
+      }
+    }
+  });
+  // Sorted by UTF-16 code units, like String.compareTo
+  const tokens = Object.keys(postings).sort();
+  return {
+    tokens: tokens.join(' '),
+    postings: tokens.map(token => postings[token].join(',')).join(';')
+  };
+}
+
+// Splits a long string constant into literals that fit the line length limit
+function stringLiteral(text, indent) {
+  const maxLength = 120 - indent.length - '+ "";'.length;
+  const parts = [];
+  for (let i = 0; i < text.length; i += maxLength) {
+    parts.push('"' + text.substring(i, i + maxLength) + '"');
+  }
+  return parts.join('\n' + indent + '+ ');
+}
+
+const allExamples = [];
+for (const sourceSet of ['main'].concat(flavors)) {
+  for (const file of listSourceFiles(appPath + '/' + sourceSet + '/java/' + examplesPackage.replace(/\./g, '/'))) {
+    const example = parseExample(file);
+    if (example !== null) {
+      allExamples.push(example);
+    }
+  }
+}
+
+console.log('\nGenerating example registries:\n');
+for (const flavor of flavors) {
+  const examples = allExamples.filter(example => example.flavors.includes(flavor));
+  // The examples of each category are stored together, ordered within it
+  const categories = [];
+  for (const example of examples) {
+    if (!categories.includes(example.category)) {
+      categories.push(example.category);
+    }
+  }
+  categories.sort();
+  examples.sort((a, b) => categories.indexOf(a.category) - categories.indexOf(b.category)
+    || a.order - b.order
+    || (a.javaActivity || a.kotlinActivity).localeCompare(b.javaActivity || b.kotlinActivity));
+  const categoryStarts = categories.map(category => examples.findIndex(example => example.category === category));
+  categoryStarts.push(examples.length);
+
+  const searchIndex = buildSearchIndex(examples, readStrings(flavor));
+  const outputPath = appPath + '/' + flavor + '/java/com/mapbox/mapboxandroiddemo/ExampleCatalog.java';
+  fs.writeFileSync(outputPath, ejsConversionTask({
+    examples: examples,
+    categories: categories,
+    categoryStarts: categoryStarts,
+    classNameExpression: classNameExpression,
+    searchTokens: stringLiteral(searchIndex.tokens, '    '),
+    searchPostings: stringLiteral(searchIndex.postings, '    ')
+  }));
+  console.log(outputPath + ': ' + examples.length + ' examples in ' + categories.length + ' categories');
+}
+console.log();